@@ -1,6 +1,41 @@
 <?xml version="1.0" encoding="UTF-8"?>
 <tileset version="1.2" tiledversion="1.3.1" name="galletcity_tiles" tilewidth="8" tileheight="8" tilecount="168" columns="8">
  <image source="../TileSheetSources/galletcity_tiles.png" width="64" height="168"/>
+ <tile id="1">
+  <properties>
+   <property name="road" type="bool" value="true"/>
+  </properties>
+ </tile>
+ <tile id="2">
+  <properties>
+   <property name="road" type="bool" value="true"/>
+  </properties>
+ </tile>
+ <tile id="9">
+  <properties>
+   <property name="road" type="bool" value="true"/>
+  </properties>
+ </tile>
+ <tile id="10">
+  <properties>
+   <property name="road" type="bool" value="true"/>
+  </properties>
+ </tile>
+ <tile id="16">
+  <properties>
+   <property name="road" type="bool" value="true"/>
+  </properties>
+ </tile>
+ <tile id="32">
+  <properties>
+   <property name="road" type="bool" value="true"/>
+  </properties>
+ </tile>
+ <tile id="40">
+  <properties>
+   <property name="road" type="bool" value="true"/>
+  </properties>
+ </tile>
  <tile id="52">
   <properties>
    <property name="BLOCKED" value=""/>
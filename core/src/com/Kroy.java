@@ -3,17 +3,21 @@ package com;
 // LibGDX imports
 import com.badlogic.gdx.Game;
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.Batch;
 
 // Class imports
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
 import com.badlogic.gdx.scenes.scene2d.ui.Label;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
-import com.screens.MainMenuScreen;
+import com.assets.GameAssetManager;
+import com.misc.BackgroundBox;
+import com.misc.SFX;
+import com.screens.LoadingScreen;
+import com.screens.ScreenManager;
 import com.screens.MinigameScreen;
 
 /**
@@ -30,9 +34,12 @@ public class Kroy extends Game {
 	public BitmapFont coolFont;
 	private Label.LabelStyle font10;
 	private Skin skin;
+	private GameAssetManager assets;
+	private ScreenManager screens;
 
 	/**
-	 * Display the main menu screen upon game start.
+	 * Display the main menu screen upon game start, once
+	 * the sounds and music have loaded.
 	 */
 	public void create() {
 		Gdx.graphics.setFullscreenMode(Gdx.graphics.getDisplayMode());
@@ -40,9 +47,18 @@ public class Kroy extends Game {
 
 		this.setFonts();
 		this.spriteBatch = new SpriteBatch();
-		this.skin = new Skin(Gdx.files.internal("skin/uiskin.json"), new TextureAtlas("skin/uiskin.atlas"));
-		// Instantly transition to the main menu screen when game starts
-		this.setScreen(new MainMenuScreen(this));
+		this.assets = new GameAssetManager();
+		this.skin = this.assets.acquireSkin(GameAssetManager.SKIN);
+		this.assets.queueMenu();
+		this.screens = new ScreenManager(this);
+		// Transition to the main menu screen as soon as it can play its music
+		this.setScreen(new LoadingScreen(this, new LoadingScreen.NextScreen() {
+			@Override
+			public Screen create() {
+				SFX.assign(assets);
+				return screens.preloadMenus();
+			}
+		}));
 	}
 
 	/**
@@ -59,9 +75,13 @@ public class Kroy extends Game {
 	public void dispose() {
 		this.batch.dispose();
 		this.spriteBatch.dispose();
-		this.screen.dispose();
+		// Screens the manager keeps are disposed with it, by when they are kept
+		if (!this.screens.contains(this.screen)) this.screen.dispose();
+		this.screens.dispose();
+		BackgroundBox.disposePatches();
 		this.coolFont.dispose();
-		this.skin.dispose();
+		this.assets.release(GameAssetManager.SKIN);
+		this.assets.dispose();
 	}
 
 	/**
@@ -114,4 +134,12 @@ public class Kroy extends Game {
 	public Skin getSkin() {
 		return this.skin;
 	}
+
+	public GameAssetManager getAssets() {
+		return this.assets;
+	}
+
+	public ScreenManager getScreens() {
+		return this.screens;
+	}
 }
@@ -0,0 +1,71 @@
+package com.assets;
+
+/* =================================================================
+                   New class added for assessment 3
+   ===============================================================*/
+
+import com.badlogic.gdx.assets.AssetDescriptor;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.AsynchronousAssetLoader;
+import com.badlogic.gdx.assets.loaders.FileHandleResolver;
+import com.badlogic.gdx.assets.loaders.TextureLoader.TextureParameter;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.TextureData;
+import com.badlogic.gdx.graphics.glutils.PixmapTextureData;
+import com.badlogic.gdx.utils.Array;
+
+/** Loads textures from pixmaps decoded by a {@link PixmapDecoder}, in
+ * place of the asset manager's own texture loader. It takes the same
+ * parameters, so atlases and tile maps load their pages through it too.
+ *
+ * The pixmap is taken from the decoder on the asset manager's loading
+ * thread, and only uploaded to the GPU on the render thread.
+ */
+public class DecodedTextureLoader extends AsynchronousAssetLoader<Texture, TextureParameter> {
+
+    private final PixmapDecoder decoder;
+
+    // The texture being loaded. The asset manager only loads one at a time
+    private TextureData data;
+
+    /** Constructs a loader that takes its pixmaps from a decoder
+     *
+     * @param resolver  Finds the file for each asset's name
+     * @param decoder   Decodes the files
+     */
+    public DecodedTextureLoader(FileHandleResolver resolver, PixmapDecoder decoder) {
+        super(resolver);
+        this.decoder = decoder;
+    }
+
+    @Override
+    public void loadAsync(AssetManager manager, String fileName, FileHandle file, TextureParameter parameter) {
+        if (parameter != null && parameter.textureData != null) {
+            this.data = parameter.textureData;
+        } else {
+            Pixmap pixmap = this.decoder.take(file);
+            Pixmap.Format format = parameter == null ? null : parameter.format;
+            boolean genMipMaps = parameter != null && parameter.genMipMaps;
+            this.data = new PixmapTextureData(pixmap, format, genMipMaps, true);
+        }
+        if (!this.data.isPrepared()) this.data.prepare();
+    }
+
+    @Override
+    public Texture loadSync(AssetManager manager, String fileName, FileHandle file, TextureParameter parameter) {
+        Texture texture = new Texture(this.data);
+        this.data = null;
+        if (parameter != null) {
+            texture.setFilter(parameter.minFilter, parameter.magFilter);
+            texture.setWrap(parameter.wrapU, parameter.wrapV);
+        }
+        return texture;
+    }
+
+    @Override
+    public Array<AssetDescriptor> getDependencies(String fileName, FileHandle file, TextureParameter parameter) {
+        return null;
+    }
+}
@@ -0,0 +1,209 @@
+package com.assets;
+
+/* =================================================================
+                   New class added for assessment 3
+   ===============================================================*/
+
+import com.badlogic.gdx.assets.AssetDescriptor;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.FileHandleResolver;
+import com.badlogic.gdx.assets.loaders.ShaderProgramLoader;
+import com.badlogic.gdx.assets.loaders.TextureAtlasLoader;
+import com.badlogic.gdx.assets.loaders.resolvers.InternalFileHandleResolver;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.glutils.PixmapTextureData;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TmxMapLoader;
+import com.badlogic.gdx.scenes.scene2d.ui.Skin;
+import com.badlogic.gdx.utils.Array;
+import com.misc.Constants.AlienType;
+import com.misc.SFX;
+
+import static com.misc.Constants.ASSET_DECODE_THREADS;
+import static com.misc.Constants.MAP_FILE;
+
+/** The asset manager every screen loads its files through, so nothing is
+ * read from disk while the game is being drawn and each file is only
+ * loaded once however many screens use it.
+ *
+ * The menus' sounds and music are queued when the game starts and the
+ * main game's assets when the story is shown, and both are loaded a little
+ * each frame behind a {@link com.screens.LoadingScreen}. Images are decoded
+ * on several threads at once by a {@link PixmapDecoder} - the atlas and
+ * tile map pages as soon as their files have been read, the rest as soon as
+ * they are queued - and only uploaded on the render thread.
+ *
+ * Screens that only need a few images get them with
+ * {@link #acquireTexture(String)} instead, which loads them straight away.
+ * Textures and skins are shared by everything that acquires the same file
+ * and counted, and each acquire is matched by a {@link #release(String)}
+ * once it is no longer drawn, so they are disposed once nothing uses them
+ * rather than a new copy being loaded each time a screen is opened.
+ */
+public class GameAssetManager extends AssetManager {
+
+    // The skin every screen's buttons and labels are drawn with
+    public static final String SKIN = "skin/uiskin.json";
+
+    // The main game's assets
+    public static final String SHADER = "shaders/vignetteSepia.vsh";
+    public static final String FIRETRUCK_ATLAS = "atlases/firetrucks.atlas";
+    public static final String PATROL_ATLAS = "atlases/patrol.atlas";
+    public static final String BUILDINGS_ATLAS = "atlases/buildings.atlas";
+    public static final String PROJECTILE = "alienProjectile.png";
+    public static final String MINIGAME = "minigame.png";
+    public static final String[] WATER_SPLASHES = {"waterSplash1.png", "waterSplash2.png", "waterSplash3.png"};
+    public static final String MINIGAME_BACKGROUND = "Minigame/minigame_bg.png";
+    public static final String MINIGAME_WATER = "Minigame/splashcircle.png";
+
+    private final PixmapDecoder decoder;
+
+    /** Constructs an asset manager with nothing queued, reading from the
+     * game's internal files
+     */
+    public GameAssetManager() {
+        this(new InternalFileHandleResolver());
+    }
+
+    GameAssetManager(FileHandleResolver resolver) {
+        super(resolver);
+        this.decoder = new PixmapDecoder(ASSET_DECODE_THREADS);
+
+        setLoader(Texture.class, new DecodedTextureLoader(resolver, this.decoder));
+        setLoader(TextureAtlas.class, new TextureAtlasLoader(resolver) {
+            @Override
+            public Array<AssetDescriptor> getDependencies(String fileName, FileHandle atlasFile, TextureAtlasParameter parameter) {
+                return prefetch(super.getDependencies(fileName, atlasFile, parameter));
+            }
+        });
+        setLoader(TiledMap.class, new TmxMapLoader(resolver) {
+            @Override
+            public Array<AssetDescriptor> getDependencies(String fileName, FileHandle tmxFile, Parameters parameter) {
+                return prefetch(super.getDependencies(fileName, tmxFile, parameter));
+            }
+        });
+        setLoader(ShaderProgram.class, new ShaderProgramLoader(resolver, ".vsh", ".fsh"));
+    }
+
+    /** Starts decoding the textures an asset depends on, which are then
+     * loaded one at a time */
+    private Array<AssetDescriptor> prefetch(Array<AssetDescriptor> dependencies) {
+        for (AssetDescriptor dependency : dependencies) {
+            if (dependency.type != Texture.class) continue;
+            this.decoder.prefetch(dependency.file != null ? dependency.file : getFileHandleResolver().resolve(dependency.fileName));
+        }
+        return dependencies;
+    }
+
+    /** Queues a texture, starting to decode it straight away. If it is
+     * already loaded or queued it is only referenced again, so nothing is
+     * decoded that would never be taken */
+    private void queueTexture(String fileName) {
+        boolean queued = contains(fileName);
+        load(fileName, Texture.class);
+        if (!queued) this.decoder.prefetch(getFileHandleResolver().resolve(fileName));
+    }
+
+    /** Queues the sounds and music played from the main menu onwards */
+    public void queueMenu() {
+        SFX.queue(this);
+    }
+
+    /** Queues everything the main game and its minigame draw */
+    public void queueGame() {
+        ShaderProgram.pedantic = false;
+        load(MAP_FILE, TiledMap.class);
+        load(SHADER, ShaderProgram.class);
+        load(FIRETRUCK_ATLAS, TextureAtlas.class);
+        load(PATROL_ATLAS, TextureAtlas.class);
+        load(BUILDINGS_ATLAS, TextureAtlas.class);
+        queueTexture(PROJECTILE);
+        queueTexture(MINIGAME);
+        for (String waterSplash : WATER_SPLASHES) queueTexture(waterSplash);
+        queueTexture(MINIGAME_BACKGROUND);
+        queueTexture(MINIGAME_WATER);
+        for (AlienType type : AlienType.values()) queueTexture(type.getFile());
+    }
+
+    /** Unloads the main game's assets once a game is over, so the next
+     * one starts from fresh copies */
+    public void unloadGame() {
+        unloadIfLoaded(MAP_FILE);
+        unloadIfLoaded(SHADER);
+        unloadIfLoaded(FIRETRUCK_ATLAS);
+        unloadIfLoaded(PATROL_ATLAS);
+        unloadIfLoaded(BUILDINGS_ATLAS);
+        unloadIfLoaded(PROJECTILE);
+        unloadIfLoaded(MINIGAME);
+        for (String waterSplash : WATER_SPLASHES) unloadIfLoaded(waterSplash);
+        unloadIfLoaded(MINIGAME_BACKGROUND);
+        unloadIfLoaded(MINIGAME_WATER);
+        for (AlienType type : AlienType.values()) unloadIfLoaded(type.getFile());
+    }
+
+    private void unloadIfLoaded(String fileName) {
+        if (isLoaded(fileName)) unload(fileName);
+    }
+
+    /** Gets the texture for a file, shared with everything else that has
+     * acquired it. It is loaded now if nothing has yet, or waited for if it
+     * is still queued, so this is meant for the few images a screen shows.
+     * It is only called from the render thread, and isn't synchronised so
+     * that queued assets can finish loading while it waits for them
+     *
+     * @param fileName  The image file
+     * @return          The texture, which must be released once it is no longer drawn
+     */
+    public Texture acquireTexture(String fileName) {
+        if (!acquireLoaded(fileName)) {
+            FileHandle file = getFileHandleResolver().resolve(fileName);
+            addAsset(fileName, Texture.class, new Texture(new PixmapTextureData(this.decoder.take(file), null, false, true)));
+        }
+        return get(fileName, Texture.class);
+    }
+
+    /** Gets the skin for a file, shared with everything else that has
+     * acquired it. Its atlas is the file of the same name ending .atlas
+     *
+     * @param fileName  The skin's json file
+     * @return          The skin, which must be released once it is no longer used
+     */
+    public Skin acquireSkin(String fileName) {
+        if (!acquireLoaded(fileName)) {
+            FileHandle file = getFileHandleResolver().resolve(fileName);
+            TextureAtlas atlas = new TextureAtlas(file.sibling(file.nameWithoutExtension() + ".atlas"));
+            addAsset(fileName, Skin.class, new Skin(file, atlas));
+        }
+        return get(fileName, Skin.class);
+    }
+
+    /** Adds a reference to a file that is loaded or queued, finishing
+     * loading it first if need be
+     *
+     * @return  Whether there was one to reference, otherwise it needs loading
+     */
+    private boolean acquireLoaded(String fileName) {
+        if (!isLoaded(fileName) && contains(fileName)) finishLoadingAsset(fileName);
+        if (!isLoaded(fileName)) return false;
+        setReferenceCount(fileName, getReferenceCount(fileName) + 1);
+        return true;
+    }
+
+    /** Gives up a texture or skin that was acquired, disposing it if
+     * nothing else is using it
+     *
+     * @param fileName  The file it was acquired with
+     */
+    public void release(String fileName) {
+        unload(fileName);
+    }
+
+    @Override
+    public synchronized void dispose() {
+        super.dispose();
+        this.decoder.dispose();
+    }
+}
@@ -0,0 +1,103 @@
+package com.assets;
+
+/* =================================================================
+                   New class added for assessment 3
+   ===============================================================*/
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadFactory;
+
+/** Decodes image files into pixmaps on a pool of worker threads, so many
+ * can be decoded at once while the asset manager loads one asset at a time.
+ *
+ * Files are decoded as soon as they are asked for with prefetch, and the
+ * pixmap is handed over when the texture is loaded - if the file was never
+ * prefetched it is decoded then, on whichever thread asks for it. Only
+ * decoding happens on the workers, uploading the pixmap to the GPU is left
+ * to the render thread.
+ */
+public class PixmapDecoder implements Disposable {
+
+    private final ExecutorService executor;
+    // The decodes that have been started but not yet taken, by file path
+    private final Map<String, Future<Pixmap>> decoding;
+
+    /** Constructs a decoder and starts its worker threads
+     *
+     * @param threads   The number of files to decode at once
+     */
+    public PixmapDecoder(int threads) {
+        this.decoding = new ConcurrentHashMap<>();
+        this.executor = Executors.newFixedThreadPool(threads, new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, "PixmapDecoder");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+    }
+
+    /** Starts decoding a file on a worker, unless it already is being
+     *
+     * @param file  The image file to decode
+     */
+    public void prefetch(final FileHandle file) {
+        FutureTask<Pixmap> task = new FutureTask<>(new Callable<Pixmap>() {
+            @Override
+            public Pixmap call() {
+                return new Pixmap(file);
+            }
+        });
+        if (this.decoding.putIfAbsent(file.path(), task) == null) {
+            this.executor.execute(task);
+        }
+    }
+
+    /** Takes the pixmap decoded from a file, waiting for it if it is still
+     * being decoded, or decoding it now if it was never prefetched. The
+     * caller owns the pixmap and must dispose it
+     *
+     * @param file  The image file that was decoded
+     * @return      The decoded pixmap
+     */
+    public Pixmap take(FileHandle file) {
+        Future<Pixmap> decode = this.decoding.remove(file.path());
+        if (decode == null) return new Pixmap(file);
+        try {
+            return decode.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GdxRuntimeException("Interrupted while decoding " + file.path(), e);
+        } catch (ExecutionException e) {
+            throw new GdxRuntimeException("Couldn't decode " + file.path(), e.getCause());
+        }
+    }
+
+    /** Stops the workers, disposing any pixmaps that were never taken */
+    @Override
+    public void dispose() {
+        this.executor.shutdownNow();
+        for (Future<Pixmap> decode : this.decoding.values()) {
+            if (!decode.isDone() || decode.isCancelled()) continue;
+            try {
+                decode.get().dispose();
+            } catch (InterruptedException | ExecutionException ignored) {
+                // Nothing was decoded, so there is nothing to dispose
+            }
+        }
+        this.decoding.clear();
+    }
+}
@@ -0,0 +1,20 @@
+package com.components;
+
+/* =================================================================
+                   New class added for assessment 3
+   ===============================================================*/
+
+import com.badlogic.ashley.core.Component;
+import com.entities.ETFortress;
+
+/** Marks an entity that is a fortress, which is flooded rather than removed
+ * once it has no health left
+ */
+public class FortressComponent implements Component {
+
+    public final ETFortress fortress;
+
+    public FortressComponent(ETFortress fortress) {
+        this.fortress = fortress;
+    }
+}
@@ -0,0 +1,27 @@
+package com.components;
+
+/* =================================================================
+                   New class added for assessment 3
+   ===============================================================*/
+
+import com.badlogic.ashley.core.Component;
+import com.misc.ResourceBar;
+
+/** The health of an entity that can be damaged */
+public class HealthComponent implements Component {
+
+    // The sprite's health bar, which is drawn above it
+    public final ResourceBar bar;
+    // Whether the entity leaves the world once it has no health left,
+    // rather than staying where it is like a flooded fortress
+    public final boolean removeWhenDead;
+
+    public HealthComponent(ResourceBar bar, boolean removeWhenDead) {
+        this.bar = bar;
+        this.removeWhenDead = removeWhenDead;
+    }
+
+    public boolean isDead() {
+        return this.bar.getCurrentAmount() <= 0;
+    }
+}
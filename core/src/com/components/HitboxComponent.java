@@ -0,0 +1,25 @@
+package com.components;
+
+/* =================================================================
+                   New class added for assessment 3
+   ===============================================================*/
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.gdx.math.Polygon;
+import com.misc.SpatialHash;
+
+/** The area of an entity that can be hit, and the spatial hash it is found
+ * through by the collision checks
+ */
+public class HitboxComponent implements Component {
+
+    // The sprite's damage hit box
+    public final Polygon polygon;
+    public final SpatialHash<Entity> hash;
+
+    public HitboxComponent(Polygon polygon, SpatialHash<Entity> hash) {
+        this.polygon = polygon;
+        this.hash = hash;
+    }
+}
@@ -0,0 +1,26 @@
+package com.components;
+
+/* =================================================================
+                   New class added for assessment 3
+   ===============================================================*/
+
+import com.badlogic.ashley.core.ComponentMapper;
+
+/** The mappers used to get each type of component from an entity, which
+ * look components up by index rather than by class
+ */
+public final class Mappers {
+
+    public static final ComponentMapper<TransformComponent> transform = ComponentMapper.getFor(TransformComponent.class);
+    public static final ComponentMapper<VelocityComponent> velocity = ComponentMapper.getFor(VelocityComponent.class);
+    public static final ComponentMapper<SpriteComponent> sprite = ComponentMapper.getFor(SpriteComponent.class);
+    public static final ComponentMapper<HealthComponent> health = ComponentMapper.getFor(HealthComponent.class);
+    public static final ComponentMapper<HitboxComponent> hitbox = ComponentMapper.getFor(HitboxComponent.class);
+    public static final ComponentMapper<VoxelStackComponent> voxelStack = ComponentMapper.getFor(VoxelStackComponent.class);
+    public static final ComponentMapper<WeaponComponent> weapon = ComponentMapper.getFor(WeaponComponent.class);
+    public static final ComponentMapper<PatrolRouteComponent> patrolRoute = ComponentMapper.getFor(PatrolRouteComponent.class);
+    public static final ComponentMapper<FortressComponent> fortress = ComponentMapper.getFor(FortressComponent.class);
+
+    private Mappers() {
+    }
+}
@@ -0,0 +1,20 @@
+package com.components;
+
+/* =================================================================
+                   New class added for assessment 3
+   ===============================================================*/
+
+import com.badlogic.ashley.core.Component;
+import com.entities.Patrol;
+
+/** Marks an entity that drives along the roads, keeping its route and the
+ * roads it has reserved in its patrol
+ */
+public class PatrolRouteComponent implements Component {
+
+    public final Patrol patrol;
+
+    public PatrolRouteComponent(Patrol patrol) {
+        this.patrol = patrol;
+    }
+}
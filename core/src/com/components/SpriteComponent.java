@@ -0,0 +1,21 @@
+package com.components;
+
+/* =================================================================
+                   New class added for assessment 3
+   ===============================================================*/
+
+import com.badlogic.ashley.core.Component;
+import com.sprites.SimpleSprite;
+
+/** The sprite an entity is drawn with, which keeps the region it is drawn
+ * with and places its health bar. Where it is drawn comes from the entity's
+ * TransformComponent rather than the sprite
+ */
+public class SpriteComponent implements Component {
+
+    public final SimpleSprite sprite;
+
+    public SpriteComponent(SimpleSprite sprite) {
+        this.sprite = sprite;
+    }
+}
@@ -0,0 +1,59 @@
+package com.components;
+
+/* =================================================================
+                   New class added for assessment 3
+   ===============================================================*/
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.math.MathUtils;
+
+/** Where an entity is, which way it faces and how big it is, along with
+ * where it was at the start of the last tick so it can be drawn part of the
+ * way between the two. The position is the centre of the entity.
+ */
+public class TransformComponent implements Component {
+
+    public float x, y, rotation;
+    public float previousX, previousY, previousRotation;
+    public float width, height;
+
+    public TransformComponent(float x, float y, float width, float height, float rotation) {
+        this.x = x;
+        this.y = y;
+        this.width = width;
+        this.height = height;
+        this.rotation = rotation;
+        savePose();
+    }
+
+    /** Keeps where the entity is now as where it was at the start of the tick */
+    public void savePose() {
+        this.previousX = this.x;
+        this.previousY = this.y;
+        this.previousRotation = this.rotation;
+    }
+
+    /** @return  The x-coordinate of the entity's bottom left corner */
+    public float getLeft() { return this.x - this.width / 2; }
+
+    /** @return  The y-coordinate of the entity's bottom left corner */
+    public float getBottom() { return this.y - this.height / 2; }
+
+    /** @param alpha  How far through the next tick the game is
+     *  @return       The x-coordinate to draw the bottom left corner at */
+    public float getDrawX(float alpha) {
+        return MathUtils.lerp(this.previousX, this.x, alpha) - this.width / 2;
+    }
+
+    /** @param alpha  How far through the next tick the game is
+     *  @return       The y-coordinate to draw the bottom left corner at */
+    public float getDrawY(float alpha) {
+        return MathUtils.lerp(this.previousY, this.y, alpha) - this.height / 2;
+    }
+
+    /** @param alpha  How far through the next tick the game is
+     *  @return       The rotation to draw at, turning the shortest way */
+    public float getDrawRotation(float alpha) {
+        return MathUtils.lerpAngleDeg(this.previousRotation, this.rotation, alpha);
+    }
+}
@@ -0,0 +1,15 @@
+package com.components;
+
+/* =================================================================
+                   New class added for assessment 3
+   ===============================================================*/
+
+import com.badlogic.ashley.core.Component;
+
+/** How far an entity moves each tick, which the MovementSystem moves its
+ * TransformComponent by. An entity without one never moves
+ */
+public class VelocityComponent implements Component {
+
+    public float x, y;
+}
@@ -0,0 +1,20 @@
+package com.components;
+
+/* =================================================================
+                   New class added for assessment 3
+   ===============================================================*/
+
+import com.badlogic.ashley.core.Component;
+import com.misc.VoxelSlices;
+
+/** The slices an entity is drawn with as a stack. Stacks stand up off the
+ * map, so they are drawn after the flat sprites
+ */
+public class VoxelStackComponent implements Component {
+
+    public final VoxelSlices slices;
+
+    public VoxelStackComponent(VoxelSlices slices) {
+        this.slices = slices;
+    }
+}
@@ -15,15 +15,25 @@ import com.misc.Constants.*;
  * Alien is a really simple sprite which also
  * keeps track of how long it has been alive,
  * and gives it certain properties depending
- * on {@link AlienType}
+ * on {@link AlienType}. It is drawn by the
+ * minigame with the texture for its type
  */
 public class Alien extends Sprite {
 
     // type gives certain properties
-    public final AlienType type;
+    private AlienType type;
 
     // time alien was spawned
-    private final long spawnTime;
+    private long spawnTime;
+
+    /**
+     * Constructor for an Alien that hasn't been
+     * spawned yet, so it can be kept in a pool
+     * until it is needed
+     */
+    public Alien() {
+        super();
+    }
 
     /**
      * Constructor for Alien, which is called
@@ -36,13 +46,28 @@ public class Alien extends Sprite {
      * @param position  where it spawns on the screen
      */
     public Alien(AlienType type, Vector2 position) {
-        super(type.getTexture());
+        super();
+        spawn(type, position.x, position.y);
+    }
+
+    /**
+     * Spawns the alien, or spawns it again once
+     * it has been despawned, with a new type
+     * and position, and from now
+     *
+     * @param type  gives properties of the alien
+     * @param x     where it spawns on the screen
+     * @param y     where it spawns on the screen
+     */
+    public void spawn(AlienType type, float x, float y) {
         super.setSize(100, 100);
-        super.setPosition(position.x, position.y);
+        super.setPosition(x, y);
         this.type = type;
         this.spawnTime = TimeUtils.millis();
     }
 
+    public AlienType getType() { return this.type; }
+
     public int getScore() { return this.type.getScore(); }
 
     public long getSpawnTime() {
@@ -1,22 +1,25 @@
 package com.entities;
 
 // LibGDX imports
-import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Circle;
 import com.badlogic.gdx.math.Intersector;
 import com.badlogic.gdx.math.Polygon;
 import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 
 // Custom class import
 import com.misc.Constants.*;
-import com.screens.GameScreen;
+import com.misc.Scheduler;
+import com.simulation.GameWorld;
 import com.sprites.SimpleSprite;
 
 // Constants import
 import static com.misc.Constants.ETFORTRESS_HEIGHT;
 import static com.misc.Constants.ETFORTRESS_WIDTH;
+import static com.misc.Constants.FORTRESS_FIRE_WINDOW;
+import static com.misc.Constants.FORTRESS_HEAL_INTERVAL;
+import static com.misc.Constants.WEAPON_FIRE_INTERVAL;
 
 /**
  * The ET Fortress implementation, a static sprite in the game.
@@ -27,27 +30,29 @@ import static com.misc.Constants.ETFORTRESS_WIDTH;
 public class ETFortress extends SimpleSprite {
 
     // Private values for this class to use
-    private final Texture destroyed;
+    private final TextureRegion destroyed;
     private boolean flooded;
     private final FortressType type;
-    private final GameScreen gameScreen;
+    private final GameWorld world;
+    // Heals the fortress every FORTRESS_HEAL_INTERVAL ticks of the world's scheduler
+    private final Scheduler.Task heal;
 
     /**
      * Overloaded constructor containing all possible parameters.
      * Drawn with the given texture at the given position.
      * 
-     * @param texture           The texture used to draw the ETFortress with.
+     * @param texture           The atlas region used to draw the ETFortress with.
      * @param destroyedTexture  The texture used to draw the ETFortress with. when it has been destroyed.
      * @param scaleX            The scaling in the x-axis.
      * @param scaleY            The scaling in the y-axis.
      * @param xPos              The x-coordinate for the ETFortress.
      * @param yPos              The y-coordinate for the ETFortress.
      * @param type              {@link FortressType} given to fortress
-     * @param gameScreen        GameScreen to send popup messages to
+     * @param world             GameWorld to send popup messages to
      */
-    public ETFortress(Texture texture, Texture destroyedTexture, float scaleX, float scaleY, float xPos, float yPos, FortressType type, GameScreen gameScreen) {
+    public ETFortress(TextureRegion texture, TextureRegion destroyedTexture, float scaleX, float scaleY, float xPos, float yPos, FortressType type, GameWorld world) {
         super(texture);
-        this.gameScreen = gameScreen;
+        this.world = world;
         this.destroyed = destroyedTexture;
         this.flooded = false;
         this.type = type;
@@ -56,25 +61,41 @@ public class ETFortress extends SimpleSprite {
         this.setSize(ETFORTRESS_WIDTH * this.getScaleX(), ETFORTRESS_HEIGHT * this.getScaleY());
         this.getHealthBar().setMaxResource(type.getHealth());
         super.resetRotation(90);
+        // Fortresses never move, so the hitbox is placed now rather than on the
+        // first update, ready to be added to the collision broadphase
+        this.getDamageHitBox().setPosition(xPos, yPos);
+        this.heal = new Scheduler.Task() {
+            @Override
+            public void run() {
+                float health = getHealthBar().getCurrentAmount();
+                if (health > 0 && health != getHealthBar().getMaxAmount()) {
+                    getHealthBar().addResourceAmount(type.getHealing());
+                }
+            }
+        };
+        world.getScheduler().schedule(this.heal, FORTRESS_HEAL_INTERVAL, FORTRESS_HEAL_INTERVAL);
     }
 
     /**
-     * Update the fortress so that it is drawn every frame.
-     * @param batch  The batch to draw onto.
+     * Update the fortress every tick, flooding it once destroyed.
+     * Damaged fortresses are healed over time by the heal task.
      */
-    public void update(Batch batch) {
-        super.update(batch);
-        // If ETFortress is destroyed, change to flooded texture
-        // If ETFortress is damaged, heal over time
-        if (!flooded && this.getHealthBar().getCurrentAmount() <= 0) {
-            this.removeSprite(this.destroyed);
-            this.flooded = true;
-            this.gameScreen.showPopupText("You have destroyed " + gameScreen.getETFortressesDestroyed()[0] + " / " + gameScreen.getETFortressesDestroyed()[1] +
-                    " fortresses", 1, 7);
-        } else if (!flooded && this.getInternalTime() % 150 == 0 && this.getHealthBar().getCurrentAmount() != this.getHealthBar().getMaxAmount()) {
-            // Heal ETFortresses every second if not taking damage
-			this.getHealthBar().addResourceAmount(type.getHealing());
-        }
+    @Override
+    public void tick() {
+        super.tick();
+        if (!flooded && this.getHealthBar().getCurrentAmount() <= 0) flood();
+    }
+
+    /**
+     * Floods the fortress once it has been destroyed, changing it to the
+     * flooded texture and stopping it from healing
+     */
+    public void flood() {
+        this.removeSprite(this.destroyed);
+        this.flooded = true;
+        this.heal.cancel();
+        this.world.showPopupText("You have destroyed " + world.getETFortressesDestroyed()[0] + " / " + world.getETFortressesDestroyed()[1] +
+                " fortresses", 1, 7);
     }
 
     /**
@@ -84,7 +105,7 @@ public class ETFortress extends SimpleSprite {
      * @return boolean  Whether the ETFortress is ready to fire again (true) or not (false)
      */
     public boolean canShootProjectile() {
-        return this.getHealthBar().getCurrentAmount() > 0 && this.getInternalTime() < 120 && this.getInternalTime() % 30 == 0;
+        return this.getHealthBar().getCurrentAmount() > 0 && this.getInternalTime() < FORTRESS_FIRE_WINDOW && this.getInternalTime() % WEAPON_FIRE_INTERVAL == 0;
     }
 
     // ==============================================================
@@ -1,13 +1,14 @@
 package com.entities;
 
 // LibGDX imports
-import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 
 // Custom class import
-import com.screens.GameScreen;
+import com.misc.NotificationQueue.Priority;
+import com.misc.Scheduler;
+import com.simulation.GameWorld;
 import com.sprites.SimpleSprite;
 
 // Constants import
@@ -23,7 +24,7 @@ import static com.misc.Constants.*;
  */
 public class Firestation extends SimpleSprite {
 
-    private final GameScreen gameScreen;
+    private final GameWorld world;
 
     // list of fire trucks that are not the active truck
     private final ArrayList<Firetruck> parkedFireTrucks;
@@ -32,27 +33,32 @@ public class Firestation extends SimpleSprite {
     private Firetruck activeFireTruck;
 
     // destroyed texture
-    private final Texture destroyed;
+    private final TextureRegion destroyed;
 
     // booleans
     private boolean isMenuOpen;
     private boolean isVulnerable;
     private boolean isDestroyed;
 
+    // Whether a repair is due, set every FIRESTATION_REPAIR_INTERVAL ticks
+    // by a task on the world's scheduler so repairs stop while it is paused
+    private boolean isRepairDue;
+    private final Scheduler.Task repair;
+
     /**
      * Overloaded constructor containing all possible parameters.
      * Drawn with the given texture at the given position.
      *
-     * @param texture           The texture used to draw the Firestation with.
+     * @param texture           The atlas region used to draw the Firestation with.
      * @param destroyedTexture  The destoryed texture when Firestation is destroyed.
      * @param xPos              The x-coordinate for the Firestation.
      * @param yPos              The y-coordinate for the Firestation.
-     * @param gameScreen        GameScreen to be able to send popup messages to
+     * @param world             GameWorld to be able to send popup messages to
      */
-    public Firestation(Texture texture, Texture destroyedTexture, float xPos, float yPos, GameScreen gameScreen) {
+    public Firestation(TextureRegion texture, TextureRegion destroyedTexture, float xPos, float yPos, GameWorld world) {
         super(texture);
         this.destroyed = destroyedTexture;
-        this.gameScreen = gameScreen;
+        this.world = world;
         this.setPosition(xPos, yPos);
         this.setSize(FIRESTATION_WIDTH, FIRESTATION_HEIGHT);
         this.getHealthBar().setMaxResource(FIRESTATION_HEALTH);
@@ -60,34 +66,38 @@ public class Firestation extends SimpleSprite {
         this.isDestroyed = false;
         this.isVulnerable = false;
         super.resetRotation(90);
+        this.repair = new Scheduler.Task() {
+            @Override
+            public void run() {
+                isRepairDue = true;
+            }
+        };
+        world.getScheduler().schedule(this.repair, FIRESTATION_REPAIR_INTERVAL, FIRESTATION_REPAIR_INTERVAL);
     }
 
     /**
-     * Updates the firestation so that it is drawn every frame.
-     * Also reduces the time before next repair can occur.
-     *
-     * @param batch  The batch to draw onto.
+     * Updates the firestation every tick, destroying it once
+     * its health has run out.
      */
-    public void update(Batch batch) {
-        super.update(batch);
+    @Override
+    public void tick() {
+        super.tick();
         if (!isDestroyed && this.getHealthBar().getCurrentAmount() <= 0) {
             this.isDestroyed = true;
             this.removeSprite(this.destroyed);
-            this.gameScreen.showPopupText("The Fire Station has been destroyed! " +
-                    "You can no longer repair or refill your fire trucks", 1, 7);
+            this.world.showPopupText("The Fire Station has been destroyed! " +
+                    "You can no longer repair or refill your fire trucks", 1, 7, Priority.HIGH);
         }
     }
 
     /**
-     * Repair a firetruck over time.
+     * Repair a firetruck by one step.
      *
      * @param firetruck  The firetruck that will be repaired.
      */
     public void repairRefill(Firetruck firetruck) {
-        if (this.getInternalTime() % 10 == 0) {
-            firetruck.getHealthBar().addResourceAmount((int) firetruck.getHealthBar().getMaxAmount() / FIRETRUCK_REPAIR_SPEED);
-            firetruck.getWaterBar().addResourceAmount((int) firetruck.getWaterBar().getMaxAmount() / FIRETRUCK_REPAIR_SPEED);
-        }
+        firetruck.getHealthBar().addResourceAmount((int) firetruck.getHealthBar().getMaxAmount() / FIRETRUCK_REPAIR_SPEED);
+        firetruck.getWaterBar().addResourceAmount((int) firetruck.getWaterBar().getMaxAmount() / FIRETRUCK_REPAIR_SPEED);
     }
 
     /**
@@ -102,21 +112,16 @@ public class Firestation extends SimpleSprite {
     }
 
     /**
-     * Updates the active fire truck, check if the
+     * Updates the active fire truck for a tick, check if the
      * fire truck's health is 0 or below, if so
      * "destroy" it
-     *
-     * @param batch         to draw textures
-     * @param shapeRenderer to draw health and debug
-     * @param camera        eventually to control active firetruck hose
      */
-    public void updateFiretruck(Batch batch, ShapeRenderer shapeRenderer, OrthographicCamera camera) {
-        this.activeFireTruck.update(batch, camera);
-        if (this.activeFireTruck.isTankEmpty() && gameScreen.getFireStationTime() % 5 == 0) {
-            if (gameScreen.getFireStationTime() > 0) gameScreen.showPopupText("{FAST}This truck has run out of water, go to the Fire Station to refill", 1, 5);
-            else gameScreen.showPopupText("{FAST}This truck has run out of water, select another one", 1, 5);
+    public void tickFiretruck() {
+        this.activeFireTruck.tick();
+        if (this.activeFireTruck.isTankEmpty() && world.getFireStationTime() % 5 == 0) {
+            if (world.getFireStationTime() > 0) world.showPopupText("{FAST}This truck has run out of water, go to the Fire Station to refill", 1, 5);
+            else world.showPopupText("{FAST}This truck has run out of water, select another one", 1, 5);
         }
-        if (DEBUG_ENABLED) this.activeFireTruck.drawDebug(shapeRenderer);
         if (this.activeFireTruck.checkDestroyed()) {
             if (getAliveFiretruckID() != -1) {
                 changeFiretruck(getAliveFiretruckID());
@@ -126,14 +131,27 @@ public class Firestation extends SimpleSprite {
 
     }
 
+    /**
+     * Draws the active fire truck between its last two ticks
+     *
+     * @param batch         to draw textures
+     * @param shapeRenderer to draw debug
+     * @param alpha         how far through the next tick the game is
+     */
+    public void renderFiretruck(Batch batch, ShapeRenderer shapeRenderer, float alpha) {
+        this.activeFireTruck.render(batch, alpha);
+        if (DEBUG_ENABLED) this.activeFireTruck.drawDebug(shapeRenderer);
+    }
+
     /**
      * Updates the arrow that points to the nearest fortress
      *
      * @param shapeRenderer to draw the arrow polygon
      * @param fortresses    to find nearest fortress
+     * @param alpha         how far through the next tick the game is
      */
-    public void updateActiveArrow(ShapeRenderer shapeRenderer, ArrayList<ETFortress> fortresses) {
-        this.activeFireTruck.updateArrow(shapeRenderer, fortresses);
+    public void updateActiveArrow(ShapeRenderer shapeRenderer, ArrayList<ETFortress> fortresses, float alpha) {
+        this.activeFireTruck.updateArrow(shapeRenderer, fortresses, alpha);
     }
 
     /**
@@ -168,7 +186,7 @@ public class Firestation extends SimpleSprite {
     }
 
     /**
-     * Repairs/Refills the fire truck if:
+     * Repairs/Refills the fire truck, if a repair is due, if:
      * - it is within 3 minutes
      * - in the main carpark (fire station)
      * - less than 100 health or water
@@ -181,19 +199,22 @@ public class Firestation extends SimpleSprite {
      *                      <code>fasle</code> menu is closed
      */
     public void checkRepairRefill(int time, boolean includeActive) {
-        if (includeActive) {
-            if (!isDestroyed && activeFireTruck.getCarpark().name().contains("Main") && (activeFireTruck.isDamaged() || activeFireTruck.isLowOnWater())) {
-                this.repairRefill(activeFireTruck);
+        if (this.isRepairDue) {
+            this.isRepairDue = false;
+            if (includeActive) {
+                if (!isDestroyed && activeFireTruck.getCarpark().name().contains("Main") && (activeFireTruck.isDamaged() || activeFireTruck.isLowOnWater())) {
+                    this.repairRefill(activeFireTruck);
+                }
             }
-        }
-        for (Firetruck firetruck : parkedFireTrucks) {
-            if (!isDestroyed && firetruck.getCarpark().name().contains("Main") && (firetruck.isDamaged() || firetruck.isLowOnWater())) {
-                this.repairRefill(firetruck);
+            for (Firetruck firetruck : parkedFireTrucks) {
+                if (!isDestroyed && firetruck.getCarpark().name().contains("Main") && (firetruck.isDamaged() || firetruck.isLowOnWater())) {
+                    this.repairRefill(firetruck);
+                }
             }
         }
         if (!this.isVulnerable && time == 0) {
             this.isVulnerable = true;
-            this.gameScreen.showPopupText("WARNING: The Fire Station is now vulnerable to attack",3, 3);
+            this.world.showPopupText("WARNING: The Fire Station is now vulnerable to attack",3, 3, Priority.HIGH);
         }
     }
 
@@ -266,6 +287,10 @@ public class Firestation extends SimpleSprite {
         return this.isVulnerable;
     }
 
+    public Scheduler getScheduler() {
+        return this.world.getScheduler();
+    }
+
     public boolean isDestroyed() {
         return this.isDestroyed;
     }
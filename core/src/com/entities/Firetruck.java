@@ -2,20 +2,20 @@ package com.entities;
 
 // LibGDX imports
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.*;
 import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
-import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
 import com.badlogic.gdx.math.*;
-import com.badlogic.gdx.Input.Keys;
-import com.badlogic.gdx.scenes.scene2d.ui.Image;
 
 // Custom class import
 import com.misc.Constants;
 import com.misc.Arrow;
+import com.misc.CollisionGrid;
 import com.misc.ResourceBar;
+import com.misc.Scheduler;
+import com.misc.SpatialHash;
+import com.misc.VoxelSlices;
 import com.sprites.MovementSprite;
 
 // Java util import
@@ -40,11 +40,15 @@ public class Firetruck extends MovementSprite {
 
     private final TruckType type;
 
-    // texture slices to give 3D effect
-    private final ArrayList<Texture> firetruckSlices;
+    // atlas slices to give 3D effect
+    private final VoxelSlices firetruckSlices;
 
     // water frames to give animation effect
     private final ArrayList<Texture> waterFrames;
+    private final TextureRegion[] waterRegions;
+
+    // the direction the hose is aimed in
+    private final Vector2 hoseVector;
 
     // arrow values
     private ETFortress nearestFortress;
@@ -52,31 +56,43 @@ public class Firetruck extends MovementSprite {
     private boolean isArrowVisible;
 
     // car park values
-    private final TiledMapTileLayer carparkLayer;
+    private final CollisionGrid collisionGrid;
     private CarparkEntrances location;
     private boolean isBought;
 
     private boolean isAlive;
 
+    // whether the player steered the firetruck this tick
+    private boolean isSteeredByPlayer;
+
     private final Firestation fireStation;
 
+    // Whether the hose hits this tick, set every FIRETRUCK_HOSE_INTERVAL ticks
+    // by a task on the world's scheduler
+    private boolean isHoseLoaded;
+    private final Scheduler.Task hoseReload;
+
     /**
      * Creates a firetruck capable of moving and colliding with the tiledMap and other sprites.
      * It also requires an ID so that it can be focused with the camera. Drawn with the given
      * texture at the given position.
      *
-     * @param textureSlices  The array of textures used to draw the firetruck with.
+     * @param textureSlices  The atlas slices used to draw the firetruck with.
      * @param frames         The texture used to draw the water with.
      * @param type           The properties of the truck inherited from Constants.
-     * @param collisionLayer The layer of the map the firetruck collides with.
-     * @param carparkLayer   The layer of the map the carparks are on
+     * @param collisionGrid  The compiled collision and carpark layers of the map.
      * @param fireStation    The fire station
      * @param isBought       <code>true</code> if truck is bought to start with
      *                       <code>false</code> if truck needs to still be bought
      */
-    public Firetruck(ArrayList<Texture> textureSlices, ArrayList<Texture> frames, TruckType type, TiledMapTileLayer collisionLayer, TiledMapTileLayer carparkLayer, Firestation fireStation, boolean isBought) {
-        super(textureSlices.get(textureSlices.size() - 1), collisionLayer);
+    public Firetruck(VoxelSlices textureSlices, ArrayList<Texture> frames, TruckType type, CollisionGrid collisionGrid, Firestation fireStation, boolean isBought) {
+        super(textureSlices.getBase(), collisionGrid);
         this.waterFrames = frames;
+        this.waterRegions = new TextureRegion[frames.size()];
+        for (int i = 0; i < this.waterRegions.length; i++) {
+            this.waterRegions[i] = new TextureRegion(frames.get(i));
+        }
+        this.hoseVector = new Vector2(1, 0);
         this.firetruckSlices = textureSlices;
         this.type = type;
         this.location = CarparkEntrances.Main1;
@@ -85,8 +101,15 @@ public class Firetruck extends MovementSprite {
         this.create();
         this.arrow = new Arrow(15, 50, 100, 50);
         this.isArrowVisible = false;
-        this.carparkLayer = carparkLayer;
+        this.collisionGrid = collisionGrid;
         this.isBought = isBought;
+        this.hoseReload = new Scheduler.Task() {
+            @Override
+            public void run() {
+                isHoseLoaded = true;
+            }
+        };
+        fireStation.getScheduler().schedule(this.hoseReload, FIRETRUCK_HOSE_INTERVAL, FIRETRUCK_HOSE_INTERVAL);
     }
 
     /**
@@ -110,29 +133,18 @@ public class Firetruck extends MovementSprite {
 
     }
 
+    /*
+     *  =======================================================================
+     *                          Modified for Assessment 3
+     *  =======================================================================
+     */
     /**
-     * Update the position and direction of the firetruck every frame.
-     *
-     * @param batch  The batch to draw onto.
-     * @param camera Used to get the centre of the screen.
+     * Update the position and direction of the firetruck every tick.
      */
-    public void update(Batch batch, Camera camera) {
-        super.update(batch);
+    @Override
+    public void tick() {
+        super.tick();
         checkCarparkCollision();
-        drawVoxelImage(batch);
-        // Look for key press input, then accelerate the firetruck in that direction
-        if (Gdx.input.isKeyPressed(Keys.LEFT) || Gdx.input.isKeyPressed(Keys.A)) {
-            super.applyAcceleration(Direction.LEFT);
-        }
-        if (Gdx.input.isKeyPressed(Keys.RIGHT) || Gdx.input.isKeyPressed(Keys.D)) {
-            super.applyAcceleration(Direction.RIGHT);
-        }
-        if (Gdx.input.isKeyPressed(Keys.DOWN) || Gdx.input.isKeyPressed(Keys.S)) {
-            super.applyAcceleration(Direction.DOWN);
-        }
-        if (Gdx.input.isKeyPressed(Keys.UP) || Gdx.input.isKeyPressed(Keys.W)) {
-            super.applyAcceleration(Direction.UP);
-        }
 
         // Deplete water if spraying, toggle off when depleted
         if (this.isSpraying && this.waterBar.getCurrentAmount() > 0) {
@@ -141,36 +153,69 @@ public class Firetruck extends MovementSprite {
             this.toggleHose();
         }
 
-        // Update the water bar position
-        this.waterBar.setPosition(this.getX(), this.getCentreY());
-        this.waterBar.update(batch);
-
-        // Get the mouse input and get the angle from the truck to it. Get vector, normalise then get angle
-        Vector2 hoseVector = new Vector2((this.getCentreX() - (camera.viewportWidth / 2) + Gdx.input.getX()), (this.getCentreY() + (camera.viewportHeight / 2) - Gdx.input.getY()));
-        Vector2 centreVector = new Vector2(this.getCentreX(), this.getCentreY());
+        // Fade the water bar, it is drawn with the other bars after the sprites
+        this.waterBar.update();
 
-        // Work out the vector between them
-        hoseVector = hoseVector.sub(centreVector);
-        hoseVector.nor();
-
-        // Update the hose size and position. Angle it towards the mouse
+        // Grow or shrink the hose as it is turned on or off
         float scale = this.isSpraying && this.hoseRange.getScaleX() < this.getType().getProperties()[4] ?
                 0.05f : !this.isSpraying && this.hoseRange.getScaleX() > 0 ? -0.05f : 0;
         this.hoseRange.setScale(this.hoseRange.getScaleX() + scale, this.hoseRange.getScaleY() + scale);
+
+        // Keep the hose on the firetruck, pointing where it was last aimed
         this.hoseRange.setPosition(this.getCentreX(), this.getCentreY());
-        this.hoseRange.setRotation(hoseVector.angle());
+        this.hoseRange.setRotation(this.hoseVector.angle());
+
+        // Decrease timeout, used for keeping track of time between toggle presses
+        if (this.toggleDelay > 0) this.toggleDelay -= 1;
+
+        // Steering only lasts for the tick it was given for
+        this.isSteeredByPlayer = false;
+    }
+
+    /**
+     * Accelerates the firetruck in a direction the player is steering it in.
+     * Called before each tick for every direction being held.
+     *
+     * @param direction The direction to accelerate in.
+     */
+    public void steer(Direction direction) {
+        super.applyAcceleration(direction);
+        this.isSteeredByPlayer = true;
+    }
+
+    /**
+     * Points the hose in a direction, which it keeps until it is aimed again.
+     *
+     * @param x The x component of the direction to aim in.
+     * @param y The y component of the direction to aim in.
+     */
+    public void aimHose(float x, float y) {
+        this.hoseVector.set(x, y);
+    }
+
+    /**
+     * Draw the firetruck and its hose between where they were at the last two ticks.
+     *
+     * @param batch  The batch to draw onto.
+     * @param alpha  How far through the next tick the game is.
+     */
+    @Override
+    public void render(Batch batch, float alpha) {
+        super.render(batch, alpha);
+        drawVoxelImage(batch, alpha);
+        float x = this.getDrawX(alpha);
+        float centreY = this.getDrawY(alpha) + this.getHeight() / 2;
+
+        // Keep the water bar on the firetruck, it is drawn with the other bars after the sprites
+        this.waterBar.setPosition(x, centreY);
 
         // Change batch aplha to match bar to fade hose in and out
         batch.setColor(1.0f, 1.0f, 1.0f, this.waterBar.getFade() * 0.9f);
-        batch.draw(new TextureRegion(this.waterFrames.get(Math.round(this.getInternalTime() / 10) % 3)), this.hoseRange.getX(), this.hoseRange.getY() - this.hoseHeight / 2,
-                0, this.hoseHeight / 2, this.hoseWidth, this.hoseHeight, this.hoseRange.getScaleX(), this.hoseRange.getScaleY(), hoseVector.angle(), true);
+        batch.draw(this.waterRegions[Math.round(this.getInternalTime() / 10) % 3], x + this.getWidth() / 2, centreY - this.hoseHeight / 2,
+                0, this.hoseHeight / 2, this.hoseWidth, this.hoseHeight, this.hoseRange.getScaleX(), this.hoseRange.getScaleY(), this.hoseRange.getRotation(), true);
 
         // Return the batch to its original colours
         batch.setColor(1.0f, 1.0f, 1.0f, 1f);
-
-        // Decrease timeout, used for keeping track of time between toggle presses
-        if (this.toggleDelay > 0) this.toggleDelay -= 1;
-
     }
 
     /**
@@ -178,14 +223,13 @@ public class Firetruck extends MovementSprite {
      * of the fire truck to that car park and sets the menu to be opened
      */
     public void checkCarparkCollision() {
-        if (carparkLayer != null) {
-            for (Vector2 vertex : getPolygonVertices(super.getMovementHitBox())) {
-                if (carparkLayer.getCell((int) (vertex.x / TILE_DIMS), (int) (vertex.y / TILE_DIMS)) != null) {
-                    if (carparkLayer.getCell((int) (vertex.x / TILE_DIMS), (int) (vertex.y / TILE_DIMS)).getTile().getProperties().get("carpark") != null) {
-                        int carparkNum = ((int) carparkLayer.getCell(((int) (vertex.x / TILE_DIMS)), ((int) (vertex.y / TILE_DIMS))).getTile().getProperties().get("carpark"));
-                        this.setRespawnLocation(carparkNum);
-                        this.fireStation.toggleMenu(true);
-                    }
+        if (collisionGrid != null) {
+            float[] vertices = super.getMovementHitBox().getTransformedVertices();
+            for (int i = 0; i < vertices.length; i += 2) {
+                int carparkNum = this.collisionGrid.getCarpark(vertices[i], vertices[i + 1]);
+                if (carparkNum != CollisionGrid.NO_CARPARK) {
+                    this.setRespawnLocation(carparkNum);
+                    this.fireStation.toggleMenu(true);
                 }
             }
         }
@@ -235,11 +279,12 @@ public class Firetruck extends MovementSprite {
      *
      * @param shapeRenderer to draw the arrow
      * @param fortresses    list of fortresses
+     * @param alpha         how far through the next tick the game is
      */
-    public void updateArrow(ShapeRenderer shapeRenderer, ArrayList<ETFortress> fortresses) {
+    public void updateArrow(ShapeRenderer shapeRenderer, ArrayList<ETFortress> fortresses, float alpha) {
         setNearestFortress(fortresses);
         if (isArrowVisible && this.nearestFortress != null) {
-            arrow.setPosition(this.getCentreX(), this.getCentreY());
+            arrow.setPosition(this.getDrawX(alpha) + this.getWidth() / 2, this.getDrawY(alpha) + this.getHeight() / 2);
             arrow.aimAtTarget(this.nearestFortress.getCentre());
             shapeRenderer.begin(ShapeRenderer.ShapeType.Line);
             shapeRenderer.polygon(arrow.getTransformedVertices());
@@ -251,31 +296,27 @@ public class Firetruck extends MovementSprite {
      * Draws the voxel representation of the firetruck. Incrementally builds the firetruck
      * from layers of images with each image slightly higher than the last
      */
-    private void drawVoxelImage(Batch batch) {
-        // Length of array containing image slices
-        int slicesLength = this.firetruckSlices.size() - 1;
-        float x = getX(), y = getY(), angle = this.getRotation();
-        float width = this.getWidth(), height = this.getHeight();
-        for (int i = 0; i < slicesLength; i++) {
-            Texture texture = animateLights(i);
-            batch.draw(new TextureRegion(texture), x, (y - slicesLength / 3f) + i, width / 2, height / 2, width, height, 1, 1, angle, true);
-        }
+    private void drawVoxelImage(Batch batch, float alpha) {
+        this.firetruckSlices.draw(batch, getDrawX(alpha), getDrawY(alpha), this.getWidth(), this.getHeight(), getDrawRotation(alpha), animateLights());
+    }
+
+    /**
+     * Pre-renders the firetruck's slices at every rotation so that it can
+     * be drawn as a single image when the camera is zoomed out.
+     *
+     * @param batch The batch to render the slices with.
+     */
+    public void bakeImpostors(Batch batch) {
+        this.firetruckSlices.bakeImpostors(batch, this.getWidth(), this.getHeight());
     }
 
     /**
      * Alternates between showing the red and blue light on the truck.
-     * Returns the texture at the given index offset to the correct index.
      *
-     * @param index The index of the next texture to draw the sprite with.
-     * @return The next texture to draw the sprite with.
-     */
-    private Texture animateLights(int index) {
-        if (index == 14) { // The index of the texture containing the first light colour
-            return this.getInternalTime() / 5 > 15 ? this.firetruckSlices.get(index + 1) : this.firetruckSlices.get(index);
-        } else if (index > 14) { // Offset remaining in order to not repeat a texture
-            return this.firetruckSlices.get(index + 1);
-        }
-        return this.firetruckSlices.get(index);
+     * @return Whether the slice containing the second light colour should be drawn.
+     */
+    private boolean animateLights() {
+        return this.getInternalTime() / 5 > 15;
     }
 
     /**
@@ -344,8 +385,20 @@ public class Firetruck extends MovementSprite {
      * @return Whether the polygon is in the hose's range
      */
     public boolean isInHoseRange(Polygon polygon) {
-        if (this.getInternalTime() % 10 != 0) return false;
-        return Intersector.overlapConvexPolygons(polygon, this.hoseRange);
+        return SpatialHash.overlaps(polygon, this.hoseRange);
+    }
+
+    /**
+     * Fires the hose if it has reloaded since it was last fired, so
+     * whatever it reaches is only hit every FIRETRUCK_HOSE_INTERVAL ticks
+     *
+     * @return  <code>true</code> if the hose hits this tick
+     *          <code>false</code> if it is still reloading
+     */
+    public boolean fireHose() {
+        boolean loaded = this.isHoseLoaded;
+        this.isHoseLoaded = false;
+        return loaded;
     }
 
     /**
@@ -400,6 +453,16 @@ public class Firetruck extends MovementSprite {
         renderer.polygon(this.hoseRange.getTransformedVertices());
     }
 
+    /**
+     * Gets the shape of the area the hose sprays, so that entities it may
+     * reach can be looked up before checking each one.
+     *
+     * @return The firetruck's hose range.
+     */
+    public Polygon getHoseRange() {
+        return this.hoseRange;
+    }
+
     /**
      * Gets the firetruck's water bar so it can be manipulated.
      *
@@ -439,6 +502,7 @@ public class Firetruck extends MovementSprite {
         this.setPosition(this.location.getLocation().x, this.location.getLocation().y);
         this.resetSprite();
         this.setSpeed(new Vector2(0, 0));
+        this.resetInterpolation();
     }
 
     /**
@@ -455,18 +519,31 @@ public class Firetruck extends MovementSprite {
         return this.location;
     }
 
-    public Texture getFireTruckTexture() {
-        return new Texture(Gdx.files.internal("FireTrucks/" + type.getColourString() + "/FiretruckFull.png"));
-    }
-
-    public Image getFireTruckImage() {
-        return new Image(getFireTruckTexture());
+    /**
+     * Gets the picture of the fire truck shown in menus, which
+     * is acquired from the asset manager so that every screen
+     * showing it shares one texture
+     *
+     * @return  the image file for this truck's type
+     */
+    public String getFireTruckFile() {
+        return "FireTrucks/" + type.getColourString() + "/FiretruckFull.png";
     }
 
     public boolean isAlive() {
         return this.isAlive;
     }
 
+    /**
+     * Whether the player steered the firetruck with the keys this frame
+     *
+     * @return  <code>true</code> if a movement key was held down
+     *          <code>false</code> otherwise
+     */
+    public boolean isSteeredByPlayer() {
+        return this.isSteeredByPlayer;
+    }
+
     public float getRange() {
         return this.getType().getProperties()[4];
     }
@@ -501,15 +578,11 @@ public class Firetruck extends MovementSprite {
 
     /**
      * Dispose of all textures used by this class and its parents.
+     * The water frames are shared by every truck and belong to
+     * the asset manager, so are left for it to unload.
      */
     @Override
     public void dispose() {
         super.dispose();
-        for (Texture texture : this.firetruckSlices) {
-            texture.dispose();
-        }
-        for (Texture texture : this.waterFrames) {
-            texture.dispose();
-        }
     }
 }
\ No newline at end of file
@@ -8,18 +8,16 @@ package com.entities;
 
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.misc.Constants;
+import com.misc.VoxelSlices;
 import com.pathFinding.MapGraph;
-import com.badlogic.gdx.graphics.Texture;
+import com.pathFinding.PathfindingService;
 import com.badlogic.gdx.graphics.g2d.Batch;
-import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Circle;
 import com.badlogic.gdx.math.Intersector;
 import com.badlogic.gdx.math.Polygon;
 import com.badlogic.gdx.math.Vector2;
 import com.sprites.PatrolMovementSprite;
 
-import java.util.ArrayList;
-
 /** This class is used to create a patrol. A patrol can
  * detect and attack a firetruck if a firetruck is within
  * it's range. It can also be attacked by a firetruck. It
@@ -28,8 +26,8 @@ import java.util.ArrayList;
  */
 public class Patrol extends PatrolMovementSprite {
 
-    // List of textures which are drawn on top of each other to create a 3D looking image
-    final ArrayList<Texture> textureSlices;
+    // Atlas regions which are drawn on top of each other to create a 3D looking image
+    final VoxelSlices textureSlices;
 
     // Whether the patrol has been killed by a firetruck or not
     private boolean isDead;
@@ -38,30 +36,59 @@ public class Patrol extends PatrolMovementSprite {
 
     /** The constructor for Patrol
      *
-     * @param textureSlices List of textures that are layered on top of each other to
+     * @param textureSlices Atlas regions that are layered on top of each other to
+     *                      draw the patrol
+     * @param mapGraph      Graph of junctions - used by PatrolMovementSprite to
+     *                      determine the patrol's movement
+     */
+    public Patrol(VoxelSlices textureSlices, MapGraph mapGraph){
+        this(textureSlices, mapGraph, null);
+    }
+
+    /** The constructor for a Patrol that has its routes planned on other threads
+     *
+     * @param textureSlices Atlas regions that are layered on top of each other to
      *                      draw the patrol
      * @param mapGraph      Graph of junctions - used by PatrolMovementSprite to
      *                      determine the patrol's movement
+     * @param pathfinder    Plans the patrol's routes, or null to plan them straight away
      */
-    public Patrol(ArrayList<Texture> textureSlices, MapGraph mapGraph){
-        super(textureSlices.get(textureSlices.size() - 1), mapGraph);
+    public Patrol(VoxelSlices textureSlices, MapGraph mapGraph, PathfindingService pathfinder){
+        super(textureSlices.getBase(), mapGraph, pathfinder);
         this.getHealthBar().setMaxResource(25);
         this.textureSlices = textureSlices;
         this.isDead = false;
-        this.detectionRange = Constants.TILE_DIMS * 5;
+        this.detectionRange = Constants.PATROL_DETECTION_RANGE;
+    }
+
+    /** Puts a patrol that has been killed back at a random junction with full
+     * health, so it can be reused instead of constructing another
+     */
+    @Override
+    public void respawn() {
+        this.isDead = false;
+        this.getHealthBar().resetResourceAmount();
+        super.respawn();
+    }
+
+    /** Called from gameScreen each tick, first checks whether the patrol
+     * has been killed then calls super to update the patrols movement.
+     */
+    @Override
+    public void tick() {
+        checkIfDead();
+        super.tick();
     }
 
-    /** Called from gameScreen, first checks whether the patrol has
-     * been killed, it draws the patrol calls super to update the
-     * patrols movement and updates its detection range so that it
-     * moves with the movement of the patrol.
+    /** Draws the patrol between where it was at the last two ticks
      *
      * @param batch  The batch to draw onto.
+     * @param alpha  How far through the next tick the game is.
      */
-    public void update(Batch batch) {
-        checkIfDead();
-        drawVoxelImage(batch);
-        super.update(batch);
+    @Override
+    public void render(Batch batch, float alpha) {
+        drawVoxelImage(batch, alpha);
+        super.render(batch, alpha);
     }
 
     /**
@@ -76,18 +103,8 @@ public class Patrol extends PatrolMovementSprite {
      * Draws the voxel representation of the patrol. Incrementally builds the patrol
      * from layers of images with each image slightly higher than the last
      */
-    private void drawVoxelImage(Batch batch) {
-        int slicesLength = this.textureSlices.size() - 1;
-        float x = getX();
-        float y = getY();
-        float angle = this.getRotation();
-        float width = this.getWidth();
-        float height = this.getHeight();
-
-        for (int i = 0; i < slicesLength; i++) {
-            Texture texture = this.textureSlices.get(i);
-            batch.draw(new TextureRegion(texture), x, (y - slicesLength / 3f) + i, width / 2, height / 2, width, height, 1, 1, angle, true);
-        }
+    private void drawVoxelImage(Batch batch, float alpha) {
+        this.textureSlices.draw(batch, getDrawX(alpha), getDrawY(alpha), this.getWidth(), this.getHeight(), getDrawRotation(alpha), false);
     }
 
     /** Checks if the patrol is dead and if so sets this.isDead to true */
@@ -114,7 +131,7 @@ public class Patrol extends PatrolMovementSprite {
      *                              since the patrol last fired a
      *                               projectile*/
     public boolean canShootProjectile() {
-        return this.getInternalTime() % 30 == 0;
+        return this.getInternalTime() % Constants.WEAPON_FIRE_INTERVAL == 0;
     }
 
     /** If a patrol has died have to remove the road the
@@ -125,6 +142,7 @@ public class Patrol extends PatrolMovementSprite {
      *      *          to determine the patrol's movement
      */
     public void removeDead(MapGraph mapGraph){
+        cancelRoute();
         mapGraph.removeDead(super.getThis());
     }
 
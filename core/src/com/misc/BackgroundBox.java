@@ -8,17 +8,27 @@ import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.NinePatch;
 import com.badlogic.gdx.scenes.scene2d.Actor;
+import com.badlogic.gdx.utils.IntMap;
 
 /**
  * Custom actor to allow for a shape to be
  * rendered on the stage. Used as backgrounds
  * to actors in the car park menu.
+ *
+ * Every box with the same corner radius is drawn
+ * with one shared white nine-patch, tinted to the
+ * box's colour, so the corners keep their shape at
+ * any size and no texture is made for each box.
  */
 public class BackgroundBox extends Actor {
 
-    // the texture that the pixmap makes
-    private final Texture texture;
+    // the nine-patch for each corner radius, shared by every box
+    private static final IntMap<NinePatch> patches = new IntMap<>();
+
+    // the nine-patch this box is drawn with
+    private final NinePatch patch;
 
     /**
      * Constructor to create a rectangle
@@ -28,11 +38,7 @@ public class BackgroundBox extends Actor {
      * @param color     of the box
      */
     public BackgroundBox(int width, int height, Color color) {
-        Pixmap pixmap = new Pixmap(width, height, Pixmap.Format.RGBA8888);
-        pixmap.setColor(color);
-        pixmap.fillRectangle(0, 0, width, height);
-        texture = new Texture(pixmap);
-        pixmap.dispose();
+        this(width, height, color, 0);
     }
 
     /**
@@ -44,23 +50,53 @@ public class BackgroundBox extends Actor {
      * @param radius    of the corners
      */
     public BackgroundBox(int width, int height, Color color, int radius) {
-        Pixmap pixmap = new Pixmap(width, height, Pixmap.Format.RGBA8888);
-        pixmap.setColor(color);
-        pixmap.fillRectangle(0, radius, pixmap.getWidth(), pixmap.getHeight()-2*radius);
-        pixmap.fillRectangle(radius, 0, pixmap.getWidth() - 2*radius, pixmap.getHeight());
-        pixmap.fillCircle(radius, radius, radius);
-        pixmap.fillCircle(radius, pixmap.getHeight()-radius, radius);
-        pixmap.fillCircle(pixmap.getWidth()-radius, radius, radius);
-        pixmap.fillCircle(pixmap.getWidth()-radius, pixmap.getHeight()-radius, radius);
-        texture = new Texture(pixmap);
-        pixmap.dispose();
+        patch = getPatch(radius);
+        setSize(width, height);
+        setColor(color);
+    }
+
+    /**
+     * Gets the nine-patch for a corner radius, making it the
+     * first time it is used. It is a white rounded square with
+     * a single pixel between the corners to stretch
+     *
+     * @param radius    of the corners
+     * @return          the shared nine-patch
+     */
+    static NinePatch getPatch(int radius) {
+        NinePatch patch = patches.get(radius);
+        if (patch == null) {
+            int size = 2 * radius + 1;
+            Pixmap pixmap = new Pixmap(size, size, Pixmap.Format.RGBA8888);
+            pixmap.setColor(Color.WHITE);
+            pixmap.fillRectangle(0, radius, size, 1);
+            pixmap.fillRectangle(radius, 0, 1, size);
+            if (radius > 0) {
+                pixmap.fillCircle(radius, radius, radius);
+            }
+            Texture texture = new Texture(pixmap);
+            pixmap.dispose();
+            patch = new NinePatch(texture, radius, radius, radius, radius);
+            patches.put(radius, patch);
+        }
+        return patch;
+    }
+
+    /**
+     * Disposes the shared nine-patches once the game closes
+     */
+    public static void disposePatches() {
+        for (NinePatch patch : patches.values()) {
+            patch.getTexture().dispose();
+        }
+        patches.clear();
     }
 
     @Override
     public void draw(Batch batch, float parentAlpha) {
         Color color = getColor();
         batch.setColor(color.r, color.g, color.b, color.a * parentAlpha);
-        batch.draw(texture, getX(), getY(), getWidth(), getHeight());
+        patch.draw(batch, getX(), getY(), getWidth(), getHeight());
     }
 
 }
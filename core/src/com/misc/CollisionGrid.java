@@ -0,0 +1,125 @@
+package com.misc;
+
+/*
+ *  =======================================================================
+ *                       New class added for Assessment 3
+ *  =======================================================================
+ */
+
+// LibGDX imports
+import com.badlogic.gdx.maps.MapProperties;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+
+// Constants import
+import static com.misc.Constants.TILE_DIMS;
+
+/**
+ * The collision and carpark layers of the map, compiled once when the map
+ * is loaded so that sprites never have to look up a cell or read a tile's
+ * properties while moving. Blocked tiles are stored one bit per tile and
+ * carpark numbers one byte per tile, both indexed by row then column.
+ *
+ * Positions outside of the map are never blocked and are not in a carpark,
+ * matching a layer with no cell there.
+ */
+public class CollisionGrid {
+
+    // Returned when a position is not in a carpark
+    public static final int NO_CARPARK = -1;
+
+    private final int width, height;
+    private final long[] blocked;
+    private final byte[] carparks;
+
+    /**
+     * Compiles the layers into grids.
+     *
+     * @param collisionLayer    Layer where every cell blocks movement
+     * @param carparkLayer      Layer with the "carpark" number of each entrance
+     */
+    public CollisionGrid(TiledMapTileLayer collisionLayer, TiledMapTileLayer carparkLayer) {
+        this.width = collisionLayer.getWidth();
+        this.height = collisionLayer.getHeight();
+        this.blocked = new long[(this.width * this.height + 63) >>> 6];
+        this.carparks = new byte[this.width * this.height];
+
+        for (int row = 0; row < this.height; row++) {
+            for (int column = 0; column < this.width; column++) {
+                int index = row * this.width + column;
+                if (collisionLayer.getCell(column, row) != null) {
+                    this.blocked[index >>> 6] |= 1L << index;
+                }
+                this.carparks[index] = (byte) NO_CARPARK;
+                TiledMapTileLayer.Cell cell = carparkLayer == null ? null : carparkLayer.getCell(column, row);
+                if (cell != null && cell.getTile() != null) {
+                    MapProperties properties = cell.getTile().getProperties();
+                    if (properties.get("carpark") != null) {
+                        this.carparks[index] = properties.get("carpark", Integer.class).byteValue();
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets whether the tile at a tile coordinate blocks movement.
+     *
+     * @param column    The column of the tile
+     * @param row       The row of the tile
+     * @return          <code>true</code> if the tile is blocked
+     *                  <code>false</code> otherwise
+     */
+    public boolean isBlockedTile(int column, int row) {
+        if (column < 0 || row < 0 || column >= this.width || row >= this.height) return false;
+        int index = row * this.width + column;
+        return (this.blocked[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * Gets whether the tile under a position on the map blocks movement.
+     *
+     * @param x The x-coordinate on the map
+     * @param y The y-coordinate on the map
+     * @return  <code>true</code> if the tile is blocked
+     *          <code>false</code> otherwise
+     */
+    public boolean isBlocked(float x, float y) {
+        return this.isBlockedTile((int) (x / TILE_DIMS), (int) (y / TILE_DIMS));
+    }
+
+    /**
+     * Counts how many vertices of a polygon are on blocked tiles.
+     *
+     * @param vertices  The transformed vertices of the polygon, as x, y pairs
+     * @return          The number of vertices on blocked tiles
+     */
+    public int countBlocked(float[] vertices) {
+        int count = 0;
+        for (int i = 0; i < vertices.length; i += 2) {
+            if (this.isBlocked(vertices[i], vertices[i + 1])) count++;
+        }
+        return count;
+    }
+
+    /**
+     * Gets the number of the carpark under a position on the map.
+     *
+     * @param x The x-coordinate on the map
+     * @param y The y-coordinate on the map
+     * @return  The carpark number, or {@link #NO_CARPARK}
+     */
+    public int getCarpark(float x, float y) {
+        int column = (int) (x / TILE_DIMS);
+        int row = (int) (y / TILE_DIMS);
+        if (column < 0 || row < 0 || column >= this.width || row >= this.height) return NO_CARPARK;
+        return this.carparks[row * this.width + column];
+    }
+
+    public int getWidth() {
+        return this.width;
+    }
+
+    public int getHeight() {
+        return this.height;
+    }
+}
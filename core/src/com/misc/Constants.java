@@ -1,7 +1,5 @@
 package com.misc;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.math.Vector2;
 
 /**
@@ -125,28 +123,29 @@ public final class Constants {
 
     public enum AlienType {
 
-        green(10, 0.5, new Texture(Gdx.files.internal("Minigame/alien_2.png")), 1000),
-        red(20, 0.3, new Texture(Gdx.files.internal("Minigame/alien_3.png")), 750),
-        blue(50,0.2, new Texture(Gdx.files.internal("Minigame/alien_1.png")), 400);
+        green(10, 0.5, "Minigame/alien_2.png", 1000),
+        red(20, 0.3, "Minigame/alien_3.png", 750),
+        blue(50,0.2, "Minigame/alien_1.png", 400);
 
         private final int score;
         private final double chance;
         private final long aliveTime;
 
-        private final Texture texture;
+        // The image it is drawn with, loaded by the asset manager
+        private final String file;
 
-        AlienType(int score, double chance, Texture texture, long aliveTime) {
+        AlienType(int score, double chance, String file, long aliveTime) {
             this.score = score;
             this.chance = chance;
             this.aliveTime = aliveTime;
-            this.texture = texture;
+            this.file = file;
         }
 
         public int getScore(){return this.score;}
 
         public double getChance() {return this.chance; }
 
-        public Texture getTexture(){ return this.texture; }
+        public String getFile(){ return this.file; }
 
         public long getAliveTime() {
             return aliveTime;
@@ -198,6 +197,72 @@ public final class Constants {
     public static final float MAP_HEIGHT = 10000 * (8 * MAP_SCALE);
     public static final int TILE_DIMS = (int) (8 * MAP_SCALE);
     public static final int PATROL_MAX = 10;
+    public static final String MAP_FILE = "MapAssets/York_galletcity.tmx";
+    public static final String NAV_GRAPH_CACHE_FILE = "navgraph.bin";
+    public static final int PATROL_DETECTION_RANGE = TILE_DIMS * 5;
+    // Seconds before the first patrol spawns, and between each one after that
+    public static final int PATROL_SPAWN_DELAY = 7;
+    public static final int PATROL_SPAWN_INTERVAL = 10;
+    // Damage done by each projectile a patrol fires
+    public static final int PATROL_DAMAGE = 5;
+    // Weapons reload every this many ticks, fortresses only while their internal
+    // time is below the window so they pause between bursts
+    public static final int WEAPON_FIRE_INTERVAL = 30;
+    public static final int FORTRESS_FIRE_WINDOW = 120;
+    // Weapons fire the first few of every cycle of reloads - fortresses a volley
+    // of four then a pause, patrols every one
+    public static final int WEAPON_VOLLEY_CYCLE = 5;
+    public static final int FORTRESS_VOLLEY = FORTRESS_FIRE_WINDOW / WEAPON_FIRE_INTERVAL;
+    // Ticks between each repair at the fire station, each heal of a damaged
+    // fortress and each hit of the active fire truck's hose
+    public static final int FIRESTATION_REPAIR_INTERVAL = 10;
+    public static final int FORTRESS_HEAL_INTERVAL = 150;
+    public static final int FIRETRUCK_HOSE_INTERVAL = 10;
+    // Which kind of entity fired a projectile
+    public static final int PROJECTILE_OWNER_FORTRESS = 0;
+    public static final int PROJECTILE_OWNER_PATROL = 1;
+    // Patrols this close to the active fire truck (or vulnerable fire station) hunt it down
+    public static final int PATROL_HUNT_RANGE = TILE_DIMS * 25;
+    // Threads that plan patrol routes, and the most routes handed to them each tick
+    public static final int PATHFINDING_THREADS = 2;
+    public static final int PATHFINDING_QUEUE_SIZE = 32;
+    // Threads that decode images while assets load, and the most milliseconds
+    // a frame spends loading them so the loading screen keeps drawing
+    public static final int ASSET_DECODE_THREADS = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+    public static final int ASSET_LOADING_MILLIS = 15;
+    // The most popup messages that can wait to be shown at once
+    public static final int POPUP_QUEUE_SIZE = 16;
+    // The world is stepped at a fixed rate whatever the frame rate, catching up at most a number
+    // of steps in one frame so a long frame slows the game down instead of freezing it
+    public static final int TICKS_PER_SECOND = 60;
+    public static final float FIXED_TIMESTEP = 1f / TICKS_PER_SECOND;
+    public static final int MAX_STEPS_PER_FRAME = 5;
+    // Ticks between a patrol route being handed to the pathfinding workers and it being
+    // delivered. As many as can be caught up in a frame, so a route handed over in one
+    // frame is never waited for until a later one and is planned while a frame is drawn
+    public static final int PATHFINDING_DELIVERY_DELAY = MAX_STEPS_PER_FRAME;
+
+    // Autopilot for the active fire truck. Routes keep a number of tiles away from buildings where
+    // they can, and are planned again if the truck is knocked a distance off them or stops getting
+    // closer to the next turn for a number of frames. Speeds are in pixels a second
+    public static final int AUTOPILOT_CLEARANCE = 1;
+    public static final float AUTOPILOT_WAYPOINT_RADIUS = TILE_DIMS;
+    public static final float AUTOPILOT_REPLAN_DISTANCE = TILE_DIMS * 2;
+    public static final int AUTOPILOT_STUCK_FRAMES = 60;
+    public static final float AUTOPILOT_CRUISE_SPEED = 400;
+    public static final float AUTOPILOT_CORNER_SPEED = 150;
+    public static final float AUTOPILOT_BRAKING = 360;
+    public static final float AUTOPILOT_CARPARK_RADIUS = TILE_DIMS * 3;
+
+    // Side of each spatial hash cell used to find collisions, in tiles
+    public static final int SPATIAL_HASH_CELL_SIZE = TILE_DIMS * 4;
+
+    // Patrol road reservations, in frames. Patrols plan a window of frames ahead around
+    // each other, reserving roads in slots that are kept for a fixed number of slots ahead
+    public static final int RESERVATION_WINDOW = 240;
+    public static final int RESERVATION_SLOT_FRAMES = 8;
+    public static final int RESERVATION_SLOTS = 256;
+    public static final int RESERVATION_MAX_NODES = 2048;
 
     // Time durations
     public static final float BAR_FADE_DURATION = 3;
@@ -205,6 +270,7 @@ public final class Constants {
     public static final int TIME_STATION_VULNERABLE = 180;
     public static final int MINIGAME_DURATION = 30;
     public static final int MINIGAME_SPAWN_RATE = 1000;
+    public static final int MINIGAME_SPAWN_TICKS = MINIGAME_SPAWN_RATE * TICKS_PER_SECOND / 1000;
 
     // Camera settings
     public static final float LERP = 3.0f;
@@ -212,6 +278,11 @@ public final class Constants {
     public static final float MIN_ZOOM = 1f;
     public static final float MAX_ZOOM = 2f;
 
+    // Voxel level of detail, camera zooms at which fewer slices or a single impostor are drawn
+    public static final float REDUCED_SLICES_ZOOM = 1.25f;
+    public static final float IMPOSTOR_ZOOM = 1.6f;
+    public static final int IMPOSTOR_ROTATIONS = 64;
+
     // Sprite properties
     // Health
     public static final int FIRESTATION_HEALTH = 300;
@@ -226,4 +297,6 @@ public final class Constants {
     public static final float ETFORTRESS_HEIGHT =5*TILE_DIMS;
     public static final float PROJECTILE_WIDTH = TILE_DIMS;
     public static final float PROJECTILE_HEIGHT =0.5f*TILE_DIMS;
+    // Projectiles hit anything within this distance of their centre
+    public static final float PROJECTILE_RADIUS = PROJECTILE_HEIGHT / 2;
 }
\ No newline at end of file
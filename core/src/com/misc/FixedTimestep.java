@@ -0,0 +1,77 @@
+package com.misc;
+
+/*
+ *  =======================================================================
+ *                       New class added for Assessment 3
+ *  =======================================================================
+ */
+
+/**
+ * Turns the time each frame takes into a whole number of fixed length
+ * steps to run the world for, so the game plays the same however fast
+ * it is drawn.
+ *
+ * Time left over that doesn't make up a whole step is carried on to the
+ * next frame, and how far it is through the next step is given as an
+ * alpha, so sprites can be drawn between where they were and where they
+ * are. If a frame takes so long that more than the most steps allowed
+ * are owed, the rest of the time is dropped rather than building up.
+ */
+public class FixedTimestep {
+
+    private final float step;
+    private final int maxSteps;
+
+    // Time not yet used up by a step
+    private float accumulator;
+
+    /**
+     * Constructs a timestep with no time owed.
+     *
+     * @param step      The length of each step in seconds.
+     * @param maxSteps  The most steps to run in one frame.
+     */
+    public FixedTimestep(float step, int maxSteps) {
+        this.step = step;
+        this.maxSteps = maxSteps;
+    }
+
+    /**
+     * Adds the time a frame took and gets how many steps to run for it.
+     *
+     * @param delta The time in seconds since the last frame.
+     * @return      The number of steps to run this frame.
+     */
+    public int advance(float delta) {
+        this.accumulator += delta;
+        int steps = 0;
+        while (this.accumulator >= this.step && steps < this.maxSteps) {
+            this.accumulator -= this.step;
+            steps++;
+        }
+        // Drop whatever couldn't be caught up on, keeping how far through the step it is
+        if (this.accumulator >= this.step) this.accumulator %= this.step;
+        return steps;
+    }
+
+    /**
+     * Gets how far the time left over is through the next step, for drawing
+     * sprites between their last two positions.
+     *
+     * @return A value from 0, at the last step, up to 1.
+     */
+    public float getAlpha() {
+        return this.accumulator / this.step;
+    }
+
+    /**
+     * Drops any time left over, so the next step starts afresh.
+     */
+    public void reset() {
+        this.accumulator = 0;
+    }
+
+    public float getStep() {
+        return this.step;
+    }
+}
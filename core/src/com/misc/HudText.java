@@ -0,0 +1,108 @@
+package com.misc;
+
+/*
+ *  =======================================================================
+ *                       New class added for Assessment 3
+ *  =======================================================================
+ */
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.BitmapFontCache;
+import com.badlogic.gdx.graphics.g2d.GlyphLayout;
+import com.badlogic.gdx.scenes.scene2d.ui.Widget;
+import com.badlogic.gdx.utils.StringBuilder;
+
+/**
+ * A line of HUD text made of a fixed prefix and a number,
+ * such as the score or time, that is drawn every frame but
+ * only changes now and then.
+ *
+ * The number is written into the same StringBuilder each
+ * time, and the glyphs are only laid out again when it
+ * changes, so drawing it is just drawing the cached glyphs.
+ * It can be added to a table like a label, or drawn on its
+ * own with a batch that has already begun.
+ */
+public class HudText extends Widget {
+
+    private final BitmapFontCache cache;
+    private final StringBuilder text;
+    private final int prefixLength;
+
+    // the glyphs for the text, and the number they show
+    private GlyphLayout layout;
+    private int value;
+
+    // the colour the glyphs were last tinted
+    private final Color tint;
+
+    /**
+     * Constructor for a line of HUD text, which shows
+     * nothing until its value is first set
+     *
+     * @param font      the font to draw it in
+     * @param prefix    the text shown before the value
+     */
+    public HudText(BitmapFont font, String prefix) {
+        this.cache = font.newFontCache();
+        this.text = new StringBuilder(prefix.length() + 11);
+        this.text.append(prefix);
+        this.prefixLength = prefix.length();
+        this.tint = new Color(Color.WHITE);
+    }
+
+    /**
+     * Sets the number shown, laying the glyphs out again
+     * only if it is different to the one already shown
+     *
+     * @param value the number to show after the prefix
+     */
+    public void setValue(int value) {
+        if (this.layout != null && this.value == value) return;
+        this.value = value;
+        this.text.setLength(this.prefixLength);
+        this.text.append(value);
+
+        float width = getPrefWidth();
+        this.layout = this.cache.setText(this.text, 0, 0);
+        this.cache.tint(this.tint);
+        setSize(getPrefWidth(), getPrefHeight());
+        // only lay the rest of the HUD out again if the text is a different width
+        if (width != getPrefWidth()) invalidateHierarchy();
+    }
+
+    @Override
+    public void draw(Batch batch, float parentAlpha) {
+        if (this.layout == null) return;
+        validate();
+
+        Color color = getColor();
+        if (color.r != this.tint.r || color.g != this.tint.g || color.b != this.tint.b || color.a * parentAlpha != this.tint.a) {
+            this.tint.set(color.r, color.g, color.b, color.a * parentAlpha);
+            this.cache.tint(this.tint);
+        }
+        // glyphs are laid out down from the top, and only moved if the text has moved
+        this.cache.setPosition(getX(), getY() + getHeight());
+        this.cache.draw(batch);
+    }
+
+    @Override
+    public float getPrefWidth() {
+        return this.layout == null ? 0 : this.layout.width;
+    }
+
+    @Override
+    public float getPrefHeight() {
+        return this.layout == null ? 0 : this.layout.height;
+    }
+
+    public CharSequence getText() {
+        return this.text;
+    }
+
+    GlyphLayout getLayout() {
+        return this.layout;
+    }
+}
@@ -0,0 +1,160 @@
+package com.misc;
+
+/*
+ *  =======================================================================
+ *                       New class added for Assessment 3
+ *  =======================================================================
+ */
+
+import com.badlogic.gdx.utils.ObjectIntMap;
+
+/**
+ * The popup messages waiting to be shown to the player, one at a
+ * time, most important first and otherwise in the order they came.
+ *
+ * Messages are told apart by their text. One that is already waiting
+ * isn't queued again, and one that was queued less than its own
+ * display time ago is ignored, so something posting the same warning
+ * every tick only queues it once. Only a fixed number can wait at once,
+ * and once full a new message takes the place of the least important
+ * one waiting if it is more important, and is dropped otherwise.
+ *
+ * Every entry is made when the queue is constructed and reused, so
+ * however often messages are posted the only thing that grows is the
+ * tick each different message was last queued at.
+ */
+public class NotificationQueue {
+
+    /** How important a message is, the most important shown first */
+    public enum Priority {
+        LOW, NORMAL, HIGH
+    }
+
+    /**
+     * A message waiting to be shown, which is reused once it
+     * has been shown as many times as it should be
+     */
+    public static class Notification {
+
+        private String text;
+        private Priority priority;
+        private int repeat;
+        private int duration;
+
+        public String getText() { return this.text; }
+
+        public Priority getPriority() { return this.priority; }
+
+        /** @return  The number of ticks it should stay up for */
+        public int getDuration() { return this.duration; }
+    }
+
+    // the clock cooldowns are measured with
+    private final Scheduler clock;
+
+    // the waiting messages from index 0 to size, most important first,
+    // followed by the spare entries the next ones are written into
+    private final Notification[] entries;
+    private int size;
+
+    // the tick each message was last queued at
+    private final ObjectIntMap<String> lastQueued;
+
+    /**
+     * Constructs an empty queue
+     *
+     * @param capacity  The most messages that can wait at once
+     * @param clock     The scheduler whose ticks cooldowns are measured in,
+     *                  so they don't pass while it is paused
+     */
+    public NotificationQueue(int capacity, Scheduler clock) {
+        this.clock = clock;
+        this.entries = new Notification[capacity];
+        for (int i = 0; i < capacity; i++) {
+            this.entries[i] = new Notification();
+        }
+        this.lastQueued = new ObjectIntMap<>();
+    }
+
+    /**
+     * Queues a message, unless the same message is waiting already or
+     * was queued too recently, or there is no room for it
+     *
+     * @param text      The message, which is also what it is told apart by
+     * @param priority  How important it is
+     * @param repeat    How many times it should be shown in a row
+     * @param duration  How many ticks it should stay up for each time, and
+     *                  how long until it can be queued again
+     * @return          Whether it was queued
+     */
+    public boolean post(String text, Priority priority, int repeat, int duration) {
+        int now = (int) this.clock.getTime();
+        int last = this.lastQueued.get(text, Integer.MIN_VALUE);
+        if (last != Integer.MIN_VALUE && now - last < duration) return false;
+        if (indexOf(text) >= 0) return false;
+
+        if (this.size == this.entries.length) {
+            // drop the least important message that came last, if this beats it
+            if (this.entries[this.size - 1].priority.compareTo(priority) >= 0) return false;
+            this.size--;
+        }
+
+        // goes after every message at least as important as it
+        int index = this.size;
+        while (index > 0 && this.entries[index - 1].priority.compareTo(priority) < 0) {
+            index--;
+        }
+        Notification notification = this.entries[this.size];
+        System.arraycopy(this.entries, index, this.entries, index + 1, this.size - index);
+        this.entries[index] = notification;
+        this.size++;
+
+        notification.text = text;
+        notification.priority = priority;
+        notification.repeat = Math.max(repeat, 1);
+        notification.duration = duration;
+        this.lastQueued.put(text, now);
+        return true;
+    }
+
+    /**
+     * Takes the next message to show. It is left at the front until it
+     * has been shown as many times as it was posted to be, and after
+     * that its entry is only reused by a later post, so it can be read
+     * until then
+     *
+     * @return  The most important message waiting, or null if there are none
+     */
+    public Notification next() {
+        if (this.size == 0) return null;
+        Notification notification = this.entries[0];
+        if (--notification.repeat > 0) return notification;
+
+        this.size--;
+        System.arraycopy(this.entries, 1, this.entries, 0, this.size);
+        this.entries[this.size] = notification;
+        return notification;
+    }
+
+    private int indexOf(String text) {
+        for (int i = 0; i < this.size; i++) {
+            if (this.entries[i].text.equals(text)) return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Drops every waiting message. Messages can't be queued again until
+     * their cooldowns have passed all the same
+     */
+    public void clear() {
+        for (int i = 0; i < this.size; i++) {
+            this.entries[i].text = null;
+        }
+        this.size = 0;
+    }
+
+    public boolean isEmpty() { return this.size == 0; }
+
+    public int size() { return this.size; }
+}
@@ -1,13 +1,8 @@
 package com.misc;
 
 // LibGDX imports
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Batch;
-import com.badlogic.gdx.scenes.scene2d.ui.Skin;
-import com.badlogic.gdx.scenes.scene2d.ui.ProgressBar;
-import com.badlogic.gdx.scenes.scene2d.ui.ProgressBar.ProgressBarStyle;
-import com.badlogic.gdx.graphics.Pixmap;
-import com.badlogic.gdx.graphics.Pixmap.Format;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.Color;
 
 // Constants imports
@@ -15,7 +10,8 @@ import static com.misc.Constants.BAR_FADE_DURATION;
 
 /**
  * Resource bars used by sprites to indicate properties of sprites.
- * These are graphical and displayed to the user.
+ * These are graphical and displayed to the user. Bars are drawn from a
+ * shared white pixel so changing their amount never creates a texture.
  * 
  * @author Archie
  * @since 17/12/2019
@@ -23,7 +19,8 @@ import static com.misc.Constants.BAR_FADE_DURATION;
 public class ResourceBar {
 
     // Private values to be used in this class only
-    private ProgressBar bar;
+    private float x, y, alpha;
+    private Color colour;
     private int currentResourceAmount;
     private int maxResourceAmount;
     private final int barWidth;
@@ -52,73 +49,74 @@ public class ResourceBar {
         this.maxResourceAmount = 100;
         this.currentResourceAmount = 100;
         this.colourRange = new Color[] { Color.RED, Color.ORANGE, Color.GREEN };
-        this.bar = new ProgressBar(0, 100, 0.5f, false, getResourceBarStyle());
-        this.bar.setSize(this.barWidth, this.barHeight);
-        this.bar.getColor().a = 0;
+        this.alpha = 0;
+        this.refresh();
         this.setFade(false, true);
     }
 
+    /*
+     *  =======================================================================
+     *                          Modified for Assessment 3
+     *  =======================================================================
+     */
     /**
-     * Draw the resource bar. Needs to be called every frame.
-     * 
-     * @param batch The batch to draw the resource bar onto.
+     * Fade the resource bar in or out. Needs to be called every frame.
      */
-    public void update(Batch batch) {
-        // Fade the bar in or out
+    public void update() {
         if (!this.beginFadeOut) {
-            this.bar.getColor().a += this.fadeIn  && this.bar.getColor().a < BAR_FADE_DURATION ? 0.05 : 0;
-            if (this.bar.getColor().a >= BAR_FADE_DURATION) this.beginFadeOut = true;
+            this.alpha += this.fadeIn && this.alpha < BAR_FADE_DURATION ? 0.05 : 0;
+            if (this.alpha >= BAR_FADE_DURATION) this.beginFadeOut = true;
         } else {
-            this.bar.getColor().a -= this.fadeOut && this.bar.getColor().a > 0 ? 0.05 : 0;
+            this.alpha -= this.fadeOut && this.alpha > 0 ? 0.05 : 0;
         }
+    }
+
+    /*
+     *  =======================================================================
+     *                          Added for Assessment 3
+     *  =======================================================================
+     */
+    /**
+     * Draw the resource bar as a grey background with the filled amount
+     * drawn over it, both stretched from the same white pixel. Bars
+     * should all be drawn one after another so the pixel is only bound once.
+     *
+     * @param batch The batch to draw the resource bar onto.
+     * @param pixel A white region which is tinted to draw the bar.
+     */
+    public void draw(Batch batch, TextureRegion pixel) {
+        if (this.currentResourceAmount <= 0 || this.alpha <= 0) return;
+        // Alpha is held above 1 while the bar is fully shown
+        float barAlpha = Math.min(this.alpha, 1);
+        float fillWidth = (int) (((float) this.currentResourceAmount / this.maxResourceAmount) * this.barWidth);
+
+        batch.setColor(Color.GRAY.r, Color.GRAY.g, Color.GRAY.b, barAlpha);
+        batch.draw(pixel, this.x, this.y, this.barWidth, this.barHeight);
+        batch.setColor(this.colour.r, this.colour.g, this.colour.b, barAlpha);
+        batch.draw(pixel, this.x, this.y, fillWidth, this.barHeight);
 
-        if (this.currentResourceAmount > 0) this.bar.draw(batch, 1);
         // MUST return batch to correct alpha value
         // otherwise it fades all layers out
         batch.setColor(1.0f, 1.0f, 1.0f, 1f);
     }
 
+    /*
+     *  =======================================================================
+     *                          Modified for Assessment 3
+     *  =======================================================================
+     */
     /**
-     * Create the rectangles for the resource bar, and fill them with the given
-     * colour.
-     * 
-     * @param pixmapName The name of the pixmap to draw.
-     * @param colour     The colour to fill the resource bar.
-     * @param barWidth   The width of the resource bar.
-     * @param barHeight  The height of the resource bar.
-     * @return           The filled bar.
-     */
-    private Skin createBarFill(String pixmapName, Color colour, int barWidth, int barHeight) {
-        Skin barFill = new Skin();
-        Pixmap pixMap= new Pixmap(barWidth, barHeight, Format.RGBA8888);
-        pixMap.setColor(colour);
-        pixMap.fill();
-        barFill.add(pixmapName, new Texture(pixMap));
-        return barFill;
-    }
-
-    /**
-     * Update the colour of the resource bar and then return the new style.
-     * 
-     * @return Updated resource bar style.
+     * Show the bar after its values change and pick the colour for the
+     * new amount, the fill width is worked out when drawn.
      */
-    private ProgressBarStyle getResourceBarStyle() {
+    private void refresh() {
         // Values changed, show bar then fade out if at maximum
         this.setFade(true, this.currentResourceAmount >= this.maxResourceAmount);
 
         // Colour to use for the bar, depending on health percentage
-        Color color = this.currentResourceAmount <= this.maxResourceAmount * 0.5 ?
+        this.colour = this.currentResourceAmount <= this.maxResourceAmount * 0.5 ?
             this.currentResourceAmount <= this.maxResourceAmount * 0.25 ?
                 this.colourRange[0] : this.colourRange[1] : this.colourRange[2];
-        
-        // Size of entire bar is shared between the resource bar and the empty bar
-        int scaledResource = (int) (((float) this.currentResourceAmount / this.maxResourceAmount) * this.barWidth);
-        int scaledEmpty = (int) (((float)(this.maxResourceAmount - this.currentResourceAmount) / this.maxResourceAmount) * this.barWidth);
-
-        // Create the bars and return a combined bar
-        Skin resource = createBarFill("resource", color, scaledResource, this.barHeight);
-        Skin background = createBarFill("background", Color.GRAY, scaledEmpty, this.barHeight);
-        return new ProgressBarStyle(background.newDrawable("background"), resource.newDrawable("resource"));
     }
 
     /** 
@@ -129,9 +127,8 @@ public class ResourceBar {
     public void setPosition(float spriteXPos, float spriteYPos) {
         // Get sprite height and width by reversing previous calculations
         float longestSide = Math.max(barHeight / 0.3f, barWidth / 0.7f);
-        float x = spriteXPos + (longestSide / 2) - (barWidth / 2f);
-        float y = spriteYPos + longestSide;
-        this.bar.setPosition(x, y);
+        this.x = spriteXPos + (longestSide / 2) - (barWidth / 2f);
+        this.y = spriteYPos + longestSide;
     }
 
     /** 
@@ -151,7 +148,7 @@ public class ResourceBar {
      * @return The alpha value of the bar
      */
     public float getFade() {
-        return (this.bar.getColor().a / 10) * BAR_FADE_DURATION;
+        return (this.alpha / 10) * BAR_FADE_DURATION;
     }
 
     /** 
@@ -165,7 +162,7 @@ public class ResourceBar {
         } else {
             this.colourRange = new Color[] { colours[0], colours[0], colours[0] };
         }
-        this.bar.setStyle(getResourceBarStyle());
+        this.refresh();
     }
 
     /** 
@@ -192,7 +189,7 @@ public class ResourceBar {
     public void setMaxResource(int maxAmount) {
         this.currentResourceAmount = (this.currentResourceAmount / this.maxResourceAmount) * maxAmount;
         this.maxResourceAmount = maxAmount;
-        this.bar.setStyle(getResourceBarStyle());
+        this.refresh();
     }
 
     /**
@@ -208,7 +205,7 @@ public class ResourceBar {
                 this.currentResourceAmount = this.maxResourceAmount;
             } else {
                 this.currentResourceAmount += amount;
-                this.bar.setStyle(getResourceBarStyle());
+                this.refresh();
             }
         }
     }
@@ -226,7 +223,7 @@ public class ResourceBar {
                 this.currentResourceAmount = 0;
             } else {
                 this.currentResourceAmount -= amount;
-                this.bar.setStyle(getResourceBarStyle());
+                this.refresh();
             }
         }
     }
@@ -6,23 +6,70 @@ package com.misc;
  *  =======================================================================
  */
 
-import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.audio.Sound;
 
+/**
+ * The sounds and music played throughout the game. They are
+ * loaded by the asset manager when the game starts, rather than
+ * when this class is first used, and are only set once
+ * {@link #assign(AssetManager)} has been called
+ */
 public class SFX {
 
     public static Boolean sfx_on = true;
 
-    public static final Music sfx_soundtrack_1 = Gdx.audio.newMusic(Gdx.files.internal("sfx/soundtrack_1.mp3"));
-    public static final Music sfx_soundtrack_2 = Gdx.audio.newMusic(Gdx.files.internal("sfx/soundtrack_2.mp3"));
+    private static final String SOUNDTRACK_1 = "sfx/soundtrack_1.mp3";
+    private static final String SOUNDTRACK_2 = "sfx/soundtrack_2.mp3";
+    private static final String BUTTON_CLICK = "sfx/sfx_button.wav";
+    private static final String TRUCK_DAMAGE = "sfx/sfx_damage.wav";
+    private static final String FORTRESS_DESTROYED = "sfx/sfx_fortress_destroyed.wav";
+    private static final String PROJECTILE = "sfx/sfx_projectile.wav";
+    private static final String PATROL_DIES = "sfx/sfx_patrol_dies.wav";
+    private static final String GARAGE = "sfx/sfx_garage.wav";
+
+    public static Music sfx_soundtrack_1;
+    public static Music sfx_soundtrack_2;
+
+    public static Sound sfx_button_click;
+    public static Sound sfx_truck_damage;
+    public static Sound sfx_fortress_destroyed;
+    public static Sound sfx_projectile;
+    public static Sound sfx_patrol_dies;
+    public static Sound sfx_garage;
 
-    public static final Sound sfx_button_click = Gdx.audio.newSound(Gdx.files.internal("sfx/sfx_button.wav"));
-    public static final Sound sfx_truck_damage = Gdx.audio.newSound(Gdx.files.internal("sfx/sfx_damage.wav"));
-    public static final Sound sfx_fortress_destroyed = Gdx.audio.newSound(Gdx.files.internal("sfx/sfx_fortress_destroyed.wav"));
-    public static final Sound sfx_projectile = Gdx.audio.newSound(Gdx.files.internal("sfx/sfx_projectile.wav"));
-    public static final Sound sfx_patrol_dies = Gdx.audio.newSound(Gdx.files.internal("sfx/sfx_patrol_dies.wav"));
-    public static final Sound sfx_garage = Gdx.audio.newSound(Gdx.files.internal("sfx/sfx_garage.wav"));
+    /**
+     * Queues every sound and the music to be loaded
+     *
+     * @param assets    the asset manager to load them with
+     */
+    public static void queue(AssetManager assets) {
+        assets.load(SOUNDTRACK_1, Music.class);
+        assets.load(SOUNDTRACK_2, Music.class);
+        assets.load(BUTTON_CLICK, Sound.class);
+        assets.load(TRUCK_DAMAGE, Sound.class);
+        assets.load(FORTRESS_DESTROYED, Sound.class);
+        assets.load(PROJECTILE, Sound.class);
+        assets.load(PATROL_DIES, Sound.class);
+        assets.load(GARAGE, Sound.class);
+    }
+
+    /**
+     * Takes the sounds and music once they have been loaded
+     *
+     * @param assets    the asset manager they were queued with
+     */
+    public static void assign(AssetManager assets) {
+        sfx_soundtrack_1 = assets.get(SOUNDTRACK_1, Music.class);
+        sfx_soundtrack_2 = assets.get(SOUNDTRACK_2, Music.class);
+        sfx_button_click = assets.get(BUTTON_CLICK, Sound.class);
+        sfx_truck_damage = assets.get(TRUCK_DAMAGE, Sound.class);
+        sfx_fortress_destroyed = assets.get(FORTRESS_DESTROYED, Sound.class);
+        sfx_projectile = assets.get(PROJECTILE, Sound.class);
+        sfx_patrol_dies = assets.get(PATROL_DIES, Sound.class);
+        sfx_garage = assets.get(GARAGE, Sound.class);
+    }
 
 
     public static void playMenuMusic() {
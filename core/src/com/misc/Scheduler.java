@@ -0,0 +1,190 @@
+package com.misc;
+
+/*
+ *  =======================================================================
+ *                       New class added for Assessment 3
+ *  =======================================================================
+ */
+
+/**
+ * Runs tasks after a number of ticks, once or repeatedly, on whichever
+ * thread ticks it - the game loop - so tasks can change the game without
+ * racing anything that draws it. Nothing runs while it is paused or not
+ * being ticked, so pausing the game pauses everything scheduled with it.
+ *
+ * Tasks are kept in a hierarchical timing wheel. The first wheel has a
+ * slot for each of the next 64 ticks, and each wheel above it a slot for
+ * every 64 of the one below. A task goes in the lowest wheel whose range
+ * reaches its tick, and is moved down a wheel each time the one below
+ * comes round to it, so scheduling, cancelling and ticking don't depend
+ * on how many tasks there are. Tasks are linked into the slots
+ * themselves, so nothing is allocated once they have been constructed.
+ */
+public class Scheduler {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int WHEELS = 4;
+    // The longest delay the wheels reach, a little over 77 hours at 60 ticks a second
+    public static final int MAX_DELAY = (1 << (WHEELS * SLOT_BITS)) - 1;
+
+    /**
+     * Something to do once a task's tick comes. A task can be scheduled
+     * with one scheduler at a time, and scheduling it again moves it
+     */
+    public abstract static class Task {
+
+        // The scheduler it is waiting in, or null if it isn't scheduled
+        private Scheduler scheduler;
+        // The other tasks in the same slot
+        private Task previous, next;
+        private int slot;
+        // The tick it is due, and the ticks between runs, or 0 to run once
+        private long due;
+        private int interval;
+
+        /** Called on the tick the task is due */
+        public abstract void run();
+
+        /** Stops the task running, if it is scheduled */
+        public void cancel() {
+            if (this.scheduler != null) this.scheduler.unlink(this);
+        }
+
+        public boolean isScheduled() { return this.scheduler != null; }
+    }
+
+    // The first task in each slot of each wheel, the first wheel first
+    private final Task[] slots;
+    private long time;
+    private boolean paused;
+    private int size;
+
+    /**
+     * Constructs a scheduler at tick 0 with nothing scheduled
+     */
+    public Scheduler() {
+        this.slots = new Task[WHEELS * SLOTS];
+    }
+
+    /**
+     * Schedules a task to run once
+     *
+     * @param task      The task to run
+     * @param delay     The number of ticks until it runs - from 1 to MAX_DELAY
+     */
+    public void schedule(Task task, int delay) {
+        schedule(task, delay, 0);
+    }
+
+    /**
+     * Schedules a task to run after a delay and then repeatedly. If the
+     * task is already scheduled it is moved
+     *
+     * @param task      The task to run
+     * @param delay     The number of ticks until it first runs - from 1 to MAX_DELAY
+     * @param interval  The number of ticks between each run after that, up to
+     *                  MAX_DELAY, or 0 to only run once
+     */
+    public void schedule(Task task, int delay, int interval) {
+        task.cancel();
+        task.due = this.time + Math.min(Math.max(delay, 1), MAX_DELAY);
+        task.interval = Math.min(interval, MAX_DELAY);
+        link(task);
+    }
+
+    /**
+     * Moves on by one tick, running every task due on it, unless paused
+     */
+    public void tick() {
+        if (this.paused) return;
+        this.time++;
+
+        // Move the tasks in any wheel that has come round down a wheel,
+        // starting with the highest so they can fall more than one
+        for (int wheel = WHEELS - 1; wheel > 0; wheel--) {
+            int shift = wheel * SLOT_BITS;
+            if ((this.time & ((1L << shift) - 1)) != 0) continue;
+            int slot = wheel * SLOTS + (int) ((this.time >>> shift) & SLOT_MASK);
+            Task task;
+            while ((task = this.slots[slot]) != null) {
+                unlink(task);
+                link(task);
+            }
+        }
+
+        // Run the tasks due now. Tasks scheduled while they run are always
+        // for a later tick, so they never go in this slot
+        int slot = (int) (this.time & SLOT_MASK);
+        Task task;
+        while ((task = this.slots[slot]) != null) {
+            unlink(task);
+            // Schedule repeating tasks again first, so they can cancel themselves
+            if (task.interval > 0) {
+                task.due = this.time + task.interval;
+                link(task);
+            }
+            task.run();
+        }
+    }
+
+    /**
+     * Adds a task to the slot for its tick, in the lowest wheel that
+     * reaches it
+     */
+    private void link(Task task) {
+        int wheel = 0;
+        while (wheel < WHEELS - 1 && (task.due >>> ((wheel + 1) * SLOT_BITS)) != (this.time >>> ((wheel + 1) * SLOT_BITS))) {
+            wheel++;
+        }
+        int slot = wheel * SLOTS + (int) ((task.due >>> (wheel * SLOT_BITS)) & SLOT_MASK);
+        task.scheduler = this;
+        task.slot = slot;
+        task.previous = null;
+        task.next = this.slots[slot];
+        if (task.next != null) task.next.previous = task;
+        this.slots[slot] = task;
+        this.size++;
+    }
+
+    private void unlink(Task task) {
+        if (task.previous != null) {
+            task.previous.next = task.next;
+        } else {
+            this.slots[task.slot] = task.next;
+        }
+        if (task.next != null) task.next.previous = task.previous;
+        task.scheduler = null;
+        task.previous = null;
+        task.next = null;
+        this.size--;
+    }
+
+    /**
+     * Cancels every scheduled task
+     */
+    public void clear() {
+        for (int slot = 0; slot < this.slots.length; slot++) {
+            while (this.slots[slot] != null) unlink(this.slots[slot]);
+        }
+    }
+
+    public void setPaused(boolean paused) { this.paused = paused; }
+
+    public boolean isPaused() { return this.paused; }
+
+    /**
+     * Gets the number of ticks it has moved on since it was constructed
+     *
+     * @return  The current tick
+     */
+    public long getTime() { return this.time; }
+
+    /**
+     * Gets the number of tasks scheduled
+     *
+     * @return  The number of tasks waiting to run
+     */
+    public int size() { return this.size; }
+}
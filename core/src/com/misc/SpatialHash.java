@@ -0,0 +1,188 @@
+package com.misc;
+
+/*
+ *  =======================================================================
+ *                       New class added for Assessment 3
+ *  =======================================================================
+ */
+
+// LibGDX imports
+import com.badlogic.gdx.math.Intersector;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Polygon;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectMap;
+
+/**
+ * A broadphase for collisions, splitting the map into a grid of square
+ * cells with each item stored in every cell its bounds overlap. A query
+ * only looks at the cells under the area being checked, so its cost
+ * depends on how crowded that area is rather than on how many items
+ * there are in total.
+ *
+ * Items outside of the map are kept in the edge cells, so they can still
+ * be found and removed.
+ *
+ * @param <T> The type of item stored
+ */
+public class SpatialHash<T> {
+
+    private final float cellSize;
+    private final int columns, rows;
+    private final Array<T>[] cells;
+
+    // Cell range each item is stored in, as min column, min row, max column, max row
+    private final ObjectMap<T, int[]> itemCells;
+
+    // Reused to work out the cells a query or item covers
+    private final Rectangle circleBounds;
+    private final int[] range;
+
+    /**
+     * Creates an empty spatial hash covering the map.
+     *
+     * @param width     The width of the map
+     * @param height    The height of the map
+     * @param cellSize  The side of each cell, a multiple of the tile size
+     */
+    @SuppressWarnings("unchecked")
+    public SpatialHash(float width, float height, float cellSize) {
+        this.cellSize = cellSize;
+        this.columns = Math.max(1, MathUtils.ceil(width / cellSize));
+        this.rows = Math.max(1, MathUtils.ceil(height / cellSize));
+        this.cells = (Array<T>[]) new Array<?>[this.columns * this.rows];
+        this.itemCells = new ObjectMap<>();
+        this.circleBounds = new Rectangle();
+        this.range = new int[4];
+    }
+
+    /**
+     * Adds an item, or moves it to the cells under its new bounds.
+     * Should be called each time the item moves.
+     *
+     * @param item      The item to store
+     * @param bounds    The bounding box of the item
+     */
+    public void update(T item, Rectangle bounds) {
+        this.setRange(bounds);
+        int[] current = this.itemCells.get(item);
+        if (current == null) {
+            current = new int[4];
+            this.itemCells.put(item, current);
+        } else if (current[0] == this.range[0] && current[1] == this.range[1]
+                && current[2] == this.range[2] && current[3] == this.range[3]) {
+            // Still in the same cells
+            return;
+        } else {
+            this.removeFromCells(item, current);
+        }
+        System.arraycopy(this.range, 0, current, 0, 4);
+        for (int row = current[1]; row <= current[3]; row++) {
+            for (int column = current[0]; column <= current[2]; column++) {
+                int index = row * this.columns + column;
+                if (this.cells[index] == null) this.cells[index] = new Array<>(false, 4);
+                this.cells[index].add(item);
+            }
+        }
+    }
+
+    /**
+     * Removes an item from the hash.
+     *
+     * @param item  The item to remove
+     */
+    public void remove(T item) {
+        int[] current = this.itemCells.remove(item);
+        if (current != null) this.removeFromCells(item, current);
+    }
+
+    /**
+     * Removes every item from the hash.
+     */
+    public void clear() {
+        for (Array<T> cell : this.cells) {
+            if (cell != null) cell.clear();
+        }
+        this.itemCells.clear();
+    }
+
+    /**
+     * Finds every item stored in the cells under an area. These are only
+     * candidates, the caller should still test the items for a collision.
+     *
+     * @param area  The area to search
+     * @param out   Cleared and filled with each candidate once
+     */
+    public void query(Rectangle area, Array<T> out) {
+        out.clear();
+        this.setRange(area);
+        for (int row = this.range[1]; row <= this.range[3]; row++) {
+            for (int column = this.range[0]; column <= this.range[2]; column++) {
+                Array<T> cell = this.cells[row * this.columns + column];
+                if (cell == null) continue;
+                for (int i = 0; i < cell.size; i++) {
+                    T item = cell.get(i);
+                    // Items larger than a cell are in more than one
+                    if (!out.contains(item, true)) out.add(item);
+                }
+            }
+        }
+    }
+
+    /**
+     * Finds every item stored in the cells under a circle, such as the
+     * range an entity can detect other entities in.
+     *
+     * @param x         The x-coordinate of the centre of the circle
+     * @param y         The y-coordinate of the centre of the circle
+     * @param radius    The radius of the circle
+     * @param out       Cleared and filled with each candidate once
+     */
+    public void query(float x, float y, float radius, Array<T> out) {
+        this.query(this.circleBounds.set(x - radius, y - radius, radius * 2, radius * 2), out);
+    }
+
+    /**
+     * Tests whether two convex polygons overlap, rejecting them with their
+     * bounding boxes first as that is much cheaper than separating axis test.
+     *
+     * @param a The first polygon
+     * @param b The second polygon
+     * @return  <code>true</code> if the polygons overlap
+     *          <code>false</code> otherwise
+     */
+    public static boolean overlaps(Polygon a, Polygon b) {
+        if (!a.getBoundingRectangle().overlaps(b.getBoundingRectangle())) return false;
+        return Intersector.overlapConvexPolygons(a, b);
+    }
+
+    /**
+     * Works out the cells covered by a rectangle, clamped to the map.
+     *
+     * @param bounds    The rectangle to find the cells of
+     */
+    private void setRange(Rectangle bounds) {
+        this.range[0] = this.toCell(bounds.x, this.columns);
+        this.range[1] = this.toCell(bounds.y, this.rows);
+        this.range[2] = this.toCell(bounds.x + bounds.width, this.columns);
+        this.range[3] = this.toCell(bounds.y + bounds.height, this.rows);
+    }
+
+    private int toCell(float position, int cellCount) {
+        return MathUtils.clamp(MathUtils.floor(position / this.cellSize), 0, cellCount - 1);
+    }
+
+    private void removeFromCells(T item, int[] cellRange) {
+        for (int row = cellRange[1]; row <= cellRange[3]; row++) {
+            for (int column = cellRange[0]; column <= cellRange[2]; column++) {
+                Array<T> cell = this.cells[row * this.columns + column];
+                if (cell != null) cell.removeValue(item, true);
+            }
+        }
+    }
+
+    public int size() {
+        return this.itemCells.size;
+    }
+}
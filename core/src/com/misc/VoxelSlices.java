@@ -0,0 +1,256 @@
+package com.misc;
+
+/*
+ *  =======================================================================
+ *                       New class added for Assessment 3
+ *  =======================================================================
+ */
+
+// LibGDX imports
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+// Constants import
+import static com.misc.Constants.IMPOSTOR_ROTATIONS;
+import static com.misc.Constants.IMPOSTOR_ZOOM;
+import static com.misc.Constants.REDUCED_SLICES_ZOOM;
+
+/**
+ * A stack of atlas regions that are drawn on top of each other, each
+ * slightly higher than the last, to give a sprite a 3D looking image.
+ * As every slice comes from the same atlas page the whole stack is drawn
+ * without the batch having to flush or bind another texture.
+ *
+ * The stack can also be baked into impostors, one pre-rendered image per
+ * rotation, so that when the camera is zoomed out each sprite is a single
+ * quad. At intermediate zoom every other slice is skipped instead.
+ */
+public class VoxelSlices implements Disposable {
+
+    // Largest frame buffer side used for the impostors
+    private static final int MAX_BUFFER_SIZE = 2048;
+
+    // Slices in draw order, the first slice is drawn lowest
+    private final Array<TextureRegion> slices;
+
+    // Region the sprite itself is drawn with, below all of the slices
+    private final TextureRegion base;
+
+    // Optional slice that can be swapped in for an animation, e.g. lights
+    private int alternateIndex;
+    private TextureRegion alternate;
+
+    // Camera zoom used to pick the level of detail
+    private float zoom;
+
+    // Pre-rendered rotations, followed by the rotations using the alternate slice
+    private FrameBuffer impostorBuffer;
+    private TextureRegion[] impostors;
+    private float impostorWidth, impostorHeight;
+    private float impostorOffsetX, impostorOffsetY;
+
+    /**
+     * Creates a slice stack from regions that have already been looked up.
+     *
+     * @param slices    The regions in draw order
+     * @param base      The region the sprite is drawn with
+     */
+    public VoxelSlices(Array<TextureRegion> slices, TextureRegion base) {
+        this.slices = slices;
+        this.base = base;
+        this.alternateIndex = -1;
+    }
+
+    /**
+     * Creates a slice stack from named regions in an atlas.
+     *
+     * @param atlas     The atlas containing all of the regions
+     * @param base      Name of the region the sprite is drawn with
+     * @param names     Names of the slice regions in draw order
+     */
+    public VoxelSlices(TextureAtlas atlas, String base, String... names) {
+        this(new Array<TextureRegion>(names.length), findRegion(atlas, base));
+        for (String name : names) {
+            this.slices.add(findRegion(atlas, name));
+        }
+    }
+
+    /**
+     * Sets the region which can be drawn instead of one of the slices.
+     *
+     * @param index     Index of the slice to replace
+     * @param region    The region to draw instead
+     */
+    public void setAlternate(int index, TextureRegion region) {
+        this.alternateIndex = index;
+        this.alternate = region;
+    }
+
+    /**
+     * Sets the region which can be drawn instead of one of the slices.
+     *
+     * @param index     Index of the slice to replace
+     * @param atlas     The atlas containing the region
+     * @param name      Name of the region to draw instead
+     */
+    public void setAlternate(int index, TextureAtlas atlas, String name) {
+        this.setAlternate(index, findRegion(atlas, name));
+    }
+
+    /**
+     * Draws the stack at the level of detail for the current zoom. Zoomed out
+     * it is one impostor quad if they have been baked, otherwise every slice
+     * is drawn, each one pixel above the last.
+     *
+     * @param batch         The batch to draw onto
+     * @param x             The x-coordinate of the sprite
+     * @param y             The y-coordinate of the sprite
+     * @param width         The width of the sprite
+     * @param height        The height of the sprite
+     * @param rotation      The rotation of the sprite in degrees
+     * @param useAlternate  <code>true</code> to draw the alternate slice
+     *                      <code>false</code> to draw the normal slice
+     */
+    public void draw(Batch batch, float x, float y, float width, float height, float rotation, boolean useAlternate) {
+        if (this.impostors != null && this.zoom >= IMPOSTOR_ZOOM) {
+            int bucket = MathUtils.round(rotation * IMPOSTOR_ROTATIONS / 360f) % IMPOSTOR_ROTATIONS;
+            if (bucket < 0) bucket += IMPOSTOR_ROTATIONS;
+            if (useAlternate && this.impostors.length > IMPOSTOR_ROTATIONS) bucket += IMPOSTOR_ROTATIONS;
+            batch.draw(this.impostors[bucket], x - this.impostorOffsetX, y - this.impostorOffsetY, this.impostorWidth, this.impostorHeight);
+        } else {
+            this.drawSlices(batch, x, y, width, height, rotation, useAlternate, this.zoom >= REDUCED_SLICES_ZOOM ? 2 : 1);
+        }
+    }
+
+    /**
+     * Draws the slices, skipping some of them when drawn at a lower detail.
+     * The alternate slice is never skipped so that animations still show.
+     *
+     * @param stride    Draw every nth slice, 1 to draw all of them
+     */
+    private void drawSlices(Batch batch, float x, float y, float width, float height, float rotation, boolean useAlternate, int stride) {
+        int slicesLength = this.slices.size;
+        for (int i = 0; i < slicesLength; i++) {
+            if (i % stride != 0 && i != this.alternateIndex && i != slicesLength - 1) continue;
+            TextureRegion region = useAlternate && i == this.alternateIndex ? this.alternate : this.slices.get(i);
+            batch.draw(region, x, (y - slicesLength / 3f) + i, width / 2, height / 2, width, height, 1, 1, rotation, true);
+        }
+    }
+
+    /**
+     * Renders the stack once per rotation into a frame buffer, and the
+     * alternate slice too if there is one. Must be called on the render
+     * thread outside of batch.begin() and batch.end(). The impostors are
+     * only valid for sprites drawn with the given size.
+     *
+     * @param batch     The batch to render the slices with
+     * @param width     The width the sprites are drawn with
+     * @param height    The height the sprites are drawn with
+     */
+    public void bakeImpostors(Batch batch, float width, float height) {
+        if (this.impostorBuffer != null) return;
+
+        // Each cell fits the stack at any rotation, rendered at the resolution it is shown at
+        int sliceCount = this.slices.size;
+        float diagonal = (float) Math.sqrt(width * width + height * height);
+        float scale = 1 / IMPOSTOR_ZOOM;
+        int cellWidth = MathUtils.ceil(diagonal * scale);
+        int cellHeight = MathUtils.ceil((diagonal + sliceCount) * scale);
+        int count = this.alternate == null ? IMPOSTOR_ROTATIONS : IMPOSTOR_ROTATIONS * 2;
+        int columns = Math.min(count, MAX_BUFFER_SIZE / cellWidth);
+        int rows = MathUtils.ceil(count / (float) columns);
+
+        this.impostorWidth = cellWidth / scale;
+        this.impostorHeight = cellHeight / scale;
+        this.impostorOffsetX = (this.impostorWidth - width) / 2;
+        this.impostorOffsetY = (this.impostorHeight - diagonal - sliceCount) / 2 + (diagonal - height) / 2 + sliceCount / 3f;
+        this.impostorBuffer = new FrameBuffer(Pixmap.Format.RGBA8888, columns * cellWidth, rows * cellHeight, false);
+        this.impostors = new TextureRegion[count];
+
+        // Draw in world units with the default shader, keeping the alpha of the slices
+        Matrix4 previousProjection = batch.getProjectionMatrix().cpy();
+        ShaderProgram previousShader = batch.getShader();
+        batch.setShader(null);
+        batch.setProjectionMatrix(new Matrix4().setToOrtho2D(0, 0, columns * this.impostorWidth, rows * this.impostorHeight));
+        batch.setBlendFunctionSeparate(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA, GL20.GL_ONE, GL20.GL_ONE_MINUS_SRC_ALPHA);
+
+        this.impostorBuffer.begin();
+        Gdx.gl.glClearColor(0, 0, 0, 0);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+        batch.begin();
+        for (int i = 0; i < count; i++) {
+            int column = i % columns;
+            int row = i / columns;
+            float rotation = (i % IMPOSTOR_ROTATIONS) * 360f / IMPOSTOR_ROTATIONS;
+            this.drawSlices(batch, column * this.impostorWidth + this.impostorOffsetX, row * this.impostorHeight + this.impostorOffsetY,
+                    width, height, rotation, i >= IMPOSTOR_ROTATIONS, 1);
+            // Frame buffers are upside down
+            TextureRegion region = new TextureRegion(this.impostorBuffer.getColorBufferTexture(), column * cellWidth, row * cellHeight, cellWidth, cellHeight);
+            region.flip(false, true);
+            this.impostors[i] = region;
+        }
+        batch.end();
+        this.impostorBuffer.end();
+
+        batch.setBlendFunction(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        batch.setProjectionMatrix(previousProjection);
+        batch.setShader(previousShader);
+    }
+
+    /**
+     * Sets the camera zoom, used to choose how much detail to draw with.
+     *
+     * @param zoom  The zoom of the camera the stack is drawn with
+     */
+    public void setZoom(float zoom) {
+        this.zoom = zoom;
+    }
+
+    /**
+     * Looks up a region, failing early if the atlas is out of date.
+     *
+     * @param atlas     The atlas to search
+     * @param name      The name of the region
+     * @return          The region with the given name
+     */
+    private static TextureRegion findRegion(TextureAtlas atlas, String name) {
+        TextureRegion region = atlas.findRegion(name);
+        if (region == null) throw new GdxRuntimeException("Missing atlas region: " + name + ", run desktop:packTextures");
+        return region;
+    }
+
+    public TextureRegion getBase() {
+        return this.base;
+    }
+
+    public int getSliceCount() {
+        return this.slices.size;
+    }
+
+    public boolean hasImpostors() {
+        return this.impostors != null;
+    }
+
+    /**
+     * Dispose of the impostor frame buffer, the slices belong to the atlas.
+     */
+    @Override
+    public void dispose() {
+        if (this.impostorBuffer != null) {
+            this.impostorBuffer.dispose();
+            this.impostorBuffer = null;
+            this.impostors = null;
+        }
+    }
+}
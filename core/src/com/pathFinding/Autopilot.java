@@ -0,0 +1,174 @@
+package com.pathFinding;
+
+/* =================================================================
+                   New class added for assessment 3
+   ===============================================================*/
+
+import com.badlogic.gdx.math.Intersector;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.IntArray;
+import com.misc.Constants.Direction;
+import com.sprites.MovementSprite;
+
+import static com.misc.Constants.*;
+
+/** This class drives a sprite to a destination by itself, steering it with
+ * the same accelerations the player's keys apply.
+ *
+ * The route is planned with Jump Point Search over the map's tiles, and the
+ * sprite heads for each jump point on it in turn, slowing down for the turns
+ * and to stop at the end. If the sprite is knocked too far off the route, or
+ * stops getting any closer to the next jump point, the route is planned again
+ * from wherever it is.
+ */
+
+public class Autopilot {
+
+    private final JumpPointSearch search;
+
+    // The sprite being driven, or null if the autopilot isn't engaged
+    private MovementSprite sprite;
+
+    // The position to stop at, and the jump points on the route to it
+    private final Vector2 destination;
+    private final IntArray path;
+    // The index in path of the jump point being headed for
+    private int waypoint;
+
+    // The closest the sprite has been to the jump point being headed for, and
+    // the number of frames since it got any closer
+    private float closest;
+    private int stuckFrames;
+
+    // Reused to work out the steering without allocating
+    private final Vector2 target;
+    private final Vector2 previous;
+    private final Vector2 position;
+    private final Vector2 desired;
+
+    /** Constructs an autopilot that isn't engaged
+     *
+     * @param search    The search used to plan routes over the map's tiles
+     */
+    public Autopilot(JumpPointSearch search) {
+        this.search = search;
+        this.destination = new Vector2();
+        this.path = new IntArray();
+        this.target = new Vector2();
+        this.previous = new Vector2();
+        this.position = new Vector2();
+        this.desired = new Vector2();
+    }
+
+    /** Plans a route for a sprite to a position and starts driving it there
+     *
+     * @param sprite    The sprite to drive
+     * @param x         The x coordinate to drive to
+     * @param y         The y coordinate to drive to
+     * @return <code> true </code> if a route was found and the autopilot is engaged
+     *         <code> false </code> if the position can't be reached
+     */
+    public boolean driveTo(MovementSprite sprite, float x, float y) {
+        this.sprite = sprite;
+        this.destination.set(x, y);
+        if (!plan()) {
+            disengage();
+            return false;
+        }
+        return true;
+    }
+
+    /** Plans the route from where the sprite is now */
+    private boolean plan() {
+        if (!search.findPath((int) (sprite.getCentreX() / TILE_DIMS), (int) (sprite.getCentreY() / TILE_DIMS),
+                (int) (destination.x / TILE_DIMS), (int) (destination.y / TILE_DIMS), path)) {
+            return false;
+        }
+        // If the destination itself can't be reached stop at the nearest tile that can
+        int end = path.peek();
+        if (end != (int) (destination.y / TILE_DIMS) * search.getWidth() + (int) (destination.x / TILE_DIMS)) {
+            destination.set(getTileCentre(end, target));
+        }
+        waypoint = Math.min(1, path.size - 1);
+        closest = Float.POSITIVE_INFINITY;
+        stuckFrames = 0;
+        return true;
+    }
+
+    /** Steers the sprite towards the next jump point on the route. Should be
+     * called once a frame while the autopilot is engaged
+     */
+    public void drive() {
+        if (sprite == null) return;
+        position.set(sprite.getCentreX(), sprite.getCentreY());
+
+        // Move on to the next jump point once close enough to this one
+        while (waypoint < path.size - 1 && position.dst(getWaypoint(waypoint)) < AUTOPILOT_WAYPOINT_RADIUS) {
+            waypoint++;
+            closest = Float.POSITIVE_INFINITY;
+            stuckFrames = 0;
+        }
+        Vector2 next = getWaypoint(waypoint);
+        float distance = position.dst(next);
+        boolean last = waypoint == path.size - 1;
+        if (last && distance < AUTOPILOT_WAYPOINT_RADIUS / 2) {
+            disengage();
+            return;
+        }
+
+        // Plan again if knocked off the route or not getting any closer
+        if (distance < closest - 1) {
+            closest = distance;
+            stuckFrames = 0;
+        } else {
+            stuckFrames++;
+        }
+        boolean offRoute = waypoint > 0 && Intersector.distanceSegmentPoint(
+                getTileCentre(path.get(waypoint - 1), previous), next, position) > AUTOPILOT_REPLAN_DISTANCE;
+        if (offRoute || stuckFrames > AUTOPILOT_STUCK_FRAMES) {
+            if (!plan()) {
+                disengage();
+                return;
+            }
+            next = getWaypoint(waypoint);
+            distance = position.dst(next);
+            last = waypoint == path.size - 1;
+        }
+
+        // Slow down enough to make the turn at the next jump point, or to stop at the last one
+        float speed = Math.min(AUTOPILOT_CRUISE_SPEED, sprite.getMaxSpeed());
+        float brakingSpeed = (float) Math.sqrt(2 * AUTOPILOT_BRAKING * distance);
+        speed = Math.min(speed, last ? brakingSpeed : Math.max(AUTOPILOT_CORNER_SPEED, brakingSpeed));
+        desired.set(next).sub(position).nor().scl(speed);
+
+        // Accelerate in whichever directions bring the sprite's speed closest to that
+        Vector2 current = sprite.getSpeed();
+        float tolerance = sprite.getAccelerationRate() / 2;
+        if (current.x < desired.x - tolerance) sprite.applyAcceleration(Direction.RIGHT);
+        else if (current.x > desired.x + tolerance) sprite.applyAcceleration(Direction.LEFT);
+        if (current.y < desired.y - tolerance) sprite.applyAcceleration(Direction.UP);
+        else if (current.y > desired.y + tolerance) sprite.applyAcceleration(Direction.DOWN);
+    }
+
+    /** Gets the position of a jump point on the route - the destination itself for the last one */
+    private Vector2 getWaypoint(int index) {
+        if (index == path.size - 1) return target.set(destination);
+        return getTileCentre(path.get(index), target);
+    }
+
+    private Vector2 getTileCentre(int tile, Vector2 centre) {
+        return centre.set((tile % search.getWidth() + 0.5f) * TILE_DIMS, (tile / search.getWidth() + 0.5f) * TILE_DIMS);
+    }
+
+    /** Stops driving the sprite, leaving it to slow down by itself */
+    public void disengage() {
+        this.sprite = null;
+        this.path.clear();
+    }
+
+    public boolean isEngaged() { return this.sprite != null; }
+
+    public MovementSprite getSprite() { return this.sprite; }
+
+    public Vector2 getDestination() { return this.destination; }
+}
@@ -0,0 +1,202 @@
+package com.pathFinding;
+
+/* =================================================================
+                   New class added for assessment 3
+   ===============================================================*/
+
+import com.badlogic.gdx.ai.pfa.Connection;
+import com.badlogic.gdx.ai.pfa.DefaultGraphPath;
+import com.badlogic.gdx.ai.pfa.GraphPath;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.Queue;
+
+/** This class plans routes for patrols that avoid the roads other patrols
+ * have reserved, using windowed hierarchical cooperative A*.
+ *
+ * The search is over junctions and time, so as well as taking a road a
+ * patrol can wait at a junction for a slot. It only looks a window of frames
+ * ahead, with the length of the shortest path from the MapGraph's all-pairs
+ * table (ignoring other patrols) used as the heuristic, so the search stays
+ * small however many patrols there are. The roads on the planned window are
+ * reserved, and the rest of the route to the goal is the shortest path, which
+ * is planned again when the patrol reaches the end of the window.
+ *
+ * All of the search nodes are kept in arrays that are reused between plans.
+ */
+
+public class CooperativePlanner {
+
+    private final MapGraph mapGraph;
+    private final ReservationTable reservations;
+
+    // Number of frames ahead to plan, and the frames waited at a junction each time
+    private final int window;
+    private final int waitFrames;
+
+    // Search nodes - the junction and frame of each, the node it was reached
+    // from, the road taken to reach it (or NO_ROAD for a wait) and its priority
+    private final int[] nodeJunctions;
+    private final int[] nodeTimes;
+    private final int[] nodeParents;
+    private final int[] nodeRoads;
+    private final float[] nodePriorities;
+    private int nodeCount;
+
+    // Binary heap of open nodes, ordered by priority
+    private final int[] heap;
+    private int heapSize;
+
+    // The search each junction and slot was last expanded in, indexed by
+    // junction * slots in window + slot
+    private int[] expanded;
+    private int searchId;
+
+    // Reused to rebuild the planned route and the route after the window
+    private final IntArray chain;
+    private final GraphPath<Junction> remainder;
+
+    /** Constructs a planner
+     *
+     * @param mapGraph      The graph to plan routes on
+     * @param reservations  The table of roads reserved by every patrol
+     * @param window        The number of frames ahead to plan
+     * @param waitFrames    The number of frames waited at a junction at a time,
+     *                      should be the length of a reservation slot
+     * @param maxNodes      The most search nodes a single plan can use
+     */
+    public CooperativePlanner(MapGraph mapGraph, ReservationTable reservations, int window, int waitFrames, int maxNodes) {
+        this.mapGraph = mapGraph;
+        this.reservations = reservations;
+        this.window = window;
+        this.waitFrames = waitFrames;
+        this.nodeJunctions = new int[maxNodes];
+        this.nodeTimes = new int[maxNodes];
+        this.nodeParents = new int[maxNodes];
+        this.nodeRoads = new int[maxNodes];
+        this.nodePriorities = new float[maxNodes];
+        this.heap = new int[maxNodes];
+        this.expanded = new int[0];
+        this.chain = new IntArray();
+        this.remainder = new DefaultGraphPath<>();
+    }
+
+    /** Plans a route for a patrol, releasing any roads it had reserved before
+     * and reserving the roads it will travel on in the window
+     *
+     * @param patrolId      The patrol planning the route
+     * @param speed         How far the patrol moves each frame
+     * @param start         The junction the patrol is at
+     * @param goal          The junction the patrol wants to reach
+     * @param path          Has the junctions on the route added, starting with start
+     * @param departures    Has the frame the patrol should leave for each junction in
+     *                      path added - for junctions after the window this is the
+     *                      frame the window ends, when the route should be planned again
+     * @param record        The roads the patrol has reserved
+     * @return              The number of junctions at the start of path the patrol has
+     *                      reserved the roads to, or 0 if the goal can't be reached
+     */
+    public int plan(int patrolId, float speed, Junction start, Junction goal,
+                    Queue<Junction> path, IntArray departures, IntArray record) {
+        reservations.release(record, patrolId);
+        if (mapGraph.getDistance(start, goal) == Float.POSITIVE_INFINITY) return 0;
+
+        int startTime = reservations.getTime();
+        int slotsInWindow = window / waitFrames + 2;
+        int expandedSize = mapGraph.getNodeCount() * slotsInWindow;
+        if (expanded.length < expandedSize) {
+            expanded = new int[expandedSize];
+            searchId = 0;
+        }
+        searchId++;
+        nodeCount = 0;
+        heapSize = 0;
+
+        push(start.index, startTime, -1, MapGraph.NO_ROAD, speed, goal, startTime);
+        int end = 0;
+        while (heapSize > 0) {
+            int node = pop();
+            int junction = nodeJunctions[node];
+            int time = nodeTimes[node];
+            int key = junction * slotsInWindow + Math.min((time - startTime) / waitFrames, slotsInWindow - 1);
+            if (expanded[key] == searchId) continue;
+            expanded[key] = searchId;
+            end = node;
+            if (junction == goal.index || time - startTime >= window) break;
+
+            Array<Connection<Junction>> connections = mapGraph.getConnections(mapGraph.junctions.get(junction));
+            if (nodeCount + connections.size + 1 > nodeJunctions.length) break;
+            for (int i = 0; i < connections.size; i++) {
+                Road road = (Road) connections.get(i);
+                int arrival = time + MathUtils.ceil(road.cost / speed);
+                if (reservations.isFree(road.edge, time, arrival, patrolId)) {
+                    push(road.toJunction.index, arrival, node, road.id, speed, goal, startTime);
+                }
+            }
+            push(junction, time + waitFrames, node, MapGraph.NO_ROAD, speed, goal, startTime);
+        }
+
+        // Walk back from the end of the window to find the roads taken
+        chain.clear();
+        for (int node = end; node != -1; node = nodeParents[node]) chain.add(node);
+
+        path.addLast(start);
+        departures.add(startTime);
+        int planned = 1;
+        for (int i = chain.size - 2; i >= 0; i--) {
+            int node = chain.get(i);
+            if (nodeRoads[node] == MapGraph.NO_ROAD) continue;
+            int leave = nodeTimes[nodeParents[node]];
+            Road road = mapGraph.roads.get(nodeRoads[node]);
+            reservations.reserve(road.edge, leave, nodeTimes[node], patrolId, record);
+            path.addLast(road.toJunction);
+            departures.add(leave);
+            planned++;
+        }
+
+        Junction reached = mapGraph.junctions.get(nodeJunctions[end]);
+        if (reached != goal) {
+            mapGraph.findPath(reached, goal, remainder);
+            for (int i = 1; i < remainder.getCount(); i++) {
+                path.addLast(remainder.get(i));
+                departures.add(nodeTimes[end]);
+            }
+        }
+        return planned;
+    }
+
+    private void push(int junction, int time, int parent, int road, float speed, Junction goal, int startTime) {
+        int node = nodeCount++;
+        nodeJunctions[node] = junction;
+        nodeTimes[node] = time;
+        nodeParents[node] = parent;
+        nodeRoads[node] = road;
+        nodePriorities[node] = (time - startTime) + mapGraph.getDistance(mapGraph.junctions.get(junction), goal) / speed;
+
+        int index = heapSize++;
+        while (index > 0) {
+            int parentIndex = (index - 1) >> 1;
+            if (nodePriorities[heap[parentIndex]] <= nodePriorities[node]) break;
+            heap[index] = heap[parentIndex];
+            index = parentIndex;
+        }
+        heap[index] = node;
+    }
+
+    private int pop() {
+        int top = heap[0];
+        int last = heap[--heapSize];
+        int index = 0;
+        while (true) {
+            int child = index * 2 + 1;
+            if (child >= heapSize) break;
+            if (child + 1 < heapSize && nodePriorities[heap[child + 1]] < nodePriorities[heap[child]]) child++;
+            if (nodePriorities[heap[child]] >= nodePriorities[last]) break;
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = last;
+        return top;
+    }
+}
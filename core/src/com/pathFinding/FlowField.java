@@ -0,0 +1,172 @@
+package com.pathFinding;
+
+/* =================================================================
+                   New class added for assessment 3
+   ===============================================================*/
+
+import com.badlogic.gdx.ai.pfa.Connection;
+import com.badlogic.gdx.utils.Array;
+
+import java.util.Arrays;
+
+/** This class gives every junction on the map the next junction to travel
+ * to in order to reach a single target, so any number of patrols can head
+ * for the same place by looking up one entry each time they reach a junction.
+ *
+ * The target is a position on the map, such as the active fire truck, and
+ * the field leads to the junction nearest to it. The field is only rebuilt
+ * when that junction changes (or the graph gains junctions or roads), by
+ * copying the column for the target out of the MapGraph's all-pairs route
+ * table, so moving the target within the same part of the map costs nothing
+ * beyond finding the nearest junction.
+ */
+
+public class FlowField {
+
+    // Value used for the target when there isn't one
+    public static final int NO_TARGET = -1;
+
+    private final MapGraph mapGraph;
+
+    // The index of the junction the field leads to
+    private int target;
+
+    // The next junction index to travel to from each junction and the distance
+    // left to the target, indexed by junction index. next is -1 at the target
+    // and from junctions that can't reach it
+    private int[] next;
+    private float[] distances;
+
+    // The size of the graph when the field was last built, so it can be
+    // rebuilt if junctions or roads are added
+    private int builtNodeCount;
+    private int builtRoadCount;
+
+    /** Constructs a flow field with no target
+     *
+     * @param mapGraph  The graph of junctions the field is over
+     */
+    public FlowField(MapGraph mapGraph) {
+        this.mapGraph = mapGraph;
+        this.target = NO_TARGET;
+        this.next = new int[0];
+        this.distances = new float[0];
+    }
+
+    /** Points the field at the junction nearest to a position, rebuilding
+     * it only if that isn't already the target
+     *
+     * @param x the x coordinate of the position to lead to
+     * @param y the y coordinate of the position to lead to
+     */
+    public void setTarget(float x, float y) {
+        Array<Junction> junctions = mapGraph.getJunctions();
+        int nearest = NO_TARGET;
+        float nearestDistance = Float.POSITIVE_INFINITY;
+        for (int i = 0; i < junctions.size; i++) {
+            Junction junction = junctions.get(i);
+            float dx = junction.getX() - x;
+            float dy = junction.getY() - y;
+            float distance = dx * dx + dy * dy;
+            if (distance < nearestDistance) {
+                nearestDistance = distance;
+                nearest = junction.index;
+            }
+        }
+        setTarget(nearest);
+    }
+
+    /** Points the field at a junction, rebuilding it only if that isn't
+     * already the target
+     *
+     * @param junction  the index of the junction to lead to, or NO_TARGET
+     */
+    public void setTarget(int junction) {
+        if (junction == target && builtNodeCount == mapGraph.getNodeCount()
+                && builtRoadCount == mapGraph.roads.size) return;
+        target = junction;
+        build();
+    }
+
+    /** Stops the field leading anywhere */
+    public void clearTarget() {
+        setTarget(NO_TARGET);
+    }
+
+    private void build() {
+        int nodeCount = mapGraph.getNodeCount();
+        if (next.length < nodeCount) {
+            next = new int[nodeCount];
+            distances = new float[nodeCount];
+        }
+        builtNodeCount = nodeCount;
+        builtRoadCount = mapGraph.roads.size;
+        if (target == NO_TARGET) {
+            Arrays.fill(next, -1);
+            Arrays.fill(distances, Float.POSITIVE_INFINITY);
+            return;
+        }
+        Junction goal = mapGraph.junctions.get(target);
+        for (int i = 0; i < nodeCount; i++) {
+            int hop = mapGraph.nextHop(i, target);
+            next[i] = hop == i ? -1 : hop;
+            distances[i] = mapGraph.getDistance(mapGraph.junctions.get(i), goal);
+        }
+    }
+
+    /** Gets the next junction to travel to from a junction to reach the target
+     *
+     * @param junction  the junction to travel from
+     * @return          the next junction, or null if junction is the target
+     *                  or the target can't be reached from it
+     */
+    public Junction getNext(Junction junction) {
+        if (junction.index >= builtNodeCount) return null;
+        int hop = next[junction.index];
+        return hop == -1 ? null : mapGraph.junctions.get(hop);
+    }
+
+    /** Gets the next junction to travel to from a junction when the road to the
+     * one given by getNext is blocked - the one closest to the target along the
+     * roads that is still closer to it than junction is
+     *
+     * @param junction  the junction to travel from
+     * @param blocked   the junction that can't be travelled to
+     * @return          the other junction, or null if there isn't one
+     */
+    public Junction getAlternative(Junction junction, Junction blocked) {
+        float here = getDistance(junction);
+        float best = Float.POSITIVE_INFINITY;
+        Junction alternative = null;
+        Array<Connection<Junction>> connections = mapGraph.getConnections(junction);
+        for (int i = 0; i < connections.size; i++) {
+            Junction to = connections.get(i).getToNode();
+            float distance = getDistance(to);
+            if (to == blocked || distance >= here) continue;
+            if (connections.get(i).getCost() + distance < best) {
+                best = connections.get(i).getCost() + distance;
+                alternative = to;
+            }
+        }
+        return alternative;
+    }
+
+    /** Gets the length of the shortest path from a junction to the target
+     *
+     * @param junction  the junction to travel from
+     * @return          the total cost of the roads on the path, or
+     *                  Float.POSITIVE_INFINITY if the target can't be reached
+     */
+    public float getDistance(Junction junction) {
+        if (junction.index >= builtNodeCount) return Float.POSITIVE_INFINITY;
+        return distances[junction.index];
+    }
+
+    /** Gets the junction the field leads to
+     *
+     * @return  the target junction, or null if there isn't one
+     */
+    public Junction getTarget() {
+        return target == NO_TARGET ? null : mapGraph.junctions.get(target);
+    }
+}
@@ -0,0 +1,415 @@
+package com.pathFinding;
+
+/* =================================================================
+                   New class added for assessment 3
+   ===============================================================*/
+
+import com.badlogic.gdx.utils.IntArray;
+import com.misc.CollisionGrid;
+
+import java.util.Arrays;
+
+/** This class finds routes across the map's tiles using Jump Point Search,
+ * for vehicles that can drive anywhere that isn't a building rather than only
+ * along the patrol roads.
+ *
+ * Tiles can be moved between in eight directions, but never diagonally past
+ * the corner of a blocked tile. Rather than adding every tile along a straight
+ * run to the open list as grid A* would, the search jumps along it and only
+ * stops at tiles where another route could branch off (jump points), so on
+ * open maps it expands a tiny fraction of the tiles. The route is returned as
+ * those jump points, with a straight or diagonal clear line between each.
+ *
+ * Tiles within a clearance of a blocked tile are treated as blocked too, so
+ * routes keep away from the walls. Where that closes a gap the route goes
+ * through the gap with no clearance instead. Outside the map is blocked.
+ *
+ * All of the search state is kept in arrays that are reused between searches.
+ */
+
+public class JumpPointSearch {
+
+    // Value used for a tile that doesn't exist or can't be reached
+    public static final int NO_TILE = -1;
+
+    private static final float DIAGONAL_COST = (float) Math.sqrt(2);
+
+    private final int width, height;
+
+    // Whether each tile is blocked, indexed by row * width + column, with and
+    // without the clearance around blocked tiles
+    private final boolean[] blocked;
+    private final boolean[] cleared;
+    // The grid the current search uses - one of the above
+    private boolean[] walls;
+
+    // The connected area each tile is in, with and without the clearance,
+    // so routes to somewhere that can't be reached are never searched for
+    private final int[] areas;
+    private final int[] clearedAreas;
+
+    // The cost to reach each tile and the jump point it was reached from, only
+    // valid if the tile was reached in the current search
+    private final float[] costs;
+    private final int[] parents;
+    private final int[] reached;
+    private final int[] closed;
+    private int searchId;
+
+    // Binary heap of open tiles and their priorities. Tiles are added again
+    // when a cheaper route to them is found rather than moved up the heap
+    private int[] heap;
+    private float[] heapPriorities;
+    private int heapSize;
+
+    // Reused by the breadth first searches for the nearest reachable tile
+    private final IntArray frontier;
+
+    /** Constructs a search over the map's collision layer
+     *
+     * @param collisionGrid The compiled collision layer of the map
+     * @param clearance     The number of tiles to keep away from blocked tiles where possible
+     */
+    public JumpPointSearch(CollisionGrid collisionGrid, int clearance) {
+        this(readGrid(collisionGrid), collisionGrid.getWidth(), collisionGrid.getHeight(), clearance);
+    }
+
+    /** Constructs a search over a grid of tiles
+     *
+     * @param blocked   Whether each tile is blocked, indexed by row * width + column
+     * @param width     The number of columns
+     * @param height    The number of rows
+     * @param clearance The number of tiles to keep away from blocked tiles where possible
+     */
+    JumpPointSearch(boolean[] blocked, int width, int height, int clearance) {
+        this.width = width;
+        this.height = height;
+        this.blocked = blocked;
+        this.cleared = new boolean[width * height];
+        for (int row = 0; row < height; row++) {
+            for (int column = 0; column < width; column++) {
+                if (!blocked[row * width + column]) continue;
+                for (int y = Math.max(0, row - clearance); y <= Math.min(height - 1, row + clearance); y++) {
+                    for (int x = Math.max(0, column - clearance); x <= Math.min(width - 1, column + clearance); x++) {
+                        cleared[y * width + x] = true;
+                    }
+                }
+            }
+        }
+
+        this.frontier = new IntArray();
+        this.areas = findAreas(blocked);
+        this.clearedAreas = findAreas(cleared);
+
+        this.costs = new float[width * height];
+        this.parents = new int[width * height];
+        this.reached = new int[width * height];
+        this.closed = new int[width * height];
+        this.heap = new int[64];
+        this.heapPriorities = new float[64];
+    }
+
+    private static boolean[] readGrid(CollisionGrid collisionGrid) {
+        int width = collisionGrid.getWidth();
+        boolean[] blocked = new boolean[width * collisionGrid.getHeight()];
+        for (int i = 0; i < blocked.length; i++) {
+            blocked[i] = collisionGrid.isBlockedTile(i % width, i / width);
+        }
+        return blocked;
+    }
+
+    /** Labels every open tile with a number shared by all the tiles it can be
+     * reached from, using a flood fill
+     */
+    private int[] findAreas(boolean[] grid) {
+        int[] labels = new int[width * height];
+        Arrays.fill(labels, NO_TILE);
+        int area = 0;
+        for (int start = 0; start < labels.length; start++) {
+            if (grid[start] || labels[start] != NO_TILE) continue;
+            frontier.clear();
+            frontier.add(start);
+            labels[start] = area;
+            while (frontier.size > 0) {
+                int tile = frontier.pop();
+                int column = tile % width;
+                int row = tile / width;
+                if (column > 0) fill(grid, labels, tile - 1, area);
+                if (column < width - 1) fill(grid, labels, tile + 1, area);
+                if (row > 0) fill(grid, labels, tile - width, area);
+                if (row < height - 1) fill(grid, labels, tile + width, area);
+            }
+            area++;
+        }
+        return labels;
+    }
+
+    private void fill(boolean[] grid, int[] labels, int tile, int area) {
+        if (grid[tile] || labels[tile] != NO_TILE) return;
+        labels[tile] = area;
+        frontier.add(tile);
+    }
+
+    /** Finds a route between two tiles. If the start is blocked the route starts
+     * from the nearest open tile, and if the goal can't be reached it ends at
+     * the nearest tile to it that can
+     *
+     * @param startColumn   The column the route starts in
+     * @param startRow      The row the route starts in
+     * @param goalColumn    The column the route should end in
+     * @param goalRow       The row the route should end in
+     * @param path          Cleared then filled with the tile indices (row * width + column)
+     *                      of the jump points on the route, from start to goal
+     * @return              <code> true </code> if a route was found
+     *                      <code> false </code> if there are no open tiles
+     */
+    public boolean findPath(int startColumn, int startRow, int goalColumn, int goalRow, IntArray path) {
+        path.clear();
+        int start = clampTile(startColumn, startRow);
+        int goal = clampTile(goalColumn, goalRow);
+
+        // Keep clear of the walls if the goal can be reached that way, otherwise don't
+        int clearedStart = findNearest(start, cleared, clearedAreas, NO_TILE);
+        int clearedGoal = clearedStart == NO_TILE ? NO_TILE : findNearest(goal, cleared, clearedAreas, clearedAreas[clearedStart]);
+        int openStart = findNearest(start, blocked, areas, NO_TILE);
+        if (openStart == NO_TILE) return false;
+        int openGoal = findNearest(goal, blocked, areas, areas[openStart]);
+
+        if (clearedGoal != NO_TILE && areas[clearedStart] == areas[openStart]
+                && distance(clearedGoal, goal) <= distance(openGoal, goal)) {
+            walls = cleared;
+            search(clearedStart, clearedGoal, path);
+        } else {
+            walls = blocked;
+            search(openStart, openGoal, path);
+        }
+        return true;
+    }
+
+    /** Gets the tile under a position on the map, clamped to the map */
+    private int clampTile(int column, int row) {
+        column = Math.max(0, Math.min(width - 1, column));
+        row = Math.max(0, Math.min(height - 1, row));
+        return row * width + column;
+    }
+
+    /** Finds the nearest open tile to a tile, searching outwards from it
+     *
+     * @param tile      The tile to search from
+     * @param grid      Which tiles are blocked
+     * @param labels    The area each tile is in on that grid
+     * @param area      The area the tile has to be in, or NO_TILE for any
+     * @return          The nearest tile, or NO_TILE if there isn't one
+     */
+    private int findNearest(int tile, boolean[] grid, int[] labels, int area) {
+        if (!grid[tile] && (area == NO_TILE || labels[tile] == area)) return tile;
+        searchId++;
+        frontier.clear();
+        frontier.add(tile);
+        closed[tile] = searchId;
+        int nearest = NO_TILE;
+        float nearestDistance = Float.POSITIVE_INFINITY;
+        for (int i = 0; i < frontier.size; i++) {
+            int current = frontier.get(i);
+            if (!grid[current] && (area == NO_TILE || labels[current] == area)) {
+                float distance = distance(current, tile);
+                if (distance < nearestDistance) {
+                    nearestDistance = distance;
+                    nearest = current;
+                }
+                continue;
+            }
+            // Once something has been found only the ring it is in needs finishing
+            if (nearest != NO_TILE && chebyshev(current, tile) >= chebyshev(nearest, tile)) continue;
+            int column = current % width;
+            int row = current / width;
+            if (column > 0) visit(current - 1);
+            if (column < width - 1) visit(current + 1);
+            if (row > 0) visit(current - width);
+            if (row < height - 1) visit(current + width);
+        }
+        return nearest;
+    }
+
+    private void visit(int tile) {
+        if (closed[tile] == searchId) return;
+        closed[tile] = searchId;
+        frontier.add(tile);
+    }
+
+    /** Runs Jump Point Search between two open tiles in the same area */
+    private void search(int start, int goal, IntArray path) {
+        searchId++;
+        heapSize = 0;
+        costs[start] = 0;
+        parents[start] = NO_TILE;
+        reached[start] = searchId;
+        push(start, distance(start, goal));
+
+        while (heapSize > 0) {
+            int tile = pop();
+            if (closed[tile] == searchId) continue;
+            closed[tile] = searchId;
+            if (tile == goal) break;
+
+            int column = tile % width;
+            int row = tile / width;
+            int parent = parents[tile];
+            if (parent == NO_TILE) {
+                // The start, so every direction it can move in
+                for (int dy = -1; dy <= 1; dy++) {
+                    for (int dx = -1; dx <= 1; dx++) {
+                        if ((dx != 0 || dy != 0) && canStep(column, row, dx, dy)) {
+                            expand(tile, column, row, dx, dy, goal);
+                        }
+                    }
+                }
+                continue;
+            }
+
+            int dx = Integer.signum(column - parent % width);
+            int dy = Integer.signum(row - parent / width);
+            if (dx != 0 && dy != 0) {
+                // Diagonal, so carry on diagonally or along either side
+                if (isOpen(column, row + dy)) expand(tile, column, row, 0, dy, goal);
+                if (isOpen(column + dx, row)) expand(tile, column, row, dx, 0, goal);
+                if (canStep(column, row, dx, dy)) expand(tile, column, row, dx, dy, goal);
+            } else if (dx != 0) {
+                // Horizontal, so carry on and turn towards any wall that has just ended
+                boolean ahead = isOpen(column + dx, row);
+                boolean above = isOpen(column, row + 1);
+                boolean below = isOpen(column, row - 1);
+                if (ahead) {
+                    expand(tile, column, row, dx, 0, goal);
+                    if (above) expand(tile, column, row, dx, 1, goal);
+                    if (below) expand(tile, column, row, dx, -1, goal);
+                }
+                if (above) expand(tile, column, row, 0, 1, goal);
+                if (below) expand(tile, column, row, 0, -1, goal);
+            } else {
+                // Vertical
+                boolean ahead = isOpen(column, row + dy);
+                boolean right = isOpen(column + 1, row);
+                boolean left = isOpen(column - 1, row);
+                if (ahead) {
+                    expand(tile, column, row, 0, dy, goal);
+                    if (right) expand(tile, column, row, 1, dy, goal);
+                    if (left) expand(tile, column, row, -1, dy, goal);
+                }
+                if (right) expand(tile, column, row, 1, 0, goal);
+                if (left) expand(tile, column, row, -1, 0, goal);
+            }
+        }
+
+        // Walk back from the goal to get the jump points
+        for (int tile = goal; tile != NO_TILE; tile = parents[tile]) path.add(tile);
+        path.reverse();
+    }
+
+    /** Jumps from a tile in a direction and adds the jump point found, if any, to the open list */
+    private void expand(int tile, int column, int row, int dx, int dy, int goal) {
+        int jumpPoint = jump(column + dx, row + dy, dx, dy, goal);
+        if (jumpPoint == NO_TILE || closed[jumpPoint] == searchId) return;
+        float cost = costs[tile] + distance(tile, jumpPoint);
+        if (reached[jumpPoint] != searchId || cost < costs[jumpPoint]) {
+            reached[jumpPoint] = searchId;
+            costs[jumpPoint] = cost;
+            parents[jumpPoint] = tile;
+            push(jumpPoint, cost + distance(jumpPoint, goal));
+        }
+    }
+
+    /** Moves from a tile in a direction until reaching a jump point - the goal,
+     * or a tile next to the end of a wall where the route could turn
+     *
+     * @return  the jump point, or NO_TILE if a wall is reached first
+     */
+    private int jump(int column, int row, int dx, int dy, int goal) {
+        while (true) {
+            if (!isOpen(column, row)) return NO_TILE;
+            int tile = row * width + column;
+            if (tile == goal) return tile;
+            if (dx != 0 && dy != 0) {
+                // A diagonal stops wherever a straight jump off it finds a jump point
+                if (jump(column + dx, row, dx, 0, goal) != NO_TILE || jump(column, row + dy, 0, dy, goal) != NO_TILE) {
+                    return tile;
+                }
+                if (!canStep(column, row, dx, dy)) return NO_TILE;
+            } else if (dx != 0) {
+                if ((isOpen(column, row + 1) && !isOpen(column - dx, row + 1))
+                        || (isOpen(column, row - 1) && !isOpen(column - dx, row - 1))) {
+                    return tile;
+                }
+            } else {
+                if ((isOpen(column + 1, row) && !isOpen(column + 1, row - dy))
+                        || (isOpen(column - 1, row) && !isOpen(column - 1, row - dy))) {
+                    return tile;
+                }
+            }
+            column += dx;
+            row += dy;
+        }
+    }
+
+    /** Whether a tile is on the map and not blocked in the current search */
+    private boolean isOpen(int column, int row) {
+        return column >= 0 && row >= 0 && column < width && row < height && !walls[row * width + column];
+    }
+
+    /** Whether a step can be made from a tile, never cutting the corner of a blocked tile */
+    private boolean canStep(int column, int row, int dx, int dy) {
+        if (!isOpen(column + dx, row + dy)) return false;
+        return dx == 0 || dy == 0 || (isOpen(column + dx, row) && isOpen(column, row + dy));
+    }
+
+    /** The length of the shortest route between two tiles with nothing in the way */
+    private float distance(int from, int to) {
+        int dx = Math.abs(from % width - to % width);
+        int dy = Math.abs(from / width - to / width);
+        return Math.max(dx, dy) + (DIAGONAL_COST - 1) * Math.min(dx, dy);
+    }
+
+    private int chebyshev(int from, int to) {
+        return Math.max(Math.abs(from % width - to % width), Math.abs(from / width - to / width));
+    }
+
+    private void push(int tile, float priority) {
+        if (heapSize == heap.length) {
+            heap = Arrays.copyOf(heap, heapSize * 2);
+            heapPriorities = Arrays.copyOf(heapPriorities, heapSize * 2);
+        }
+        int index = heapSize++;
+        while (index > 0) {
+            int parentIndex = (index - 1) >> 1;
+            if (heapPriorities[parentIndex] <= priority) break;
+            heap[index] = heap[parentIndex];
+            heapPriorities[index] = heapPriorities[parentIndex];
+            index = parentIndex;
+        }
+        heap[index] = tile;
+        heapPriorities[index] = priority;
+    }
+
+    private int pop() {
+        int top = heap[0];
+        int last = heap[--heapSize];
+        float lastPriority = heapPriorities[heapSize];
+        int index = 0;
+        while (true) {
+            int child = index * 2 + 1;
+            if (child >= heapSize) break;
+            if (child + 1 < heapSize && heapPriorities[child + 1] < heapPriorities[child]) child++;
+            if (heapPriorities[child] >= lastPriority) break;
+            heap[index] = heap[child];
+            heapPriorities[index] = heapPriorities[child];
+            index = child;
+        }
+        heap[index] = last;
+        heapPriorities[index] = lastPriority;
+        return top;
+    }
+
+    public int getWidth() { return this.width; }
+
+    public int getHeight() { return this.height; }
+}
@@ -7,19 +7,37 @@ package com.pathFinding;
 import com.badlogic.gdx.ai.pfa.Connection;
 import com.badlogic.gdx.ai.pfa.DefaultGraphPath;
 import com.badlogic.gdx.ai.pfa.GraphPath;
-import com.badlogic.gdx.ai.pfa.indexed.IndexedAStarPathFinder;
 import com.badlogic.gdx.ai.pfa.indexed.IndexedGraph;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
 import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.Queue;
 import com.sprites.PatrolMovementSprite;
 
-import java.util.HashMap;
-import java.util.Iterator;
-import java.util.Map;
+import java.util.Arrays;
+
+import static com.misc.Constants.RESERVATION_MAX_NODES;
+import static com.misc.Constants.RESERVATION_SLOTS;
+import static com.misc.Constants.RESERVATION_SLOT_FRAMES;
+import static com.misc.Constants.RESERVATION_WINDOW;
 
 /** This class creates a MapGraph which contains all junctions and connections
  * between them. It is also used to find a path between two junctions and keep
  * track of which roads are being travelled on by patrols
+ *
+ * As the junctions never move, the shortest route between every pair of
+ * junctions is worked out once, the first time a path is needed after the
+ * graph changes. Finding a path is then just following the next junction
+ * to take from a table.
+ *
+ * Each road is given a dense id when it is connected. The road between two
+ * junctions is looked up in an adjacency matrix of these ids, and which
+ * patrol has locked each road is kept in an array indexed by them, so
+ * locking, unlocking and checking a road never search or allocate.
+ *
+ * Patrols also reserve the roads they plan to travel on for windows of time
+ * ahead, so they can plan routes around each other rather than finding a road
+ * locked when they reach it.
  */
 
 public class MapGraph implements IndexedGraph<Junction> {
@@ -34,15 +52,42 @@ public class MapGraph implements IndexedGraph<Junction> {
     // Array of roads in mapGraph
     final Array<Road> roads = new Array<>();
 
-    // A hashmap containing the roads which are currently being travelled on
-    // the PatrolMovementSprite that is travelling on that road
-    final HashMap<Road, PatrolMovementSprite> lockedRoads = new HashMap<>();
+    // Value used for a pair of junctions with no road between them
+    public static final int NO_ROAD = -1;
+
+    // Value used for a road that no patrol is travelling on
+    public static final int UNLOCKED = -1;
+
+    // The id of the patrol travelling on each road, indexed by road id,
+    // or UNLOCKED if the road is free
+    final IntArray lockedRoads = new IntArray();
 
     // A map containing the
     final ObjectMap<Junction, Array<Connection<Junction>>> connectionsFromJunctionMap = new ObjectMap<>();
 
     private int lastNodeIndex = 0;
 
+    // Id to give the next patrol that registers with the graph
+    private int lastPatrolId = 0;
+
+    // Number of edges - a road and the road going the other way share one
+    private int edgeCount = 0;
+
+    // The roads reserved by patrols for each window of time, and the planner
+    // that finds routes around them
+    final ReservationTable reservations = new ReservationTable(RESERVATION_SLOT_FRAMES, RESERVATION_SLOTS);
+    private final CooperativePlanner planner =
+            new CooperativePlanner(this, reservations, RESERVATION_WINDOW, RESERVATION_SLOT_FRAMES, RESERVATION_MAX_NODES);
+
+    // The id of the road between each pair of junctions, indexed by
+    // from * node count + to. Null when it needs rebuilding
+    private int[] roadIds;
+
+    // Shortest distance and the next junction index to travel to for each pair of
+    // junctions, indexed by from * node count + goal. Null when they need rebuilding
+    private float[] routeDistances;
+    private int[] nextHops;
+
     /** This finds the path from the startJunction to the goalJunction
      *
      * @param startJunction starting junction
@@ -52,23 +97,148 @@ public class MapGraph implements IndexedGraph<Junction> {
     */
     public GraphPath<Junction> findPath(Junction startJunction, Junction goalJunction){
         GraphPath<Junction> junctionPath = new DefaultGraphPath<>();
-        new IndexedAStarPathFinder<>(this).searchNodePath(startJunction, goalJunction, mapHeuristic, junctionPath);
+        findPath(startJunction, goalJunction, junctionPath);
         return junctionPath;
     }
 
+    /** This finds the path from the startJunction to the goalJunction, filling
+     * a path that can be reused between calls
+     *
+     * @param startJunction starting junction
+     * @param goalJunction  finishing junction
+     * @param junctionPath  cleared then filled with the junctions from the startJunction
+     *                      to the goalJunction, including both - left empty if there
+     *                      is no path
+     * @return              <code> true </code> if a path was found
+     *                      <code> false </code> if the goal can't be reached
+     */
+    public boolean findPath(Junction startJunction, Junction goalJunction, GraphPath<Junction> junctionPath){
+        junctionPath.clear();
+        if (nextHop(startJunction.index, goalJunction.index) == -1) return false;
+        int current = startJunction.index;
+        junctionPath.add(startJunction);
+        while (current != goalJunction.index) {
+            current = nextHop(current, goalJunction.index);
+            junctionPath.add(junctions.get(current));
+        }
+        return true;
+    }
+
+    /** Gets the next junction to travel to on the shortest path to a goal
+     *
+     * @param fromJunction  the junction to travel from
+     * @param goalJunction  the junction to end up at
+     * @return              the next junction on the path, the goal itself if it is
+     *                      at the end of a road from fromJunction, or null if
+     *                      fromJunction is the goal or the goal can't be reached
+     */
+    public Junction nextHop(Junction fromJunction, Junction goalJunction){
+        if (fromJunction == goalJunction) return null;
+        int next = nextHop(fromJunction.index, goalJunction.index);
+        return next == -1 ? null : junctions.get(next);
+    }
+
+    /** Gets the index of the next junction to travel to on the shortest path to a goal
+     *
+     * @param from  the index of the junction to travel from
+     * @param goal  the index of the junction to end up at
+     * @return      the index of the next junction, from if it is the goal, or -1
+     *              if the goal can't be reached
+     */
+    public int nextHop(int from, int goal){
+        buildRoutes();
+        return nextHops[from * lastNodeIndex + goal];
+    }
+
+    /** Gets the length of the shortest path between two junctions
+     *
+     * @param fromJunction  the junction to travel from
+     * @param goalJunction  the junction to end up at
+     * @return              the total cost of the roads on the path, or
+     *                      Float.POSITIVE_INFINITY if the goal can't be reached
+     */
+    public float getDistance(Junction fromJunction, Junction goalJunction){
+        buildRoutes();
+        return routeDistances[fromJunction.index * lastNodeIndex + goalJunction.index];
+    }
+
+    /** Works out the shortest route between every pair of junctions using the
+     * Floyd-Warshall algorithm, if the graph has changed since it was last done
+     */
+    private void buildRoutes(){
+        if (nextHops != null) return;
+        int count = lastNodeIndex;
+        float[] distances = new float[count * count];
+        int[] next = new int[count * count];
+        Arrays.fill(distances, Float.POSITIVE_INFINITY);
+        Arrays.fill(next, -1);
+
+        for (int i = 0; i < count; i++) {
+            distances[i * count + i] = 0;
+            next[i * count + i] = i;
+        }
+        for (Road road : roads) {
+            int index = road.fromJunction.index * count + road.toJunction.index;
+            if (road.cost < distances[index]) {
+                distances[index] = road.cost;
+                next[index] = road.toJunction.index;
+            }
+        }
+
+        // Try going through each junction in turn on the way between every pair
+        for (int via = 0; via < count; via++) {
+            for (int from = 0; from < count; from++) {
+                float toVia = distances[from * count + via];
+                if (toVia == Float.POSITIVE_INFINITY) continue;
+                for (int goal = 0; goal < count; goal++) {
+                    float throughVia = toVia + distances[via * count + goal];
+                    if (throughVia < distances[from * count + goal]) {
+                        distances[from * count + goal] = throughVia;
+                        next[from * count + goal] = next[from * count + via];
+                    }
+                }
+            }
+        }
+        this.routeDistances = distances;
+        this.nextHops = next;
+    }
+
     /**
      * Gets road between two junction
      * @param fromJunction  first junction
      * @param toJunction    second junction
-     * @return              returns a road going from fromJunction to toJunction
+     * @return              returns a road going from fromJunction to toJunction,
+     *                      or null if there isn't one
      */
     public Road getRoad(Junction fromJunction, Junction toJunction) {
-        for (Road road : roads) {
-            if (road.fromJunction == fromJunction && road.toJunction == toJunction) {
-                return road;
-            }
+        int id = getRoadId(fromJunction.index, toJunction.index);
+        return id == NO_ROAD ? null : roads.get(id);
+    }
+
+    /**
+     * Gets the id of the road between two junctions
+     * @param from  the index of the junction the road starts at
+     * @param to    the index of the junction the road ends at
+     * @return      the id of the road, or NO_ROAD if there isn't one
+     */
+    public int getRoadId(int from, int to) {
+        buildRoadIds();
+        return roadIds[from * lastNodeIndex + to];
+    }
+
+    /** Fills the adjacency matrix of road ids, if junctions have been added
+     * since it was last done. If there is more than one road between a pair of
+     * junctions the first one connected is used
+     */
+    private void buildRoadIds(){
+        if (roadIds != null) return;
+        int[] ids = new int[lastNodeIndex * lastNodeIndex];
+        Arrays.fill(ids, NO_ROAD);
+        for (int i = roads.size - 1; i >= 0; i--) {
+            Road road = roads.get(i);
+            ids[road.fromJunction.index * lastNodeIndex + road.toJunction.index] = road.id;
         }
-        return new Road(fromJunction, toJunction);
+        this.roadIds = ids;
     }
 
     /**
@@ -79,6 +249,8 @@ public class MapGraph implements IndexedGraph<Junction> {
         junction.index = lastNodeIndex;
         lastNodeIndex++;
         junctions.add(junction);
+        nextHops = null;
+        roadIds = null;
     }
 
     /** This creates a road from fromJunction to toJunction and adds it to roads.
@@ -89,11 +261,25 @@ public class MapGraph implements IndexedGraph<Junction> {
      */
     public void connectJunctions(Junction fromJunction, Junction toJunction){
         Road road = new Road(fromJunction, toJunction);
+        road.id = roads.size;
+        int reverseId = getRoadId(toJunction.index, fromJunction.index);
+        if (reverseId == NO_ROAD) {
+            road.edge = edgeCount++;
+            reservations.setEdgeCount(edgeCount);
+        } else {
+            road.edge = roads.get(reverseId).edge;
+        }
         if (!connectionsFromJunctionMap.containsKey(fromJunction)){
             connectionsFromJunctionMap.put(fromJunction, new Array<>());
         }
         connectionsFromJunctionMap.get(fromJunction).add(road);
         roads.add(road);
+        lockedRoads.add(UNLOCKED);
+        if (roadIds != null) {
+            int index = fromJunction.index * lastNodeIndex + toJunction.index;
+            if (roadIds[index] == NO_ROAD) roadIds[index] = road.id;
+        }
+        nextHops = null;
     }
 
     /** This returns the connections you can take from the fromNode
@@ -110,43 +296,51 @@ public class MapGraph implements IndexedGraph<Junction> {
         return new Array<>(0);
     }
 
+    /** Gives a patrol the id it is recorded by when it locks a road
+     * @return  a new patrol id, unique within this graph
+     */
+    public int registerPatrol() {
+        return lastPatrolId++;
+    }
+
     /** Checks if a patrol is travelling on the road between fromJunction to
      * toJunction. Have to check the road in both directions otherwise the patrols
      * can collide head on
      * @param from   The junction at one end of the road
      * @param to     The junction at the other end of the road
      * @return <code> true </code> if another Patrol is travelling on that road
-     *                              (knows this because the road is present in lockedRoads)
+     *                              (knows this because the road has an owner in lockedRoads)
      *         <code> false </code> if no Patrol is travelling on that road
      */
     public boolean isRoadLocked(Junction from, Junction to) {
-        Road roadToCheck = getRoad(from, to);
-        Road roadToCheckOtherDirection = getRoad(to, from);
-
-        return lockedRoads.containsKey(roadToCheck) || lockedRoads.containsKey(roadToCheckOtherDirection);
+        return isRoadLocked(getRoadId(from.index, to.index))
+                || isRoadLocked(getRoadId(to.index, from.index));
+    }
 
+    private boolean isRoadLocked(int roadId) {
+        return roadId != NO_ROAD && lockedRoads.get(roadId) != UNLOCKED;
     }
 
     /** Locks a road by a patrol if that road is not already locked
-     * @param road    The road to lock
+     * @param road    The road to lock - ignored if null or not part of this graph
      * @param patrol  The patrol who locked that road - the only patrol who can unlock it */
     public void lockRoad(Road road, PatrolMovementSprite patrol) {
-        if (!lockedRoads.containsKey(road)) {
-            lockedRoads.put(road, patrol);
+        if (road == null || road.id == NO_ROAD) return;
+        if (lockedRoads.get(road.id) == UNLOCKED) {
+            lockedRoads.set(road.id, patrol.getPatrolId());
         }
     }
 
     /** Unlocks a road if there is a road that the patrol had previously locked
      *
-     * @param road    The road to unlock
+     * @param road    The road to unlock - ignored if null or not part of this graph
      * @param patrol  The patrol who wants to unlock the road. Will only unlock
      *                if this is the patrol who locked the road.
      */
     public void unlockRoad(Road road, PatrolMovementSprite patrol) {
-        if (lockedRoads.containsKey(road)){
-            if (lockedRoads.get(road) == patrol) {
-                lockedRoads.remove(road);
-            }
+        if (road == null || road.id == NO_ROAD) return;
+        if (lockedRoads.get(road.id) == patrol.getPatrolId()) {
+            lockedRoads.set(road.id, UNLOCKED);
         }
     }
 
@@ -157,15 +351,52 @@ public class MapGraph implements IndexedGraph<Junction> {
      * @param patrol  The patrol who died
      */
     public void removeDead(PatrolMovementSprite patrol){
-        Iterator iter = lockedRoads.entrySet().iterator();
-        while (iter.hasNext()){
-            Map.Entry entry = (Map.Entry) iter.next();
-            if (patrol.equals(entry.getValue())){
-                iter.remove();
+        int patrolId = patrol.getPatrolId();
+        for (int i = 0; i < lockedRoads.size; i++) {
+            if (lockedRoads.get(i) == patrolId) {
+                lockedRoads.set(i, UNLOCKED);
             }
         }
+        reservations.release(patrol.getReservations(), patrolId);
+    }
+
+    /** Plans a route for a patrol around the roads other patrols have reserved,
+     * reserving the roads it will travel on over the next window of time. Any
+     * roads it reserved before are released first
+     *
+     * @param patrol        The patrol to plan a route for
+     * @param startJunction The junction the patrol is at
+     * @param goalJunction  The junction the patrol wants to reach
+     * @param path          Has the junctions on the route added, starting with startJunction
+     * @param departures    Has the frame the patrol should leave for each junction in
+     *                      path added - for junctions past the window this is the
+     *                      frame to plan the route again at
+     * @return              The number of junctions at the start of path the patrol has
+     *                      reserved the roads to, or 0 if the goal can't be reached
+     */
+    public int planRoute(PatrolMovementSprite patrol, Junction startJunction, Junction goalJunction,
+                         Queue<Junction> path, IntArray departures) {
+        return planner.plan(patrol.getPatrolId(), patrol.getSpeed(), startJunction, goalJunction,
+                path, departures, patrol.getReservations());
+    }
+
+    /** Builds the route and road id tables now if they need it, so they can be
+     * read from other threads without any of them building them
+     */
+    void buildTables() {
+        buildRoutes();
+        buildRoadIds();
     }
 
+    /** Moves the reservations on to the next frame. Should be called once a
+     * frame before the patrols move
+     */
+    public void advanceTime() { reservations.advanceTime(); }
+
+    public int getTime() { return reservations.getTime(); }
+
+    public ReservationTable getReservations() { return this.reservations; }
+
     public Array<Junction> getJunctions(){ return this.junctions; }
 
     @Override
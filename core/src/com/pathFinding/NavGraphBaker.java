@@ -0,0 +1,509 @@
+package com.pathFinding;
+
+/* =================================================================
+                   New class added for assessment 3
+   ===============================================================*/
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.StreamUtils;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+
+import static com.misc.Constants.TILE_DIMS;
+
+/** This class builds the MapGraph patrols travel on from the tiles of the
+ * map marked with a "road" property, so no junctions have to be placed by hand.
+ *
+ * The road tiles are thinned down to a skeleton one tile wide. Places where
+ * the skeleton branches or ends become junctions, and the skeleton between
+ * them is traced and straightened into roads, with a junction added at each
+ * bend so patrols following the roads stay on them.
+ *
+ * Baking takes a while, so the graph is saved to a small binary cache keyed
+ * by a hash of the map file and its road tiles, and loaded from there when
+ * the map hasn't changed.
+ */
+
+public class NavGraphBaker {
+
+    // Changed whenever baking changes so old caches are baked again
+    private static final int VERSION = 2;
+    private static final int MAGIC = 0x4b4e4156;
+
+    // Dead ends shorter than this are left over from thinning wide roads
+    private static final int MIN_SPUR_LENGTH = 4;
+    // Junctions joined by roads shorter than this are merged into one
+    private static final int MIN_ROAD_LENGTH = 3;
+    // How far in tiles a road can stray from the skeleton before a bend is added
+    private static final float BEND_TOLERANCE = 1.5f;
+
+    private static final int[] NEIGHBOUR_COLUMNS = {0, 1, 1, 1, 0, -1, -1, -1};
+    private static final int[] NEIGHBOUR_ROWS = {1, 1, 0, -1, -1, -1, 0, 1};
+
+    private final int width, height;
+    private final boolean[] skeleton;
+
+    // The junction cluster each skeleton tile belongs to, or -1 if it's part of a road
+    private final int[] clusters;
+    private final boolean[] traced;
+    private int clusterCount;
+
+    // Each traced road as the two clusters at its ends and the tiles along it
+    private final IntArray roadEnds;
+    private final Array<IntArray> roadTiles;
+
+    /** Loads the graph for a map from the cache, baking it again and updating
+     * the cache if the map has changed since it was saved
+     *
+     * @param roadLayer The layer of the map containing the road tiles
+     * @param mapFile   The map file, hashed to check the cache is up to date
+     * @param cacheFile The file the baked graph is cached in
+     * @return          The graph of the roads on the map
+     */
+    public static MapGraph load(TiledMapTileLayer roadLayer, FileHandle mapFile, FileHandle cacheFile) {
+        boolean[] roads = findRoads(roadLayer);
+        long hash = hash(mapFile.readBytes(), roads);
+
+        MapGraph cached = read(cacheFile, hash);
+        if (cached != null) return cached;
+
+        MapGraph mapGraph = bake(roads, roadLayer.getWidth(), roadLayer.getHeight());
+        try {
+            write(mapGraph, hash, cacheFile);
+        } catch (GdxRuntimeException | IOException e) {
+            // The graph can still be used if it can't be cached, it will just be baked again
+        }
+        return mapGraph;
+    }
+
+    /** Finds which tiles of a layer are roads
+     *
+     * @param roadLayer The layer containing the road tiles
+     * @return          Whether each tile is a road, indexed by row * width + column
+     */
+    public static boolean[] findRoads(TiledMapTileLayer roadLayer) {
+        int width = roadLayer.getWidth();
+        boolean[] roads = new boolean[width * roadLayer.getHeight()];
+        for (int row = 0; row < roadLayer.getHeight(); row++) {
+            for (int column = 0; column < width; column++) {
+                TiledMapTileLayer.Cell cell = roadLayer.getCell(column, row);
+                if (cell != null && cell.getTile() != null) {
+                    roads[row * width + column] = cell.getTile().getProperties().get("road", false, Boolean.class);
+                }
+            }
+        }
+        return roads;
+    }
+
+    /** Hashes a map file along with the road tiles found in it, so the cache
+     * is baked again if either the map or the tiles marked as roads change
+     *
+     * @param mapBytes  The contents of the map file
+     * @param roads     Whether each tile is a road
+     * @return          The hash to key the cache by
+     */
+    public static long hash(byte[] mapBytes, boolean[] roads) {
+        CRC32 crc = new CRC32();
+        crc.update(mapBytes);
+        byte[] roadBytes = new byte[(roads.length + 7) / 8];
+        for (int i = 0; i < roads.length; i++) {
+            if (roads[i]) roadBytes[i >> 3] |= 1 << (i & 7);
+        }
+        crc.update(roadBytes);
+        return ((long) VERSION << 32) | crc.getValue();
+    }
+
+    /** Bakes a graph from a grid of road tiles
+     *
+     * @param roads     Whether each tile is a road, indexed by row * width + column
+     * @param width     The number of columns of tiles
+     * @param height    The number of rows of tiles
+     * @return          The graph of the roads
+     */
+    public static MapGraph bake(boolean[] roads, int width, int height) {
+        return new NavGraphBaker(roads, width, height).buildGraph();
+    }
+
+    private NavGraphBaker(boolean[] roads, int width, int height) {
+        this.width = width;
+        this.height = height;
+        this.skeleton = roads.clone();
+        this.clusters = new int[width * height];
+        this.traced = new boolean[width * height];
+        this.roadEnds = new IntArray();
+        this.roadTiles = new Array<>();
+
+        thin();
+        pruneSpurs();
+        keepLargestNetwork();
+        findClusters();
+        traceRoads();
+    }
+
+    private boolean isSkeleton(int column, int row) {
+        return column >= 0 && row >= 0 && column < width && row < height && skeleton[row * width + column];
+    }
+
+    private boolean isNeighbour(int index, int direction) {
+        return isSkeleton(index % width + NEIGHBOUR_COLUMNS[direction], index / width + NEIGHBOUR_ROWS[direction]);
+    }
+
+    private int neighbour(int index, int direction) {
+        return index + NEIGHBOUR_ROWS[direction] * width + NEIGHBOUR_COLUMNS[direction];
+    }
+
+    private int countNeighbours(int index) {
+        int count = 0;
+        for (int direction = 0; direction < 8; direction++) {
+            if (isNeighbour(index, direction)) count++;
+        }
+        return count;
+    }
+
+    /** Counts the separate runs of skeleton around a tile - 1 at the end of a
+     * road, 2 along a road and 3 or more where roads branch. Unlike counting
+     * neighbours, this isn't fooled by diagonal steps in the skeleton
+     */
+    private int countBranches(int index) {
+        int count = 0;
+        for (int direction = 0; direction < 8; direction++) {
+            if (!isNeighbour(index, direction) && isNeighbour(index, (direction + 1) % 8)) count++;
+        }
+        return count;
+    }
+
+    /** Removes every part of the skeleton not connected to the largest network
+     * of roads, so every junction can be reached from every other. Smaller
+     * groups are decoration or roads patrols can't get to
+     */
+    private void keepLargestNetwork() {
+        int[] groups = new int[skeleton.length];
+        Arrays.fill(groups, -1);
+        IntArray group = new IntArray();
+        int largest = -1, largestSize = 0, groupCount = 0;
+        for (int start = 0; start < skeleton.length; start++) {
+            if (!skeleton[start] || groups[start] != -1) continue;
+            group.clear();
+            group.add(start);
+            groups[start] = groupCount;
+            for (int i = 0; i < group.size; i++) {
+                int index = group.get(i);
+                for (int direction = 0; direction < 8; direction++) {
+                    if (!isNeighbour(index, direction)) continue;
+                    int next = neighbour(index, direction);
+                    if (groups[next] == -1) {
+                        groups[next] = groupCount;
+                        group.add(next);
+                    }
+                }
+            }
+            if (group.size > largestSize) {
+                largest = groupCount;
+                largestSize = group.size;
+            }
+            groupCount++;
+        }
+        for (int index = 0; index < skeleton.length; index++) {
+            if (groups[index] != largest) skeleton[index] = false;
+        }
+    }
+
+    /** Thins the road tiles to a skeleton one tile wide using the Zhang-Suen algorithm */
+    private void thin() {
+        IntArray removed = new IntArray();
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (int pass = 0; pass < 2; pass++) {
+                removed.clear();
+                for (int index = 0; index < skeleton.length; index++) {
+                    if (!skeleton[index]) continue;
+                    int neighbours = countNeighbours(index);
+                    if (neighbours < 2 || neighbours > 6 || countBranches(index) != 1) continue;
+                    boolean up = isNeighbour(index, 0), right = isNeighbour(index, 2);
+                    boolean down = isNeighbour(index, 4), left = isNeighbour(index, 6);
+                    if (pass == 0 ? (up && right && down) || (right && down && left)
+                                  : (up && right && left) || (up && down && left)) continue;
+                    removed.add(index);
+                }
+                for (int i = 0; i < removed.size; i++) skeleton[removed.get(i)] = false;
+                changed |= removed.size > 0;
+            }
+        }
+    }
+
+    /** Removes short dead ends left on the skeleton where wide roads were thinned */
+    private void pruneSpurs() {
+        IntArray spur = new IntArray();
+        for (int start = 0; start < skeleton.length; start++) {
+            if (!skeleton[start] || countBranches(start) != 1) continue;
+            spur.clear();
+            int index = start;
+            int previous = -1;
+            while (spur.size < MIN_SPUR_LENGTH) {
+                spur.add(index);
+                int next = -1;
+                for (int direction = 0; direction < 8 && next == -1; direction++) {
+                    int candidate = neighbour(index, direction);
+                    if (isNeighbour(index, direction) && candidate != previous && !spur.contains(candidate)) next = candidate;
+                }
+                if (next == -1) break;
+                if (countBranches(next) > 2) {
+                    // Reached a branch before the spur got long enough to be a road
+                    for (int i = 0; i < spur.size; i++) skeleton[spur.get(i)] = false;
+                    break;
+                }
+                previous = index;
+                index = next;
+            }
+        }
+    }
+
+    /** Groups the skeleton tiles where roads end or branch into clusters, each
+     * of which becomes a junction
+     */
+    private void findClusters() {
+        Arrays.fill(clusters, -1);
+        IntArray group = new IntArray();
+        for (int start = 0; start < skeleton.length; start++) {
+            if (!skeleton[start] || clusters[start] != -1 || countBranches(start) == 2) continue;
+            int cluster = clusterCount++;
+            group.clear();
+            group.add(start);
+            clusters[start] = cluster;
+            for (int i = 0; i < group.size; i++) {
+                int index = group.get(i);
+                for (int direction = 0; direction < 8; direction++) {
+                    if (!isNeighbour(index, direction)) continue;
+                    int next = neighbour(index, direction);
+                    if (clusters[next] == -1 && countBranches(next) != 2) {
+                        clusters[next] = cluster;
+                        group.add(next);
+                    }
+                }
+            }
+        }
+    }
+
+    /** Follows the skeleton out of every cluster to the cluster at the other
+     * end of each road. Loops with no cluster on them are given one first
+     */
+    private void traceRoads() {
+        for (int index = 0; index < skeleton.length; index++) {
+            if (skeleton[index] && clusters[index] != -1) traceFrom(index);
+        }
+        for (int index = 0; index < skeleton.length; index++) {
+            if (skeleton[index] && clusters[index] == -1 && !traced[index]) {
+                clusters[index] = clusterCount++;
+                traceFrom(index);
+            }
+        }
+    }
+
+    private void traceFrom(int start) {
+        int cluster = clusters[start];
+        for (int direction = 0; direction < 8; direction++) {
+            if (!isNeighbour(start, direction)) continue;
+            int first = neighbour(start, direction);
+            if (clusters[first] != -1 || traced[first]) continue;
+
+            IntArray tiles = new IntArray();
+            tiles.add(start);
+            int index = first;
+            int end = -1;
+            while (end == -1) {
+                traced[index] = true;
+                tiles.add(index);
+                int next = -1;
+                for (int step = 0; step < 8; step++) {
+                    if (!isNeighbour(index, step)) continue;
+                    int candidate = neighbour(index, step);
+                    if (clusters[candidate] != -1 && (clusters[candidate] != cluster || tiles.size > 2)) {
+                        end = candidate;
+                        break;
+                    }
+                    // Prefer moving straight over cutting a corner diagonally
+                    if (clusters[candidate] == -1 && !traced[candidate] && (next == -1 || step % 2 == 0)) next = candidate;
+                }
+                if (end == -1) {
+                    if (next == -1) break;
+                    index = next;
+                }
+            }
+            if (end == -1) continue;
+            tiles.add(end);
+            roadEnds.add(cluster, clusters[end]);
+            roadTiles.add(tiles);
+        }
+    }
+
+    /** Merges clusters joined by very short roads, then straightens each road
+     * into a chain of junctions and connects them in both directions
+     */
+    private MapGraph buildGraph() {
+        int[] parents = new int[clusterCount];
+        for (int i = 0; i < clusterCount; i++) parents[i] = i;
+        for (int road = 0; road < roadTiles.size; road++) {
+            if (roadTiles.get(road).size <= MIN_ROAD_LENGTH) {
+                parents[find(parents, roadEnds.get(road * 2))] = find(parents, roadEnds.get(road * 2 + 1));
+            }
+        }
+
+        // Each junction is at the middle of the tiles in its clusters
+        float[] sums = new float[clusterCount * 3];
+        for (int index = 0; index < skeleton.length; index++) {
+            if (!skeleton[index] || clusters[index] == -1) continue;
+            int root = find(parents, clusters[index]);
+            sums[root * 3] += index % width;
+            sums[root * 3 + 1] += index / width;
+            sums[root * 3 + 2]++;
+        }
+
+        MapGraph mapGraph = new MapGraph();
+        Junction[] junctions = new Junction[clusterCount];
+        for (int cluster = 0; cluster < clusterCount; cluster++) {
+            if (find(parents, cluster) != cluster) continue;
+            junctions[cluster] = addJunction(mapGraph, sums[cluster * 3] / sums[cluster * 3 + 2],
+                                                       sums[cluster * 3 + 1] / sums[cluster * 3 + 2]);
+        }
+
+        IntArray bends = new IntArray();
+        for (int road = 0; road < roadTiles.size; road++) {
+            Junction from = junctions[find(parents, roadEnds.get(road * 2))];
+            Junction to = junctions[find(parents, roadEnds.get(road * 2 + 1))];
+            IntArray tiles = roadTiles.get(road);
+            if (from == to && tiles.size <= MIN_ROAD_LENGTH) continue;
+
+            bends.clear();
+            findBends(tiles, 0, tiles.size - 1, bends);
+            bends.sort();
+            Junction previous = from;
+            for (int i = 0; i < bends.size; i++) {
+                int tile = tiles.get(bends.get(i));
+                Junction bend = addJunction(mapGraph, tile % width, tile / width);
+                connect(mapGraph, previous, bend);
+                previous = bend;
+            }
+            connect(mapGraph, previous, to);
+        }
+        return mapGraph;
+    }
+
+    private static int find(int[] parents, int cluster) {
+        while (parents[cluster] != cluster) {
+            parents[cluster] = parents[parents[cluster]];
+            cluster = parents[cluster];
+        }
+        return cluster;
+    }
+
+    /** Finds the tiles a road bends at using the Douglas-Peucker algorithm -
+     * the tile furthest from the straight line between the ends is a bend if it
+     * is too far away, and each side of it is checked in the same way
+     */
+    private void findBends(IntArray tiles, int first, int last, IntArray bends) {
+        if (last - first < 2) return;
+        float x1 = tiles.get(first) % width, y1 = tiles.get(first) / width;
+        float x2 = tiles.get(last) % width, y2 = tiles.get(last) / width;
+        float length = (float) Math.sqrt((x2 - x1) * (x2 - x1) + (y2 - y1) * (y2 - y1));
+
+        int furthest = -1;
+        float furthestDistance = BEND_TOLERANCE;
+        for (int i = first + 1; i < last; i++) {
+            float x = tiles.get(i) % width, y = tiles.get(i) / width;
+            float distance = length == 0
+                    ? (float) Math.sqrt((x - x1) * (x - x1) + (y - y1) * (y - y1))
+                    : Math.abs((x2 - x1) * (y1 - y) - (x1 - x) * (y2 - y1)) / length;
+            if (distance > furthestDistance) {
+                furthest = i;
+                furthestDistance = distance;
+            }
+        }
+        if (furthest == -1) return;
+        bends.add(furthest);
+        findBends(tiles, first, furthest, bends);
+        findBends(tiles, furthest, last, bends);
+    }
+
+    private static Junction addJunction(MapGraph mapGraph, float column, float row) {
+        Junction junction = new Junction((column + 0.5f) * TILE_DIMS, (row + 0.5f) * TILE_DIMS,
+                "baked junction " + mapGraph.getNodeCount());
+        mapGraph.addJunction(junction);
+        return junction;
+    }
+
+    private static void connect(MapGraph mapGraph, Junction from, Junction to) {
+        if (from == to || mapGraph.getRoad(from, to) != null) return;
+        mapGraph.connectJunctions(from, to);
+        mapGraph.connectJunctions(to, from);
+    }
+
+    /** Saves a graph to a cache file
+     *
+     * @param mapGraph  The graph to save
+     * @param hash      The hash of the map the graph was baked from
+     * @param cacheFile The file to save to
+     * @throws IOException if the file can't be written
+     */
+    public static void write(MapGraph mapGraph, long hash, FileHandle cacheFile) throws IOException {
+        DataOutputStream out = new DataOutputStream(cacheFile.write(false, 4096));
+        try {
+            out.writeInt(MAGIC);
+            out.writeLong(hash);
+            out.writeInt(mapGraph.junctions.size);
+            for (Junction junction : mapGraph.junctions) {
+                out.writeFloat(junction.x);
+                out.writeFloat(junction.y);
+            }
+            out.writeInt(mapGraph.roads.size);
+            for (Road road : mapGraph.roads) {
+                out.writeInt(road.fromJunction.index);
+                out.writeInt(road.toJunction.index);
+            }
+        } finally {
+            StreamUtils.closeQuietly(out);
+        }
+    }
+
+    /** Loads a graph from a cache file, if it was saved for the same map
+     *
+     * @param cacheFile The file to load from
+     * @param hash      The hash of the map the graph is wanted for
+     * @return          The graph, or null if there is no cache or it was saved for
+     *                  a different map
+     */
+    public static MapGraph read(FileHandle cacheFile, long hash) {
+        if (!cacheFile.exists()) return null;
+        DataInputStream in = new DataInputStream(cacheFile.read(4096));
+        try {
+            if (in.readInt() != MAGIC || in.readLong() != hash) return null;
+            MapGraph mapGraph = new MapGraph();
+            int junctionCount = in.readInt();
+            Junction[] junctions = new Junction[junctionCount];
+            for (int i = 0; i < junctionCount; i++) {
+                float x = in.readFloat();
+                float y = in.readFloat();
+                junctions[i] = new Junction(x, y, "baked junction " + i);
+                mapGraph.addJunction(junctions[i]);
+            }
+            int roadCount = in.readInt();
+            for (int i = 0; i < roadCount; i++) {
+                mapGraph.connectJunctions(junctions[in.readInt()], junctions[in.readInt()]);
+            }
+            return mapGraph;
+        } catch (IOException | ArrayIndexOutOfBoundsException e) {
+            // A damaged cache is baked again
+            return null;
+        } finally {
+            StreamUtils.closeQuietly(in);
+        }
+    }
+}
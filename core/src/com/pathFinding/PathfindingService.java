@@ -0,0 +1,261 @@
+package com.pathFinding;
+
+/* =================================================================
+                   New class added for assessment 3
+   ===============================================================*/
+
+import com.badlogic.gdx.ai.pfa.DefaultGraphPath;
+import com.badlogic.gdx.ai.pfa.GraphPath;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.Queue;
+import com.sprites.PatrolMovementSprite;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static com.misc.Constants.PATHFINDING_DELIVERY_DELAY;
+import static com.misc.Constants.RESERVATION_MAX_NODES;
+import static com.misc.Constants.RESERVATION_SLOTS;
+import static com.misc.Constants.RESERVATION_SLOT_FRAMES;
+import static com.misc.Constants.RESERVATION_WINDOW;
+
+/** This class plans patrol routes on background threads, so however many
+ * patrols need a new route in the same frame they are planned while the
+ * frame is drawn rather than holding up the render thread.
+ *
+ * Patrols request a route and idle at their junction until it is delivered.
+ * At the end of each tick the requests made during it are handed to a fixed
+ * number of worker threads, along with a copy of the reservation table taken
+ * then, so the workers never read anything the render thread changes. Each
+ * worker plans on its own copy of that table with its own CooperativePlanner.
+ *
+ * Finished routes are delivered on the render thread at the start of the tick
+ * PATHFINDING_DELIVERY_DELAY ticks after they were handed over. The routes were
+ * planned for the tick the copy was taken in, so they are moved later by however
+ * many ticks have passed, and the roads they reserve are checked against the
+ * real table - if another patrol has taken one of them in the meantime the
+ * route is planned again.
+ *
+ * Each request is delivered in that tick, in the order it was made, waiting
+ * for the workers if they haven't finished it, and no more are handed over
+ * than the workers have room for. Which tick a patrol gets its route in never
+ * depends on how quickly the threads ran, so a world ticked with the same input
+ * always plays out the same way. The delay is as many ticks as a frame can catch
+ * up, so a route is never waited for in the frame it was handed over in - the
+ * catch-up ticks of a slow frame only ever wait for routes the workers have had
+ * at least a whole frame to plan.
+ *
+ * The graph's junctions and roads must not change while the service is in use.
+ */
+
+public class PathfindingService {
+
+    /** A route a patrol has asked for, and the result once it has been planned */
+    public static class Request {
+
+        private final PatrolMovementSprite patrol;
+        private final Junction start;
+        private final Junction goal;
+
+        // The roads the patrol had reserved when the request was handed to a worker,
+        // the copy of the reservation table it was planned against and the frame
+        // the copy was taken in
+        private final IntArray previousReservations = new IntArray();
+        private ReservationTable snapshot;
+        private int time;
+        // Released by the worker once the route has been planned
+        private final Semaphore planned = new Semaphore(0);
+
+        // The planned route, the frame to leave each junction in it, the roads
+        // reserved along it and how many junctions those roads lead to
+        private final Queue<Junction> path = new Queue<>();
+        private final IntArray departures = new IntArray();
+        private final IntArray reservations = new IntArray();
+        private int plannedSteps;
+
+        Request(PatrolMovementSprite patrol, Junction start, Junction goal) {
+            this.patrol = patrol;
+            this.start = start;
+            this.goal = goal;
+        }
+    }
+
+    /** The planner and reservation table one worker thread plans with */
+    private class Worker {
+        final ReservationTable reservations = new ReservationTable(RESERVATION_SLOT_FRAMES, RESERVATION_SLOTS);
+        final CooperativePlanner planner =
+                new CooperativePlanner(mapGraph, reservations, RESERVATION_WINDOW, RESERVATION_SLOT_FRAMES, RESERVATION_MAX_NODES);
+        final GraphPath<Junction> shortestPath = new DefaultGraphPath<>();
+    }
+
+    private final MapGraph mapGraph;
+    private final ThreadPoolExecutor executor;
+    private final int queueSize;
+
+    // Each worker thread's planner, made the first time the thread plans a route
+    private final ThreadLocal<Worker> workers;
+
+    // Requests made this tick, or that the workers had no room for yet, and
+    // the requests handed to the workers that haven't been delivered yet in
+    // the order they were handed over - only used on the render thread
+    private final Array<Request> pending;
+    private final Array<Request> submitted;
+
+    /** Constructs a pathfinding service and starts its worker threads
+     *
+     * @param mapGraph      The graph to plan routes on
+     * @param threads       The number of worker threads
+     * @param queueSize     The most requests the workers are planning at once - any
+     *                      more are held back until earlier ones are delivered
+     */
+    public PathfindingService(MapGraph mapGraph, int threads, int queueSize) {
+        this.mapGraph = mapGraph;
+        this.queueSize = queueSize;
+        this.pending = new Array<>();
+        this.submitted = new Array<>();
+        this.workers = new ThreadLocal<Worker>() {
+            @Override
+            protected Worker initialValue() {
+                return new Worker();
+            }
+        };
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<Runnable>(queueSize), new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, "Pathfinding");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+    }
+
+    /** Asks for a route for a patrol. It is planned after the end of the tick
+     * and delivered to the patrol's routeFound PATHFINDING_DELIVERY_DELAY ticks
+     * after the one it is handed to the workers in, as long as this is still the
+     * patrol's route request then
+     *
+     * @param patrol    The patrol to plan the route for
+     * @param start     The junction the patrol is waiting at
+     * @param goal      The junction the patrol wants to reach
+     * @return          The request, which the patrol should keep until the route
+     *                  is delivered
+     */
+    public Request request(PatrolMovementSprite patrol, Junction start, Junction goal) {
+        Request request = new Request(patrol, start, goal);
+        pending.add(request);
+        return request;
+    }
+
+    /** Hands the requests made this tick to the workers. Should be called once
+     * a tick after all of the patrols have moved
+     */
+    public void submitRequests() {
+        if (pending.size == 0) return;
+        mapGraph.buildTables();
+        ReservationTable snapshot = new ReservationTable(mapGraph.getReservations());
+        int handled = 0;
+        // The workers are never planning more than a full queue, so there is
+        // always room for the requests handed over and the rest wait for a later tick
+        for (; handled < pending.size && submitted.size < queueSize; handled++) {
+            final Request request = pending.get(handled);
+            if (request.patrol.getRouteRequest() != request) continue;
+            request.snapshot = snapshot;
+            request.time = snapshot.getTime();
+            request.previousReservations.clear();
+            request.previousReservations.addAll(request.patrol.getReservations());
+            submitted.add(request);
+            executor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        plan(request);
+                    } finally {
+                        request.planned.release();
+                    }
+                }
+            });
+        }
+        if (handled > 0) pending.removeRange(0, handled - 1);
+    }
+
+    /** Plans a request on a worker thread */
+    private void plan(Request request) {
+        Worker worker = workers.get();
+        worker.reservations.copyFrom(request.snapshot);
+        request.snapshot = null;
+        request.path.clear();
+        request.departures.clear();
+        request.reservations.clear();
+        request.reservations.addAll(request.previousReservations);
+        request.plannedSteps = worker.planner.plan(request.patrol.getPatrolId(), request.patrol.getSpeed(),
+                request.start, request.goal, request.path, request.departures, request.reservations);
+        if (request.plannedSteps == 0) {
+            // The goal can't be reached around the other patrols, so follow the shortest path
+            request.path.clear();
+            request.departures.clear();
+            mapGraph.findPath(request.start, request.goal, worker.shortestPath);
+            for (int i = 0; i < worker.shortestPath.getCount(); i++) {
+                request.path.addLast(worker.shortestPath.get(i));
+            }
+        }
+    }
+
+    /** Gives the routes handed to the workers PATHFINDING_DELIVERY_DELAY ticks
+     * ago or more to the patrols that asked for them, waiting for any of those
+     * the workers haven't finished. Routes handed over since then are left to
+     * be planned however long they take. Should be called once a tick, after
+     * the reservations have moved on to the tick and before any patrols move
+     */
+    public void deliverResults() {
+        ReservationTable live = mapGraph.getReservations();
+        // Requests are handed over in order, so the ones due are at the front
+        int due = 0;
+        while (due < submitted.size && live.getTime() - submitted.get(due).time >= PATHFINDING_DELIVERY_DELAY) {
+            due++;
+        }
+        if (due == 0) return;
+        for (int r = 0; r < due; r++) {
+            Request request = submitted.get(r);
+            request.planned.acquireUninterruptibly();
+            PatrolMovementSprite patrol = request.patrol;
+            if (patrol.getRouteRequest() != request) continue;
+
+            // The route was planned for an earlier tick, so start it now instead
+            int delay = live.getTime() - request.time;
+            int patrolId = patrol.getPatrolId();
+            boolean free = true;
+            for (int i = 0; i < request.reservations.size && free; i += 3) {
+                free = live.isFree(request.reservations.get(i), request.reservations.get(i + 1) + delay,
+                        request.reservations.get(i + 2) + delay, patrolId);
+            }
+            if (!free) {
+                // Another patrol took one of the roads since the copy was made
+                pending.add(request);
+                continue;
+            }
+
+            live.release(patrol.getReservations(), patrolId);
+            for (int i = 0; i < request.reservations.size; i += 3) {
+                live.reserve(request.reservations.get(i), request.reservations.get(i + 1) + delay,
+                        request.reservations.get(i + 2) + delay, patrolId, patrol.getReservations());
+            }
+            for (int i = 0; i < request.departures.size; i++) {
+                request.departures.incr(i, delay);
+            }
+            patrol.routeFound(request.path, request.departures, request.plannedSteps);
+        }
+        submitted.removeRange(0, due - 1);
+    }
+
+    /** Stops the worker threads, dropping any routes still being planned */
+    public void dispose() {
+        executor.shutdownNow();
+        pending.clear();
+        submitted.clear();
+    }
+}
@@ -0,0 +1,184 @@
+package com.pathFinding;
+
+/* =================================================================
+                   New class added for assessment 3
+   ===============================================================*/
+
+import com.badlogic.gdx.utils.IntArray;
+
+import java.util.Arrays;
+
+/** This class keeps track of which patrol has reserved each road for each
+ * window of time, so patrols can plan their routes around each other.
+ *
+ * Time is counted in frames and split into slots of a fixed number of frames.
+ * Reservations are kept for a fixed number of slots ahead in a ring, indexed
+ * by edge * slot count + slot, so reserving and checking a road never
+ * allocates. Each entry remembers which slot it was made for, so entries left
+ * over from earlier laps of the ring are treated as free without clearing them.
+ *
+ * Roads are reserved by edge, which both directions of a road share, so
+ * patrols can't plan to meet head on.
+ */
+
+public class ReservationTable {
+
+    // Value used for a slot that no patrol has reserved
+    public static final int FREE = -1;
+
+    private final int slotFrames;
+    private final int slotCount;
+
+    // The patrol id that reserved each slot of each edge, and the absolute slot
+    // number that reservation was made for
+    private int[] owners;
+    private int[] slots;
+    private int edgeCount;
+
+    // The current frame
+    private int time;
+
+    /** Constructs an empty reservation table
+     *
+     * @param slotFrames    the number of frames in each slot
+     * @param slotCount     the number of slots ahead of the current time that
+     *                      reservations are kept for
+     */
+    public ReservationTable(int slotFrames, int slotCount) {
+        this.slotFrames = slotFrames;
+        this.slotCount = slotCount;
+        this.owners = new int[0];
+        this.slots = new int[0];
+    }
+
+    /** Constructs a copy of a reservation table, as it is now, that can be
+     * read on another thread while the original carries on changing
+     *
+     * @param other the table to copy
+     */
+    public ReservationTable(ReservationTable other) {
+        this(other.slotFrames, other.slotCount);
+        copyFrom(other);
+    }
+
+    /** Makes this table the same as another, reusing its arrays if they are
+     * big enough
+     *
+     * @param other the table to copy, with the same slot size and count
+     */
+    void copyFrom(ReservationTable other) {
+        if (owners.length != other.owners.length) {
+            owners = new int[other.owners.length];
+            slots = new int[other.slots.length];
+        }
+        System.arraycopy(other.owners, 0, owners, 0, owners.length);
+        System.arraycopy(other.slots, 0, slots, 0, slots.length);
+        edgeCount = other.edgeCount;
+        time = other.time;
+    }
+
+    /** Makes room for reservations on more edges
+     *
+     * @param count the number of edges that can be reserved
+     */
+    void setEdgeCount(int count) {
+        if (count <= edgeCount) return;
+        int capacity = owners.length / slotCount;
+        if (count > capacity) {
+            int newCapacity = Math.max(count, capacity * 2);
+            owners = Arrays.copyOf(owners, newCapacity * slotCount);
+            slots = Arrays.copyOf(slots, newCapacity * slotCount);
+            Arrays.fill(slots, capacity * slotCount, slots.length, -1);
+        }
+        edgeCount = count;
+    }
+
+    /** Moves the table on to the next frame. Should be called once a frame
+     * before any patrols move
+     */
+    public void advanceTime() {
+        time++;
+    }
+
+    public int getTime() {
+        return time;
+    }
+
+    /** Gets the last frame that reservations can currently be made for
+     *
+     * @return  the last frame within the slots kept ahead of the current time
+     */
+    public int getHorizon() {
+        return (time / slotFrames + slotCount) * slotFrames - 1;
+    }
+
+    /** Checks whether an edge is free for a patrol between two frames
+     *
+     * @param edge      the edge to check
+     * @param from      the first frame the patrol would be on the edge
+     * @param to        the last frame the patrol would be on the edge
+     * @param patrolId  the patrol wanting the edge - its own reservations don't count
+     * @return <code> true </code> if no other patrol has reserved the edge during that
+     *                              time, ignoring any time beyond the horizon
+     *         <code> false </code> if another patrol has
+     */
+    public boolean isFree(int edge, int from, int to, int patrolId) {
+        int last = Math.min(to, getHorizon()) / slotFrames;
+        for (int slot = Math.max(from, time) / slotFrames; slot <= last; slot++) {
+            int index = edge * slotCount + slot % slotCount;
+            if (slots[index] == slot && owners[index] != patrolId) return false;
+        }
+        return true;
+    }
+
+    /** Reserves an edge for a patrol between two frames, skipping any time
+     * beyond the horizon
+     *
+     * @param edge      the edge to reserve
+     * @param from      the first frame the patrol will be on the edge
+     * @param to        the last frame the patrol will be on the edge
+     * @param patrolId  the patrol reserving the edge
+     * @param record    has the edge, from and to added so the reservation can be
+     *                  released later
+     */
+    public void reserve(int edge, int from, int to, int patrolId, IntArray record) {
+        int last = Math.min(to, getHorizon()) / slotFrames;
+        for (int slot = Math.max(from, time) / slotFrames; slot <= last; slot++) {
+            int index = edge * slotCount + slot % slotCount;
+            slots[index] = slot;
+            owners[index] = patrolId;
+        }
+        record.add(edge, from, to);
+    }
+
+    /** Releases every reservation a patrol made that is still in the table
+     *
+     * @param record    the edge, from and to of each reservation made - cleared
+     *                  once they are released
+     * @param patrolId  the patrol that made the reservations
+     */
+    public void release(IntArray record, int patrolId) {
+        for (int i = 0; i < record.size; i += 3) {
+            int edge = record.get(i);
+            int last = Math.min(record.get(i + 2), getHorizon()) / slotFrames;
+            for (int slot = Math.max(record.get(i + 1), time) / slotFrames; slot <= last; slot++) {
+                int index = edge * slotCount + slot % slotCount;
+                if (slots[index] == slot && owners[index] == patrolId) slots[index] = -1;
+            }
+        }
+        record.clear();
+    }
+
+    /** Gets the patrol that has reserved an edge at a frame
+     *
+     * @param edge  the edge to check
+     * @param frame the frame to check
+     * @return      the id of the patrol, or FREE if it isn't reserved
+     */
+    public int getOwner(int edge, int frame) {
+        if (frame < time || frame > getHorizon()) return FREE;
+        int slot = frame / slotFrames;
+        int index = edge * slotCount + slot % slotCount;
+        return slots[index] == slot ? owners[index] : FREE;
+    }
+}
@@ -21,6 +21,14 @@ public class Road implements Connection<Junction> {
     // and toJunction
     final float cost;
 
+    // Dense id given by the MapGraph the road is connected in, used to index
+    // its lock - NO_ROAD if the road isn't part of a graph
+    int id = MapGraph.NO_ROAD;
+
+    // Id shared with the road going the other way between the same junctions,
+    // used to reserve both directions at once
+    int edge = MapGraph.NO_ROAD;
+
     /** Constructs a road
      *
      * @param fromJunction  One end of the road - the end that a patrol will start at
@@ -47,4 +55,12 @@ public class Road implements Connection<Junction> {
         return this.toJunction;
     }
 
+    public int getId() {
+        return this.id;
+    }
+
+    public int getEdge() {
+        return this.edge;
+    }
+
 }
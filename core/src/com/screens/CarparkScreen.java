@@ -6,7 +6,6 @@ package com.screens;
 
 import com.badlogic.gdx.*;
 import com.badlogic.gdx.graphics.*;
-import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.scenes.scene2d.*;
 import com.badlogic.gdx.scenes.scene2d.ui.*;
@@ -22,6 +21,8 @@ import com.entities.Firetruck;
 import com.misc.Constants;
 import com.Kroy;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 
 /**
  * This screen shows the player the "car park"
@@ -64,6 +65,17 @@ public class CarparkScreen implements Screen {
     private final ArrayList<Label> activeStatsLabel;
     private final ArrayList<Label> activeStatsValue;
 
+    // the values the labels were last set to, so they are only set again once they change
+    private Firetruck shownFiretruck;
+    private final float[] shownStats;
+    private int shownTime;
+    private int shownScore;
+
+    // textures shown, acquired once by file name and released when disposed
+    private final HashMap<String, Texture> textures;
+    // the picture of each type of truck, shared by the buttons showing it
+    private final HashMap<String, Drawable> truckDrawables;
+
     /**
      * Constructor for car park screen
      *
@@ -91,9 +103,11 @@ public class CarparkScreen implements Screen {
 
         // create skin used by buttons
         skin = game.getSkin();
+        textures = new HashMap<>();
+        truckDrawables = new HashMap<>();
 
         // create background image
-        Image background = new Image(new Texture(Gdx.files.internal("garage.jpg")));
+        Image background = new Image(getTexture("garage.jpg"));
         background.setWidth(Gdx.graphics.getWidth());
         background.setHeight(Gdx.graphics.getHeight());
 
@@ -110,10 +124,10 @@ public class CarparkScreen implements Screen {
         activeLocation.setFontScale(2);
         activeLocation.setAlignment(Align.center);
 
-        timeLabel = new Label("Time: " + gameScreen.getFireStationTime(), new Label.LabelStyle(game.coolFont, Color.WHITE));
+        timeLabel = new Label("", new Label.LabelStyle(game.coolFont, Color.WHITE));
         timeLabel.setAlignment(Align.left);
 
-        scoreLabel = new Label("Score: " + gameScreen.getScore(), new Label.LabelStyle(game.coolFont, Color.WHITE));
+        scoreLabel = new Label("", new Label.LabelStyle(game.coolFont, Color.WHITE));
         scoreLabel.setAlignment(Align.right);
 
         header.addActor(scoreLabel);
@@ -131,7 +145,7 @@ public class CarparkScreen implements Screen {
         previewStack.add(new BackgroundBox(300, 300, Color.DARK_GRAY, 10));
 
         // create a placeholder image that can be replaced once the screen is called
-        activeTruckImage = new Image(new Texture(Gdx.files.internal("waterSplash1.png")));
+        activeTruckImage = new Image(getTexture("waterSplash1.png"));
         previewGroup.add(activeTruckImage).size(300, 150).padRight(40);
 
         // create table for the active truck's stats, this can be updated in the method below
@@ -147,16 +161,20 @@ public class CarparkScreen implements Screen {
 
         // TRUCK SELECTOR
 
-        // creates label lists
+        // creates label lists, and the stats table showing them
         activeStatsLabel = new ArrayList<Label>();
         activeStatsValue = new ArrayList<Label>();
         generateStatLabels();
+        generateStatsTable();
+        shownStats = new float[activeStatsValue.size() * 2];
+        shownTime = -1;
+        shownScore = -1;
 
-        // create buttons for each parked truck
+        // create lists for the buttons for each parked truck, which are
+        // added once the trucks have been parked
         selectLocationLabels = new ArrayList<>();
         selectImageButtons = new ArrayList<>();
         selectTextButtons = new ArrayList<>();
-        generateTruckButtons();
 
         // preview row
         mainTable.row().expand();
@@ -164,6 +182,10 @@ public class CarparkScreen implements Screen {
         Stack selectorStack = new Stack();
         selectorStack.add(new BackgroundBox(100, 100, Color.DARK_GRAY, 40));
         selectorGroup = new HorizontalGroup();
+        selectorGroup.pad(50);
+        selectorGroup.expand();
+        selectorGroup.center();
+        selectorGroup.space(30);
         selectorStack.add(selectorGroup);
         mainTable.add(selectorStack);
 
@@ -178,27 +200,6 @@ public class CarparkScreen implements Screen {
         stage.addActor(background);
         stage.addActor(mainTable);
 
-    }
-
-    /**
-     * Called when this screen becomes the current screen for a {@link Game}.
-     */
-    @Override
-    public void show() {
-        Gdx.input.setInputProcessor(stage);
-
-        // set the active fire truck
-        activeFiretruck = firestation.getActiveFireTruck();
-        activeLocation.setText(activeFiretruck.getCarpark().getName());
-        activeTruckImage.setDrawable(activeFiretruck.getFireTruckImage().getDrawable());
-
-        updateStatValues();
-        generateStatLabels();
-        generateStatsTable();
-
-        generateTruckButtons();
-        generateTruckSelector();
-
         closeButton.addListener(new ClickListener() {
             @Override
             public void clicked(InputEvent event, float x, float y) {
@@ -217,41 +218,37 @@ public class CarparkScreen implements Screen {
                 return true;
             }
         });
+    }
 
-        for (int i = 0; i< firestation.getParkedFireTrucks().size(); i++) {
-            int index = i;
-            Firetruck selectedTruck = firestation.getParkedFireTrucks().get(i);
-            if (!firestation.getParkedFireTrucks().get(i).isBought()){
-
-                selectTextButtons.get(i).addListener(new ClickListener(){
-                    @Override
-                    public void clicked(InputEvent event, float x, float y) {
-                        if (boughtTruck(selectedTruck)){
-                            firestation.changeFiretruck(index);
-                        }
-                        show();
-                    }
-                });
-            }
+    /**
+     * Called when this screen becomes the current screen for a {@link Game}.
+     */
+    @Override
+    public void show() {
+        Gdx.input.setInputProcessor(stage);
 
-            else if (firestation.getParkedFireTrucks().get(i).isAlive()) {
-                selectImageButtons.get(i).addListener(new ClickListener() {
-                    @Override
-                    public void clicked(InputEvent event, float x, float y) {
-                        firestation.changeFiretruck(index);
-                        show();
-                    }
-                });
-                selectTextButtons.get(i).addListener(new ClickListener() {
-                    @Override
-                    public void clicked(InputEvent event, float x, float y) {
-                        firestation.changeFiretruck(index);
-                        show();
-                    }
-                });
-            }
+        // add buttons for any trucks parked since the screen was last shown
+        while (selectTextButtons.size() < firestation.getParkedFireTrucks().size()) {
+            generateTruckButtons(selectTextButtons.size());
         }
 
+        updateActiveTruck();
+    }
+
+    /**
+     * Updates everything shown about the active fire truck
+     * and the buttons for the parked ones, when the screen
+     * is opened and each time the user selects a fire truck
+     */
+    private void updateActiveTruck() {
+        // set the active fire truck
+        activeFiretruck = firestation.getActiveFireTruck();
+        activeLocation.setText(activeFiretruck.getCarpark().getName());
+        activeTruckImage.setDrawable(getTruckDrawable(activeFiretruck));
+
+        updateStatValues();
+        updateTimeScore();
+        updateTruckButtons();
     }
 
     /**
@@ -266,14 +263,13 @@ public class CarparkScreen implements Screen {
         Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
 
         stage.draw();
-        firestation.decreaseInternalTime();
-        firestation.checkRepairRefill(gameScreen.getFireStationTime(), true);
-
-        gameScreen.updatePatrolMovements();
+        // Keep the game running at the same fixed rate as on the game screen
+        for (int steps = gameScreen.getClock().advance(delta); steps > 0; steps--) {
+            gameScreen.tickParked();
+        }
 
         updateTimeScore();
         updateStatValues();
-        generateStatsTable();
     }
 
     /**
@@ -318,15 +314,54 @@ public class CarparkScreen implements Screen {
     public void dispose() {
         stage.dispose();
         shapeRenderer.dispose();
+        for (String fileName : textures.keySet()) {
+            game.getAssets().release(fileName);
+        }
+        textures.clear();
     }
 
     /**
-     * Builds the stats table for the active fire truck
-     * re-built every frame to show the health/water increasing
+     * Gets a texture shown on this screen, acquiring it from the
+     * asset manager the first time so it isn't loaded again each
+     * time the car park is opened
+     *
+     * @param fileName  the image file
+     * @return          the texture, shared with other screens showing it
      */
-    private void generateStatsTable() {
-        tableStats.clear();
+    private Texture getTexture(String fileName) {
+        Texture texture = textures.get(fileName);
+        if (texture == null) {
+            texture = game.getAssets().acquireTexture(fileName);
+            textures.put(fileName, texture);
+        }
+        return texture;
+    }
+
+    /**
+     * Gets the picture of a fire truck for its buttons, made
+     * once for each type of truck
+     *
+     * @param firetruck the truck to show
+     * @return          the drawable of the truck
+     */
+    private Drawable getTruckDrawable(Firetruck firetruck) {
+        String fileName = firetruck.getFireTruckFile();
+        Drawable drawable = truckDrawables.get(fileName);
+        if (drawable == null) {
+            drawable = new TextureRegionDrawable(getTexture(fileName));
+            drawable.setMinWidth(150);
+            drawable.setMinHeight(75);
+            truckDrawables.put(fileName, drawable);
+        }
+        return drawable;
+    }
 
+    /**
+     * Builds the stats table for the active fire truck once,
+     * the values are then updated in place to show the
+     * health/water increasing
+     */
+    private void generateStatsTable() {
         Stack nameStack = new Stack();
 
         Label name = activeStatsValue.get(0);
@@ -358,28 +393,88 @@ public class CarparkScreen implements Screen {
     }
 
     /**
-     * Builds each fire truck item which contains:
+     * Builds the fire truck item for a parked truck and adds
+     * it to the truck selector. Each item contains:
      * - location label
      * - image button
      * - text button (select or buy)
+     * which show whichever truck is parked in that place
+     *
+     * @param index the place of the truck in the car park
      */
-    private void generateTruckButtons() {
-        selectLocationLabels.clear();
-        selectImageButtons.clear();
-        selectTextButtons.clear();
-        for (int i=0; i<firestation.getParkedFireTrucks().size(); i++) {
-            Firetruck firetruck = firestation.getParkedFireTrucks().get(i);
+    private void generateTruckButtons(final int index) {
+        Label title = new Label("", skin);
+        title.setAlignment(Align.center);
 
-            Label title = new Label("", skin);
-            title.setAlignment(Align.center);
+        Button imageButton = new Button(new Button.ButtonStyle());
+        TextButton textButton = new TextButton("", skin);
+        textButton.setSize(150,40);
 
-            Drawable drawable = new TextureRegionDrawable(new TextureRegion(firetruck.getFireTruckTexture()));
-            drawable.setMinWidth(150);
-            drawable.setMinHeight(75);
+        // trucks can be bought with the text button, and selected with either
+        imageButton.addListener(new ClickListener() {
+            @Override
+            public void clicked(InputEvent event, float x, float y) {
+                if (firestation.getParkedFireTrucks().get(index).isBought()) selectTruck(index);
+            }
+        });
+        textButton.addListener(new ClickListener() {
+            @Override
+            public void clicked(InputEvent event, float x, float y) {
+                selectTruck(index);
+            }
+        });
+
+        selectLocationLabels.add(title);
+        selectImageButtons.add(imageButton);
+        selectTextButtons.add(textButton);
+
+        Stack stack = new Stack();
+        VerticalGroup vgTruck = new VerticalGroup();
+        vgTruck.center();
+        vgTruck.pad(30);
+        vgTruck.addActor(title);
+        vgTruck.addActor(imageButton);
+        vgTruck.addActor(textButton);
+        stack.addActor(new BackgroundBox(200, 100, Color.GRAY, 10));
+        stack.addActor(vgTruck);
+        selectorGroup.addActor(stack);
+    }
 
-            Button imageButton = new Button(drawable);
-            TextButton textButton = new TextButton("", skin);
-            textButton.setSize(150,40);
+    /**
+     * Selects a parked truck, buying it first if it hasn't been
+     *
+     * @param index the place of the truck in the car park
+     */
+    private void selectTruck(int index) {
+        Firetruck firetruck = firestation.getParkedFireTrucks().get(index);
+        if (!firetruck.isBought()) {
+            if (!boughtTruck(firetruck)) return;
+        } else if (!firetruck.isAlive()) {
+            return;
+        }
+        firestation.changeFiretruck(index);
+        updateActiveTruck();
+    }
+
+    /**
+     * Updates each fire truck item to show the truck parked
+     * in its place, and whether it can be bought or selected
+     */
+    private void updateTruckButtons() {
+        for (int i=0; i<selectTextButtons.size(); i++) {
+            Firetruck firetruck = firestation.getParkedFireTrucks().get(i);
+
+            Label title = selectLocationLabels.get(i);
+            Button imageButton = selectImageButtons.get(i);
+            TextButton textButton = selectTextButtons.get(i);
+
+            // set the style again so the button is laid out with the new picture
+            imageButton.getStyle().up = getTruckDrawable(firetruck);
+            imageButton.setStyle(imageButton.getStyle());
+            textButton.setTouchable(Touchable.enabled);
+            imageButton.setTouchable(Touchable.enabled);
+            textButton.setColor(Color.WHITE);
+            imageButton.setColor(Color.WHITE);
 
             if (!firetruck.isBought()) {
                 title.setText(firetruck.getType().getColourString() + " Fire Truck");
@@ -400,35 +495,6 @@ public class CarparkScreen implements Screen {
                 title.setText("Location: " + firetruck.getCarpark().getName());
                 textButton.setText(firetruck.getType().getColourString() + " Fire Truck");
             }
-
-            selectLocationLabels.add(title);
-            selectImageButtons.add(imageButton);
-            selectTextButtons.add(textButton);
-        }
-    }
-
-    /**
-     * Builds the truck selector section of the screen
-     * it is called once the screen is opened and each
-     * time the user selects a fire truck
-     */
-    private void generateTruckSelector() {
-        selectorGroup.clear();
-        selectorGroup.pad(50);
-        selectorGroup.expand();
-        selectorGroup.center();
-        selectorGroup.space(30);
-        for (int i=0; i<firestation.getParkedFireTrucks().size(); i++) {
-            Stack stack = new Stack();
-            VerticalGroup vgTruck = new VerticalGroup();
-            vgTruck.center();
-            vgTruck.pad(30);
-            vgTruck.addActor(selectLocationLabels.get(i));
-            vgTruck.addActor(selectImageButtons.get(i));
-            vgTruck.addActor(selectTextButtons.get(i));
-            stack.addActor(new BackgroundBox(200, 100, Color.GRAY, 10));
-            stack.addActor(vgTruck);
-            selectorGroup.addActor(stack);
         }
     }
 
@@ -449,38 +515,76 @@ public class CarparkScreen implements Screen {
     }
 
     /**
-     * Generates labels and add them to the label list
+     * Generates labels and add them to the label list,
+     * with the labels for their values
      */
     private void generateStatLabels() {
-        activeStatsLabel.clear();
         activeStatsLabel.add(null);
         activeStatsLabel.add(new Label(" Health         ", game.getFont10()));
         activeStatsLabel.add(new Label(" Water          ", game.getFont10()));
         activeStatsLabel.add(new Label(" Speed          ", game.getFont10()));
         activeStatsLabel.add(new Label(" Range          ", game.getFont10()));
         activeStatsLabel.add(new Label(" Damage         ", game.getFont10()));
+        for (int i=0; i<activeStatsLabel.size(); i++) {
+            activeStatsValue.add(new Label("", game.getFont10()));
+        }
     }
 
     /**
-     * Generate updated stats labels and add them to list
-     * read to be added to the stage
+     * Updates the stats labels to the active truck's
+     * values, only setting those that have changed
      */
     private void updateStatValues() {
-        activeStatsValue.clear();
-        activeStatsValue.add(new Label(activeFiretruck.getType().getColourString() + " fire truck's Stats", game.getFont10()));
-        activeStatsValue.add(new Label(activeFiretruck.getHealthBar().getCurrentAmount() + " / " + activeFiretruck.getHealthBar().getMaxAmount() + " ", game.getFont10()));
-        activeStatsValue.add(new Label(activeFiretruck.getWaterBar().getCurrentAmount() + " / " + activeFiretruck.getWaterBar().getMaxAmount() + " ", game.getFont10()));
-        activeStatsValue.add(new Label(activeFiretruck.getMaxSpeed() + " ", game.getFont10()));
-        activeStatsValue.add(new Label(activeFiretruck.getRange() + " ", game.getFont10()));
-        activeStatsValue.add(new Label(activeFiretruck.getDamage() + " ", game.getFont10()));
+        if (shownFiretruck != activeFiretruck) {
+            shownFiretruck = activeFiretruck;
+            activeStatsValue.get(0).setText(activeFiretruck.getType().getColourString() + " fire truck's Stats");
+            // make sure every value is set for the new truck
+            Arrays.fill(shownStats, Float.NaN);
+        }
+        updateStatValue(1, activeFiretruck.getHealthBar().getCurrentAmount(), activeFiretruck.getHealthBar().getMaxAmount());
+        updateStatValue(2, activeFiretruck.getWaterBar().getCurrentAmount(), activeFiretruck.getWaterBar().getMaxAmount());
+        updateStatValue(3, activeFiretruck.getMaxSpeed());
+        updateStatValue(4, activeFiretruck.getRange());
+        updateStatValue(5, activeFiretruck.getDamage());
+    }
+
+    /**
+     * Sets a stat's label to an amount out of a maximum,
+     * if either has changed since it was last set
+     */
+    private void updateStatValue(int index, float amount, float max) {
+        if (shownStats[2*index] == amount && shownStats[2*index+1] == max) return;
+        shownStats[2*index] = amount;
+        shownStats[2*index+1] = max;
+        activeStatsValue.get(index).setText(amount + " / " + max + " ");
     }
 
     /**
-     * Update the time and score labels
+     * Sets a stat's label to a value, if it has changed
+     * since it was last set
+     */
+    private void updateStatValue(int index, float value) {
+        if (shownStats[2*index] == value) return;
+        shownStats[2*index] = value;
+        activeStatsValue.get(index).setText(value + " ");
+    }
+
+    /**
+     * Update the time and score labels if they have changed,
+     * and which trucks can be bought if the score has
      */
     private void updateTimeScore() {
-        timeLabel.setText("Time: " + gameScreen.getFireStationTime());
-        scoreLabel.setText("Score: " + gameScreen.getScore());
+        int time = gameScreen.getFireStationTime();
+        if (time != shownTime) {
+            shownTime = time;
+            timeLabel.setText("Time: " + time);
+        }
+        int score = gameScreen.getScore();
+        if (score != shownScore) {
+            shownScore = score;
+            scoreLabel.setText("Score: " + score);
+            updateTruckButtons();
+        }
     }
 
 }
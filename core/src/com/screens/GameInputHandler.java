@@ -83,6 +83,8 @@ public class GameInputHandler implements InputProcessor {
     public boolean touchDown(int screenX, int screenY, int pointer, int button) {
         if (button == 0) {
             gameScreen.getFirestation().getActiveFireTruck().toggleHose();
+        } else if (button == Input.Buttons.RIGHT) {
+            gameScreen.autopilotTo(screenX, screenY);
         }
         return true;
     }
@@ -11,12 +11,11 @@ import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.OrthographicCamera;
-import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.*;
 import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
+import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
 import com.badlogic.gdx.utils.Align;
 import com.badlogic.gdx.utils.viewport.ScreenViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
@@ -34,14 +33,19 @@ public class GameOverScreen implements Screen {
 
     // values passed in from GameScreen
     private final Kroy game;
-    private final Outcome outcome;
-    private final int score;
+    private Outcome outcome;
+    private int score;
 
     // camera, visual and appearance objects
     private final OrthographicCamera camera;
     private final Viewport viewport;
     private final Stage stage;
     private final Skin skin;
+    private final Image bcg;
+    private final Label outcomeLabel;
+    private final Label scoreLabel;
+    // the background for the outcome, shared with any other screen showing it
+    private String backgroundFile;
 
     /**
      * Constructor for Game over screen, with inputs from
@@ -51,13 +55,10 @@ public class GameOverScreen implements Screen {
      * @param outcome   either win or lose, depending on game outcome
      * @param score     how much score the player earned in the game
      */
-    public GameOverScreen(Kroy game, Outcome outcome, int score) {
+    public GameOverScreen(final Kroy game, Outcome outcome, int score) {
         this.game = game;
-        this.outcome = outcome;
-        this.score = score;
 
-        skin = new Skin(Gdx.files.internal("skin/uiskin.json"), new TextureAtlas("skin/uiskin.atlas"));
-        //skin.add("default", new Texture("button.png"));
+        skin = game.getSkin();
 
         // Create an orthographic camera
         camera = new OrthographicCamera();
@@ -77,39 +78,24 @@ public class GameOverScreen implements Screen {
         // Create a stage for buttons
         stage = new Stage(viewport, game.spriteBatch);
         stage.setDebugAll(DEBUG_ENABLED);
-    }
-
-    /**
-     * Called when this screen becomes the current screen for a {@link Game}.
-     */
-    @Override
-    public void show() {
-        Gdx.input.setInputProcessor(stage);
-
 
+        // Build the stage once, as the screen is kept to be shown after each game
         Table table = new Table();
         table.center();
 
-        Image bcg;
         Stack bcgstack = new Stack();
         bcgstack.setFillParent(true);
 
-        Label outcomeLabel = new Label("", new Label.LabelStyle(game.coolFont, Color.WHITE));
+        outcomeLabel = new Label("", new Label.LabelStyle(game.coolFont, Color.WHITE));
         outcomeLabel.setFontScale(2);
-        if (outcome.equals(Outcome.WON)){
-            bcg = new Image(new Texture(Gdx.files.internal("win.png")));
-            outcomeLabel.setText("Well done, you saved York!");
-        } else {
-            bcg = new Image(new Texture(Gdx.files.internal("game_over.png")));
-            outcomeLabel.setText("Well... you let York down...");
-        }
+        bcg = new Image();
 
         bcgstack.add(bcg);
         bcgstack.add(table);
 
         TextButton exitButton = new TextButton("Return to Main Menu", skin);
 
-        Label scoreLabel = new Label("Final Score: " + score, new Label.LabelStyle(game.coolFont, Color.WHITE));
+        scoreLabel = new Label("", new Label.LabelStyle(game.coolFont, Color.WHITE));
         scoreLabel.setAlignment(Align.center);
 
         table.add(outcomeLabel).padBottom(20);
@@ -121,11 +107,49 @@ public class GameOverScreen implements Screen {
         exitButton.addListener(new ClickListener() {
             @Override
             public void clicked(InputEvent event, float x, float y) {
-                game.setScreen(new MainMenuScreen(game));
+                game.setScreen(game.getScreens().getMainMenu());
+                // the game that ended is no longer needed
+                game.getScreens().endGame();
             }
         });
 
         stage.addActor(bcgstack);
+
+        reset(outcome, score);
+    }
+
+    /**
+     * Resets the screen to show how the latest game went
+     *
+     * @param outcome   either win or lose, depending on game outcome
+     * @param score     how much score the player earned in the game
+     */
+    public void reset(Outcome outcome, int score) {
+        this.outcome = outcome;
+        this.score = score;
+
+        // swap the background, releasing the last one if it was different
+        String file = outcome.equals(Outcome.WON) ? "win.png" : "game_over.png";
+        if (!file.equals(backgroundFile)) {
+            bcg.setDrawable(new TextureRegionDrawable(game.getAssets().acquireTexture(file)));
+            if (backgroundFile != null) game.getAssets().release(backgroundFile);
+            backgroundFile = file;
+        }
+
+        if (outcome.equals(Outcome.WON)){
+            outcomeLabel.setText("Well done, you saved York!");
+        } else {
+            outcomeLabel.setText("Well... you let York down...");
+        }
+        scoreLabel.setText("Final Score: " + score);
+    }
+
+    /**
+     * Called when this screen becomes the current screen for a {@link Game}.
+     */
+    @Override
+    public void show() {
+        Gdx.input.setInputProcessor(stage);
     }
 
     /**
@@ -182,6 +206,7 @@ public class GameOverScreen implements Screen {
      */
     @Override
     public void dispose() {
-
+        stage.dispose();
+        game.getAssets().release(backgroundFile);
     }
 }
@@ -2,34 +2,45 @@ package com.screens;
 //
 // LibGDX imports
 import com.badlogic.gdx.graphics.glutils.ShaderProgram;
-import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.scenes.scene2d.Stage;
-import com.badlogic.gdx.scenes.scene2d.ui.Label;
 import com.badlogic.gdx.scenes.scene2d.ui.Stack;
 import com.badlogic.gdx.scenes.scene2d.ui.Table;
 import com.badlogic.gdx.scenes.scene2d.ui.VerticalGroup;
 import com.badlogic.gdx.utils.*;
 import com.badlogic.gdx.utils.viewport.ScreenViewport;
 import com.entities.Firestation;
+import com.misc.CollisionGrid;
+import com.misc.FixedTimestep;
+import com.misc.HudText;
+import com.misc.NotificationQueue;
+import com.misc.NotificationQueue.Notification;
+import com.misc.NotificationQueue.Priority;
 import com.misc.SFX;
-import com.pathFinding.Junction;
+import com.misc.Scheduler;
+import com.misc.VoxelSlices;
 import com.pathFinding.MapGraph;
+import com.pathFinding.NavGraphBaker;
+import com.simulation.GameWorld;
+import com.simulation.GameWorldListener;
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input.Keys;
 import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer.ShapeType;
 import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.math.Intersector;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector3;
 import com.badlogic.gdx.maps.MapLayers;
-import com.badlogic.gdx.utils.Timer.Task;
 
 // Tiled map imports from LibGDX
 import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.assets.GameAssetManager;
 import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
-import com.badlogic.gdx.maps.tiled.TmxMapLoader;
 import com.badlogic.gdx.maps.tiled.renderers.OrthogonalTiledMapRenderer;
 
 // Java util imports
@@ -51,7 +62,7 @@ import static com.misc.Constants.*;
  * @author Archie
  * @since 23/11/2019
  */
-public class GameScreen implements Screen {
+public class GameScreen implements Screen, GameWorldListener {
 
 	// A constant variable to store the game
 	final Kroy game;
@@ -63,45 +74,55 @@ public class GameScreen implements Screen {
 
 	// Private values for tiled map
 	private final TiledMap map;
+	private final CollisionGrid collisionGrid;
 	private final OrthogonalTiledMapRenderer renderer;
 	private final int[] foregroundLayers;
     private final int[] backgroundLayers;
 
 	// Private values for the game
-	private int score;
-	private int time;
 	private float zoomTarget;
+	// Steps the world at a fixed rate whatever the frame rate
+	private final FixedTimestep clock;
+
+	// Everything that changes as the game is played, this screen draws it
+	private final GameWorld world;
 
 	// Private sprite related objects
-	private final ArrayList<ETFortress> ETFortresses;
-	private final ArrayList<Projectile> projectiles;
-	private final ArrayList<MinigameSprite> minigameSprites;
-	private ArrayList<Projectile> projectilesToRemove;
-	private final ArrayList<Patrol> ETPatrols;
 	private final Firestation firestation;
 	private final ArrayList<Texture> waterFrames;
 	private final Texture projectileTexture;
-	private ArrayList<Texture> patrolTextures;
+	private final Texture minigameTexture;
+	private VoxelSlices patrolSlices;
+
+	// Packed atlases, every slice of a stack is on the same page
+	private final TextureAtlas firetruckAtlas;
+	private final TextureAtlas patrolAtlas;
+	private final TextureAtlas buildingsAtlas;
+	private final Array<VoxelSlices> voxelStacks;
+
+	// White pixel every resource bar is stretched and tinted from
+	private final Texture barPixelTexture;
+	private final TextureRegion barPixel;
 
-	// Objects for the patrol graph
-	final MapGraph mapGraph;
-	final ArrayList<Junction> junctionsInMap;
+	// Where the player right clicked, for the autopilot to drive to
+	private final Vector3 clickPosition;
 
 	// Private stage values
 	private final Stage stage;
-	private final Label scoreLabel;
-	private final Label timeLabel;
-	private final Label fpsLabel;
+	// HUD text, only laid out again when the numbers change
+	private final HudText scoreText;
+	private final HudText timeText;
+	private final HudText fpsText;
 
 	// objects for the popups and tutorial
-	private Queue<String> popupMessages;
+	private final NotificationQueue popups;
 	private final TypingLabel tip;
-	private boolean isInTutorial;
+	// how important the popup showing is, or null if none is
+	private Priority shownPriority;
 
-	// timers to manage timed events
-	private final Timer popupTimer;
-	private final Timer firestationTimer;
-	private final Timer ETPatrolsTimer;
+	// shows the popups in turn, ticked with the world so it stops whenever the game does
+	private final Scheduler popupScheduler;
+	private final Scheduler.Task popupTask;
 
 	private final CarparkScreen carparkScreen;
 	private final GameInputHandler gameInputHandler;
@@ -123,23 +144,18 @@ public class GameScreen implements Screen {
 		this.camera.setToOrtho(false, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
 		// Zoom that the user has set with their scroll wheel
 		this.zoomTarget = 1.5f;
+		this.clock = new FixedTimestep(FIXED_TIMESTEP, MAX_STEPS_PER_FRAME);
 		this.camera.zoom = 2f;
 
-		// Load the map, set the unit scale
-		this.map = new TmxMapLoader().load("MapAssets/York_galletcity.tmx");
+		// Get the map loaded behind the story and loading screens, set the unit scale
+		GameAssetManager assets = game.getAssets();
+		this.map = assets.get(MAP_FILE, TiledMap.class);
 		this.renderer = new OrthogonalTiledMapRenderer(map, MAP_SCALE);
 		this.shapeRenderer = new ShapeRenderer();
 
-		ShaderProgram.pedantic = false;
-		this.vignetteSepiaShader = new ShaderProgram(Gdx.files.internal("shaders/vignetteSepia.vsh"), Gdx.files.internal("shaders/vignetteSepia.fsh"));
+		this.vignetteSepiaShader = assets.get(GameAssetManager.SHADER, ShaderProgram.class);
 		this.renderer.getBatch().setShader(vignetteSepiaShader);
 
-		// Create an array to store all projectiles in motion
-		this.projectiles = new ArrayList<>();
-
-		// Decrease time every second, starting at 3 minutes
-		this.time = TIME_STATION_VULNERABLE;
-
 		gameInputHandler = new GameInputHandler(this);
 
 		// ---- 2) Initialise and set game properties ----------------------------- //
@@ -150,6 +166,8 @@ public class GameScreen implements Screen {
 		// Set the Batch to render in the coordinate system specified by the camera.
 		this.game.batch.setProjectionMatrix(this.camera.combined);
 
+		popupScheduler = new Scheduler();
+		popups = new NotificationQueue(POPUP_QUEUE_SIZE, popupScheduler);
 		generateTutorial();
 
 		this.stage = new Stage(new ScreenViewport());
@@ -159,8 +177,8 @@ public class GameScreen implements Screen {
 		table.row().colspan(3).expand().pad(40).padBottom(150);
 		table.setFillParent(true);
 
-		scoreLabel = new Label("", game.getFont10());
-		table.add(scoreLabel).top();
+		scoreText = new HudText(game.getFont10().font, "Score: ");
+		table.add(scoreText).top();
 
 		Stack tipStack = new Stack();
 		tip = new TypingLabel("", game.getFont10());
@@ -172,11 +190,11 @@ public class GameScreen implements Screen {
 
 		VerticalGroup vg = new VerticalGroup();
 
-		timeLabel = new Label("", game.getFont10());
-		vg.addActor(timeLabel);
+		timeText = new HudText(game.getFont10().font, "Time: ");
+		vg.addActor(timeText);
 
-		fpsLabel = new Label("", game.getFont10());
-		vg.addActor(fpsLabel);
+		fpsText = new HudText(game.getFont10().font, "FPS: ");
+		vg.addActor(fpsText);
 
 		table.add(vg).top();
 
@@ -198,46 +216,63 @@ public class GameScreen implements Screen {
 			mapLayers.getIndex("Trees")
         };
 
-        // creates mini game sprites around the map
-		minigameSprites = new ArrayList<>();
-		minigameSprites.add(new MinigameSprite(87, 68));
-		minigameSprites.add(new MinigameSprite(30.5f, 55));
-		minigameSprites.add(new MinigameSprite(10, 92));
-		minigameSprites.add(new MinigameSprite(93, 106));
-
-		// Initialise textures to use for sprites
-		Texture firestationTexture = new Texture("MapAssets/UniqueBuildings/firestation.png");
-		Texture firestationDestroyedTexture = new Texture("MapAssets/UniqueBuildings/firestation_destroyed.png");
-		Texture cliffordsTowerTexture = new Texture("MapAssets/UniqueBuildings/cliffordstower.png");
-		Texture cliffordsTowerWetTexture = new Texture("MapAssets/UniqueBuildings/cliffordstower_wet.png");
-		Texture railstationTexture = new Texture("MapAssets/UniqueBuildings/railstation.png");
-		Texture railstationWetTexture = new Texture("MapAssets/UniqueBuildings/railstation_wet.png");
-		Texture yorkMinsterTexture = new Texture("MapAssets/UniqueBuildings/Yorkminster.png");
-		Texture yorkMinsterWetTexture = new Texture("MapAssets/UniqueBuildings/Yorkminster_wet.png");
-		Texture castle1Texture = new Texture("MapAssets/UniqueBuildings/fortress_1.png");
-		Texture castle1WetTexture = new Texture("MapAssets/UniqueBuildings/fortress_1_wet.png");
-		Texture castle2Texture = new Texture("MapAssets/UniqueBuildings/fortress_2.png");
-		Texture castle2WetTexture = new Texture("MapAssets/UniqueBuildings/fortress_2_wet.png");
-		Texture mossyTexture = new Texture("MapAssets/UniqueBuildings/mossy.png");
-		Texture mossyWetTexture = new Texture("MapAssets/UniqueBuildings/mossy_wet.png");
-
-		this.projectileTexture = new Texture("alienProjectile.png");
+		// Compile the collision and carpark layers once so trucks never look up cells
+		this.collisionGrid = new CollisionGrid((TiledMapTileLayer) mapLayers.get("Collision"), (TiledMapTileLayer) mapLayers.get("Carpark"));
+
+		// Bake the patrol graph from the road tiles, or load it if the map hasn't changed
+		MapGraph mapGraph = NavGraphBaker.load((TiledMapTileLayer) mapLayers.get("Road"),
+				Gdx.files.internal(MAP_FILE), Gdx.files.local(NAV_GRAPH_CACHE_FILE));
+
+		// Get the packed atlases for the voxel slices and buildings
+		this.firetruckAtlas = assets.get(GameAssetManager.FIRETRUCK_ATLAS, TextureAtlas.class);
+		this.patrolAtlas = assets.get(GameAssetManager.PATROL_ATLAS, TextureAtlas.class);
+		this.buildingsAtlas = assets.get(GameAssetManager.BUILDINGS_ATLAS, TextureAtlas.class);
+		this.voxelStacks = new Array<>();
+
+		// Initialise regions to use for sprites
+		TextureRegion firestationTexture = buildingsAtlas.findRegion("firestation");
+		TextureRegion firestationDestroyedTexture = buildingsAtlas.findRegion("firestation_destroyed");
+		TextureRegion cliffordsTowerTexture = buildingsAtlas.findRegion("cliffordstower");
+		TextureRegion cliffordsTowerWetTexture = buildingsAtlas.findRegion("cliffordstower_wet");
+		TextureRegion railstationTexture = buildingsAtlas.findRegion("railstation");
+		TextureRegion railstationWetTexture = buildingsAtlas.findRegion("railstation_wet");
+		TextureRegion yorkMinsterTexture = buildingsAtlas.findRegion("Yorkminster");
+		TextureRegion yorkMinsterWetTexture = buildingsAtlas.findRegion("Yorkminster_wet");
+		TextureRegion castle1Texture = buildingsAtlas.findRegion("fortress_1");
+		TextureRegion castle1WetTexture = buildingsAtlas.findRegion("fortress_1_wet");
+		TextureRegion castle2Texture = buildingsAtlas.findRegion("fortress_2");
+		TextureRegion castle2WetTexture = buildingsAtlas.findRegion("fortress_2_wet");
+		TextureRegion mossyTexture = buildingsAtlas.findRegion("mossy");
+		TextureRegion mossyWetTexture = buildingsAtlas.findRegion("mossy_wet");
+
+		this.projectileTexture = assets.get(GameAssetManager.PROJECTILE, Texture.class);
+		this.minigameTexture = assets.get(GameAssetManager.MINIGAME, Texture.class);
+
+		// Create the pixel used to draw the resource bars
+		Pixmap pixel = new Pixmap(1, 1, Pixmap.Format.RGBA8888);
+		pixel.setColor(Color.WHITE);
+		pixel.fill();
+		this.barPixelTexture = new Texture(pixel);
+		this.barPixel = new TextureRegion(this.barPixelTexture);
+		pixel.dispose();
 
 		// Create arrays of textures for animations
 		waterFrames = new ArrayList<Texture>();
 
-		// Create patrol texture
-		buildPatrolTextures();
+		// Create patrol slices
+		buildPatrolSlices();
 
-		for (int i = 1; i <= 3; i++) {
-			Texture texture = new Texture("waterSplash" + i + ".png");
-			waterFrames.add(texture);
+		for (String waterSplash : GameAssetManager.WATER_SPLASHES) {
+			waterFrames.add(assets.get(waterSplash, Texture.class));
 		}
 
 		// ---- 4) Create entities that will be around for entire game duration - //
 
+		this.world = new GameWorld(this.collisionGrid, mapGraph, this.patrolSlices, new TextureRegion(this.projectileTexture), this);
+
 		// Create a new firestation
-		this.firestation = new Firestation(firestationTexture, firestationDestroyedTexture, 77.5f * TILE_DIMS, 35.5f * TILE_DIMS, this);
+		this.firestation = new Firestation(firestationTexture, firestationDestroyedTexture, 77.5f * TILE_DIMS, 35.5f * TILE_DIMS, this.world);
+		this.world.setFirestation(this.firestation);
 		this.carparkScreen = new CarparkScreen(this.game, this, this.firestation);
 
 		// need to make it take away from  the number of points
@@ -248,51 +283,38 @@ public class GameScreen implements Screen {
 		constructFireTruck(false, TruckType.YELLOW);
 		constructFireTruck(false, TruckType.GREEN);
 
-		// Initialise ETFortresses array and add ETFortresses to it
-		this.ETFortresses = new ArrayList<ETFortress>();
-		this.ETFortresses.add(new ETFortress(cliffordsTowerTexture, cliffordsTowerWetTexture, 1, 1, 69 * TILE_DIMS, 51 * TILE_DIMS, FortressType.CLIFFORD, this));
-		this.ETFortresses.add(new ETFortress(yorkMinsterTexture, yorkMinsterWetTexture, 2, 3.25f, 68.25f * TILE_DIMS, 82.25f * TILE_DIMS, FortressType.MINSTER, this));
-		this.ETFortresses.add(new ETFortress(railstationTexture, railstationWetTexture, 2, 2.5f, TILE_DIMS, 72.75f * TILE_DIMS, FortressType.RAIL, this));
-		this.ETFortresses.add(new ETFortress(castle2Texture, castle2WetTexture, 2, 2, 10 * TILE_DIMS, TILE_DIMS, FortressType.CASTLE2, this));
-		this.ETFortresses.add(new ETFortress(castle1Texture, castle1WetTexture, 2, 2, 98 * TILE_DIMS, TILE_DIMS, FortressType.CASTLE1, this));
-		this.ETFortresses.add(new ETFortress(mossyTexture, mossyWetTexture, 1.5f, 1.5f, 106 * TILE_DIMS, 101 * TILE_DIMS, FortressType.MOSSY, this));
-
-		// Create array to collect entities that are no longer used
-		this.projectilesToRemove = new ArrayList<Projectile>();
-
-		this.junctionsInMap = new ArrayList<>();
-		mapGraph = new MapGraph();
-		populateMap();
-
-		firestationTimer = new Timer();
-		firestationTimer.scheduleTask(new Task() {
-			@Override
-			public void run() {
-				decreaseTime();
-			}
-		}, 1, 1);
-		firestationTimer.stop();
-
-		popupTimer = new Timer();
-		popupTimer.scheduleTask(new Task() {
+		// Pre-render every rotation of the voxel sprites to draw when zoomed out
+		for (Firetruck firetruck : this.firestation.getParkedFireTrucks()) {
+			firetruck.bakeImpostors(this.game.batch);
+		}
+		this.firestation.getActiveFireTruck().bakeImpostors(this.game.batch);
+		this.patrolSlices.bakeImpostors(this.game.batch, this.patrolSlices.getBase().getRegionWidth(), this.patrolSlices.getBase().getRegionHeight());
+
+		// Add the ETFortresses
+		this.world.addFortress(new ETFortress(cliffordsTowerTexture, cliffordsTowerWetTexture, 1, 1, 69 * TILE_DIMS, 51 * TILE_DIMS, FortressType.CLIFFORD, this.world));
+		this.world.addFortress(new ETFortress(yorkMinsterTexture, yorkMinsterWetTexture, 2, 3.25f, 68.25f * TILE_DIMS, 82.25f * TILE_DIMS, FortressType.MINSTER, this.world));
+		this.world.addFortress(new ETFortress(railstationTexture, railstationWetTexture, 2, 2.5f, TILE_DIMS, 72.75f * TILE_DIMS, FortressType.RAIL, this.world));
+		this.world.addFortress(new ETFortress(castle2Texture, castle2WetTexture, 2, 2, 10 * TILE_DIMS, TILE_DIMS, FortressType.CASTLE2, this.world));
+		this.world.addFortress(new ETFortress(castle1Texture, castle1WetTexture, 2, 2, 98 * TILE_DIMS, TILE_DIMS, FortressType.CASTLE1, this.world));
+		this.world.addFortress(new ETFortress(mossyTexture, mossyWetTexture, 1.5f, 1.5f, 106 * TILE_DIMS, 101 * TILE_DIMS, FortressType.MOSSY, this.world));
+
+		// creates mini game sprites around the map
+		TextureRegion minigameRegion = new TextureRegion(this.minigameTexture);
+		this.world.addMinigameSprite(new MinigameSprite(minigameRegion, 87, 68));
+		this.world.addMinigameSprite(new MinigameSprite(minigameRegion, 30.5f, 55));
+		this.world.addMinigameSprite(new MinigameSprite(minigameRegion, 10, 92));
+		this.world.addMinigameSprite(new MinigameSprite(minigameRegion, 93, 106));
+
+		this.clickPosition = new Vector3();
+
+		popupTask = new Scheduler.Task() {
 			@Override
 			public void run() {
 				nextPopup();
 			}
-		}, 3f, 10f);
-		popupTimer.stop();
-
-		ETPatrols = new ArrayList<>();
-		ETPatrolsTimer = new Timer();
-		ETPatrolsTimer.scheduleTask(new Task() {
-			@Override
-			public void run() {
-				createPatrol();
-			}
-		}, 7,10);
-
-		isInTutorial = true;
-
+		};
+		popupScheduler.schedule(popupTask, 3 * TICKS_PER_SECOND);
+		popupScheduler.setPaused(true);
 	}
 
 	/**
@@ -303,15 +325,13 @@ public class GameScreen implements Screen {
 		this.resume();
 		this.camera.setToOrtho(false);
 		this.camera.position.set(this.firestation.getActiveFireTruck().getCentreX(), this.firestation.getActiveFireTruck().getCentreY(), 0);
-		// Create array to collect entities that are no longer used
-		this.projectilesToRemove = new ArrayList<Projectile>();
 		Gdx.input.setInputProcessor(gameInputHandler);
 	}
 
 	/**
 	 * Render function to display all elements in the main game.
 	 *
-	 * @param delta The delta time of the game, updated every game second rather than frame.
+	 * @param delta The time in seconds since the last frame.
 	 */
 	@Override
 	public void render(float delta) {
@@ -321,7 +341,7 @@ public class GameScreen implements Screen {
 		Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
 
 		vignetteSepiaShader.begin();
-		if (isInTutorial) {
+		if (this.world.isInTutorial()) {
 			vignetteSepiaShader.setUniformf("u_intensity", 0.8f);
 			vignetteSepiaShader.setUniformf("u_outerRadius", 0.6f);
 			vignetteSepiaShader.setUniformf("u_sepia", 0.2f);
@@ -332,7 +352,21 @@ public class GameScreen implements Screen {
 		}
 		vignetteSepiaShader.end();
 
-		// ---- 1) Update camera and map properties each iteration -------- //
+		// ==============================================================
+		//					Added for assessment 3
+		// ==============================================================
+		// ---- 1) Step the world for the time the last frame took -------- //
+
+		for (int steps = this.clock.advance(delta); steps > 0; steps--) {
+			this.popupScheduler.tick();
+			steerActiveTruck();
+			this.world.tick();
+			// Stop once the game has moved on to another screen
+			if (this.game.getScreen() != this) return;
+		}
+		float alpha = this.clock.getAlpha();
+
+		// ---- 2) Update camera and map properties each iteration -------- //
 
 		// Set the TiledMapRenderer view based on what the camera sees
 		renderer.setView(this.camera);
@@ -348,8 +382,8 @@ public class GameScreen implements Screen {
 		// ==============================================================
 		// Tell the camera to update to the sprites position with a delay based on lerp and game time
 		Vector3 cameraPosition = this.camera.position;
-		float xDifference = focusedTruck.getCentreX() - cameraPosition.x;
-		float yDifference = focusedTruck.getCentreY() - cameraPosition.y;
+		float xDifference = focusedTruck.getDrawX(alpha) + focusedTruck.getWidth() / 2 - cameraPosition.x;
+		float yDifference = focusedTruck.getDrawY(alpha) + focusedTruck.getHeight() / 2 - cameraPosition.y;
 		cameraPosition.x += xDifference * LERP * delta;
 		cameraPosition.y += yDifference * LERP * delta;
 
@@ -361,6 +395,11 @@ public class GameScreen implements Screen {
 
 		this.camera.update();
 
+		// Draw voxel sprites with less detail the further the camera is zoomed out
+		for (VoxelSlices voxelStack : this.voxelStacks) {
+			voxelStack.setZoom(this.camera.zoom);
+		}
+
 		// ---- 3) Draw background, firetruck then foreground layers ----- //
 
 		// Render background map layers
@@ -370,69 +409,61 @@ public class GameScreen implements Screen {
 		renderer.render(foregroundLayers);
 
 		// Render the arrow
-		firestation.updateActiveArrow(shapeRenderer, ETFortresses);
+		firestation.updateActiveArrow(shapeRenderer, this.world.getFortresses(), alpha);
 
 		// Render the remaining sprites, font last to be on top of all
 		if (DEBUG_ENABLED) shapeRenderer.begin(ShapeType.Line);
 		this.game.batch.begin();
 
-		// Render sprites
-		for (ETFortress ETFortress : this.ETFortresses) {
-			ETFortress.update(this.game.batch);
-			if (DEBUG_ENABLED) ETFortress.drawDebug(shapeRenderer);
-		}
-		for (Projectile projectile : this.projectiles) {
-			projectile.update(this.game.batch);
-			if (DEBUG_ENABLED) projectile.drawDebug(shapeRenderer);
-			if (projectile.isOutOfMap()) this.projectilesToRemove.add(projectile);
-		}
-
-		// Call the update function of the sprites to draw and update them
-		firestation.updateFiretruck(this.game.batch, this.shapeRenderer, this.camera);
-
-		// Updates and render patrols
-		for (Patrol patrol : this.ETPatrols) {
-			patrol.update(this.game.batch);
-			if (DEBUG_ENABLED) patrol.drawDebug(shapeRenderer);
-		}
+		// Render sprites part of the way between their last two ticks, with
+		// the fire truck and patrols standing up over the flat sprites
+		this.world.getRenderSystem().renderFlat(this.game.batch, alpha, this.shapeRenderer);
+		this.world.getProjectileSystem().render(this.game.batch, alpha);
+		firestation.renderFiretruck(this.game.batch, this.shapeRenderer, alpha);
+		this.world.getRenderSystem().renderStacked(this.game.batch, alpha, this.shapeRenderer);
 
 		// Render mini game sprites
-		for (MinigameSprite minigameSprite : minigameSprites) {
+		for (MinigameSprite minigameSprite : this.world.getMinigameSprites()) {
 			minigameSprite.update(this.game.batch);
 		}
 
-		this.firestation.update(this.game.batch);
+		this.firestation.render(this.game.batch, alpha);
 
 		if (DEBUG_ENABLED) firestation.drawDebug(shapeRenderer);
 
+		// Draw the resource bars on top of every sprite
+		drawResourceBars();
+
 		// Finish rendering
 		this.game.batch.end();
 		shapeRenderer.end();
 
 		// Draw the score, time and FPS to the screen at given co-ordinates
-		this.scoreLabel.setText("Score: " + this.score);
-		this.timeLabel.setText("Time: " + this.getFireStationTime());
-		if (DEBUG_ENABLED) {
-			this.fpsLabel.setText("FPS: " + Gdx.graphics.getFramesPerSecond());
-		} else {
-			this.fpsLabel.clear();
-		}
+		this.scoreText.setValue(this.world.getScore());
+		this.timeText.setValue(this.getFireStationTime());
+		if (DEBUG_ENABLED) this.fpsText.setValue(Gdx.graphics.getFramesPerSecond());
 
 		this.stage.act(delta);
 		this.stage.draw();
+	}
 
-		// ---- 4) Perform any calulcation needed after sprites are drawn - //
-
-		// Check for any collisions
-		if (!isInTutorial) checkForCollisions();
-
-		// Remove projectiles that are off the screen and firetrucks that are dead
-		this.projectiles.removeAll(this.projectilesToRemove);
-
-		// Check if the game should end
-		checkIfGameOver();
-
-		checkIfCarpark();
+	/*
+	 *  =======================================================================
+	 *                          Added for Assessment 3
+	 *  =======================================================================
+	 */
+	/**
+	 * Steers the active fire truck for the next tick in the directions the
+	 * player is holding, and aims its hose at the mouse
+	 */
+	private void steerActiveTruck() {
+		Firetruck firetruck = this.firestation.getActiveFireTruck();
+		if (Gdx.input.isKeyPressed(Keys.LEFT) || Gdx.input.isKeyPressed(Keys.A)) firetruck.steer(Direction.LEFT);
+		if (Gdx.input.isKeyPressed(Keys.RIGHT) || Gdx.input.isKeyPressed(Keys.D)) firetruck.steer(Direction.RIGHT);
+		if (Gdx.input.isKeyPressed(Keys.DOWN) || Gdx.input.isKeyPressed(Keys.S)) firetruck.steer(Direction.DOWN);
+		if (Gdx.input.isKeyPressed(Keys.UP) || Gdx.input.isKeyPressed(Keys.W)) firetruck.steer(Direction.UP);
+		// The camera follows the truck, so aim from the centre of the screen
+		firetruck.aimHose(Gdx.input.getX() - this.camera.viewportWidth / 2, this.camera.viewportHeight / 2 - Gdx.input.getY());
 	}
 
 	/**
@@ -466,10 +497,8 @@ public class GameScreen implements Screen {
 	 */
 	@Override
 	public void pause() {
-		if (!isInTutorial) firestationTimer.stop();
-		popupTimer.stop();
-		ETPatrolsTimer.stop();
-		game.setScreen(new PauseScreen(game, this));
+		popupScheduler.setPaused(true);
+		game.setScreen(game.getScreens().getPause());
 	}
 
 	/**
@@ -480,9 +509,7 @@ public class GameScreen implements Screen {
 	 */
 	@Override
 	public void resume() {
-		if (!isInTutorial) firestationTimer.start();
-		popupTimer.start();
-		ETPatrolsTimer.start();
+		popupScheduler.setPaused(false);
 		this.camera.position.set(this.firestation.getActiveFireTruck().getCentre(), 0);
 	}
 
@@ -491,45 +518,42 @@ public class GameScreen implements Screen {
 	 */
 	@Override
 	public void dispose() {
-		projectileTexture.dispose();
+		world.dispose();
+		barPixelTexture.dispose();
 		for (Firetruck firetruck : firestation.getParkedFireTrucks()) {
 			firetruck.dispose();
 		}
 		firestation.getActiveFireTruck().dispose();
 		firestation.dispose();
-		for (ETFortress ETFortress : ETFortresses) {
+		for (ETFortress ETFortress : world.getFortresses()) {
 			ETFortress.dispose();
 		}
+		for (VoxelSlices voxelStack : voxelStacks) {
+			voxelStack.dispose();
+		}
 		renderer.dispose();
-		map.dispose();
-		vignetteSepiaShader.dispose();
 		stage.dispose();
+		// The map, shader, atlases and textures belong to the asset manager
+		game.getAssets().unloadGame();
 		carparkScreen.dispose();
 		shapeRenderer.dispose();
 	}
 
-	/**
-	 * Spawns a patrol, up to a certain number
-	 * */
-	public void createPatrol() {
-		if (this.ETPatrols.size() < PATROL_MAX) {
-			spawnPatrol();
-		}
-	}
-
 	/*
 	 *  =======================================================================
 	 *                          Added for Assessment 3
 	 *  =======================================================================
 	 */
 	/**
-	 * Updates only the movement of the patrol when the
-	 * player is in the car park screen
-	 */
-	public void updatePatrolMovements() {
-		for (Patrol patrol : this.ETPatrols) {
-			patrol.updateMovement();
-		}
+	 * Draws all health and water bars in one pass after the sprites,
+	 * so the batch only switches to the bar pixel texture once a frame
+	 */
+	private void drawResourceBars() {
+		this.world.getRenderSystem().renderHealthBars(this.game.batch, this.barPixel);
+		Firetruck activeTruck = this.firestation.getActiveFireTruck();
+		activeTruck.getHealthBar().draw(this.game.batch, this.barPixel);
+		activeTruck.getWaterBar().draw(this.game.batch, this.barPixel);
+		this.firestation.getHealthBar().draw(this.game.batch, this.barPixel);
 	}
 
 	/*
@@ -538,35 +562,11 @@ public class GameScreen implements Screen {
 	 *  =======================================================================
 	 */
 	/**
-	 * Checks to see if the fire truck is to be opened, if so change screen
+	 * Ticks only what keeps going while the player is in the car park screen -
+	 * the fire station's repairs and timer, and the patrols' movement
 	 */
-	public void checkIfCarpark() {
-		if (this.firestation.isMenuOpen()) {
-			popupTimer.stop();
-			game.setScreen(this.carparkScreen);
-		}
-	}
-
-	/*
-	 *  =======================================================================
-	 *                          Added for Assessment 3
-	 *  =======================================================================
-	 */
-	/**
-	 * Checks to see if the player has won or lost the game. Navigates back to the main menu
-	 * if they won or lost.
-	 */
-	public void checkIfGameOver() {
-		boolean gameWon = true, gameLost = true;
-		// Check if any firetrucks are still alive
-		if (this.firestation.hasParkedFiretrucks() || this.firestation.getActiveFireTruck().isAlive()) gameLost = false;
-
-		// Check if any fortresses are still alive
-		for (ETFortress ETFortress : this.ETFortresses) {
-			if (ETFortress.getHealthBar().getCurrentAmount() > 0) gameWon = false;
-		}
-		if (gameWon) this.game.setScreen(new GameOverScreen(this.game, Outcome.WON, this.score));
-		else if (gameLost) this.game.setScreen(new GameOverScreen(this.game, Outcome.LOST, this.score));
+	public void tickParked() {
+		this.world.tickParked();
 	}
 
 	/*
@@ -575,115 +575,32 @@ public class GameScreen implements Screen {
 	 *  =======================================================================
 	 */
 	/**
-	 * Checks to see if any collisions have occurred
+	 * Sets the zoomTarget that the user sets with the scroll wheel
+	 *
+	 * @param zoom	positive for zoom out, negative for zoom in
 	 */
-	public void checkForCollisions() {
-		// Check each firetruck to see if it has collided with anything
-		Firetruck firetruck = this.firestation.getActiveFireTruck();
-		// Check if it overlaps with an ETFortress
-		for (ETFortress ETFortress : this.ETFortresses) {
-			if (ETFortress.getHealthBar().getCurrentAmount() > 0 && firetruck.isInHoseRange(ETFortress.getDamageHitBox())) {
-				ETFortress.getHealthBar().subtractResourceAmount((int) firetruck.getDamage());
-				this.score += 10;
-			}
-			if (ETFortress.isInRadius(firetruck.getCentre()) && ETFortress.canShootProjectile()) {
-				Projectile projectile = new Projectile(this.projectileTexture, ETFortress.getCentreX(), ETFortress.getCentreY(), ETFortress.getType().getDamage());
-				projectile.calculateTrajectory(firetruck);
-				SFX.sfx_projectile.play();
-				this.projectiles.add(projectile);
-			}
-		}
-
-		// ==============================================================
-		//					Added for assessment 3
-		// ==============================================================
-		// Checks to see if a patrol is dead and removes it if it has died
-		for (int i=0; i<this.ETPatrols.size(); i++) {
-			Patrol patrol = this.ETPatrols.get(i);
-			if (patrol.isDead()) {
-				patrol.removeDead(mapGraph);
-				this.ETPatrols.remove(patrol);
-			}
-		}
-
-		// ==============================================================
-		//					Added for assessment 3
-		// ==============================================================
-		// Checks if a patrol has attacked a fire truck and vice versa, also if patrol can attack fire station
-		for (Patrol patrol : this.ETPatrols) {
-			if (patrol.getHealthBar().getCurrentAmount() > 0 && firetruck.isInHoseRange(patrol.getDamageHitBox())) {
-				patrol.getHealthBar().subtractResourceAmount((int) firetruck.getDamage());
-				this.score += 10;
-			}
-			if (patrol.isInRadius(firetruck.getCentre()) && patrol.canShootProjectile()) {
-				Projectile projectile = new Projectile(this.projectileTexture, patrol.getCentreX(), patrol.getCentreY(), 5);
-				projectile.calculateTrajectory(firetruck);
-				SFX.sfx_projectile.play();
-				this.projectiles.add(projectile);
-			} else if (!firestation.isDestroyed() && firestation.isVulnerable() && patrol.isInRadius(firestation.getCentre()) && patrol.canShootProjectile()) {
-				Projectile projectile = new Projectile(this.projectileTexture, patrol.getCentreX(), patrol.getCentreY(), 5);
-				projectile.calculateTrajectory(firestation);
-				SFX.sfx_projectile.play();
-				this.projectiles.add(projectile);
-			}
-		}
-		// ==============================================================
-		//					Added for assessment 3
-		// ==============================================================
-		// Checks if truck has driven over a minigame sprite
-		for (int i=0; i<this.minigameSprites.size(); i++) {
-			MinigameSprite minigameSprite = this.minigameSprites.get(i);
-			if (Intersector.overlapConvexPolygons(firetruck.getMovementHitBox(), minigameSprite.getHitBox())) {
-				if (!isInTutorial) firestationTimer.stop();
-				popupTimer.stop();
-				ETPatrolsTimer.stop();
-				this.minigameSprites.remove(minigameSprite);
-				this.firestation.getActiveFireTruck().setSpeed(new Vector2(0, 0));
-				this.firestation.getActiveFireTruck().setHose(false);
-				this.game.setScreen(new MinigameScreen(this.game, this));
-			}
-		}
-
-		// Check if firetruck is hit with a projectile
-		for (int i=0; i<this.projectiles.size(); i++) {
-			Projectile projectile = this.projectiles.get(i);
-			if (Intersector.overlapConvexPolygons(firetruck.getDamageHitBox(), projectile.getDamageHitBox())) {
-				SFX.sfx_truck_damage.play();
-				firetruck.getHealthBar().subtractResourceAmount(projectile.getDamage());
-				if (this.score >= 10) this.score -= 10;
-				this.projectiles.remove(projectile);
-			} else if (!firestation.isDestroyed() && firestation.isVulnerable() && Intersector.overlapConvexPolygons(firestation.getDamageHitBox(), projectile.getDamageHitBox())) {
-				firestation.getHealthBar().subtractResourceAmount(projectile.getDamage());
-				this.projectiles.remove(projectile);
-			}
+	public void cameraZoom(float zoom) {
+		if (this.zoomTarget + zoom < MAX_ZOOM && this.zoomTarget + zoom > MIN_ZOOM) {
+			this.zoomTarget += zoom;
 		}
-		/* Check if it is in the firestation's radius. Only repair the truck if it needs repairing.
-		Allows multiple trucks to be in the radius and be repaired or refilled every second.*/
-		this.firestation.checkRepairRefill(this.time, false);
-
-	}
-
-	/**
-	 * Decreases time by 1, called every second by the timer
-	 */
-	private void decreaseTime() {
-		this.time -= 1;
 	}
 
 	/*
 	 *  =======================================================================
-	 *                          Modified for Assessment 3
+	 *                          Added for Assessment 3
 	 *  =======================================================================
 	 */
 	/**
-	 * Sets the zoomTarget that the user sets with the scroll wheel
+	 * Sets the active fire truck driving itself to what the player clicked on -
+	 * a fortress, the fire station or a car park entrance - or to the point
+	 * clicked if it isn't any of them
 	 *
-	 * @param zoom	positive for zoom out, negative for zoom in
+	 * @param screenX	x coordinate of the click on the screen
+	 * @param screenY	y coordinate of the click on the screen
 	 */
-	public void cameraZoom(float zoom) {
-		if (this.zoomTarget + zoom < MAX_ZOOM && this.zoomTarget + zoom > MIN_ZOOM) {
-			this.zoomTarget += zoom;
-		}
+	public void autopilotTo(int screenX, int screenY) {
+		this.camera.unproject(this.clickPosition.set(screenX, screenY, 0));
+		this.world.autopilotTo(this.clickPosition.x, this.clickPosition.y);
 	}
 
 	/**
@@ -694,10 +611,8 @@ public class GameScreen implements Screen {
 	 */
 	public void constructFireTruck(boolean isActive, TruckType type) {
 		// there is a bug where if you buy another truck then you die then
-		ArrayList<Texture> truckTextures = this.buildFiretuckTextures(type.getColourString());
-		Firetruck firetruck = new Firetruck(truckTextures, this.waterFrames, type,
-				(TiledMapTileLayer) map.getLayers().get("Collision"), (TiledMapTileLayer) map.getLayers().get("Carpark"),
-				this.firestation, isActive);
+		VoxelSlices truckSlices = this.buildFiretruckSlices(type.getColourString());
+		Firetruck firetruck = new Firetruck(truckSlices, this.waterFrames, type, this.collisionGrid, this.firestation, isActive);
 		if (isActive) {
 			if (this.firestation.getActiveFireTruck() == null) {
 				this.firestation.setActiveFireTruck(firetruck);
@@ -710,34 +625,21 @@ public class GameScreen implements Screen {
 	}
 
 	/**
-	 * Builds an array of textures that is used to render the firetruck
+	 * Builds the stack of atlas slices that is used to render the firetruck
 	 *
 	 * @param colourString	specifies the colour of fire truck to build
-	 * @return				array of textures
+	 * @return				stack of atlas slices
 	 */
-	private ArrayList<Texture> buildFiretuckTextures(String colourString) {
-		ArrayList<Texture> truckTextures = new ArrayList<Texture>();
+	private VoxelSlices buildFiretruckSlices(String colourString) {
+		String[] names = new String[20];
 		for (int i = 20; i > 0; i--) {
-			if (i == 6) { // Texture 6 contains identical slices except the lights are different
-				Texture texture = new Texture("FireTrucks/" + colourString + "/Firetruck(6) A.png");
-				truckTextures.add(texture);
-				texture = new Texture("FireTrucks/" + colourString + "/Firetruck(6) B.png");
-				truckTextures.add(texture);
-			} else {
-				Texture texture = new Texture("FireTrucks/" + colourString + "/Firetruck(" + i + ").png");
-				truckTextures.add(texture);
-			}
+			// Slice 6 contains identical slices except the lights are different
+			names[20 - i] = colourString + "/Firetruck(" + i + (i == 6 ? ") A" : ")");
 		}
-		return truckTextures;
-	}
-
-	/** ===============================================
-	 * 			New function for assessment 3
-	 * ================================================
-	 * Creates Patrol and adds it to the list of patrols
-	 */
-	private void spawnPatrol() {
-		this.ETPatrols.add(new Patrol(this.patrolTextures, mapGraph));
+		VoxelSlices truckSlices = new VoxelSlices(this.firetruckAtlas, colourString + "/Firetruck(1)", names);
+		truckSlices.setAlternate(20 - 6, this.firetruckAtlas, colourString + "/Firetruck(6) B");
+		this.voxelStacks.add(truckSlices);
+		return truckSlices;
 	}
 
 	/*
@@ -746,292 +648,15 @@ public class GameScreen implements Screen {
 	 *  =======================================================================
 	 */
 	/**
-	 * Builds an array of textures that is used to render patrols
+	 * Builds the stack of atlas slices that is used to render patrols
 	 */
-	private void buildPatrolTextures() {
-		ArrayList<Texture> patrolTextures = new ArrayList<Texture>();
-		for (int i = 99; i >= 0; i--) {
-			String numberFormat = String.format("%03d", i);
-			Texture texture = new Texture("AlienSlices/tile" + numberFormat + ".png");
-			patrolTextures.add(texture);
+	private void buildPatrolSlices() {
+		String[] names = new String[99];
+		for (int i = 99; i > 0; i--) {
+			names[99 - i] = "tile" + String.format("%03d", i);
 		}
-		this.patrolTextures = patrolTextures;
-	}
-
-	/*
-	 *  =======================================================================
-	 *                          Added for Assessment 3
-	 *  =======================================================================
-	 */
-	/**
-	 * Adds junctions to the mapGraph. A junction is a place in the map where the
-	 * patrol has to make a decision about where to move to next.
-	 */
-	private void populateMap(){
-		Junction one = new Junction(4987, 572, "bottom right corner");
-		Junction two = new Junction(3743, 572, "Bottom 4 junction R.H.S");
-		Junction three = new Junction(2728, 572, " Bottom turn left to dead end");
-		Junction four = new Junction(2538, 572, "Bottom turn up to four junction");
-		Junction five = new Junction(1069, 572, "bottom 5 left 4 junction");
-		Junction six = new Junction(3745, 1199, "bottom left of fire station");
-		Junction seven = new Junction(4123, 1199, "bottom right of fire station");
-		Junction eight = new Junction(4128, 1910, "Top right of fire station");
-		Junction nine = new Junction(3738, 1918, "Top left of fire station");
-		Junction ten = new Junction(3412, 1920, "Across bridge turn up to tower");
-		Junction eleven = new Junction(3406, 2204, "First corner to fortress coming up from bridge");
-		Junction twelve = new Junction(3223, 2223, "second corner to attack fortress after coming up from bridge");
-		Junction thirteen = new Junction(3256, 2787, "Bottom left of island");
-		Junction fourteen = new Junction (3885, 2784, "Bottom right of island");
-		Junction fifteen = new Junction (3889, 3018, "Top right of island");
-		Junction sixteen = new Junction (3274, 3021, "Top left of island");
-		Junction seventeen = new Junction (4129, 2100, "T junction top right of fire station");
-		Junction eighteen = new Junction (4554, 2106, "First bend after right from t-junction top right of station");
-		Junction nineteen = new Junction (4558, 2333, "Second bend after right from t-juncion top right of fire station");
-		Junction twenty = new Junction (4991, 2345, "Mid 4 junction on right hand side");
-		Junction twentyOne = new Junction (3887, 2111, "left of fortress");
-		Junction twentyTwo = new Junction(2546, 1920, "4 junction mid left hand side");
-		Junction twentyThree = new Junction(2546, 3016, "Up from 4 junction mid left hand side");
-		Junction twentyFour = new Junction(2785, 3016, "up and right from 4 junction mid left hand side");
-		Junction twentyFive = new Junction (2789, 2794, "Turn left from bottom left of island");
-		Junction twentySix = new Junction(2162, 1964, "Turn left from 4 junction mid left hand side");
-		Junction twentySeven = new Junction(2162, 2205, "Bottom right of block on left hand side");
-		Junction twentyEight = new Junction (2162, 3165, "Top right of block on left hand side");
-		Junction twentyNine = new Junction (1149, 3168, "right of fork on left hand side");
-		Junction thirty = new Junction (958, 3168, "Middle of fork on left hand side");
-		Junction thirtyOne = new Junction (718, 3168, "Right of fork on left hand side");
-		Junction thirtyTwo = new Junction (718, 4203, "Top left hand of map");
-		Junction thirtyThree = new Junction (966, 2210, "Bottom left of block on left hand side");
-		Junction thirtyFour = new Junction (1052, 2207, "Up from bottom right 4 junction");
-		Junction thirtyFive = new Junction (1157, 4261, "Left from top right 4 junction");
-		Junction thirtySix = new Junction (1921, 4270, "Top right 4 junction");
-		Junction thirtySeven = new Junction (1921, 3592, "Bottom from top 4 junction");
-		Junction thirtyEight = new Junction (2161, 3592, "Middle junction between 37 and 39, top left");
-		Junction thirtyNine = new Junction (3037, 3590, "2nd bottom from bottom left of fortress");
-		Junction forty = new Junction (3026, 3739, "Bottom left of fortress");
-		Junction fortyOne = new Junction (3077, 3025, "2nd left from top left of island");
-		Junction fortyTwo = new Junction (4220, 3736, "Bottom right of fortress left");
-		Junction fortyThree = new Junction (4228, 4502, "Right of fortress");
-		Junction fortyFour = new Junction (4228, 4930, "Top right of fortress");
-		Junction fortyFive = new Junction (3030, 4947, "Top 4 junction");
-		Junction fortySix = new Junction (2439, 4948, "Left of mid top 4 junction");
-		Junction fortySeven = new Junction (2450, 4278, "Right of the top left mid 4 junction");
-		Junction fortyEight = new Junction (4991, 4506, "Top right 4 junction");
-
-		mapGraph.addJunction(one);
-		mapGraph.addJunction(two);
-		mapGraph.addJunction(three);
-		mapGraph.addJunction(four);
-		mapGraph.addJunction(five);
-		mapGraph.addJunction(six);
-		mapGraph.addJunction(seven);
-		mapGraph.addJunction(eight);
-		mapGraph.addJunction(nine);
-		mapGraph.addJunction(ten);
-		mapGraph.addJunction(eleven);
-		mapGraph.addJunction(twelve);
-		mapGraph.addJunction(thirteen);
-		mapGraph.addJunction(fourteen);
-		mapGraph.addJunction(fifteen);
-		mapGraph.addJunction(sixteen);
-		mapGraph.addJunction(seventeen);
-		mapGraph.addJunction(eighteen);
-		mapGraph.addJunction(nineteen);
-		mapGraph.addJunction(twenty);
-		mapGraph.addJunction(twentyOne);
-		mapGraph.addJunction(twentyTwo);
-		mapGraph.addJunction(twentyThree);
-		mapGraph.addJunction(twentyFour);
-		mapGraph.addJunction(twentyFive);
-		mapGraph.addJunction(twentySix);
-		mapGraph.addJunction(twentySeven);
-		mapGraph.addJunction(twentyEight);
-		mapGraph.addJunction(twentyNine);
-		mapGraph.addJunction(thirty);
-		mapGraph.addJunction(thirtyOne);
-		mapGraph.addJunction(thirtyTwo);
-		mapGraph.addJunction(thirtyThree);
-		mapGraph.addJunction(thirtyFour);
-		mapGraph.addJunction(thirtyFive);
-		mapGraph.addJunction(thirtySix);
-		mapGraph.addJunction(thirtySeven);
-		mapGraph.addJunction(thirtyEight);
-		mapGraph.addJunction(thirtyNine);
-		mapGraph.addJunction(forty);
-		mapGraph.addJunction(fortyOne);
-		mapGraph.addJunction(fortyTwo);
-		mapGraph.addJunction(fortyThree);
-		mapGraph.addJunction(fortyFour);
-		mapGraph.addJunction(fortyFive);
-		mapGraph.addJunction(fortySix);
-		mapGraph.addJunction(fortySeven);
-		mapGraph.addJunction(fortyEight);
-
-		mapGraph.connectJunctions(one, two);
-		mapGraph.connectJunctions(one, twenty);
-
-	 	mapGraph.connectJunctions(two, one);
-		mapGraph.connectJunctions(two, six);
-		mapGraph.connectJunctions(two, three);
-
-		mapGraph.connectJunctions(three, two);
-		mapGraph.connectJunctions(three, four);
-
-		mapGraph.connectJunctions(four, three);
-		mapGraph.connectJunctions(four, five);
-		mapGraph.connectJunctions(four, twentyTwo);
-
-		mapGraph.connectJunctions(five, four);
-		mapGraph.connectJunctions(five, thirtyFour);
-
-		mapGraph.connectJunctions(six, two);
-		mapGraph.connectJunctions(six, seven);
-		mapGraph.connectJunctions(six, nine);
-
-		mapGraph.connectJunctions(seven, six);
-		mapGraph.connectJunctions(seven, eight);
-
-		mapGraph.connectJunctions(eight, seven);
-		mapGraph.connectJunctions(eight, nine);
-		mapGraph.connectJunctions(eight, seventeen);
-
-		mapGraph.connectJunctions(nine, six);
-		mapGraph.connectJunctions(nine, eight);
-		mapGraph.connectJunctions(nine, ten);
-
-		mapGraph.connectJunctions(ten, nine);
-		mapGraph.connectJunctions(ten, eleven);
-		mapGraph.connectJunctions(ten, twentyTwo);
-
-		mapGraph.connectJunctions(eleven, ten);
-		mapGraph.connectJunctions(eleven, twelve);
-
-		mapGraph.connectJunctions(twelve, eleven);
-		mapGraph.connectJunctions(twelve, thirteen);
-
-		mapGraph.connectJunctions(thirteen, fourteen);
-		mapGraph.connectJunctions(thirteen, sixteen);
-		mapGraph.connectJunctions(thirteen, twelve);
-		mapGraph.connectJunctions(thirteen, twentyFive);
-
-		mapGraph.connectJunctions(fourteen, thirteen);
-		mapGraph.connectJunctions(fourteen, fifteen);
-		mapGraph.connectJunctions(fourteen, twentyOne);
-
-		mapGraph.connectJunctions(fifteen, fourteen);
-		mapGraph.connectJunctions(fifteen, sixteen);
-
-		mapGraph.connectJunctions(sixteen, thirteen);
-		mapGraph.connectJunctions(sixteen, fifteen);
-		mapGraph.connectJunctions(sixteen, fortyOne);
-
-		mapGraph.connectJunctions(seventeen, eight);
-		mapGraph.connectJunctions(seventeen, eighteen);
-		mapGraph.connectJunctions(seventeen, twentyOne);
-
-		mapGraph.connectJunctions(eighteen, seventeen);
-		mapGraph.connectJunctions(eighteen, nineteen);
-
-		mapGraph.connectJunctions(nineteen, eighteen);
-		mapGraph.connectJunctions(nineteen, twenty);
-
-		mapGraph.connectJunctions(twenty, one);
-		mapGraph.connectJunctions(twenty, nineteen);
-		mapGraph.connectJunctions(twenty, fortyEight);
-
-		mapGraph.connectJunctions(twentyOne, fourteen);
-		mapGraph.connectJunctions(twentyOne, seventeen);
-
-		mapGraph.connectJunctions(twentyTwo, four);
-		mapGraph.connectJunctions(twentyTwo, ten);
-		mapGraph.connectJunctions(twentyTwo, twentyThree);
-		mapGraph.connectJunctions(twentyTwo, twentySix);
-
-		mapGraph.connectJunctions(twentyThree, twentyTwo);
-		mapGraph.connectJunctions(twentyThree, twentyFour);
-
-		mapGraph.connectJunctions(twentyFour, twentyThree);
-		mapGraph.connectJunctions(twentyFour, twentyFive);
-
-		mapGraph.connectJunctions(twentyFive, twentyFour);
-		mapGraph.connectJunctions(twentyFive, thirteen);
-
-		mapGraph.connectJunctions(twentySix, twentyTwo);
-		mapGraph.connectJunctions(twentySix, twentySeven);
-
-		mapGraph.connectJunctions(twentySeven, twentySix);
-		mapGraph.connectJunctions(twentySeven, twentyEight);
-		mapGraph.connectJunctions(twentySeven, thirtyFour);
-
-		mapGraph.connectJunctions(twentyEight, twentySeven);
-		mapGraph.connectJunctions(twentyEight, twentyNine);
-		mapGraph.connectJunctions(twentyEight, thirtyEight);
-
-		mapGraph.connectJunctions(twentyNine, twentyEight);
-		mapGraph.connectJunctions(twentyNine, thirty);
-
-		mapGraph.connectJunctions(thirty, twentyNine);
-		mapGraph.connectJunctions(thirty, thirtyThree);
-		mapGraph.connectJunctions(thirty, thirtyOne);
-
-		mapGraph.connectJunctions(thirtyOne, thirty);
-		mapGraph.connectJunctions(thirtyOne, thirtyTwo);
-
-		mapGraph.connectJunctions(thirtyTwo, thirtyOne);
-
-		mapGraph.connectJunctions(thirtyThree, thirty);
-		mapGraph.connectJunctions(thirtyThree, thirtyFour);
-
-		mapGraph.connectJunctions(thirtyFour, thirtyThree);
-		mapGraph.connectJunctions(thirtyFour, twentySeven);
-		mapGraph.connectJunctions(thirtyFour, five);
-
-		mapGraph.connectJunctions(thirtyFive, twentyNine);
-		mapGraph.connectJunctions(thirtyFive, thirtySix);
-
-		mapGraph.connectJunctions(thirtySix, thirtyFive);
-		mapGraph.connectJunctions(thirtySix, thirtySeven);
-		mapGraph.connectJunctions(thirtySix, fortySeven);
-
-		mapGraph.connectJunctions(thirtySeven, thirtySix);
-		mapGraph.connectJunctions(thirtySeven, thirtyEight);
-
-		mapGraph.connectJunctions(thirtyEight, thirtySeven);
-		mapGraph.connectJunctions(thirtyEight, twentyEight);
-		mapGraph.connectJunctions(thirtyEight, thirtyNine);
-
-		mapGraph.connectJunctions(thirtyNine, forty);
-		mapGraph.connectJunctions(thirtyNine, thirtyEight);
-		mapGraph.connectJunctions(thirtyNine, fortyOne);
-
-		mapGraph.connectJunctions(forty, thirtyNine );
-		mapGraph.connectJunctions(forty, fortyTwo);
-		mapGraph.connectJunctions(forty, fortyFive);
-
-		mapGraph.connectJunctions(fortyOne, sixteen);
-		mapGraph.connectJunctions(fortyOne, thirtyNine);
-
-		mapGraph.connectJunctions(fortyTwo, forty);
-		mapGraph.connectJunctions(fortyTwo, fortyThree);
-
-		mapGraph.connectJunctions(fortyThree, fortyTwo);
-		mapGraph.connectJunctions(fortyThree, fortyFour);
-		mapGraph.connectJunctions(fortyThree, fortyEight);
-
-		mapGraph.connectJunctions(fortyFour, fortyThree);
-		mapGraph.connectJunctions(fortyFour, fortyFive);
-
-		mapGraph.connectJunctions(fortyFive, forty);
-		mapGraph.connectJunctions(fortyFive, fortyFour);
-		mapGraph.connectJunctions(fortyFive, fortySix);
-
-		mapGraph.connectJunctions(fortySix, fortyFive);
-		mapGraph.connectJunctions(fortySix, fortySeven);
-
-		mapGraph.connectJunctions(fortySeven, fortySix);
-		mapGraph.connectJunctions(fortySeven, thirtySix);
-
-		mapGraph.connectJunctions(fortyEight, twenty);
-		mapGraph.connectJunctions(fortyEight, fortyThree);
+		this.patrolSlices = new VoxelSlices(this.patrolAtlas, "tile000", names);
+		this.voxelStacks.add(this.patrolSlices);
 	}
 
 	/*
@@ -1044,32 +669,40 @@ public class GameScreen implements Screen {
 	 * the tutorial to teach the player how to play the game
 	 */
 	private void generateTutorial() {
-		popupMessages = new Queue<>();
-		popupMessages.addLast("{SLOW}{COLOR=#FFFFFFC0}Veteran fire fighter? Press ENTER to skip tutorial\n" +
+		tutorialPopup("{SLOW}{COLOR=#FFFFFFC0}Veteran fire fighter? Press ENTER to skip tutorial\n" +
 				"Otherwise, hold tight, we will begin in a moment...");
-		popupMessages.addLast("{SLOW}{COLOR=#FFFFFFC0}You are currently in a safe haven, nothing can harm you... so relax...");
-		popupMessages.addLast("{SLOW}{COLOR=#FFFFFFC0}Feel free to roam around and explore the city, " +
+		tutorialPopup("{SLOW}{COLOR=#FFFFFFC0}You are currently in a safe haven, nothing can harm you... so relax...");
+		tutorialPopup("{SLOW}{COLOR=#FFFFFFC0}Feel free to roam around and explore the city, " +
 				"get accustomed to your new environment...");
-		popupMessages.addLast("{FADE=0;0.75;1}Basic Controls\n{ENDFADE}" +
+		tutorialPopup("{FADE=0;0.75;1}Basic Controls\n{ENDFADE}" +
 				"{SLOW}{COLOR=#FFFFFFC0}WSAD to drive the truck \n" +
 				"MOUSE operates the water cannon \n" +
 				"SCROLL controls camera zoom");
-		popupMessages.addLast("{FADE=0;0.75;1}Fire Station{ENDFADE} \n" +
+		tutorialPopup("{FADE=0;0.75;1}Fire Station{ENDFADE} \n" +
 				"{SLOW}{COLOR=#FFFFFFC0}You spawned right outside here. This is where you can repair and refill Fire Trucks...");
-		popupMessages.addLast("{SLOW}{COLOR=#FFFFFFC0}Top right, once that timer reaches zero, the Fire Station is vulnerable and can be destroyed, " +
+		tutorialPopup("{SLOW}{COLOR=#FFFFFFC0}Top right, once that timer reaches zero, the Fire Station is vulnerable and can be destroyed, " +
 				"then you can no longer repair or refill...");
-		popupMessages.addLast("{FADE=0;0.75;1}Score{ENDFADE} \n" +
+		tutorialPopup("{FADE=0;0.75;1}Score{ENDFADE} \n" +
 				"{SLOW}{COLOR=#FFFFFFC0}Top left, achieved by attacking Patrols and Fortresses, and can be spent to unlock new trucks " +
 				"at the Fire Station...");
-		popupMessages.addLast("{FADE=0;0.75;1}Minigame{ENDFADE} \n" +
+		tutorialPopup("{FADE=0;0.75;1}Minigame{ENDFADE} \n" +
 				"{SLOW}{COLOR=#FFFFFFC0}Gain extra score in a minigame, accessed through controller icons dotted around the map");
-		popupMessages.addLast("{FADE=0;0.75;1}The Mission{ENDFADE} \n" +
+		tutorialPopup("{FADE=0;0.75;1}The Mission{ENDFADE} \n" +
 				"{SLOW}{COLOR=#FFFFFFC0}Your aim is to eliminate all ET Fortresses that have inhabited York.\n" +
 				"Use SPACE to locate the nearest enemy Fortress...");
-		popupMessages.addLast("{SLOW}{COLOR=#FFFFFFC0}Be wary though, if all your Fire Trucks get destroyed," +
+		tutorialPopup("{SLOW}{COLOR=#FFFFFFC0}Be wary though, if all your Fire Trucks get destroyed," +
 				"you lose, and York will fall to the ETs...");
-		popupMessages.addLast("{SLOW}{COLOR=#FFFFFFC0}You're all set, the mission will start in 10 seconds...");
+		tutorialPopup("{SLOW}{COLOR=#FFFFFFC0}You're all set, the mission will start in 10 seconds...");
+
+	}
 
+	/**
+	 * Queues a tutorial message, shown for 10 seconds
+	 *
+	 * @param text	text to display, with its own markup
+	 */
+	private void tutorialPopup(String text) {
+		popups.post(text, Priority.NORMAL, 1, 10 * TICKS_PER_SECOND);
 	}
 
 	/*
@@ -1078,17 +711,24 @@ public class GameScreen implements Screen {
 	 *  =======================================================================
 	 */
 	/**
-	 * Runs every 5 seconds to generate the next tip
-	 * if there is one, and the first time the tips list
-	 * is empty, the tutorial has finished
+	 * Runs once the popup showing has been up for long
+	 * enough to show the next one if there is one, and
+	 * the first time there are none left, the tutorial
+	 * has finished. Nothing is scheduled again until the
+	 * next popup is posted
 	 */
 	private void nextPopup() {
-		tip.setText("");
-		if (popupMessages.notEmpty()) {
-			tip.setText(popupMessages.removeFirst());
-		} else {
+		Notification popup = popups.next();
+		if (popup == null) {
+			tip.setText("");
+			shownPriority = null;
 			finishTutorial();
+			return;
 		}
+		// the tutorial has its own markup, every other popup fades in
+		tip.setText(this.world.isInTutorial() ? popup.getText() : "{FADE=0;0.75;1}" + popup.getText());
+		shownPriority = popup.getPriority();
+		popupScheduler.schedule(popupTask, popup.getDuration());
 	}
 
 	/*
@@ -1097,44 +737,50 @@ public class GameScreen implements Screen {
 	 *  =======================================================================
 	 */
 	/**
-	 * Queues a popup message and resets the popup timer
+	 * Queues a popup message, showing it straight away if
+	 * nothing is showing or it is more important than what
+	 * is. The same message posted again while it is waiting
+	 * or within its interval is ignored
 	 *
 	 * @param text		text to display
 	 * @param repeat	how many times the message should appear
 	 * @param interval	how long the message should stay up for
+	 * @param priority	how important the message is
 	 */
-	public void showPopupText(String text, int repeat, int interval) {
-		if (!isInTutorial) {
-			popupTimer.clear();
-			for (int i=0; i<repeat; i++) {
-				popupMessages.addLast("{FADE=0;0.75;1}" + text);
-			}
-			popupTimer.scheduleTask(new Task() {
-				@Override
-				public void run() {
-					nextPopup();
-				}
-			}, 0, interval);
+	@Override
+	public void showPopupText(String text, int repeat, int interval, Priority priority) {
+		if (this.world.isInTutorial()) return;
+		if (!popups.post(text, priority, repeat, interval * TICKS_PER_SECOND)) return;
+		if (shownPriority == null || priority.compareTo(shownPriority) > 0) {
+			popupScheduler.schedule(popupTask, 1);
 		}
 	}
 
-	/*
-	 *  =======================================================================
-	 *                          Added for Assessment 3
-	 *  =======================================================================
-	 */
-	/**
-	 * Returns a tuple containing the number of fortresses
-	 * destroyed and total number of fortresses
-	 *
-	 * @return	tuple of ints
-	 */
-	public int[] getETFortressesDestroyed() {
-		int fortressesDestroyed = 0;
-		for (ETFortress fortress : this.ETFortresses)
-			if (fortress.isFlooded())
-				fortressesDestroyed++;
-		return new int[]{fortressesDestroyed, this.ETFortresses.size()};
+	@Override
+	public void projectileFired() {
+		SFX.sfx_projectile.play();
+	}
+
+	@Override
+	public void firetruckHit() {
+		SFX.sfx_truck_damage.play();
+	}
+
+	@Override
+	public void minigameFound() {
+		popupScheduler.setPaused(true);
+		this.game.setScreen(this.game.getScreens().getMinigame());
+	}
+
+	@Override
+	public void carparkEntered() {
+		popupScheduler.setPaused(true);
+		this.game.setScreen(this.carparkScreen);
+	}
+
+	@Override
+	public void gameOver(Outcome outcome) {
+		this.game.setScreen(this.game.getScreens().getGameOver(outcome, this.world.getScore()));
 	}
 
 	/*
@@ -1155,20 +801,15 @@ public class GameScreen implements Screen {
 	 * begin to occur, starting the game
 	 */
 	public void finishTutorial() {
-		if (isInTutorial) {
-			isInTutorial = false;
-			popupMessages.clear();
-			showPopupText("Good luck!", 1, 5);
-			firestationTimer.start();
-			firestation.getActiveFireTruck().getWaterBar().resetResourceAmount();
-			firestation.getActiveFireTruck().setRespawnLocation(0);
-			firestation.getActiveFireTruck().respawn();
-			firestation.getActiveFireTruck().setHose(false);
-			this.ETPatrols.clear();
+		if (this.world.isInTutorial()) {
+			this.world.finishTutorial();
+			popups.clear();
+			shownPriority = null;
+			showPopupText("Good luck!", 1, 5, Priority.NORMAL);
 			this.camera.zoom = 1.3f;
 			this.zoomTarget = 1.2f;
-			popupMessages.addLast("{FADE=0;0.75;1}Pro Tip: Killing your enemies makes them less likely to kill you.");
-			popupMessages.addLast("{FADE=0;0.75;1}Pro Tip: Drive straight into a wall to perform a sick 180 flip.");
+			showPopupText("Pro Tip: Killing your enemies makes them less likely to kill you.", 1, 5, Priority.LOW);
+			showPopupText("Pro Tip: Drive straight into a wall to perform a sick 180 flip.", 1, 5, Priority.LOW);
 			SFX.playGameMusic();
 		}
 	}
@@ -1188,7 +829,8 @@ public class GameScreen implements Screen {
 	 * 				radius depending on progress
 	 */
 	private float calculateValueForProgress(float start, float end) {
-		float progress = (float) getETFortressesDestroyed()[0] / (float) getETFortressesDestroyed()[1];
+		int[] destroyed = this.world.getETFortressesDestroyed();
+		float progress = (float) destroyed[0] / (float) destroyed[1];
 		return start - (progress*(start-end));
 	}
 
@@ -1197,16 +839,16 @@ public class GameScreen implements Screen {
 	 * @return	<code>if time greater than 0</code> time
 	 * 			<code>if time less than 0</code> 0
 	 */
-	public int getFireStationTime() { return Math.max(this.time, 0); }
+	public int getFireStationTime() { return this.world.getFireStationTime(); }
 
-	public int getTime() { return this.time; }
+	public int getTime() { return this.world.getTime(); }
 
 	public int getScore() {
-		return this.score;
+		return this.world.getScore();
 	}
 
 	public void setScore(int score) {
-		this.score = score;
+		this.world.setScore(score);
 	}
 
 	public Firestation getFirestation() {
@@ -1215,4 +857,12 @@ public class GameScreen implements Screen {
 
 	public Firetruck getActiveTruck() {return this.firestation.getActiveFireTruck();}
 
+	public FixedTimestep getClock() {
+		return this.clock;
+	}
+
+	public GameWorld getWorld() {
+		return this.world;
+	}
+
 }
\ No newline at end of file
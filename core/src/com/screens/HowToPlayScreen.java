@@ -8,7 +8,6 @@ import com.badlogic.gdx.*;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.OrthographicCamera;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
 import com.badlogic.gdx.scenes.scene2d.InputListener;
 import com.badlogic.gdx.scenes.scene2d.Stage;
@@ -18,6 +17,8 @@ import com.badlogic.gdx.utils.viewport.ScreenViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
 import com.Kroy;
 
+import java.util.ArrayList;
+
 import static com.misc.Constants.DEBUG_ENABLED;
 import static com.misc.Constants.MINIGAME_DURATION;
 
@@ -33,7 +34,7 @@ public class HowToPlayScreen implements Screen {
     private final Kroy game;
 
     // either main menu or pause screen, depending where they came from
-    private final Screen returnScreen;
+    private Screen returnScreen;
 
     // objects used for visuals
     private final Skin skin;
@@ -41,6 +42,9 @@ public class HowToPlayScreen implements Screen {
     private final Viewport viewport;
     private final Stage stage;
 
+    // the images shown, which are released once the screen is disposed
+    private final ArrayList<String> textures;
+
     /**
      * The constructor for the control screen
      *
@@ -72,15 +76,10 @@ public class HowToPlayScreen implements Screen {
         // Create a stage for buttons
         stage = new Stage(viewport, game.spriteBatch);
         stage.setDebugAll(DEBUG_ENABLED);
-    }
 
-    /**
-     * Called when this screen becomes the current screen for a {@link Game}.
-     */
-    @Override
-    public void show() {
-        Gdx.input.setInputProcessor(stage);
+        textures = new ArrayList<>();
 
+        // Build the stage once, as the screen is kept to be shown again
         // Strings for controls
         String firetruckText = "Move the firetruck using either WASD or the arrow keys to move up, left, down and right respectively \n" +
                 "The firetruck will rotate as you change direction \n" +
@@ -120,28 +119,28 @@ public class HowToPlayScreen implements Screen {
         // Movement info
         Label firetruckHeading = new Label("Controlling your firetruck", new Label.LabelStyle(game.coolFont, Color.WHITE));
         Label firetruckBody = new Label(firetruckText, skin);
-        Image firetruckImage = new Image(new Texture(Gdx.files.internal("FireTrucks/Red/FiretruckFull.png")));
-        Image WASD = new Image(new Texture(Gdx.files.internal("ControlScreen/WASD.png")));
+        Image firetruckImage = createImage("FireTrucks/Red/FiretruckFull.png");
+        Image WASD = createImage("ControlScreen/WASD.png");
 
         // Destroying and finding fortresses info
         Label fortressHeading = new Label("Destroying fortresses and aliens", new Label.LabelStyle(game.coolFont, Color.WHITE));
         Label fortressBody = new Label(fortressText, skin);
-        Image fortressImage = new Image(new Texture(Gdx.files.internal("MapAssets/UniqueBuildings/fortress_1.png")));
-        Image fortressDestroyedImage = new Image(new Texture(Gdx.files.internal("MapAssets/UniqueBuildings/fortress_1_wet.png")));
+        Image fortressImage = createImage("MapAssets/UniqueBuildings/fortress_1.png");
+        Image fortressDestroyedImage = createImage("MapAssets/UniqueBuildings/fortress_1_wet.png");
 
         // Buying and refilling new firetrucks info
         Label repairAndPurchaseHeading = new Label("Repairing and purchasing firetrucks", new Label.LabelStyle(game.coolFont, Color.WHITE));
         Label repairAndPurchaseBody = new Label(repairAndPurchaseText, skin);
-        Image firestationImage = new Image(new Texture(Gdx.files.internal("MapAssets/UniqueBuildings/firestation.png")));
-        Image firestationDestroyedImage = new Image(new Texture(Gdx.files.internal("MapAssets/UniqueBuildings/firestation_destroyed.png")));
+        Image firestationImage = createImage("MapAssets/UniqueBuildings/firestation.png");
+        Image firestationDestroyedImage = createImage("MapAssets/UniqueBuildings/firestation_destroyed.png");
 
         // Minigame info
         Label minigameHeading = new Label("Minigame", new Label.LabelStyle(game.coolFont, Color.WHITE));
         Label minigameBody = new Label(minigameText, skin);
-        Image minigameImage = new Image(new Texture(Gdx.files.internal("minigame.png")));
-        Image redAlienImage = new Image(new Texture(Gdx.files.internal("Minigame/alien_3.png")));
-        Image blueAlienImage = new Image(new Texture(Gdx.files.internal("Minigame/alien_1.png")));
-        Image greenAlienImage = new Image(new Texture(Gdx.files.internal("Minigame/alien_2.png")));
+        Image minigameImage = createImage("minigame.png");
+        Image redAlienImage = createImage("Minigame/alien_3.png");
+        Image blueAlienImage = createImage("Minigame/alien_1.png");
+        Image greenAlienImage = createImage("Minigame/alien_2.png");
 
         // Return button
         TextButton returnButton = new TextButton("Return", skin);
@@ -186,7 +185,6 @@ public class HowToPlayScreen implements Screen {
             @Override
             public void clicked(InputEvent event, float x, float y) {
                 game.setScreen(returnScreen);
-                dispose();
             }
         });
 
@@ -195,7 +193,6 @@ public class HowToPlayScreen implements Screen {
             public boolean keyDown(InputEvent event, int keycode) {
                 if (keycode == Input.Keys.ESCAPE) {
                     game.setScreen(returnScreen);
-                    dispose();
                 }
                 return true;
             }
@@ -204,6 +201,36 @@ public class HowToPlayScreen implements Screen {
         stage.addActor(table);
     }
 
+    /**
+     * Resets the screen to go back to, as it can be
+     * opened from either the main menu or pause screen
+     *
+     * @param returnScreen  screen to go back to
+     */
+    public void reset(Screen returnScreen) {
+        this.returnScreen = returnScreen;
+    }
+
+    /**
+     * Creates an image of a texture shared with any other
+     * screen that shows it
+     *
+     * @param fileName  the image file
+     * @return          the image to add to the stage
+     */
+    private Image createImage(String fileName) {
+        textures.add(fileName);
+        return new Image(game.getAssets().acquireTexture(fileName));
+    }
+
+    /**
+     * Called when this screen becomes the current screen for a {@link Game}.
+     */
+    @Override
+    public void show() {
+        Gdx.input.setInputProcessor(stage);
+    }
+
     /**
      * Called when the screen should render itself.
      *
@@ -258,6 +285,9 @@ public class HowToPlayScreen implements Screen {
     @Override
     public void dispose() {
         stage.dispose();
-
+        for (String texture : textures) {
+            game.getAssets().release(texture);
+        }
+        textures.clear();
     }
 }
\ No newline at end of file
@@ -0,0 +1,121 @@
+package com.screens;
+
+/* =================================================================
+                    New class added for assessment 3
+   ===============================================================*/
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.scenes.scene2d.Stage;
+import com.badlogic.gdx.scenes.scene2d.ui.Label;
+import com.badlogic.gdx.scenes.scene2d.ui.ProgressBar;
+import com.badlogic.gdx.scenes.scene2d.ui.Table;
+import com.badlogic.gdx.utils.viewport.ScreenViewport;
+import com.Kroy;
+import com.assets.GameAssetManager;
+
+import static com.misc.Constants.ASSET_LOADING_MILLIS;
+import static com.misc.Constants.DEBUG_ENABLED;
+
+/**
+ * Screen shown while queued assets are loaded, with a bar
+ * showing how far through they are. The asset manager only
+ * loads for part of each frame, so the window keeps responding,
+ * and once everything has loaded the next screen is created
+ * and shown in its place
+ */
+public class LoadingScreen implements Screen {
+
+    /**
+     * Creates the screen to show once loading has finished,
+     * which can then use any of the assets that were queued
+     */
+    public interface NextScreen {
+        Screen create();
+    }
+
+    private final Kroy game;
+    private final GameAssetManager assets;
+    private final NextScreen next;
+
+    // visuals and rendering
+    private final Stage stage;
+    private final ProgressBar progressBar;
+
+    /**
+     * The constructor for the loading screen. Assets should
+     * already be queued with the game's asset manager
+     *
+     * @param game  game object for screen changes
+     * @param next  creates the screen to show once loaded
+     */
+    public LoadingScreen(Kroy game, NextScreen next) {
+        this.game = game;
+        this.assets = game.getAssets();
+        this.next = next;
+
+        stage = new Stage(new ScreenViewport(), game.spriteBatch);
+        stage.setDebugAll(DEBUG_ENABLED);
+
+        Table table = new Table();
+        table.setFillParent(true);
+        table.add(new Label("Loading...", game.getFont10())).padBottom(20);
+        table.row();
+        progressBar = new ProgressBar(0, 1, 0.01f, false, game.getSkin());
+        table.add(progressBar).width(400);
+        stage.addActor(table);
+    }
+
+    @Override
+    public void show() {
+        Gdx.input.setInputProcessor(stage);
+    }
+
+    /**
+     * Loads for part of the frame, then draws how far through
+     * loading it is, or moves on to the next screen if done
+     *
+     * @param delta The time in seconds since the last render.
+     */
+    @Override
+    public void render(float delta) {
+        if (assets.update(ASSET_LOADING_MILLIS)) {
+            game.setScreen(next.create());
+            dispose();
+            return;
+        }
+
+        Gdx.gl.glClearColor(0, 0, 0.2f, 1);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+
+        progressBar.setValue(assets.getProgress());
+        stage.act(delta);
+        stage.draw();
+    }
+
+    @Override
+    public void resize(int width, int height) {
+        stage.getViewport().update(width, height, true);
+    }
+
+    @Override
+    public void pause() {
+
+    }
+
+    @Override
+    public void resume() {
+
+    }
+
+    @Override
+    public void hide() {
+
+    }
+
+    @Override
+    public void dispose() {
+        stage.dispose();
+    }
+}
@@ -27,6 +27,8 @@ import static com.misc.Constants.DEBUG_ENABLED;
  * @since 23/11/2019
  */
 public class MainMenuScreen implements Screen {
+
+	private static final String BACKGROUND = "menu_bg_2.png";
 	
 	// A constant variable to store the game
 	final Kroy game;
@@ -36,6 +38,7 @@ public class MainMenuScreen implements Screen {
 	private final Stage stage;
 	private final Skin skin;
 	private final Viewport viewport;
+	private final Texture background;
 
 	/**
 	 * The constructor for the main menu screen. All game logic for the main
@@ -47,6 +50,7 @@ public class MainMenuScreen implements Screen {
 		this.game = game;
 
 		skin = game.getSkin();
+		background = game.getAssets().acquireTexture(BACKGROUND);
 		
 		// Create new sprite batch
 
@@ -70,44 +74,14 @@ public class MainMenuScreen implements Screen {
 		stage.setDebugAll(DEBUG_ENABLED);
 
 		SFX.sfx_soundtrack_1.setLooping(true);
-		SFX.playMenuMusic();
-	}
-
-	/**
-	 * Render function to display all elements in the main menu.
-	 * 
-	 * @param delta The delta time of the game, updated every second rather than frame.
-	 */
-	@Override
-	public void render(float delta) {
-		// MUST BE FIRST: Clear the screen each frame to stop textures blurring
-		Gdx.gl.glClearColor(0, 0, 0.2f, 1);
-		Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
 
-		// Draw the button stage
-		stage.draw();
-	}
-
-	// Below are all required methods of the screen class
-	@Override
-	public void resize(int width, int height) {
-		viewport.update(width, height);
-        camera.update();
-	}
-
-	/**
-	 * Create the button stage.
-	 */
-	@Override
-	public void show() {
-		// Allow stage to control screen inputs.
-		Gdx.input.setInputProcessor(stage);
+		// Create the button stage once, as the main menu is kept to be shown again
 
 		// Create table to arrange buttons.
 		Table buttonTable = new Table();
 		buttonTable.center();
 
-		Image bcg = new Image(new Texture(Gdx.files.internal("menu_bg_2.png")));
+		Image bcg = new Image(background);
 		Stack bcgstack = new Stack();
 		bcgstack.setFillParent(true);
 		bcgstack.add(bcg);
@@ -137,8 +111,7 @@ public class MainMenuScreen implements Screen {
 			@Override
 			public void clicked(InputEvent event, float x, float y) {
 				SFX.sfx_button_click.play();
-				game.setScreen(new StoryScreen(game));
-				dispose();
+				game.setScreen(game.getScreens().getStory());
 			}
 		});
 
@@ -146,7 +119,7 @@ public class MainMenuScreen implements Screen {
 			@Override
 			public void clicked(InputEvent event, float x, float y) {
 				SFX.sfx_button_click.play();
-				game.setScreen(new HowToPlayScreen(game, getThis()));
+				game.setScreen(game.getScreens().getHowToPlay(getThis()));
 			}
 		});
 
@@ -162,6 +135,38 @@ public class MainMenuScreen implements Screen {
 		stage.addActor(bcgstack);
 	}
 
+	/**
+	 * Render function to display all elements in the main menu.
+	 * 
+	 * @param delta The delta time of the game, updated every second rather than frame.
+	 */
+	@Override
+	public void render(float delta) {
+		// MUST BE FIRST: Clear the screen each frame to stop textures blurring
+		Gdx.gl.glClearColor(0, 0, 0.2f, 1);
+		Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+
+		// Draw the button stage
+		stage.draw();
+	}
+
+	// Below are all required methods of the screen class
+	@Override
+	public void resize(int width, int height) {
+		viewport.update(width, height);
+        camera.update();
+	}
+
+	/**
+	 * Play the menu music and let the stage control the inputs.
+	 */
+	@Override
+	public void show() {
+		// Allow stage to control screen inputs.
+		Gdx.input.setInputProcessor(stage);
+		SFX.playMenuMusic();
+	}
+
 	@Override
 	public void hide() {
 	}
@@ -177,6 +182,7 @@ public class MainMenuScreen implements Screen {
 	@Override
 	public void dispose() {
 		stage.dispose();
+		game.getAssets().release(BACKGROUND);
 	}
 
 	/**
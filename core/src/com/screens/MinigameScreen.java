@@ -13,9 +13,14 @@ import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Align;
+import com.badlogic.gdx.utils.Pool;
 import com.badlogic.gdx.utils.TimeUtils;
-import com.badlogic.gdx.utils.Timer;
+import com.assets.GameAssetManager;
 import com.entities.Alien;
+import com.misc.FixedTimestep;
+import com.misc.HudText;
+import com.misc.Scheduler;
 import com.sprites.MinigameSprite;
 import com.Kroy;
 
@@ -38,23 +43,36 @@ public class MinigameScreen implements Screen {
     private final Kroy game;
     private final GameScreen gameScreen;
 
-    //Declare images
-    private final Texture waterImage;
-    private final Texture background;
+    //Declare images, taken from the asset manager when shown
+    private Texture waterImage;
+    private Texture background;
+    private final Texture[] alienImages;
 
-    // score and time
+    // score and time, and the text showing them, made when first shown
     private int score;
     private int time;
+    private HudText scoreText;
+    private HudText timeText;
 
     //declare camera items
     private final OrthographicCamera camera;
     private int screenWidth;
     private int screenHeight;
 
+    // counts down the time and spawns ETs, ticked at the same rate as the game
+    private final FixedTimestep clock;
+    private final Scheduler scheduler;
+    private final Scheduler.Task countdown;
+    private final Scheduler.Task spawner;
+
     // values to control spawning and despawning ETs
-    private long timeSpawn;
     private final Random random;
     private final ArrayList<Alien> onScreenETs;
+    // ETs to remove once the ones on screen have all been checked, and the
+    // removed ETs kept to be spawned again
+    private final ArrayList<Alien> despawnedETs;
+    private final Pool<Alien> alienPool;
+    private final Vector2 spawnLocation;
     private final TreeMap<Double, AlienType> map;
 
     // water values
@@ -77,12 +95,18 @@ public class MinigameScreen implements Screen {
         this.game = game;
         this.gameScreen = gameScreen;
 
-        //load images for sprites
-        waterImage = new Texture(Gdx.files.internal("Minigame/splashcircle.png"));
-        background = new Texture(Gdx.files.internal("Minigame/minigame_bg.png"));
+        alienImages = new Texture[AlienType.values().length];
 
         //alien creation
         onScreenETs = new ArrayList<Alien>();
+        despawnedETs = new ArrayList<Alien>();
+        alienPool = new Pool<Alien>() {
+            @Override
+            protected Alien newObject() {
+                return new Alien();
+            }
+        };
+        spawnLocation = new Vector2();
 
         ArrayList<AlienType> typeOfAliens = new ArrayList<>();
         typeOfAliens.add(AlienType.blue);
@@ -96,15 +120,20 @@ public class MinigameScreen implements Screen {
 
         random = new Random();
 
-        Timer timer = new Timer();
-        timer.scheduleTask(new Timer.Task() {
+        clock = new FixedTimestep(FIXED_TIMESTEP, MAX_STEPS_PER_FRAME);
+        scheduler = new Scheduler();
+        countdown = new Scheduler.Task() {
             @Override
             public void run() {
                 time--;
             }
-        }, 1, 1);
-
-        time = MINIGAME_DURATION;
+        };
+        spawner = new Scheduler.Task() {
+            @Override
+            public void run() {
+                spawnAlien();
+            }
+        };
 
         // Creates a map of types of aliens and their chance of being selected
         map = new TreeMap<>();
@@ -113,9 +142,6 @@ public class MinigameScreen implements Screen {
             map.put(total += chanceOfSelectingAlien.get(i), typeOfAliens.get(i));
         }
 
-        //initialise score to 0
-        score = 0;
-
         screenWidth = Gdx.graphics.getWidth();
         screenHeight = Gdx.graphics.getHeight();
 
@@ -128,16 +154,49 @@ public class MinigameScreen implements Screen {
         // set InputHandler
         miniGameInputHandler = new MiniGameInputHandler(this);
 
-        //create water rectangle to allow collision detection
-        water = new Rectangle(0, 0, 150, 150);
+        //create water rectangle to allow collision detection, the size of the water image
+        water = new Rectangle(0, 0, 100, 100);
+
+        clicked = new Vector2();
 
+        reset();
+    }
+
+    /**
+     * Starts a new round, as the screen is kept for each
+     * minigame found in the same game: the score and time
+     * start again and any ETs left on screen are despawned
+     */
+    public void reset() {
+        score = 0;
+        time = MINIGAME_DURATION;
         canSpray = false;
+        clicked.setZero();
 
-        clicked = new Vector2();
+        for (Alien alien : onScreenETs) {
+            alienPool.free(alien);
+        }
+        onScreenETs.clear();
+
+        clock.reset();
+        scheduler.clear();
+        scheduler.schedule(countdown, TICKS_PER_SECOND, TICKS_PER_SECOND);
+        scheduler.schedule(spawner, 1);
     }
 
     @Override
     public void show() {
+        // images for sprites were loaded with the rest of the game
+        GameAssetManager assets = game.getAssets();
+        waterImage = assets.get(GameAssetManager.MINIGAME_WATER, Texture.class);
+        background = assets.get(GameAssetManager.MINIGAME_BACKGROUND, Texture.class);
+        for (AlienType type : AlienType.values()) {
+            alienImages[type.ordinal()] = assets.get(type.getFile(), Texture.class);
+        }
+        if (scoreText == null) {
+            scoreText = new HudText(game.coolFont, "Minigame Score: ");
+            timeText = new HudText(game.coolFont, "Time Remaining: ");
+        }
         Gdx.input.setInputProcessor(miniGameInputHandler);
     }
 
@@ -157,19 +216,25 @@ public class MinigameScreen implements Screen {
 
         //draw aliens on screen
         for (Alien alien : onScreenETs) {
-            game.spriteBatch.draw(alien.getTexture(), alien.getX(), alien.getY(), 100, 100);
+            game.spriteBatch.draw(alienImages[alien.getType().ordinal()], alien.getX(), alien.getY(), 100, 100);
         }
 
         drawWater();
 
-        game.coolFont.draw(game.spriteBatch, "Minigame Score: " + score, 25, 100);
-        game.coolFont.draw(game.spriteBatch, "Time Remaining: " + time, screenWidth - 250, 100);
+        scoreText.setValue(score);
+        scoreText.setPosition(25, 100, Align.topLeft);
+        scoreText.draw(game.spriteBatch, 1);
+        timeText.setValue(time);
+        timeText.setPosition(screenWidth - 250, 100, Align.topLeft);
+        timeText.draw(game.spriteBatch, 1);
 
         game.spriteBatch.end();
 
         checkAlienDespawn();
 
-        if (TimeUtils.millis() > timeSpawn + MINIGAME_SPAWN_RATE) spawnAlien();
+        for (int steps = clock.advance(delta); steps > 0; steps--) {
+            scheduler.tick();
+        }
 
         if (time <= 0) toGameScreen();
 
@@ -199,42 +264,55 @@ public class MinigameScreen implements Screen {
 
     @Override
     public void dispose() {
-        background.dispose();
-        waterImage.dispose();
+        // the images belong to the asset manager, so are unloaded with the game's
+        scheduler.clear();
     }
 
     /**
      * Check if an alien on the screen is ready to be
-     * despawned by being clicked on or by the timer
+     * despawned by being clicked on or by the timer.
+     * Aliens are only removed once they have all been
+     * checked, and are kept to be spawned again
      */
     public void checkAlienDespawn() {
         for (int i = 0; i < onScreenETs.size(); i++) {
             Alien alien = onScreenETs.get(i);
 
-            if (TimeUtils.millis() > alien.getSpawnTime() + alien.type.getAliveTime()) {
-                onScreenETs.remove(alien);
-            }
-
             if (alien.getBoundingRectangle().contains(clicked)) {
                 score += alien.getScore();
-                onScreenETs.remove(alien);
+                despawnedETs.add(alien);
+            } else if (TimeUtils.millis() > alien.getSpawnTime() + alien.getType().getAliveTime()) {
+                despawnedETs.add(alien);
             }
         }
+
+        for (int i = 0; i < despawnedETs.size(); i++) {
+            Alien alien = despawnedETs.get(i);
+            // Move the last alien into its place rather than shifting the rest down
+            int index = onScreenETs.indexOf(alien);
+            onScreenETs.set(index, onScreenETs.get(onScreenETs.size() - 1));
+            onScreenETs.remove(onScreenETs.size() - 1);
+            alienPool.free(alien);
+        }
+        despawnedETs.clear();
     }
 
     /**
      * Draws the water image if the player has clicked
      */
     private void drawWater() {
-        if (canSpray) game.spriteBatch.draw(waterImage, water.x, water.y);
+        if (canSpray) game.spriteBatch.draw(waterImage, water.x, water.y, water.width, water.height);
     }
 
     /**
      * Spawns an alien and resets the spawn timer
      */
     public void spawnAlien() {
-        onScreenETs.add(new Alien(generateType(), generateLocation()));
-        timeSpawn = TimeUtils.millis();
+        Vector2 location = generateLocation();
+        Alien alien = alienPool.obtain();
+        alien.spawn(generateType(), location.x, location.y);
+        onScreenETs.add(alien);
+        scheduler.schedule(spawner, MINIGAME_SPAWN_TICKS);
     }
 
     /**
@@ -260,7 +338,7 @@ public class MinigameScreen implements Screen {
     private Vector2 generateLocation(){
         int randomX = random.nextInt((screenWidth-150 - 50) + 1) + 50;
         int randomY = random.nextInt((screenHeight-150 - 250) + 1) + 250;
-        return new Vector2(randomX, randomY);
+        return spawnLocation.set(randomX, randomY);
     }
 
     /**
@@ -270,7 +348,6 @@ public class MinigameScreen implements Screen {
     public void toGameScreen() {
         gameScreen.setScore(gameScreen.getScore() + score);
         this.game.setScreen(this.gameScreen);
-        dispose();
     }
 
     /**
@@ -281,7 +358,7 @@ public class MinigameScreen implements Screen {
      * @param y position of water
      */
     public void setTouch(int x, int y) {
-        water.setPosition(x - (waterImage.getWidth()/2f), y - (waterImage.getHeight()/2f));
+        water.setPosition(x - (water.width/2f), y - (water.height/2f));
         clicked.set(x, y);
     }
 
@@ -38,6 +38,8 @@ public class PauseScreen implements Screen {
     private final OrthographicCamera camera;
     private final Viewport viewport;
     private final Stage stage;
+    private final Label scoreLabel;
+    private final Label timeLabel;
 
     /**
      * The constructor for the pause screen
@@ -70,15 +72,8 @@ public class PauseScreen implements Screen {
         // Create a stage for buttons
         stage = new Stage(viewport, game.spriteBatch);
         stage.setDebugAll(DEBUG_ENABLED);
-    }
-
-    /**
-     * Called when this screen becomes the current screen for a {@link Game}.
-     */
-    @Override
-    public void show() {
-        Gdx.input.setInputProcessor(stage);
 
+        // Build the stage once, as the screen is kept until the game ends
         Table table = new Table();
         table.setFillParent(true);
         table.center();
@@ -90,9 +85,9 @@ public class PauseScreen implements Screen {
         TextButton resumeButton = new TextButton("Resume game", skin);
         TextButton howToPlayButton = new TextButton("How to Play", skin);
         TextButton quitButton = new TextButton("Return to Main Menu", skin);
-        Label scoreLabel = new Label("Score: " + gameScreen.getScore(), new Label.LabelStyle(game.coolFont, Color.WHITE));
+        scoreLabel = new Label("", new Label.LabelStyle(game.coolFont, Color.WHITE));
         scoreLabel.setAlignment(Align.right);
-        Label timeLabel = new Label("Time: " + gameScreen.getFireStationTime(), new Label.LabelStyle(game.coolFont, Color.WHITE));
+        timeLabel = new Label("", new Label.LabelStyle(game.coolFont, Color.WHITE));
         timeLabel.setAlignment(Align.left);
 
         table.add(label).padBottom(20);
@@ -114,14 +109,13 @@ public class PauseScreen implements Screen {
                 SFX.sfx_button_click.play();
                 game.setScreen(gameScreen);
                 gameScreen.resume();
-                dispose();
             }
         });
 
         howToPlayButton.addListener(new ClickListener() {
             @Override
             public void clicked(InputEvent event, float x, float y) {
-                game.setScreen(new HowToPlayScreen(game,  getThis()));
+                game.setScreen(game.getScreens().getHowToPlay(getThis()));
             }
         });
 
@@ -129,9 +123,9 @@ public class PauseScreen implements Screen {
             @Override
             public void clicked(InputEvent event, float x, float y) {
                 SFX.sfx_button_click.play();
-                game.setScreen(new MainMenuScreen(game));
-                gameScreen.dispose();
-                dispose();
+                game.setScreen(game.getScreens().getMainMenu());
+                // the game is over, so this screen is disposed along with it
+                game.getScreens().endGame();
             }
         });
 
@@ -142,7 +136,6 @@ public class PauseScreen implements Screen {
                     SFX.sfx_button_click.play();
                     game.setScreen(gameScreen);
                     gameScreen.resume();
-                    dispose();
                 }
                 return true;
             }
@@ -151,6 +144,18 @@ public class PauseScreen implements Screen {
         stage.addActor(table);
     }
 
+    /**
+     * Called when this screen becomes the current screen for a {@link Game}.
+     */
+    @Override
+    public void show() {
+        Gdx.input.setInputProcessor(stage);
+
+        // show the score and time the game was paused at
+        scoreLabel.setText("Score: " + gameScreen.getScore());
+        timeLabel.setText("Time: " + gameScreen.getFireStationTime());
+    }
+
     /**
      * Called when the screen should render itself.
      *
@@ -0,0 +1,182 @@
+package com.screens;
+
+/* =================================================================
+                   New class added for assessment 3
+   ===============================================================*/
+
+import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.utils.Disposable;
+import com.misc.Constants.Outcome;
+import com.Kroy;
+
+/**
+ * Keeps the screens the player moves between, so going back to
+ * one shows the same screen again, reset for its new use, rather
+ * than building a new stage and loading its images each time.
+ *
+ * Each screen is kept for one of two lifetimes:
+ * - the menus (main menu, how to play, story and game over) are
+ *   kept until the game is closed
+ * - the screens belonging to a game being played (the game screen,
+ *   its pause screen and its minigame) are kept until that game
+ *   ends with {@link #endGame()}, as they hold onto its state
+ *
+ * Screens are built the first time they are needed, except those
+ * that can be preloaded while the player is waiting anyway.
+ */
+public class ScreenManager implements Disposable {
+
+    private final Kroy game;
+
+    // kept until the game is closed
+    private MainMenuScreen mainMenuScreen;
+    private HowToPlayScreen howToPlayScreen;
+    private StoryScreen storyScreen;
+    private GameOverScreen gameOverScreen;
+
+    // kept until the game being played ends
+    private GameScreen gameScreen;
+    private PauseScreen pauseScreen;
+    private MinigameScreen minigameScreen;
+
+    /**
+     * Constructor for the screen manager, which starts
+     * with no screens built
+     *
+     * @param game  the game the screens are shown by
+     */
+    public ScreenManager(Kroy game) {
+        this.game = game;
+    }
+
+    /**
+     * Builds the main menu and the how to play screen it
+     * links to, once the menus' assets have loaded
+     *
+     * @return  the main menu
+     */
+    public MainMenuScreen preloadMenus() {
+        getHowToPlay(getMainMenu());
+        return getMainMenu();
+    }
+
+    public MainMenuScreen getMainMenu() {
+        if (mainMenuScreen == null) mainMenuScreen = new MainMenuScreen(game);
+        return mainMenuScreen;
+    }
+
+    /**
+     * Gets the how to play screen, set to return to the
+     * screen it was opened from
+     *
+     * @param returnScreen  either the main menu or pause screen
+     * @return              the how to play screen
+     */
+    public HowToPlayScreen getHowToPlay(Screen returnScreen) {
+        if (howToPlayScreen == null) {
+            howToPlayScreen = new HowToPlayScreen(game, returnScreen);
+        } else {
+            howToPlayScreen.reset(returnScreen);
+        }
+        return howToPlayScreen;
+    }
+
+    public StoryScreen getStory() {
+        if (storyScreen == null) storyScreen = new StoryScreen(game);
+        return storyScreen;
+    }
+
+    /**
+     * Gets the game over screen, set to show how the
+     * game that has just ended went
+     *
+     * @param outcome   whether the player won or lost
+     * @param score     the player's final score
+     * @return          the game over screen
+     */
+    public GameOverScreen getGameOver(Outcome outcome, int score) {
+        if (gameOverScreen == null) {
+            gameOverScreen = new GameOverScreen(game, outcome, score);
+        } else {
+            gameOverScreen.reset(outcome, score);
+        }
+        return gameOverScreen;
+    }
+
+    /**
+     * Starts a new game once its assets have loaded, ending
+     * any game that was still being kept, and preloads the
+     * screens that can be opened from it
+     *
+     * @return  the new game screen
+     */
+    public GameScreen startGame() {
+        endGame();
+        gameScreen = new GameScreen(game);
+        pauseScreen = new PauseScreen(game, gameScreen);
+        minigameScreen = new MinigameScreen(game, gameScreen);
+        return gameScreen;
+    }
+
+    public GameScreen getGameScreen() {
+        return gameScreen;
+    }
+
+    public PauseScreen getPause() {
+        return pauseScreen;
+    }
+
+    /**
+     * Gets the minigame, reset for a new round
+     *
+     * @return  the minigame screen
+     */
+    public MinigameScreen getMinigame() {
+        minigameScreen.reset();
+        return minigameScreen;
+    }
+
+    /**
+     * Disposes the screens belonging to the game being played,
+     * once the player has moved on from it
+     */
+    public void endGame() {
+        if (gameScreen == null) return;
+        minigameScreen.dispose();
+        pauseScreen.dispose();
+        gameScreen.dispose();
+        minigameScreen = null;
+        pauseScreen = null;
+        gameScreen = null;
+    }
+
+    /**
+     * Checks whether a screen is kept here, so will be
+     * disposed with the rest
+     *
+     * @param screen    the screen to check
+     * @return          <code>true</code> if it is kept here
+     *                  <code>false</code> otherwise
+     */
+    public boolean contains(Screen screen) {
+        return screen != null && (screen == mainMenuScreen || screen == howToPlayScreen
+                || screen == storyScreen || screen == gameOverScreen || screen == gameScreen
+                || screen == pauseScreen || screen == minigameScreen);
+    }
+
+    /**
+     * Disposes every screen kept, when the game is closed
+     */
+    @Override
+    public void dispose() {
+        endGame();
+        if (mainMenuScreen != null) mainMenuScreen.dispose();
+        if (howToPlayScreen != null) howToPlayScreen.dispose();
+        if (storyScreen != null) storyScreen.dispose();
+        if (gameOverScreen != null) gameOverScreen.dispose();
+        mainMenuScreen = null;
+        howToPlayScreen = null;
+        storyScreen = null;
+        gameOverScreen = null;
+    }
+}
@@ -21,6 +21,7 @@ import com.badlogic.gdx.utils.viewport.Viewport;
 import com.Kroy;
 import com.rafaskoberg.gdx.typinglabel.TypingLabel;
 
+import static com.misc.Constants.ASSET_LOADING_MILLIS;
 import static com.misc.Constants.DEBUG_ENABLED;
 
 /**
@@ -30,15 +31,18 @@ import static com.misc.Constants.DEBUG_ENABLED;
  */
 public class StoryScreen implements Screen {
 
+    private static final String BACKGROUND = "story.png";
+
     // A constant variable to store the game
     private final Kroy game;
-    private GameScreen gameScreen;
 
     // visuals and rendering
     private final OrthographicCamera camera;
     private final Stage stage;
     private final Skin skin;
     private final Viewport viewport;
+    private final Texture background;
+    private final TypingLabel storyLabel;
 
     /**
      * The constructor for the story screen
@@ -50,6 +54,7 @@ public class StoryScreen implements Screen {
 
         // imports common skin from game
         skin = game.getSkin();
+        background = game.getAssets().acquireTexture(BACKGROUND);
 
         // Create an orthographic camera
         camera = new OrthographicCamera();
@@ -69,15 +74,8 @@ public class StoryScreen implements Screen {
         // Create a stage for buttons
         stage = new Stage(viewport, game.spriteBatch);
         stage.setDebugAll(DEBUG_ENABLED);
-    }
-
-    /**
-     * Called when this screen becomes the current screen for a {@link Game}.
-     */
-    @Override
-    public void show() {
-        Gdx.input.setInputProcessor(stage);
 
+        // Build the stage once, as the story is kept to be shown before each game
         String story = "{FADE}The year is 2042...\n" +
                 "York has been invaded by evil extraterrestrials (ETs) from planet Kroy,{WAIT} who have set up fortresses in key locations around the city. \n" +
                 "While ETs are more technologically advanced and outgun humans,{WAIT} they have a major and very convenient - weakness:\n " +
@@ -89,14 +87,14 @@ public class StoryScreen implements Screen {
         Table table = new Table();
         table.center();
 
-        Image bcg = new Image(new Texture(Gdx.files.internal("story.png")));
+        Image bcg = new Image(background);
         Stack bcgstack = new Stack();
         bcgstack.setFillParent(true);
         bcgstack.add(bcg);
         bcgstack.add(table);
 
         // Create actors
-        TypingLabel storyLabel = new TypingLabel(story, skin);
+        storyLabel = new TypingLabel(story, skin);
         storyLabel.setAlignment(Align.center);
         TextButton continueButton = new TextButton("Continue", skin);
 
@@ -109,16 +107,32 @@ public class StoryScreen implements Screen {
         continueButton.addListener(new ClickListener() {
             @Override
             public void clicked(InputEvent event, float x, float y) {
-                game.setScreen(gameScreen);
-                dispose();
+                // Finish loading whatever is left before the game starts
+                game.setScreen(new LoadingScreen(game, new LoadingScreen.NextScreen() {
+                    @Override
+                    public Screen create() {
+                        return game.getScreens().startGame();
+                    }
+                }));
             }
         });
 
         // Add table to stage
         stage.addActor(bcgstack);
+    }
 
-        // creates game screen here to allow for less load time later
-        gameScreen = new GameScreen(game);
+    /**
+     * Called when this screen becomes the current screen for a {@link Game}.
+     */
+    @Override
+    public void show() {
+        Gdx.input.setInputProcessor(stage);
+
+        // type the story out again from the start
+        storyLabel.restart();
+
+        // starts loading the game's assets here to allow for less load time later
+        game.getAssets().queueGame();
     }
 
     /**
@@ -131,6 +145,9 @@ public class StoryScreen implements Screen {
         Gdx.gl.glClearColor(0, 0, 0.2f, 1);
         Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
 
+        // Load the game's assets a little each frame while the story is read
+        game.getAssets().update(ASSET_LOADING_MILLIS);
+
         // Draw the button stage
         stage.act(delta);
         stage.draw();
@@ -177,5 +194,6 @@ public class StoryScreen implements Screen {
     @Override
     public void dispose() {
         stage.dispose();
+        game.getAssets().release(BACKGROUND);
     }
 }
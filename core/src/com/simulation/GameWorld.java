@@ -0,0 +1,565 @@
+package com.simulation;
+
+/* =================================================================
+                   New class added for assessment 3
+   ===============================================================*/
+
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntityListener;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.utils.ImmutableArray;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Pool;
+import com.components.FortressComponent;
+import com.components.HealthComponent;
+import com.components.HitboxComponent;
+import com.components.Mappers;
+import com.components.PatrolRouteComponent;
+import com.components.SpriteComponent;
+import com.components.TransformComponent;
+import com.components.VoxelStackComponent;
+import com.components.WeaponComponent;
+import com.entities.ETFortress;
+import com.entities.Firestation;
+import com.entities.Firetruck;
+import com.entities.Patrol;
+import com.misc.CollisionGrid;
+import com.misc.Scheduler;
+import com.misc.Constants.CarparkEntrances;
+import com.misc.Constants.Outcome;
+import com.misc.NotificationQueue.Priority;
+import com.misc.SpatialHash;
+import com.misc.VoxelSlices;
+import com.pathFinding.Autopilot;
+import com.pathFinding.JumpPointSearch;
+import com.pathFinding.MapGraph;
+import com.pathFinding.PathfindingService;
+import com.sprites.MinigameSprite;
+import com.systems.FortressSystem;
+import com.systems.HealthSystem;
+import com.systems.HitboxSystem;
+import com.systems.MovementSystem;
+import com.systems.PatrolArrivalSystem;
+import com.systems.PatrolRouteSystem;
+import com.systems.ProjectileSystem;
+import com.systems.RenderSystem;
+import com.systems.WeaponSystem;
+
+import java.util.ArrayList;
+
+import static com.misc.Constants.*;
+
+/**
+ * Everything in a game of Kroy that changes as it is played - the fire
+ * station and its trucks, the fortresses, patrols, projectiles and minigame
+ * sprites, the score and the fire station's countdown - and the rules that
+ * change them, one fixed tick at a time.
+ *
+ * Nothing here draws, plays sounds or reads input. The game screen steers
+ * the active fire truck and draws the world between ticks, and is told about
+ * anything it needs to show through a {@link GameWorldListener}. Without one
+ * the world can be stepped as fast as it will go, for example to play many
+ * games in a test.
+ *
+ * The fortresses and patrols are entities in an Ashley engine,
+ * made of components for what they have - a weapon, health, a hitbox, a
+ * route - and moved on by systems that each handle the entities with the
+ * components they need, in priority order. The fire station and its trucks
+ * stay outside of the engine, as the station swaps which truck the player
+ * drives. Projectiles are kept apart in arrays by the ProjectileSystem, as
+ * there can be far more of them than anything else.
+ *
+ * Entities are never removed in the middle of a system's update - the engine
+ * waits until the system has finished - and dead patrols are kept in a pool
+ * and spawned again, with their components, instead of constructing more.
+ *
+ * The regions given to the world are only passed on to the patrols and
+ * projectiles it spawns, so when nothing will draw them they can be empty.
+ */
+public class GameWorld {
+
+    private final GameWorldListener listener;
+
+    // The map, as the tiles trucks collide with and the roads patrols drive along
+    private final CollisionGrid collisionGrid;
+    private final MapGraph mapGraph;
+
+    // Plans patrol routes on background threads
+    private final PathfindingService pathfinder;
+    // Drives the active fire truck to where the player right clicks
+    private final Autopilot autopilot;
+
+    // Used for the patrols and projectiles spawned during the game
+    private final VoxelSlices patrolSlices;
+    private final TextureRegion projectileRegion;
+
+    // The entities and the systems that move them on each tick
+    private final Engine engine;
+    private final ProjectileSystem projectileSystem;
+    private final PatrolRouteSystem patrolRouteSystem;
+    private final MovementSystem movementSystem;
+    private final PatrolArrivalSystem patrolArrivalSystem;
+    private final WeaponSystem weaponSystem;
+    private final RenderSystem renderSystem;
+    private final ImmutableArray<Entity> patrols;
+    // Patrols that have been removed, kept to be spawned again
+    private final Pool<Entity> patrolPool;
+
+    // Entities outside of the engine. Fortresses are also kept in order for the arrow
+    private Firestation firestation;
+    private final ArrayList<ETFortress> ETFortresses;
+    private final ArrayList<MinigameSprite> minigameSprites;
+
+    // Broadphase for collisions, entities are moved between cells as they move
+    private final SpatialHash<Entity> fortressHash;
+    private final SpatialHash<Entity> patrolHash;
+    private final SpatialHash<MinigameSprite> minigameHash;
+
+    // Reused to collect the candidates found by each spatial hash query
+    private final Array<Entity> candidates;
+    private final Array<MinigameSprite> minigameCandidates;
+
+    // Game state. Nothing can be damaged during the tutorial, and the fire
+    // station's countdown only starts once it is over
+    private int score;
+    private int time;
+    private boolean isInTutorial;
+    private Outcome outcome;
+
+    // Runs the countdown, spawns patrols and times repairs, healing and the hose,
+    // ticked with the world and while parked
+    private final Scheduler scheduler;
+    private final Scheduler.Task countdown;
+    private final Scheduler.Task patrolSpawner;
+
+    /**
+     * Constructs a world with no entities in it yet, in the tutorial
+     *
+     * @param collisionGrid     the compiled collision and carpark layers of the map
+     * @param mapGraph          the roads patrols drive along
+     * @param patrolSlices      the slices spawned patrols are drawn with
+     * @param projectileRegion  the region spawned projectiles are drawn with
+     * @param listener          told about anything that needs showing
+     */
+    public GameWorld(CollisionGrid collisionGrid, MapGraph mapGraph, VoxelSlices patrolSlices,
+                     TextureRegion projectileRegion, GameWorldListener listener) {
+        this.collisionGrid = collisionGrid;
+        this.mapGraph = mapGraph;
+        this.patrolSlices = patrolSlices;
+        this.projectileRegion = projectileRegion;
+        this.listener = listener;
+
+        this.pathfinder = new PathfindingService(mapGraph, PATHFINDING_THREADS, PATHFINDING_QUEUE_SIZE);
+        this.autopilot = new Autopilot(new JumpPointSearch(collisionGrid, AUTOPILOT_CLEARANCE));
+
+        this.ETFortresses = new ArrayList<>();
+        this.minigameSprites = new ArrayList<>();
+
+        // Create a spatial hash for each type of entity that collides, covering the whole map
+        float mapWidth = collisionGrid.getWidth() * TILE_DIMS;
+        float mapHeight = collisionGrid.getHeight() * TILE_DIMS;
+        this.fortressHash = new SpatialHash<>(mapWidth, mapHeight, SPATIAL_HASH_CELL_SIZE);
+        this.patrolHash = new SpatialHash<>(mapWidth, mapHeight, SPATIAL_HASH_CELL_SIZE);
+        this.minigameHash = new SpatialHash<>(mapWidth, mapHeight, SPATIAL_HASH_CELL_SIZE);
+        this.candidates = new Array<>();
+        this.minigameCandidates = new Array<>();
+
+        // Nothing is fired during the tutorial
+        this.engine = new Engine();
+        this.projectileSystem = new ProjectileSystem(mapWidth, mapHeight, projectileRegion, 0);
+        this.patrolRouteSystem = new PatrolRouteSystem(this, mapGraph, this.pathfinder, 2);
+        this.movementSystem = new MovementSystem(3);
+        this.patrolArrivalSystem = new PatrolArrivalSystem(this.pathfinder, 4);
+        this.weaponSystem = new WeaponSystem(this, 7);
+        this.weaponSystem.setProcessing(false);
+        this.renderSystem = new RenderSystem();
+        this.engine.addSystem(this.projectileSystem);
+        this.engine.addSystem(new FortressSystem(1));
+        this.engine.addSystem(this.patrolRouteSystem);
+        this.engine.addSystem(this.movementSystem);
+        this.engine.addSystem(this.patrolArrivalSystem);
+        this.engine.addSystem(new HitboxSystem(5));
+        this.engine.addSystem(new HealthSystem(6));
+        this.engine.addSystem(this.weaponSystem);
+        this.engine.addSystem(this.renderSystem);
+        Family patrolFamily = Family.all(PatrolRouteComponent.class).get();
+        this.patrols = this.engine.getEntitiesFor(patrolFamily);
+        this.patrolPool = new Pool<Entity>(PATROL_MAX, PATROL_MAX) {
+            @Override
+            protected Entity newObject() {
+                return createPatrolEntity();
+            }
+        };
+        this.engine.addEntityListener(patrolFamily, new EntityListener() {
+            @Override
+            public void entityAdded(Entity entity) {
+            }
+
+            @Override
+            public void entityRemoved(Entity entity) {
+                patrolPool.free(entity);
+            }
+        });
+
+        // Decrease time every second, starting at 3 minutes
+        this.time = TIME_STATION_VULNERABLE;
+        this.isInTutorial = true;
+        this.scheduler = new Scheduler();
+        this.countdown = new Scheduler.Task() {
+            @Override
+            public void run() {
+                time -= 1;
+            }
+        };
+        this.patrolSpawner = new Scheduler.Task() {
+            @Override
+            public void run() {
+                createPatrol();
+            }
+        };
+        this.scheduler.schedule(this.patrolSpawner, PATROL_SPAWN_DELAY * TICKS_PER_SECOND,
+                PATROL_SPAWN_INTERVAL * TICKS_PER_SECOND);
+    }
+
+    public void setFirestation(Firestation firestation) {
+        this.firestation = firestation;
+    }
+
+    /**
+     * Adds a fortress, armed with the damage and range of its type
+     *
+     * @param fortress  the fortress to add
+     */
+    public void addFortress(ETFortress fortress) {
+        this.ETFortresses.add(fortress);
+        Entity entity = new Entity();
+        entity.add(new TransformComponent(fortress.getCentreX(), fortress.getCentreY(),
+                fortress.getWidth(), fortress.getHeight(), fortress.getRotation()));
+        entity.add(new SpriteComponent(fortress));
+        entity.add(new FortressComponent(fortress));
+        entity.add(new HealthComponent(fortress.getHealthBar(), false));
+        entity.add(new HitboxComponent(fortress.getDamageHitBox(), this.fortressHash));
+        entity.add(new WeaponComponent(fortress.getType().getDamage(), fortress.getType().getRange(),
+                FORTRESS_VOLLEY, false, PROJECTILE_OWNER_FORTRESS));
+        this.engine.addEntity(entity);
+    }
+
+    /**
+     * Adds a sprite that starts the minigame when the active fire truck drives over it
+     *
+     * @param minigameSprite    the sprite to add
+     */
+    public void addMinigameSprite(MinigameSprite minigameSprite) {
+        this.minigameSprites.add(minigameSprite);
+        this.minigameHash.update(minigameSprite, minigameSprite.getHitBox().getBoundingRectangle());
+    }
+
+    /**
+     * Advances the world by one fixed step of FIXED_TIMESTEP seconds, moving
+     * every entity and checking for collisions. The active fire truck should
+     * be steered for the tick before it is called.
+     */
+    public void tick() {
+        // Move the active fire truck, by the player or the autopilot
+        updateAutopilot();
+        this.firestation.tickFiretruck();
+
+        // Move the projectiles and patrols, flood destroyed fortresses and fire their weapons
+        this.engine.update(FIXED_TIMESTEP);
+        // However many shots were fired, they are heard as one
+        if (this.projectileSystem.pollFired() > 0) this.listener.projectileFired();
+
+        this.firestation.tick();
+        this.scheduler.tick();
+
+        // Check for any collisions
+        if (!this.isInTutorial) checkForCollisions();
+
+        // Check if the game should end
+        checkIfGameOver();
+
+        checkIfCarpark();
+    }
+
+    /**
+     * Advances the world by one tick while the player is in the car park
+     * menu. Only the patrols move, and trucks parked at the fire station
+     * are repaired and refilled, including the active one
+     */
+    public void tickParked() {
+        this.firestation.checkRepairRefill(getFireStationTime(), true);
+
+        this.patrolRouteSystem.update(FIXED_TIMESTEP);
+        this.movementSystem.update(FIXED_TIMESTEP);
+        this.patrolArrivalSystem.update(FIXED_TIMESTEP);
+        this.scheduler.tick();
+    }
+
+    /**
+     * Starts the game properly once the tutorial is over - the active truck
+     * is refilled and sent back to the fire station, the patrols roaming
+     * the tutorial are removed, and the fire station's countdown starts and
+     * everything starts firing
+     */
+    public void finishTutorial() {
+        if (!this.isInTutorial) return;
+        this.isInTutorial = false;
+        Firetruck firetruck = this.firestation.getActiveFireTruck();
+        firetruck.getWaterBar().resetResourceAmount();
+        firetruck.setRespawnLocation(0);
+        firetruck.respawn();
+        firetruck.setHose(false);
+        for (int i = this.patrols.size() - 1; i >= 0; i--) {
+            this.engine.removeEntity(this.patrols.get(i));
+        }
+        this.weaponSystem.setProcessing(true);
+        this.scheduler.schedule(this.countdown, TICKS_PER_SECOND, TICKS_PER_SECOND);
+    }
+
+    /**
+     * Spawns a patrol, up to a certain number. A patrol
+     * that has been removed is spawned again if there is one
+     * */
+    public void createPatrol() {
+        if (this.patrols.size() < PATROL_MAX) {
+            boolean reused = this.patrolPool.getFree() > 0;
+            Entity entity = this.patrolPool.obtain();
+            if (reused) Mappers.patrolRoute.get(entity).patrol.respawn();
+            this.engine.addEntity(entity);
+        }
+    }
+
+    /** Constructs a patrol and the entity it is part of */
+    private Entity createPatrolEntity() {
+        Patrol patrol = new Patrol(this.patrolSlices, this.mapGraph, this.pathfinder);
+        Entity entity = new Entity();
+        entity.add(patrol.getTransform());
+        entity.add(patrol.getVelocity());
+        entity.add(new SpriteComponent(patrol));
+        entity.add(new HealthComponent(patrol.getHealthBar(), true));
+        entity.add(new HitboxComponent(patrol.getDamageHitBox(), this.patrolHash));
+        entity.add(new VoxelStackComponent(this.patrolSlices));
+        entity.add(new WeaponComponent(PATROL_DAMAGE, PATROL_DETECTION_RANGE, WEAPON_VOLLEY_CYCLE, true, PROJECTILE_OWNER_PATROL));
+        entity.add(new PatrolRouteComponent(patrol));
+        return entity;
+    }
+
+    /**
+     * Sets the active fire truck driving itself to a position, or to what is
+     * there - the centre of a fortress, the fire station's car park entrance
+     * or a car park entrance near it
+     *
+     * @param x the x coordinate to drive to
+     * @param y the y coordinate to drive to
+     * @return  <code>true</code> if the truck can get there
+     *          <code>false</code> otherwise
+     */
+    public boolean autopilotTo(float x, float y) {
+        for (ETFortress fortress : this.ETFortresses) {
+            if (fortress.getDamageHitBox().contains(x, y)) {
+                x = fortress.getCentreX();
+                y = fortress.getCentreY();
+            }
+        }
+        if (this.firestation.getDamageHitBox().contains(x, y)) {
+            x = CarparkEntrances.Main1.getLocation().x;
+            y = CarparkEntrances.Main1.getLocation().y;
+        }
+        for (CarparkEntrances entrance : CarparkEntrances.values()) {
+            if (entrance.getLocation().dst(x, y) < AUTOPILOT_CARPARK_RADIUS) {
+                x = entrance.getLocation().x;
+                y = entrance.getLocation().y;
+            }
+        }
+        return this.autopilot.driveTo(this.firestation.getActiveFireTruck(), x, y);
+    }
+
+    /**
+     * Steers the active fire truck if the autopilot is driving it, handing
+     * control back if the player steers, the truck changes or a car park is entered
+     */
+    private void updateAutopilot() {
+        if (!this.autopilot.isEngaged()) return;
+        Firetruck firetruck = this.firestation.getActiveFireTruck();
+        if (this.autopilot.getSprite() != firetruck || !firetruck.isAlive()
+                || firetruck.isSteeredByPlayer() || this.firestation.isMenuOpen()) {
+            this.autopilot.disengage();
+        } else {
+            this.autopilot.drive();
+        }
+    }
+
+    /**
+     * Tells the listener when the fire truck's car park menu is open
+     */
+    private void checkIfCarpark() {
+        if (this.firestation.isMenuOpen()) this.listener.carparkEntered();
+    }
+
+    /**
+     * Checks to see if the player has won or lost the game, telling the listener the first time
+     */
+    private void checkIfGameOver() {
+        if (this.outcome != null) return;
+        boolean gameWon = true, gameLost = true;
+        // Check if any firetrucks are still alive
+        if (this.firestation.hasParkedFiretrucks() || this.firestation.getActiveFireTruck().isAlive()) gameLost = false;
+
+        // Check if any fortresses are still alive
+        for (ETFortress ETFortress : this.ETFortresses) {
+            if (ETFortress.getHealthBar().getCurrentAmount() > 0) gameWon = false;
+        }
+        if (gameWon) this.outcome = Outcome.WON;
+        else if (gameLost) this.outcome = Outcome.LOST;
+        if (this.outcome != null) this.listener.gameOver(this.outcome);
+    }
+
+    /**
+     * Checks to see if any collisions have occurred. Each check only looks
+     * at the entities the spatial hashes find near the area being checked.
+     * The fortresses and patrols fire their weapons in the WeaponSystem.
+     */
+    private void checkForCollisions() {
+        Firetruck firetruck = this.firestation.getActiveFireTruck();
+        Rectangle hoseBounds = firetruck.getHoseRange().getBoundingRectangle();
+
+        // Check if the hose reaches an ETFortress or a patrol, if it hits this tick
+        if (firetruck.fireHose()) {
+            sprayHose(firetruck, hoseBounds, this.fortressHash);
+            sprayHose(firetruck, hoseBounds, this.patrolHash);
+        }
+
+        // Checks if truck has driven over a minigame sprite
+        this.minigameHash.query(firetruck.getMovementHitBox().getBoundingRectangle(), this.minigameCandidates);
+        for (int i = 0; i < this.minigameCandidates.size; i++) {
+            MinigameSprite minigameSprite = this.minigameCandidates.get(i);
+            if (SpatialHash.overlaps(firetruck.getMovementHitBox(), minigameSprite.getHitBox())) {
+                this.minigameSprites.remove(minigameSprite);
+                this.minigameHash.remove(minigameSprite);
+                firetruck.setSpeed(new Vector2(0, 0));
+                firetruck.setHose(false);
+                this.listener.minigameFound();
+            }
+        }
+
+        // Check if firetruck or the fire station is hit with a projectile
+        int hits = this.projectileSystem.collide(firetruck.getDamageHitBox(), firetruck.getHealthBar());
+        if (hits > 0) this.listener.firetruckHit();
+        for (int i = 0; i < hits; i++) {
+            if (this.score >= 10) this.score -= 10;
+        }
+        if (!firestation.isDestroyed() && firestation.isVulnerable()) {
+            this.projectileSystem.collide(firestation.getDamageHitBox(), firestation.getHealthBar());
+        }
+        /* Check if it is in the firestation's radius. Only repair the truck if it needs repairing.
+        Allows multiple trucks to be in the radius and be repaired or refilled every second.*/
+        this.firestation.checkRepairRefill(this.time, false);
+    }
+
+    /**
+     * Damages every entity in a hash that the fire truck's hose reaches,
+     * scoring 10 for each
+     *
+     * @param firetruck     the truck spraying its hose
+     * @param hoseBounds    the bounds of the hose's range
+     * @param hash          the hash of entities the hose can damage
+     */
+    private void sprayHose(Firetruck firetruck, Rectangle hoseBounds, SpatialHash<Entity> hash) {
+        hash.query(hoseBounds, this.candidates);
+        for (int i = 0; i < this.candidates.size; i++) {
+            Entity entity = this.candidates.get(i);
+            HealthComponent health = Mappers.health.get(entity);
+            if (!health.isDead() && firetruck.isInHoseRange(Mappers.hitbox.get(entity).polygon)) {
+                health.bar.subtractResourceAmount((int) firetruck.getDamage());
+                this.score += 10;
+            }
+        }
+    }
+
+    /**
+     * Passes a message for the player on to the listener
+     *
+     * @param text      text to display
+     * @param repeat    how many times the message should appear
+     * @param interval  how long the message should stay up for
+     */
+    public void showPopupText(String text, int repeat, int interval) {
+        showPopupText(text, repeat, interval, Priority.NORMAL);
+    }
+
+    /**
+     * Passes a message for the player on to the listener
+     *
+     * @param text      text to display
+     * @param repeat    how many times the message should appear
+     * @param interval  how long the message should stay up for
+     * @param priority  how important the message is
+     */
+    public void showPopupText(String text, int repeat, int interval, Priority priority) {
+        this.listener.showPopupText(text, repeat, interval, priority);
+    }
+
+    /**
+     * Returns a tuple containing the number of fortresses
+     * destroyed and total number of fortresses
+     *
+     * @return  tuple of ints
+     */
+    public int[] getETFortressesDestroyed() {
+        int fortressesDestroyed = 0;
+        for (ETFortress fortress : this.ETFortresses)
+            if (fortress.isFlooded())
+                fortressesDestroyed++;
+        return new int[]{fortressesDestroyed, this.ETFortresses.size()};
+    }
+
+    /**
+     * Stops planning patrol routes
+     */
+    public void dispose() {
+        this.scheduler.clear();
+        this.engine.removeAllEntities();
+        this.pathfinder.dispose();
+    }
+
+    /**
+     * Returns the time for the fire station
+     * @return  <code>if time greater than 0</code> time
+     *          <code>if time less than 0</code> 0
+     */
+    public int getFireStationTime() { return Math.max(this.time, 0); }
+
+    public int getTime() { return this.time; }
+
+    public int getScore() { return this.score; }
+
+    public void setScore(int score) { this.score = score; }
+
+    public boolean isInTutorial() { return this.isInTutorial; }
+
+    public Outcome getOutcome() { return this.outcome; }
+
+    public Firestation getFirestation() { return this.firestation; }
+
+    public ArrayList<ETFortress> getFortresses() { return this.ETFortresses; }
+
+    public ImmutableArray<Entity> getPatrols() { return this.patrols; }
+
+    public ProjectileSystem getProjectileSystem() { return this.projectileSystem; }
+
+    public Engine getEngine() { return this.engine; }
+
+    public Scheduler getScheduler() { return this.scheduler; }
+
+    public RenderSystem getRenderSystem() { return this.renderSystem; }
+
+    public ArrayList<MinigameSprite> getMinigameSprites() { return this.minigameSprites; }
+
+    public CollisionGrid getCollisionGrid() { return this.collisionGrid; }
+
+    public MapGraph getMapGraph() { return this.mapGraph; }
+}
@@ -0,0 +1,45 @@
+package com.simulation;
+
+/* =================================================================
+                   New class added for assessment 3
+   ===============================================================*/
+
+import com.misc.Constants.Outcome;
+import com.misc.NotificationQueue.Priority;
+
+/**
+ * Told about the things happening in a GameWorld that whatever is showing
+ * it needs to react to - sounds, popups and moving to another screen. A
+ * world running with nothing showing it can ignore all of them.
+ */
+public interface GameWorldListener {
+
+    /**
+     * A message for the player
+     *
+     * @param text      text to display
+     * @param repeat    how many times the message should appear
+     * @param interval  how long the message should stay up for, in seconds
+     * @param priority  how important the message is compared to the others waiting
+     */
+    void showPopupText(String text, int repeat, int interval, Priority priority);
+
+    /** A fortress or patrol fired a projectile */
+    void projectileFired();
+
+    /** The active fire truck was hit by a projectile */
+    void firetruckHit();
+
+    /** The active fire truck drove over a minigame sprite, which has been removed */
+    void minigameFound();
+
+    /** The active fire truck is in a car park, so its menu is open. Told every tick until it is closed */
+    void carparkEntered();
+
+    /**
+     * Every fortress or every fire truck has been destroyed
+     *
+     * @param outcome   whether the player won or lost
+     */
+    void gameOver(Outcome outcome);
+}
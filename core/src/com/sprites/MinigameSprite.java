@@ -4,10 +4,9 @@ package com.sprites;
                        New class added for assessment 3
    ===============================================================*/
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.graphics.g2d.Sprite;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Polygon;
 import com.misc.Constants;
 
@@ -23,13 +22,12 @@ public class MinigameSprite extends Sprite {
     /**
      * Constructor for minigame sprite
      *
-     *
-     *
-     * @param x coordinate where the sprite spawns
-     * @param y coordinate where the sprite spawns
+     * @param region    drawn for the sprite, shared by every minigame sprite
+     * @param x         coordinate where the sprite spawns
+     * @param y         coordinate where the sprite spawns
      */
-    public MinigameSprite(float x, float y) {
-        super(new Texture(Gdx.files.internal("minigame.png")));
+    public MinigameSprite(TextureRegion region, float x, float y) {
+        super(region);
         this.setBounds(x*Constants.TILE_DIMS, y*Constants.TILE_DIMS, 1.5f * Constants.TILE_DIMS, 1.5f * Constants.TILE_DIMS);
         this.hitBox = new Polygon(new float[]{0,0,this.getWidth(),0,this.getWidth(),this.getHeight(),0,this.getHeight()});
         this.hitBox.setPosition(this.getX(), this.getY());
@@ -41,7 +39,7 @@ public class MinigameSprite extends Sprite {
      * @param batch to be drawn to
      */
     public void update(Batch batch) {
-        batch.draw(super.getTexture(), super.getX(), super.getY(), super.getWidth(), super.getHeight());
+        batch.draw(this, super.getX(), super.getY(), super.getWidth(), super.getHeight());
     }
 
     public Polygon getHitBox() {
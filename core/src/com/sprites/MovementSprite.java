@@ -1,19 +1,14 @@
 package com.sprites;
 
 // LibGDX imports
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
-import com.badlogic.gdx.math.Polygon;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.utils.Array;
+import com.misc.CollisionGrid;
 import com.misc.Constants.Direction;
 //import org.omg.PortableInterceptor.SYSTEM_EXCEPTION;
 
-// Constants import
-
-import static com.misc.Constants.TILE_DIMS;
+import static com.misc.Constants.FIXED_TIMESTEP;
 
 /**
  * MovementSprite adds movement facilities to a sprite.
@@ -26,18 +21,36 @@ public class MovementSprite extends SimpleSprite {
     private float accelerationRate, decelerationRate, maxSpeed, rotationLockTime;
     private Vector2 speed;
 
-    // layer that provides collisions
-    private TiledMapTileLayer collisionLayer;
+    // compiled collision layer of the map
+    private CollisionGrid collisionGrid;
 
     /**
      * Creates a sprite capable of moving and colliding with the tiledMap and other sprites.
      * 
      * @param spriteTexture  The texture the sprite should use.
-     * @param collisionLayer The layer of the map the sprite will collide with.
+     * @param collisionGrid  The compiled collision layer of the map the sprite will collide with.
      */
-    public MovementSprite(Texture spriteTexture, TiledMapTileLayer collisionLayer) {
+    public MovementSprite(Texture spriteTexture, CollisionGrid collisionGrid) {
         super(spriteTexture);
-        this.collisionLayer = collisionLayer;
+        this.collisionGrid = collisionGrid;
+        this.create();
+    }
+
+    /*
+     *  =======================================================================
+     *                          Added for Assessment 3
+     *  =======================================================================
+     */
+    /**
+     * Creates a sprite capable of moving and colliding with the tiledMap and other sprites,
+     * drawn with a region of a texture atlas.
+     *
+     * @param spriteRegion   The atlas region the sprite should use.
+     * @param collisionGrid  The compiled collision layer of the map the sprite will collide with.
+     */
+    public MovementSprite(TextureRegion spriteRegion, CollisionGrid collisionGrid) {
+        super(spriteRegion);
+        this.collisionGrid = collisionGrid;
         this.create();
     }
 
@@ -51,6 +64,17 @@ public class MovementSprite extends SimpleSprite {
         this.create();
     }
 
+    /**
+     * Creates a sprite capable of moving and but only colliding with other sprites,
+     * drawn with a region of a texture atlas.
+     *
+     * @param spriteRegion  The atlas region the sprite should use.
+     */
+    public MovementSprite(TextureRegion spriteRegion) {
+        super(spriteRegion);
+        this.create();
+    }
+
     /**
      * Sets the inital values for all properties needed by the sprite.
      */
@@ -62,19 +86,23 @@ public class MovementSprite extends SimpleSprite {
         this.maxSpeed = 200;
     }
 
+    /*
+     *  =======================================================================
+     *                          Modified for Assessment 3
+     *  =======================================================================
+     */
     /**
      * Update the sprite position and direction based on acceleration and
-     * boundaries. This is called every game frame.
-     * @param batch  The batch to draw onto.
+     * boundaries. This is called every tick.
      */
-    public void update(Batch batch) {
+    @Override
+    protected void move() {
         // Calculate the acceleration on the sprite and apply it
         accelerate();
 
         // Rotate sprite to face the direction its moving in
         updateRotation();
 
-        super.update(batch);
         // Update rotationLockout if set
         if (this.rotationLockTime >= 0) this.rotationLockTime -= 1; 
     }
@@ -109,7 +137,7 @@ public class MovementSprite extends SimpleSprite {
             // Use the shortest angle
             angle = (angle + 180) % 360 - 180;
             float rotationSpeed = 0.05f * this.speed.len();
-            this.rotate(angle * rotationSpeed * Gdx.graphics.getDeltaTime());
+            this.rotate(angle * rotationSpeed * FIXED_TIMESTEP);
         }
     }
 
@@ -124,21 +152,21 @@ public class MovementSprite extends SimpleSprite {
      */
     private void accelerate() {
         // Calculate whether it hits any boundaries
-        int collisions = collidesWithBlockedTile(this.collisionLayer);
+        int collisions = collidesWithBlockedTile();
         // Check if it collides with any tiles, then move the sprite
         if (collisions == 0) {
-            this.setX(this.getX() + this.speed.x * Gdx.graphics.getDeltaTime());
-            this.setY(this.getY() + this.speed.y * Gdx.graphics.getDeltaTime());
+            this.setX(this.getX() + this.speed.x * FIXED_TIMESTEP);
+            this.setY(this.getY() + this.speed.y * FIXED_TIMESTEP);
             if (this.decelerationRate != 0) decelerate();
         } else if (collisions == 1){
             // Separate the sprite from the tile and stop sprite movement
             if (Math.abs(this.speed.x) > Math.abs(this.speed.y)) {
-                this.speed = new Vector2(this.speed.x*.85f, -this.speed.y*.75f);
+                this.speed.set(this.speed.x*.85f, -this.speed.y*.75f);
             } else {
-                this.speed = new Vector2(-this.speed.x*.75f, this.speed.y*.75f);
+                this.speed.set(-this.speed.x*.75f, this.speed.y*.75f);
             }
         } else {
-            this.speed = new Vector2(-(this.speed.x*0.7f), -(this.speed.y*0.7f));
+            this.speed.set(-(this.speed.x*0.7f), -(this.speed.y*0.7f));
         }
     }
 
@@ -166,42 +194,12 @@ public class MovementSprite extends SimpleSprite {
      *  =======================================================================
      */
     /**
-     * Checks if the tile at a location is a "blocked" tile or not.
-     * @return Whether the hits a collision object (true) or not (false)
+     * Checks if the tiles under the hit box are "blocked" tiles or not.
+     * @return The number of hit box vertices on a blocked tile
      */
-    private int collidesWithBlockedTile(TiledMapTileLayer layer) {
-        int collisions = 0;
-        if (layer != null) {
-            for (Vector2 vertex : getPolygonVertices(super.getMovementHitBox())) {
-                if (layer.getCell(((int) (vertex.x / TILE_DIMS)), ((int) (vertex.y / TILE_DIMS))) != null) {
-                    collisions++;
-                }
-            }
-        }
-        return collisions;
-    }
-
-    /*
-     *  =======================================================================
-     *                          Added for Assessment 3
-     *  =======================================================================
-     */
-    /**
-     * Gets the coordinates, as Vector2s for each vertex
-     * of the polygon
-     *
-     * @param polygon   to get coordinates of
-     * @return          list of coordinates
-     */
-    protected Array<Vector2> getPolygonVertices(Polygon polygon) {
-        float[] vertices = polygon.getTransformedVertices();
-        Array<Vector2> result = new Array<>();
-        for (int i = 0; i < vertices.length/2; i++) {
-            float x = vertices[i * 2];
-            float y = vertices[i * 2 + 1];
-            result.add(new Vector2(x, y));
-        }
-        return result;
+    private int collidesWithBlockedTile() {
+        if (this.collisionGrid == null) return 0;
+        return this.collisionGrid.countBlocked(super.getMovementHitBox().getTransformedVertices());
     }
 
     /**
@@ -236,6 +234,22 @@ public class MovementSprite extends SimpleSprite {
         return this.maxSpeed;
     }
 
+    /**
+     * Returns the rate at which the sprite accelerates.
+     * @return  The acceleration rate for the sprite.
+     */
+    public float getAccelerationRate() {
+        return this.accelerationRate;
+    }
+
+    /**
+     * Returns the current speed of the sprite.
+     * @return  The speed the sprite is travelling at.
+     */
+    public Vector2 getSpeed() {
+        return this.speed;
+    }
+
     /**
      * Sets the current speed of the sprite.
      * @param speed The speed the sprite should travel.
@@ -4,38 +4,46 @@ package com.sprites;
    New class added for assessment 3
    ===============================================================*/
 
+import com.components.TransformComponent;
+import com.components.VelocityComponent;
+import com.pathFinding.FlowField;
 import com.pathFinding.Junction;
 import com.pathFinding.MapGraph;
+import com.pathFinding.PathfindingService;
 import com.pathFinding.Road;
 import com.badlogic.gdx.ai.pfa.GraphPath;
-import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.IntArray;
 import com.badlogic.gdx.utils.Queue;
+import com.systems.MovementSystem;
 
 /** This class is the super class for Patrol and is used to
  * move the patrol around the map. It extends SimpleSprite
- * which gives it a damageHitbox, healthbar and allows you
- * to rotate the patrol
+ * which gives it a damageHitbox and healthbar.
+ *
+ * The patrol's position, rotation and velocity are kept in
+ * the components of its entity, which the MovementSystem
+ * moves it with. In the world the PatrolRouteSystem steers
+ * it each tick before it moves and the PatrolArrivalSystem
+ * checks whether it has reached a junction after, and step
+ * does all three when the patrol is used on its own
  */
 
 public class PatrolMovementSprite extends SimpleSprite {
 
     // The mapGraph that contains all the junctions in the map
     final MapGraph mapGraph;
+    // The id mapGraph records this patrol by when it locks a road
+    final int patrolId;
     // The road the patrol is currently travelling on
     Road setRoad;
 
-    // The patrol's x position
-    float x;
-    // The patrol's y position
-    float y;
-
-    // How much the patrol should move each frame in the x direction
-    float deltaX;
-    // How much the patrol should move each frame in the y direction
-    float deltaY;
+    // Where the patrol's centre is and which way it faces
+    final TransformComponent transform;
+    // How much the patrol should move each tick
+    final VelocityComponent velocity;
 
     // The speed that the patrols should move
     final float speed;
@@ -46,109 +54,230 @@ public class PatrolMovementSprite extends SimpleSprite {
     // from its start position to it's goal position
     final Queue<Junction> pathQueue;
 
+    // The junction the patrol is trying to reach
+    Junction goal;
+    // The frame the patrol should leave for each junction in pathQueue - empty
+    // if the path wasn't planned around other patrols
+    final IntArray departures;
+    // How many junctions at the start of pathQueue the patrol has reserved the roads to
+    int plannedSteps;
+    // The roads the patrol has reserved in mapGraph
+    final IntArray reservations;
+    // Whether the patrol is waiting at a junction for its departure frame
+    boolean waiting;
+
+    // The flow field the patrol follows while it is hunting, or null if it is
+    // patrolling between random junctions
+    FlowField huntField;
+
+    // Plans the patrol's routes on other threads, or null to plan them straight away
+    final PathfindingService pathfinder;
+    // The route the patrol is idling at its junction for, or null if it isn't waiting for one
+    PathfindingService.Request routeRequest;
+
     /** Constructor for PatrolMovementSprite
      *
-     * @param spriteTexture  The texture for the PatrolMovementSprite
+     * @param spriteRegion   The atlas region for the PatrolMovementSprite
      * @param mapGraph       mapGraph that contains all the junctions in the map
      */
-    public PatrolMovementSprite(Texture spriteTexture, MapGraph mapGraph){
-        super(spriteTexture);
+    public PatrolMovementSprite(TextureRegion spriteRegion, MapGraph mapGraph){
+        this(spriteRegion, mapGraph, null);
+    }
+
+    /** Constructor for PatrolMovementSprite that has its routes planned on other threads
+     *
+     * @param spriteRegion   The atlas region for the PatrolMovementSprite
+     * @param mapGraph       mapGraph that contains all the junctions in the map
+     * @param pathfinder     plans the patrol's routes, or null to plan them straight away
+     */
+    public PatrolMovementSprite(TextureRegion spriteRegion, MapGraph mapGraph, PathfindingService pathfinder){
+        super(spriteRegion);
 
         this.mapGraph = mapGraph;
+        this.pathfinder = pathfinder;
+        this.patrolId = mapGraph.registerPatrol();
         this.pathQueue = new Queue<>();
+        this.departures = new IntArray();
+        this.reservations = new IntArray();
+        this.speed = 2.0f;
+        this.transform = new TransformComponent(0, 0, getWidth(), getHeight(), 0);
+        this.velocity = new VelocityComponent();
+        spawn();
+    }
+
+    /** Puts a patrol that has been removed from the game back at a random
+     * junction, as if it had just been constructed, so it can be reused. It
+     * should have released its roads with MapGraph.removeDead first
+     */
+    public void respawn() {
+        this.setRoad = null;
+        this.huntField = null;
+        this.routeRequest = null;
+        this.waiting = false;
+        spawn();
+        this.transform.rotation = 0;
+        this.resetInterpolation();
+    }
 
+    /** Starts the patrol at a random junction, heading for another */
+    private void spawn() {
         // Generates a random start and end position each time you start the game
         Junction start = mapGraph.getJunctions().random();
         Junction goal = mapGraph.getJunctions().random();
 
-        this.x = start.getX();
-        this.y = start.getY();
+        this.transform.x = start.getX();
+        this.transform.y = start.getY();
 
-        this.deltaX = 0f;
-        this.deltaY = 0f;
-        this.speed = 2.0f;
+        this.velocity.x = 0f;
+        this.velocity.y = 0f;
 
         this.previousJunction = start;
 
         setGoal(goal);
 
+        // The route is still being planned, so there is no road to lock yet
+        if (this.pathQueue.size == 0) return;
+
         /* The road it is travelling on is the road between the junction it will start
         moving from (here it's it start junction) and the next junction it is moving to
         (here it's the first junction in pathQueue) */
         this.setRoad = mapGraph.getRoad(this.previousJunction, this.pathQueue.first());
 
-        /* Calls lockRoad in mapGraph which adds the road it is travelling on to the hashmap
-        lockedRoads in mapGraph so another patrol doesn't travel on this road at the same
+        /* Calls lockRoad in mapGraph which records this patrol as the owner of the road it
+        is travelling on in lockedRoads in mapGraph so another patrol doesn't travel on this road at the same
         time */
         mapGraph.lockRoad(this.setRoad, this);
     }
 
-    /** Called each frame, it updates the patrols position
-     *
-     * @param batch  The batch to draw onto.
-     */
-    public void update(Batch batch) {
+    /** Called each tick, it updates the patrols position */
+    @Override
+    protected void move() {
         this.step();
-        super.update(batch);
     }
 
     /**
      * This generates the queue of junctions the patrol will have to travel through
      * to go from it's start position to it's goal position, once it's created a path
      * it calls setSpeedToNextCity
+     *
+     * The path is planned around the roads other patrols have reserved, waiting at
+     * or going around busy roads, and the roads on the first part of it are reserved.
+     * If it can't be planned the shortest path is followed instead.
+     *
+     * If the patrol has a pathfinder the route is planned on another thread
+     * instead, and the patrol waits at its junction until it is delivered
      * @param goal node to end up at
      */
     public void setGoal(Junction goal){
-        GraphPath<Junction> junctionPath = mapGraph.findPath(previousJunction, goal);
-        for (int i = 0; i < junctionPath.getCount(); i++){
-            pathQueue.addLast(junctionPath.get(i));
+        this.goal = goal;
+        pathQueue.clear();
+        departures.clear();
+        if (pathfinder != null) {
+            plannedSteps = 0;
+            velocity.x = 0;
+            velocity.y = 0;
+            waiting = true;
+            routeRequest = pathfinder.request(this, previousJunction, goal);
+            return;
+        }
+        plannedSteps = mapGraph.planRoute(this, previousJunction, goal, pathQueue, departures);
+        if (plannedSteps == 0) {
+            pathQueue.clear();
+            departures.clear();
+            GraphPath<Junction> junctionPath = mapGraph.findPath(previousJunction, goal);
+            for (int i = 0; i < junctionPath.getCount(); i++){
+                pathQueue.addLast(junctionPath.get(i));
+            }
         }
         setSpeedToNextJunction();
     }
 
     /**
-     * This calculates the speed at which the patrol should move each frame to go from
+     * Called by the pathfinder at the start of a frame with the route it has
+     * planned, once the roads on it have been reserved. The patrol sets off
+     * along it the same as if it had been planned by setGoal
+     *
+     * @param path          the junctions on the route, starting with the one the
+     *                      patrol is waiting at
+     * @param departures    the frame to leave each junction in path, or empty if
+     *                      the route wasn't planned around other patrols
+     * @param plannedSteps  how many junctions at the start of path the roads have
+     *                      been reserved to
+     */
+    public void routeFound(Queue<Junction> path, IntArray departures, int plannedSteps) {
+        routeRequest = null;
+        waiting = false;
+        pathQueue.clear();
+        for (int i = 0; i < path.size; i++) {
+            pathQueue.addLast(path.get(i));
+        }
+        this.departures.clear();
+        this.departures.addAll(departures);
+        this.plannedSteps = plannedSteps;
+        if (pathQueue.size == 0) {
+            reachDestination();
+        } else {
+            setSpeedToNextJunction();
+        }
+    }
+
+    /** Stops waiting for a route that has been asked for, so it is never delivered */
+    public void cancelRoute() {
+        routeRequest = null;
+    }
+
+    /**
+     * This calculates the speed at which the patrol should move each tick to go from
      * the junction it is at (previousJunction) to the next junction it should go to.
      */
     private void setSpeedToNextJunction(){
         Junction nextJunction = pathQueue.first();
         float angle = MathUtils.atan2(nextJunction.getY() - previousJunction.getY(), nextJunction.getX() - previousJunction.getX());
-        deltaX = MathUtils.cos(angle) * this.speed;
-        deltaY = MathUtils.sin(angle) * this.speed;
+        velocity.x = MathUtils.cos(angle) * this.speed;
+        velocity.y = MathUtils.sin(angle) * this.speed;
     }
 
     /**
-     * This updates the rotation of the patrol so it looks like it is facing the
-     * direction it is moving in. First calculates this in radians (angle) then
-     * converts it into degrees (angleDeg).
+     * This is called each tick and is what makes the patrol look like it
+     * is moving by updating it's x and y position by an amount set by
+     * setSpeedToNextJunction. The patrol faces the way it moves.
      */
-    private void updateRotation(){
-        Junction nextJunction = pathQueue.first();
-        float angle = MathUtils.atan2(nextJunction.getY() - previousJunction.getY(),
-                                      nextJunction.getX() - previousJunction.getX());
-        double angleDEG = angle * (180/Math.PI);
-        this.setRotation((float) angleDEG);
+    public void step() {
+        steer();
+        MovementSystem.move(transform, velocity);
+        arrive();
     }
 
     /**
-     * This is called each frame and is what makes the patrol look like it
-     * is moving by updating it's x and y position by an amount set by
-     * setSpeedToNextJunction.
+     * Called each tick before the patrol moves. If it is waiting at a junction
+     * this decides whether it sets off, setting its velocity if it does
      */
-    public void step() {
-        this.x += deltaX;
-        this.y += deltaY;
-        atNextJunction();
+    public void steer() {
+        if (waiting) {
+            if (huntField != null) {
+                followField();
+            } else if (routeRequest != null) {
+                // Idle until the pathfinder delivers the route
+                return;
+            } else if (departures.size == 0) {
+                // Stopped hunting while waiting for a road, so patrol again
+                waiting = false;
+                reachDestination();
+            } else if (mapGraph.getTime() >= departures.first()) {
+                leavePlannedJunction();
+            }
+        }
     }
 
     /**
-     * Checks if the patrol has reached the junction at the end of the road it
-     * is travelling on - if it has then it calls reachNextJunction().
+     * Called each tick after the patrol moves. Checks if the patrol has reached
+     * the junction at the end of the road it is travelling on - if it has then
+     * it calls reachNextJunction().
      */
-    private void atNextJunction() {
-        if (pathQueue.size > 0) {
+    public void arrive() {
+        if (!waiting && pathQueue.size > 0) {
             Junction targetJunction = pathQueue.first();
-            if (Vector2.dst(x, y, targetJunction.getX(), targetJunction.getY()) < 5) {
+            if (Vector2.dst(transform.x, transform.y, targetJunction.getX(), targetJunction.getY()) < 5) {
                 reachNextJunction();
             }
         }
@@ -167,34 +296,133 @@ public class PatrolMovementSprite extends SimpleSprite {
         mapGraph.unlockRoad(this.setRoad,this);
 
         Junction currentJunction = pathQueue.first();
-        this.x = currentJunction.getX();
-        this.y = currentJunction.getY();
+        this.transform.x = currentJunction.getX();
+        this.transform.y = currentJunction.getY();
 
         this.previousJunction = currentJunction;
         pathQueue.removeFirst();
 
-        if (pathQueue.size == 0) { // if it has reached it's goal state
+        if (departures.size > 0) departures.removeIndex(0);
+        if (plannedSteps > 0) plannedSteps--;
+
+        if (huntField != null) { // hunting, so follow the field instead of the path
+            followField();
+        } else if (pathQueue.size == 0) { // if it has reached it's goal state
             reachDestination();
+        } else if (departures.size > 0) {
+            // The path was planned around other patrols so wait until the
+            // frame it should leave this junction at
+            velocity.x = 0;
+            velocity.y = 0;
+            waiting = true;
+            if (mapGraph.getTime() >= departures.first()) leavePlannedJunction();
         } else if (mapGraph.isRoadLocked(currentJunction, pathQueue.first())){
             // If the road the patrol wants to travel on is locked (another patrol
             // is on it) then terminate it's path and give it a new goal
             pathQueue.clear();
             reachDestination();
         } else { // the patrol can travel on the next road it wants to travel on
-            this.setRoad = mapGraph.getRoad(currentJunction, pathQueue.first());
-            mapGraph.lockRoad(this.setRoad,  this);
-            updateRotation();
-            setSpeedToNextJunction();
+            leaveJunction();
+        }
+    }
+
+    /**
+     * Leaves the junction the patrol is waiting at once it is time to. If the
+     * patrol has reached the end of the roads it reserved the rest of its route
+     * is planned again, from the junction it is at
+     */
+    private void leavePlannedJunction() {
+        waiting = false;
+        if (plannedSteps > 0) {
+            leaveJunction();
+        } else {
+            setGoal(goal);
+        }
+    }
+
+    /**
+     * Starts the patrol moving along the road to the next junction in
+     * it's pathQueue, locking the road so no other patrol travels on it
+     */
+    private void leaveJunction() {
+        this.setRoad = mapGraph.getRoad(previousJunction, pathQueue.first());
+        mapGraph.lockRoad(this.setRoad,  this);
+        setSpeedToNextJunction();
+    }
+
+    /**
+     * Starts the patrol along the road the hunt field gives for the junction
+     * it is at. If that road is locked or reserved by another patrol it takes
+     * another road that still gets it closer to the target, and if there isn't
+     * one (or it has reached the target) it waits at the junction and tries
+     * again next frame. The road taken is reserved so patrols planning their
+     * routes go around it
+     */
+    private void followField() {
+        routeRequest = null;
+        pathQueue.clear();
+        departures.clear();
+        plannedSteps = 0;
+        mapGraph.getReservations().release(reservations, patrolId);
+        velocity.x = 0;
+        velocity.y = 0;
+
+        Junction next = huntField.getNext(previousJunction);
+        if (next != null && !isRoadFree(next)) next = huntField.getAlternative(previousJunction, next);
+        if (next == null || !isRoadFree(next)) {
+            waiting = true;
+            return;
         }
+
+        waiting = false;
+        pathQueue.addLast(next);
+        Road road = mapGraph.getRoad(previousJunction, next);
+        int time = mapGraph.getTime();
+        mapGraph.getReservations().reserve(road.getEdge(), time, time + MathUtils.ceil(road.getCost() / speed), patrolId, reservations);
+        leaveJunction();
     }
 
+    /**
+     * Checks whether the patrol can take the road from the junction it is at
+     * to another junction straight away
+     *
+     * @param next  the junction at the other end of the road
+     * @return <code> true </code> if no other patrol is on the road or has reserved it
+     *                              for the time it would take to travel along it
+     *         <code> false </code> otherwise
+     */
+    private boolean isRoadFree(Junction next) {
+        if (mapGraph.isRoadLocked(previousJunction, next)) return false;
+        Road road = mapGraph.getRoad(previousJunction, next);
+        int time = mapGraph.getTime();
+        return mapGraph.getReservations().isFree(road.getEdge(), time, time + MathUtils.ceil(road.getCost() / speed), patrolId);
+    }
+
+    /** Makes the patrol hunt the target of a flow field rather than patrol
+     * between random junctions, from the next junction it reaches
+     *
+     * @param huntField the field leading to the target
+     */
+    public void hunt(FlowField huntField) {
+        this.huntField = huntField;
+    }
+
+    /** Makes the patrol go back to patrolling between random junctions, from
+     * the next junction it reaches
+     */
+    public void stopHunting() {
+        this.huntField = null;
+    }
+
+    public boolean isHunting() { return this.huntField != null; }
+
     /** Gives the patrol a new random goal then calls SetGoal to
      * start generating a path from the patrols current position
      * to it's new randomly generated goal
      */
     private void reachDestination(){
-        deltaX = 0;
-        deltaY = 0;
+        velocity.x = 0;
+        velocity.y = 0;
         Junction newGoal;
 
         do {
@@ -203,16 +431,55 @@ public class PatrolMovementSprite extends SimpleSprite {
         setGoal(newGoal);
     }
 
+    // The sprite's own constructor asks where it is before the transform is made
     public float getX() {
-        return this.x - (this.getWidth() / 2);
+        return this.transform == null ? 0 : this.transform.getLeft();
     }
 
     public float getY() {
-        return this.y - (this.getHeight() / 2);
+        return this.transform == null ? 0 : this.transform.getBottom();
     }
 
-    public Junction getGoal() {return this.pathQueue.last();}
+    @Override
+    public float getRotation() {
+        return this.transform.rotation;
+    }
+
+    /** Keeps where the patrol is now in its transform, to draw it from */
+    @Override
+    public void resetInterpolation() {
+        this.transform.savePose();
+    }
+
+    @Override
+    public float getDrawX(float alpha) {
+        return this.transform.getDrawX(alpha);
+    }
+
+    @Override
+    public float getDrawY(float alpha) {
+        return this.transform.getDrawY(alpha);
+    }
+
+    @Override
+    public float getDrawRotation(float alpha) {
+        return this.transform.getDrawRotation(alpha);
+    }
+
+    public TransformComponent getTransform() { return this.transform; }
+
+    public VelocityComponent getVelocity() { return this.velocity; }
+
+    public Junction getGoal() {return this.goal;}
 
     public PatrolMovementSprite getThis(){ return this; }
+
+    public int getPatrolId() { return this.patrolId; }
+
+    public float getSpeed() { return this.speed; }
+
+    public IntArray getReservations() { return this.reservations; }
+
+    public PathfindingService.Request getRouteRequest() { return this.routeRequest; }
     
 }
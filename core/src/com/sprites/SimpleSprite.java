@@ -7,6 +7,7 @@ import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Polygon;
 import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.math.MathUtils;
 
 // Class import
 import com.badlogic.gdx.math.Vector2;
@@ -21,7 +22,8 @@ import com.misc.ResourceBar;
 public class SimpleSprite extends Sprite {
 
     // Private values to be used in this class only
-    private Texture texture;
+    private TextureRegion region;
+    private Texture ownedTexture;
     private float width, height, internalTime;
     private ResourceBar healthBar;
 
@@ -30,7 +32,12 @@ public class SimpleSprite extends Sprite {
     private Polygon damageHitBox;
 
     // center of the sprite
-    private Vector2 centre;
+    private final Vector2 centre;
+
+    // Where the sprite was at the start of the last tick, so it can be drawn
+    // part of the way between there and where it is now
+    private float previousX, previousY, previousRotation;
+    private boolean interpolating;
 
     /**
      * Constructor that creates a sprite at a given position using a given texture..
@@ -40,7 +47,26 @@ public class SimpleSprite extends Sprite {
      */
     public SimpleSprite(Texture spriteTexture) {
         super(spriteTexture);
-        this.texture = spriteTexture;
+        this.region = new TextureRegion(spriteTexture);
+        this.ownedTexture = spriteTexture;
+        this.centre = new Vector2(this.getCentreX(), this.getCentreY());
+        this.create();
+    }
+
+    /*
+     *  =======================================================================
+     *                          Added for Assessment 3
+     *  =======================================================================
+     */
+    /**
+     * Creates a sprite at (0,0) using a region of a texture atlas.
+     * The atlas owns the texture so it is not disposed with the sprite.
+     *
+     * @param spriteRegion  The atlas region the sprite should use.
+     */
+    public SimpleSprite(TextureRegion spriteRegion) {
+        super(spriteRegion);
+        this.region = spriteRegion;
         this.centre = new Vector2(this.getCentreX(), this.getCentreY());
         this.create();
     }
@@ -68,24 +94,103 @@ public class SimpleSprite extends Sprite {
      *  =======================================================================
      */
     /**
-     * Update the sprite position, hitbox and health bar.
-     * Must be called every frame in order to draw the sprite.
-     * @param batch  The batch to draw onto.
+     * Advance the sprite by one fixed step of the game, keeping its hitbox on it
+     * and counting down its internal time. Called FIXED_TIMESTEP apart however
+     * often the game is drawn.
      */
-    public void update(Batch batch) {
-        // Keep the healthbar and hitbox located on the sprite
-        this.healthBar.setPosition(this.getX(), this.getY());
+    public void tick() {
+        this.resetInterpolation();
+        this.move();
+        // Keep the hitbox located on the sprite
         this.movementHitBox.setPosition(this.getX(), this.getY());
         this.damageHitBox.setPosition(this.getX(), this.getY());
-        this.centre = new Vector2(this.getCentreX(), this.getCentreY());
-        this.healthBar.update(batch);
-        // Draw the sprite and update the healthbar
-        batch.draw(new TextureRegion(this.texture), this.getX(), this.getY(), this.getWidth() / 2, this.getHeight() / 2,
-                this.getWidth(), this.getHeight(), 1, 1, this.getRotation(), true);
+        this.centre.set(this.getCentreX(), this.getCentreY());
+        // Fade the healthbar
+        this.healthBar.update();
         // Decrease internal time
         this.decreaseInternalTime();
     }
 
+    /**
+     * Move the sprite for one tick. Does nothing for sprites that can't move.
+     */
+    protected void move() {
+    }
+
+    /**
+     * Draw the sprite part of the way between where it was at the start of the
+     * last tick and where it is now.
+     *
+     * @param batch  The batch to draw onto.
+     * @param alpha  How far through the next tick the game is, from 0 to 1.
+     */
+    public void render(Batch batch, float alpha) {
+        this.renderAt(batch, this.getDrawX(alpha), this.getDrawY(alpha), this.getDrawRotation(alpha));
+    }
+
+    /**
+     * Draw the sprite's region at a position, for when where it is drawn is
+     * kept by its entity rather than the sprite.
+     *
+     * @param batch     The batch to draw onto.
+     * @param x         The x-coordinate to draw the bottom left corner at.
+     * @param y         The y-coordinate to draw the bottom left corner at.
+     * @param rotation  The rotation to draw it at.
+     */
+    public void renderAt(Batch batch, float x, float y, float rotation) {
+        // Keep the healthbar on the sprite, it is drawn with the other bars after the sprites
+        this.healthBar.setPosition(x, y);
+        batch.draw(this.region, x, y, this.getWidth() / 2, this.getHeight() / 2,
+                this.getWidth(), this.getHeight(), 1, 1, rotation, true);
+    }
+
+    /**
+     * Advance the sprite by one tick then draw it where it ends up.
+     * @param batch  The batch to draw onto.
+     */
+    public void update(Batch batch) {
+        this.tick();
+        this.render(batch, 1);
+    }
+
+    /**
+     * Draw the sprite where it is now until the next tick, used when it is
+     * moved somewhere rather than moving there itself.
+     */
+    public void resetInterpolation() {
+        this.previousX = this.getX();
+        this.previousY = this.getY();
+        this.previousRotation = this.getRotation();
+        this.interpolating = true;
+    }
+
+    /**
+     * Get the x-coordinate to draw the sprite at.
+     * @param alpha  How far through the next tick the game is.
+     * @return The x-coordinate between the sprite's last two ticks.
+     */
+    public float getDrawX(float alpha) {
+        return this.interpolating ? MathUtils.lerp(this.previousX, this.getX(), alpha) : this.getX();
+    }
+
+    /**
+     * Get the y-coordinate to draw the sprite at.
+     * @param alpha  How far through the next tick the game is.
+     * @return The y-coordinate between the sprite's last two ticks.
+     */
+    public float getDrawY(float alpha) {
+        return this.interpolating ? MathUtils.lerp(this.previousY, this.getY(), alpha) : this.getY();
+    }
+
+    /**
+     * Get the rotation to draw the sprite at, turning the shortest way.
+     * @param alpha  How far through the next tick the game is.
+     * @return The rotation between the sprite's last two ticks.
+     */
+    public float getDrawRotation(float alpha) {
+        return this.interpolating ? MathUtils.lerpAngleDeg(this.previousRotation, this.getRotation(), alpha) : this.getRotation();
+    }
+
     /**
      * Decrement or reset the internal time of the sprite
      * used for timing of attacks
@@ -112,7 +217,15 @@ public class SimpleSprite extends Sprite {
      * @param destroyedTexture The flooded texture to replace the sprite with
      */
     public void removeSprite(Texture destroyedTexture) {
-        this.texture = destroyedTexture;
+        this.region = new TextureRegion(destroyedTexture);
+    }
+
+    /**
+     * Replaces the region the sprite is drawn with.
+     * @param destroyedRegion The flooded atlas region to replace the sprite with
+     */
+    public void removeSprite(TextureRegion destroyedRegion) {
+        this.region = destroyedRegion;
     }
 
     /**
@@ -251,8 +364,9 @@ public class SimpleSprite extends Sprite {
 
     /**
      * Dispose of assets used by the class.
+     * Atlas regions are left for the atlas to dispose.
      */
     public void dispose() {
-        texture.dispose();
+        if (this.ownedTexture != null) this.ownedTexture.dispose();
     }
 }
\ No newline at end of file
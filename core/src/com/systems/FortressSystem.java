@@ -0,0 +1,31 @@
+package com.systems;
+
+/* =================================================================
+                   New class added for assessment 3
+   ===============================================================*/
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.systems.IteratingSystem;
+import com.components.FortressComponent;
+import com.components.HealthComponent;
+import com.components.Mappers;
+import com.entities.ETFortress;
+
+/** Floods every fortress once it has no health left. Fortresses are healed
+ * by their own tasks on the world's scheduler, and never move
+ */
+public class FortressSystem extends IteratingSystem {
+
+    public FortressSystem(int priority) {
+        super(Family.all(FortressComponent.class, HealthComponent.class).get(), priority);
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+        ETFortress fortress = Mappers.fortress.get(entity).fortress;
+        if (!fortress.isFlooded() && Mappers.health.get(entity).isDead()) {
+            fortress.flood();
+        }
+    }
+}
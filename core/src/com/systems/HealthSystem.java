@@ -0,0 +1,31 @@
+package com.systems;
+
+/* =================================================================
+                   New class added for assessment 3
+   ===============================================================*/
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.systems.IteratingSystem;
+import com.components.HealthComponent;
+import com.components.Mappers;
+
+/** Fades the health bars of entities that can be damaged, and removes them
+ * from the world once they have no health left if they are meant to leave
+ * it when they die
+ */
+public class HealthSystem extends IteratingSystem {
+
+    public HealthSystem(int priority) {
+        super(Family.all(HealthComponent.class).get(), priority);
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+        HealthComponent health = Mappers.health.get(entity);
+        health.bar.update();
+        if (health.removeWhenDead && health.isDead()) {
+            getEngine().removeEntity(entity);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.systems;
+
+/* =================================================================
+                   New class added for assessment 3
+   ===============================================================*/
+
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntityListener;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.systems.IteratingSystem;
+import com.components.HitboxComponent;
+import com.components.Mappers;
+import com.components.TransformComponent;
+import com.components.VelocityComponent;
+
+/** Keeps every entity with a hitbox on it and in its spatial hash. Entities
+ * are hashed as they join the world and taken out as they leave it, and only
+ * the entities that move are hashed again each tick, after they have moved.
+ */
+public class HitboxSystem extends IteratingSystem implements EntityListener {
+
+    private final Family hitboxes;
+
+    public HitboxSystem(int priority) {
+        super(Family.all(TransformComponent.class, HitboxComponent.class, VelocityComponent.class).get(), priority);
+        this.hitboxes = Family.all(TransformComponent.class, HitboxComponent.class).get();
+    }
+
+    @Override
+    public void addedToEngine(Engine engine) {
+        super.addedToEngine(engine);
+        engine.addEntityListener(this.hitboxes, this);
+    }
+
+    @Override
+    public void removedFromEngine(Engine engine) {
+        super.removedFromEngine(engine);
+        engine.removeEntityListener(this);
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+        place(entity);
+    }
+
+    @Override
+    public void entityAdded(Entity entity) {
+        place(entity);
+    }
+
+    private void place(Entity entity) {
+        TransformComponent transform = Mappers.transform.get(entity);
+        HitboxComponent hitbox = Mappers.hitbox.get(entity);
+        hitbox.polygon.setPosition(transform.getLeft(), transform.getBottom());
+        hitbox.hash.update(entity, hitbox.polygon.getBoundingRectangle());
+    }
+
+    @Override
+    public void entityRemoved(Entity entity) {
+        Mappers.hitbox.get(entity).hash.remove(entity);
+    }
+}
@@ -0,0 +1,44 @@
+package com.systems;
+
+/* =================================================================
+                   New class added for assessment 3
+   ===============================================================*/
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.systems.IteratingSystem;
+import com.badlogic.gdx.math.MathUtils;
+import com.components.Mappers;
+import com.components.TransformComponent;
+import com.components.VelocityComponent;
+
+/** Moves every entity with a velocity by it each tick, keeping where it
+ * was first so it can be drawn between the two. Entities face the way they
+ * are moving, and keep facing the same way while they are stopped.
+ */
+public class MovementSystem extends IteratingSystem {
+
+    public MovementSystem(int priority) {
+        super(Family.all(TransformComponent.class, VelocityComponent.class).get(), priority);
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+        TransformComponent transform = Mappers.transform.get(entity);
+        transform.savePose();
+        move(transform, Mappers.velocity.get(entity));
+    }
+
+    /** Moves a transform by a velocity for one tick, turning it to face the
+     * way it is moving
+     *
+     * @param transform The transform to move
+     * @param velocity  How far it moves in the tick
+     */
+    public static void move(TransformComponent transform, VelocityComponent velocity) {
+        if (velocity.x == 0 && velocity.y == 0) return;
+        transform.rotation = MathUtils.atan2(velocity.y, velocity.x) * MathUtils.radiansToDegrees;
+        transform.x += velocity.x;
+        transform.y += velocity.y;
+    }
+}
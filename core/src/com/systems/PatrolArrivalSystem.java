@@ -0,0 +1,45 @@
+package com.systems;
+
+/* =================================================================
+                   New class added for assessment 3
+   ===============================================================*/
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.systems.IteratingSystem;
+import com.components.Mappers;
+import com.components.PatrolRouteComponent;
+import com.components.TransformComponent;
+import com.components.VelocityComponent;
+import com.pathFinding.PathfindingService;
+
+/** Checks whether each patrol has reached the next junction on its route once
+ * the MovementSystem has moved it, sending it along the next road or giving it
+ * a new goal. The routes asked for are handed to the pathfinding workers after
+ * every patrol has been checked.
+ */
+public class PatrolArrivalSystem extends IteratingSystem {
+
+    private final PathfindingService pathfinder;
+
+    /** Constructs a system that checks the patrols' arrivals
+     *
+     * @param pathfinder    Plans the patrols' routes
+     * @param priority      When the system is updated relative to the others
+     */
+    public PatrolArrivalSystem(PathfindingService pathfinder, int priority) {
+        super(Family.all(TransformComponent.class, VelocityComponent.class, PatrolRouteComponent.class).get(), priority);
+        this.pathfinder = pathfinder;
+    }
+
+    @Override
+    public void update(float deltaTime) {
+        super.update(deltaTime);
+        this.pathfinder.submitRequests();
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+        Mappers.patrolRoute.get(entity).patrol.arrive();
+    }
+}
@@ -0,0 +1,132 @@
+package com.systems;
+
+/* =================================================================
+                   New class added for assessment 3
+   ===============================================================*/
+
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntityListener;
+import com.badlogic.ashley.core.EntitySystem;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.utils.ImmutableArray;
+import com.badlogic.gdx.math.Vector2;
+import com.components.Mappers;
+import com.components.PatrolRouteComponent;
+import com.components.TransformComponent;
+import com.components.VelocityComponent;
+import com.entities.Firestation;
+import com.entities.Firetruck;
+import com.entities.Patrol;
+import com.pathFinding.FlowField;
+import com.pathFinding.MapGraph;
+import com.pathFinding.PathfindingService;
+import com.simulation.GameWorld;
+
+import static com.misc.Constants.PATROL_HUNT_RANGE;
+
+/** Steers every patrol along its route at the start of a tick, before the
+ * MovementSystem moves them and the PatrolArrivalSystem checks which have
+ * reached a junction. Routes finished by the pathfinding workers are handed
+ * out before any patrol is steered.
+ *
+ * Patrols near enough to the active fire truck, or to the fire station while
+ * it is vulnerable and the truck isn't alive, hunt it instead. When a patrol
+ * leaves the world the roads it reserved are released.
+ */
+public class PatrolRouteSystem extends EntitySystem implements EntityListener {
+
+    private final GameWorld world;
+    private final MapGraph mapGraph;
+    private final PathfindingService pathfinder;
+    private final FlowField huntField;
+
+    private final Family family;
+    private ImmutableArray<Entity> patrols;
+
+    /** Constructs a system that moves the patrols of a world
+     *
+     * @param world         The world, for the fire station and its active truck
+     * @param mapGraph      The roads the patrols drive along
+     * @param pathfinder    Plans the patrols' routes
+     * @param priority      When the system is updated relative to the others
+     */
+    public PatrolRouteSystem(GameWorld world, MapGraph mapGraph, PathfindingService pathfinder, int priority) {
+        super(priority);
+        this.world = world;
+        this.mapGraph = mapGraph;
+        this.pathfinder = pathfinder;
+        this.huntField = new FlowField(mapGraph);
+        this.family = Family.all(TransformComponent.class, VelocityComponent.class, PatrolRouteComponent.class).get();
+    }
+
+    @Override
+    public void addedToEngine(Engine engine) {
+        this.patrols = engine.getEntitiesFor(this.family);
+        engine.addEntityListener(this.family, this);
+    }
+
+    @Override
+    public void removedFromEngine(Engine engine) {
+        engine.removeEntityListener(this);
+        this.patrols = null;
+    }
+
+    /** Moves the reservations on to the tick, delivers the routes that are
+     * due and steers each patrol, setting the velocity it moves with
+     */
+    @Override
+    public void update(float deltaTime) {
+        this.mapGraph.advanceTime();
+        this.pathfinder.deliverResults();
+        updateHunt();
+        for (int i = 0; i < this.patrols.size(); i++) {
+            Mappers.patrolRoute.get(this.patrols.get(i)).patrol.steer();
+        }
+    }
+
+    /**
+     * Points the hunt field at the active fire truck, or at the fire station
+     * if the truck isn't alive and the station is vulnerable, and makes the
+     * patrols within hunting range of it hunt it. The field is only rebuilt
+     * when the junction nearest the target changes
+     */
+    private void updateHunt() {
+        Firestation firestation = this.world.getFirestation();
+        Firetruck firetruck = firestation.getActiveFireTruck();
+        float targetX, targetY;
+        if (firetruck.isAlive()) {
+            targetX = firetruck.getCentreX();
+            targetY = firetruck.getCentreY();
+        } else if (firestation.isVulnerable() && !firestation.isDestroyed()) {
+            targetX = firestation.getCentreX();
+            targetY = firestation.getCentreY();
+        } else {
+            this.huntField.clearTarget();
+            for (int i = 0; i < this.patrols.size(); i++) {
+                Mappers.patrolRoute.get(this.patrols.get(i)).patrol.stopHunting();
+            }
+            return;
+        }
+        this.huntField.setTarget(targetX, targetY);
+        for (int i = 0; i < this.patrols.size(); i++) {
+            Entity entity = this.patrols.get(i);
+            Patrol patrol = Mappers.patrolRoute.get(entity).patrol;
+            TransformComponent transform = Mappers.transform.get(entity);
+            if (Vector2.dst2(transform.x, transform.y, targetX, targetY) <= PATROL_HUNT_RANGE * PATROL_HUNT_RANGE) {
+                patrol.hunt(this.huntField);
+            } else {
+                patrol.stopHunting();
+            }
+        }
+    }
+
+    @Override
+    public void entityAdded(Entity entity) {
+    }
+
+    @Override
+    public void entityRemoved(Entity entity) {
+        Mappers.patrolRoute.get(entity).patrol.removeDead(this.mapGraph);
+    }
+}
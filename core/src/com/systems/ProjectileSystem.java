@@ -0,0 +1,207 @@
+package com.systems;
+
+/* =================================================================
+                   New class added for assessment 3
+   ===============================================================*/
+
+import com.badlogic.ashley.core.EntitySystem;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Intersector;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Polygon;
+import com.badlogic.gdx.math.Rectangle;
+import com.misc.ResourceBar;
+
+import java.util.Arrays;
+
+import static com.misc.Constants.FIXED_TIMESTEP;
+import static com.misc.Constants.PROJECTILE_HEIGHT;
+import static com.misc.Constants.PROJECTILE_RADIUS;
+import static com.misc.Constants.PROJECTILE_SPEED;
+import static com.misc.Constants.PROJECTILE_WIDTH;
+
+/** Moves, hits and draws every projectile in the world. Projectiles aren't
+ * entities - there can be thousands at once, and all they need is where they
+ * are, where they are going, how much damage they do and who fired them - so
+ * each of those is kept in its own array, indexed by projectile.
+ *
+ * A projectile is removed by moving the last one into its place, so the
+ * arrays never have gaps and nothing is allocated once they are big enough.
+ * Projectiles are tested against hitboxes as circles, and are all drawn with
+ * the same region in one pass.
+ */
+public class ProjectileSystem extends EntitySystem {
+
+    // The part of the world projectiles are kept in
+    private final float width, height;
+    private final TextureRegion region;
+
+    // The centre, velocity, rotation, damage and owner of each projectile.
+    // Only the first count entries of each are used
+    private float[] x, y, velocityX, velocityY, rotation;
+    private int[] damage, owner;
+    private int count;
+
+    // Projectiles fired since the last call to pollFired
+    private int fired;
+
+    /** Constructs a system with no projectiles
+     *
+     * @param width     The width of the world, beyond which projectiles are removed
+     * @param height    The height of the world, beyond which projectiles are removed
+     * @param region    The region every projectile is drawn with
+     * @param priority  When the system is updated relative to the others
+     */
+    public ProjectileSystem(float width, float height, TextureRegion region, int priority) {
+        super(priority);
+        this.width = width;
+        this.height = height;
+        this.region = region;
+        resize(256);
+    }
+
+    private void resize(int capacity) {
+        this.x = copy(this.x, capacity);
+        this.y = copy(this.y, capacity);
+        this.velocityX = copy(this.velocityX, capacity);
+        this.velocityY = copy(this.velocityY, capacity);
+        this.rotation = copy(this.rotation, capacity);
+        this.damage = this.damage == null ? new int[capacity] : Arrays.copyOf(this.damage, capacity);
+        this.owner = this.owner == null ? new int[capacity] : Arrays.copyOf(this.owner, capacity);
+    }
+
+    private static float[] copy(float[] array, int capacity) {
+        return array == null ? new float[capacity] : Arrays.copyOf(array, capacity);
+    }
+
+    /** Fires a projectile from one point towards another at PROJECTILE_SPEED
+     *
+     * @param fromX     The x coordinate it is fired from
+     * @param fromY     The y coordinate it is fired from
+     * @param toX       The x coordinate it is fired towards
+     * @param toY       The y coordinate it is fired towards
+     * @param damage    The damage it does to what it hits
+     * @param owner     Which kind of entity fired it
+     */
+    public void fire(float fromX, float fromY, float toX, float toY, int damage, int owner) {
+        if (this.count == this.x.length) resize(this.count * 2);
+        float angle = MathUtils.atan2(toY - fromY, toX - fromX);
+        int i = this.count++;
+        this.x[i] = fromX;
+        this.y[i] = fromY;
+        this.velocityX[i] = MathUtils.cos(angle) * PROJECTILE_SPEED;
+        this.velocityY[i] = MathUtils.sin(angle) * PROJECTILE_SPEED;
+        this.rotation[i] = angle * MathUtils.radiansToDegrees;
+        this.damage[i] = damage;
+        this.owner[i] = owner;
+        this.fired++;
+    }
+
+    /** Moves every projectile for a tick, removing those that leave the world */
+    @Override
+    public void update(float deltaTime) {
+        for (int i = this.count - 1; i >= 0; i--) {
+            this.x[i] += this.velocityX[i] * FIXED_TIMESTEP;
+            this.y[i] += this.velocityY[i] * FIXED_TIMESTEP;
+            if (this.x[i] < 0 || this.x[i] > this.width || this.y[i] < 0 || this.y[i] > this.height) {
+                remove(i);
+            }
+        }
+    }
+
+    /** Removes every projectile that hits a hitbox, taking the damage each
+     * does from a health bar
+     *
+     * @param hitbox    The hitbox the projectiles can hit
+     * @param health    The health bar of what the hitbox belongs to
+     * @return          The number of projectiles that hit
+     */
+    public int collide(Polygon hitbox, ResourceBar health) {
+        Rectangle bounds = hitbox.getBoundingRectangle();
+        float[] vertices = hitbox.getTransformedVertices();
+        int hits = 0;
+        for (int i = this.count - 1; i >= 0; i--) {
+            // Skip anything that can't be near the hitbox before the exact test
+            if (this.x[i] + PROJECTILE_RADIUS < bounds.x || this.x[i] - PROJECTILE_RADIUS > bounds.x + bounds.width
+                    || this.y[i] + PROJECTILE_RADIUS < bounds.y || this.y[i] - PROJECTILE_RADIUS > bounds.y + bounds.height) {
+                continue;
+            }
+            if (overlaps(vertices, this.x[i], this.y[i], PROJECTILE_RADIUS)) {
+                health.subtractResourceAmount(this.damage[i]);
+                remove(i);
+                hits++;
+            }
+        }
+        return hits;
+    }
+
+    /** Checks if a circle overlaps a polygon - it does if its centre is inside
+     * the polygon or it is within its radius of one of the edges
+     */
+    static boolean overlaps(float[] vertices, float x, float y, float radius) {
+        if (Intersector.isPointInPolygon(vertices, 0, vertices.length, x, y)) return true;
+        for (int i = 0; i < vertices.length; i += 2) {
+            int next = (i + 2) % vertices.length;
+            if (Intersector.distanceSegmentPoint(vertices[i], vertices[i + 1], vertices[next], vertices[next + 1], x, y) <= radius) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** Removes a projectile by moving the last one into its place */
+    private void remove(int i) {
+        int last = --this.count;
+        this.x[i] = this.x[last];
+        this.y[i] = this.y[last];
+        this.velocityX[i] = this.velocityX[last];
+        this.velocityY[i] = this.velocityY[last];
+        this.rotation[i] = this.rotation[last];
+        this.damage[i] = this.damage[last];
+        this.owner[i] = this.owner[last];
+    }
+
+    /** Removes every projectile */
+    public void clear() {
+        this.count = 0;
+    }
+
+    /** Draws every projectile part of the way between its last two ticks.
+     * Projectiles move in straight lines, so that is found from their velocity
+     *
+     * @param batch     The batch to draw onto
+     * @param alpha     How far through the next tick the game is
+     */
+    public void render(Batch batch, float alpha) {
+        float back = (1 - alpha) * FIXED_TIMESTEP;
+        for (int i = 0; i < this.count; i++) {
+            batch.draw(this.region,
+                    this.x[i] - this.velocityX[i] * back - PROJECTILE_WIDTH / 2,
+                    this.y[i] - this.velocityY[i] * back - PROJECTILE_HEIGHT / 2,
+                    PROJECTILE_WIDTH / 2, PROJECTILE_HEIGHT / 2, PROJECTILE_WIDTH, PROJECTILE_HEIGHT,
+                    1, 1, this.rotation[i]);
+        }
+    }
+
+    /** Gets the number of projectiles fired since it was last called, so the
+     * shots fired in a tick can be heard as one
+     *
+     * @return  The number of projectiles fired
+     */
+    public int pollFired() {
+        int fired = this.fired;
+        this.fired = 0;
+        return fired;
+    }
+
+    public int size() { return this.count; }
+
+    public float getX(int i) { return this.x[i]; }
+
+    public float getY(int i) { return this.y[i]; }
+
+    public int getDamage(int i) { return this.damage[i]; }
+
+    public int getOwner(int i) { return this.owner[i]; }
+}
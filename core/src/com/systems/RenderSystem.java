@@ -0,0 +1,93 @@
+package com.systems;
+
+/* =================================================================
+                   New class added for assessment 3
+   ===============================================================*/
+
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntitySystem;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.utils.ImmutableArray;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.components.HealthComponent;
+import com.components.Mappers;
+import com.components.SpriteComponent;
+import com.components.TransformComponent;
+import com.components.VoxelStackComponent;
+import com.sprites.SimpleSprite;
+
+import static com.misc.Constants.DEBUG_ENABLED;
+
+/** Draws the entities of the world between their last two ticks, where their
+ * transforms say, with their slices and then their sprites. It isn't
+ * updated with the rest of the systems, as the game is drawn far more often
+ * than it ticks - the screen draws each layer in turn instead, so it can
+ * draw what isn't an entity in between them.
+ */
+public class RenderSystem extends EntitySystem {
+
+    private ImmutableArray<Entity> flat;
+    private ImmutableArray<Entity> stacked;
+    private ImmutableArray<Entity> healthy;
+
+    public RenderSystem() {
+        setProcessing(false);
+    }
+
+    @Override
+    public void addedToEngine(Engine engine) {
+        this.flat = engine.getEntitiesFor(Family.all(TransformComponent.class, SpriteComponent.class).exclude(VoxelStackComponent.class).get());
+        this.stacked = engine.getEntitiesFor(Family.all(TransformComponent.class, SpriteComponent.class, VoxelStackComponent.class).get());
+        this.healthy = engine.getEntitiesFor(Family.all(TransformComponent.class, HealthComponent.class).get());
+    }
+
+    /** Draws the entities that lie flat on the map
+     *
+     * @param batch     The batch to draw onto
+     * @param alpha     How far through the next tick the game is
+     * @param renderer  The renderer hitboxes are drawn with when debugging
+     */
+    public void renderFlat(Batch batch, float alpha, ShapeRenderer renderer) {
+        render(this.flat, batch, alpha, renderer);
+    }
+
+    /** Draws the entities drawn as stacks of slices, which should be over everything flat
+     *
+     * @param batch     The batch to draw onto
+     * @param alpha     How far through the next tick the game is
+     * @param renderer  The renderer hitboxes are drawn with when debugging
+     */
+    public void renderStacked(Batch batch, float alpha, ShapeRenderer renderer) {
+        render(this.stacked, batch, alpha, renderer);
+    }
+
+    private void render(ImmutableArray<Entity> entities, Batch batch, float alpha, ShapeRenderer renderer) {
+        for (int i = 0; i < entities.size(); i++) {
+            Entity entity = entities.get(i);
+            TransformComponent transform = Mappers.transform.get(entity);
+            float x = transform.getDrawX(alpha);
+            float y = transform.getDrawY(alpha);
+            float rotation = transform.getDrawRotation(alpha);
+            VoxelStackComponent stack = Mappers.voxelStack.get(entity);
+            if (stack != null) stack.slices.draw(batch, x, y, transform.width, transform.height, rotation, false);
+            SimpleSprite sprite = Mappers.sprite.get(entity).sprite;
+            sprite.renderAt(batch, x, y, rotation);
+            if (DEBUG_ENABLED) sprite.drawDebug(renderer);
+        }
+    }
+
+    /** Draws the health bar of every entity with health, after their sprites
+     * have been drawn so the bars are on top
+     *
+     * @param batch     The batch to draw onto
+     * @param pixel     The region the bars are stretched from
+     */
+    public void renderHealthBars(Batch batch, TextureRegion pixel) {
+        for (int i = 0; i < this.healthy.size(); i++) {
+            Mappers.health.get(this.healthy.get(i)).bar.draw(batch, pixel);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.systems;
+
+/* =================================================================
+                   New class added for assessment 3
+   ===============================================================*/
+
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntityListener;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.systems.IteratingSystem;
+import com.badlogic.gdx.math.Vector2;
+import com.components.HealthComponent;
+import com.components.Mappers;
+import com.components.TransformComponent;
+import com.components.WeaponComponent;
+import com.entities.Firestation;
+import com.entities.Firetruck;
+import com.misc.Scheduler;
+import com.simulation.GameWorld;
+import com.sprites.SimpleSprite;
+
+import static com.misc.Constants.WEAPON_FIRE_INTERVAL;
+import static com.misc.Constants.WEAPON_VOLLEY_CYCLE;
+
+/** Fires the weapons of every armed entity that is still alive, through the
+ * world's ProjectileSystem, which must be added to the engine first. Each fires
+ * at the active fire truck when it is in range, otherwise at the fire station
+ * if the weapon attacks it and it is vulnerable.
+ *
+ * Weapons are reloaded by their own scheduler, which is only ticked when the
+ * system updates, so they don't reload while the world stops the system
+ * during the tutorial, when nothing can be damaged.
+ */
+public class WeaponSystem extends IteratingSystem implements EntityListener {
+
+    private final GameWorld world;
+    private final Scheduler reloads;
+    private ProjectileSystem projectiles;
+
+    public WeaponSystem(GameWorld world, int priority) {
+        super(Family.all(TransformComponent.class, WeaponComponent.class, HealthComponent.class).get(), priority);
+        this.world = world;
+        this.reloads = new Scheduler();
+    }
+
+    @Override
+    public void addedToEngine(Engine engine) {
+        super.addedToEngine(engine);
+        this.projectiles = engine.getSystem(ProjectileSystem.class);
+        engine.addEntityListener(getFamily(), this);
+    }
+
+    @Override
+    public void removedFromEngine(Engine engine) {
+        super.removedFromEngine(engine);
+        engine.removeEntityListener(this);
+        this.reloads.clear();
+    }
+
+    @Override
+    public void update(float deltaTime) {
+        this.reloads.tick();
+        super.update(deltaTime);
+    }
+
+    @Override
+    public void entityAdded(Entity entity) {
+        WeaponComponent weapon = Mappers.weapon.get(entity);
+        weapon.loaded = false;
+        weapon.shot = 0;
+        this.reloads.schedule(weapon.reload, WEAPON_FIRE_INTERVAL, WEAPON_FIRE_INTERVAL);
+    }
+
+    @Override
+    public void entityRemoved(Entity entity) {
+        Mappers.weapon.get(entity).reload.cancel();
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+        WeaponComponent weapon = Mappers.weapon.get(entity);
+        if (!weapon.loaded || Mappers.health.get(entity).isDead()) return;
+        weapon.loaded = false;
+        int shot = weapon.shot;
+        weapon.shot = (shot + 1) % WEAPON_VOLLEY_CYCLE;
+        if (shot >= weapon.volley) return;
+        TransformComponent shooter = Mappers.transform.get(entity);
+
+        Firestation firestation = this.world.getFirestation();
+        Firetruck firetruck = firestation.getActiveFireTruck();
+        if (inRange(shooter, weapon, firetruck)) {
+            fire(shooter, weapon, firetruck);
+        } else if (weapon.attacksStation && firestation.isVulnerable() && !firestation.isDestroyed()
+                && inRange(shooter, weapon, firestation)) {
+            fire(shooter, weapon, firestation);
+        }
+    }
+
+    private boolean inRange(TransformComponent shooter, WeaponComponent weapon, SimpleSprite target) {
+        return Vector2.dst(shooter.x, shooter.y, target.getCentre().x, target.getCentre().y) <= weapon.range;
+    }
+
+    private void fire(TransformComponent shooter, WeaponComponent weapon, SimpleSprite target) {
+        this.projectiles.fire(shooter.x, shooter.y,
+                target.getCentreX(), target.getCentreY(), weapon.damage, weapon.owner);
+    }
+}
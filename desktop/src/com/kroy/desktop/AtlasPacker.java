@@ -0,0 +1,100 @@
+package com.kroy.desktop;
+
+/*
+ *  =======================================================================
+ *                       New class added for Assessment 3
+ *  =======================================================================
+ */
+
+// LibGDX imports
+import com.badlogic.gdx.graphics.Texture.TextureFilter;
+import com.badlogic.gdx.tools.texturepacker.TexturePacker;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+// Java imports
+import javax.imageio.ImageIO;
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Build-time packing stage for the voxel slice stacks and unique buildings.
+ * Packs every PNG in FireTrucks/, AlienSlices/ and MapAssets/UniqueBuildings/
+ * into a texture atlas in atlases/, so that whole slice stacks can be drawn
+ * without binding a new texture per slice.
+ *
+ * Region names are the image path relative to the packed folder without the
+ * extension, e.g. "Red/Firetruck(6) A", "tile042" or "firestation".
+ * Run with <code>gradlew desktop:packTextures</code>.
+ */
+public class AtlasPacker {
+
+    /**
+     * Packs all the atlases used by the game.
+     *
+     * @param arg   Optional path to the assets folder, defaults to the
+     *              working directory
+     */
+    public static void main(String[] arg) {
+        File assets = new File(arg.length > 0 ? arg[0] : ".");
+        File output = new File(assets, "atlases");
+
+        TexturePacker.Settings settings = new TexturePacker.Settings();
+        settings.maxWidth = 2048;
+        settings.maxHeight = 2048;
+        settings.paddingX = 2;
+        settings.paddingY = 2;
+        settings.duplicatePadding = true;
+        settings.edgePadding = true;
+        settings.stripWhitespaceX = false;
+        settings.stripWhitespaceY = false;
+        settings.useIndexes = false;
+        settings.filterMin = TextureFilter.Nearest;
+        settings.filterMag = TextureFilter.Nearest;
+
+        pack(settings, new File(assets, "FireTrucks"), output, "firetrucks");
+        pack(settings, new File(assets, "AlienSlices"), output, "patrol");
+        pack(settings, new File(assets, "MapAssets/UniqueBuildings"), output, "buildings");
+    }
+
+    /**
+     * Packs the PNGs in a folder and its sub folders, skipping any
+     * folder with "old" in its name as these are unused sources.
+     *
+     * @param settings  The packing settings
+     * @param input     Folder containing the images
+     * @param output    Folder to write the atlas and its pages to
+     * @param name      Name of the atlas file
+     */
+    private static void pack(TexturePacker.Settings settings, File input, File output, String name) {
+        TexturePacker packer = new TexturePacker(settings);
+        addImages(packer, input, "");
+        packer.pack(output, name);
+    }
+
+    /**
+     * Recursively adds all images in a folder to the packer.
+     *
+     * @param packer    The packer to add images to
+     * @param folder    The folder to search
+     * @param prefix    Region name prefix of the folder
+     */
+    private static void addImages(TexturePacker packer, File folder, String prefix) {
+        File[] files = folder.listFiles();
+        if (files == null) return;
+        // Sort so that the atlas is the same each time it is built
+        Arrays.sort(files);
+        for (File file : files) {
+            String fileName = file.getName();
+            if (file.isDirectory()) {
+                if (!fileName.startsWith("old")) addImages(packer, file, prefix + fileName + "/");
+            } else if (fileName.endsWith(".png")) {
+                try {
+                    packer.addImage(ImageIO.read(file), prefix + fileName.substring(0, fileName.length() - 4));
+                } catch (IOException e) {
+                    throw new GdxRuntimeException("Unable to read image: " + file, e);
+                }
+            }
+        }
+    }
+}
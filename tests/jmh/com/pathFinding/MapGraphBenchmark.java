@@ -0,0 +1,97 @@
+package com.pathFinding;
+
+import com.badlogic.gdx.ai.pfa.DefaultGraphPath;
+import com.badlogic.gdx.ai.pfa.GraphPath;
+import com.badlogic.gdx.ai.pfa.indexed.IndexedAStarPathFinder;
+import com.badlogic.gdx.math.MathUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares patrol route finding with the next hop table against creating a
+ * new A* path finder for every route, which is how findPath used to work.
+ * Run with <code>gradlew tests:jmh</code>.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapGraphBenchmark {
+
+    // Junctions along each side of a road grid, 7 is close to the game map's 48 junctions
+    @Param({"7", "15"})
+    int size;
+
+    private MapGraph mapGraph;
+    private Junction[] junctions;
+    private GraphPath<Junction> path;
+    private int route;
+
+    @Setup
+    public void setUp() {
+        MathUtils.random.setSeed(1);
+        mapGraph = new MapGraph();
+        junctions = new Junction[size * size];
+        for (int i = 0; i < junctions.length; i++) {
+            junctions[i] = new Junction((i % size) * 480 + MathUtils.random(100f), (i / size) * 480 + MathUtils.random(100f), "j" + i);
+            mapGraph.addJunction(junctions[i]);
+        }
+        for (int i = 0; i < junctions.length; i++) {
+            if (i % size < size - 1) {
+                mapGraph.connectJunctions(junctions[i], junctions[i + 1]);
+                mapGraph.connectJunctions(junctions[i + 1], junctions[i]);
+            }
+            if (i / size < size - 1) {
+                mapGraph.connectJunctions(junctions[i], junctions[i + size]);
+                mapGraph.connectJunctions(junctions[i + size], junctions[i]);
+            }
+        }
+        path = new DefaultGraphPath<>();
+        // Build the table outside of the measurements, as it is done once at load
+        mapGraph.nextHop(0, 0);
+    }
+
+    private Junction start() {
+        return junctions[(route * 7) % junctions.length];
+    }
+
+    private Junction goal() {
+        return junctions[(route++ * 13 + 5) % junctions.length];
+    }
+
+    @Benchmark
+    public GraphPath<Junction> aStar() {
+        GraphPath<Junction> junctionPath = new DefaultGraphPath<>();
+        new IndexedAStarPathFinder<>(mapGraph).searchNodePath(start(), goal(), mapGraph.mapHeuristic, junctionPath);
+        return junctionPath;
+    }
+
+    @Benchmark
+    public GraphPath<Junction> findPath() {
+        return mapGraph.findPath(start(), goal());
+    }
+
+    @Benchmark
+    public GraphPath<Junction> findPathReused() {
+        mapGraph.findPath(start(), goal(), path);
+        return path;
+    }
+
+    @Benchmark
+    public Junction nextHop() {
+        return mapGraph.nextHop(start(), goal());
+    }
+}
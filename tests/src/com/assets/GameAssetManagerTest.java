@@ -0,0 +1,107 @@
+package com.assets;
+
+import com.badlogic.gdx.assets.loaders.resolvers.AbsoluteFileHandleResolver;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.PixmapIO;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.scenes.scene2d.ui.Skin;
+import com.testrunner.GdxTestRunner;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.*;
+
+@RunWith(GdxTestRunner.class)
+public class GameAssetManagerTest {
+
+    private GameAssetManager assets;
+    private FileHandle directory;
+
+    @Before
+    public void setUp() {
+        assets = new GameAssetManager(new AbsoluteFileHandleResolver());
+        directory = FileHandle.tempDirectory("assets");
+    }
+
+    @After
+    public void tearDown() {
+        assets.dispose();
+        directory.deleteDirectory();
+    }
+
+    /** Writes a png of a size to load */
+    private String writeImage(String name, int width, int height) {
+        FileHandle file = directory.child(name);
+        Pixmap pixmap = new Pixmap(width, height, Pixmap.Format.RGBA8888);
+        PixmapIO.writePNG(file, pixmap);
+        pixmap.dispose();
+        return file.path();
+    }
+
+    @Test
+    public void testAcquiredTexturesAreShared() {
+        String fileName = writeImage("shared.png", 4, 2);
+        Texture first = assets.acquireTexture(fileName);
+        Texture second = assets.acquireTexture(fileName);
+        assertSame(first, second);
+        assertEquals(4, first.getWidth());
+        assertEquals(2, first.getHeight());
+        assertEquals(2, assets.getReferenceCount(fileName));
+    }
+
+    @Test
+    public void testTexturesAreOnlyUnloadedOnceAllAreReleased() {
+        String fileName = writeImage("released.png", 2, 2);
+        assets.acquireTexture(fileName);
+        assets.acquireTexture(fileName);
+        assets.release(fileName);
+        assertTrue(assets.isLoaded(fileName));
+        assets.release(fileName);
+        assertFalse(assets.isLoaded(fileName));
+    }
+
+    @Test
+    public void testReleasedTexturesAreLoadedAgain() {
+        String fileName = writeImage("reloaded.png", 2, 2);
+        assets.acquireTexture(fileName);
+        assets.release(fileName);
+        Texture texture = assets.acquireTexture(fileName);
+        assertTrue(assets.isLoaded(fileName));
+        assertEquals(1, assets.getReferenceCount(fileName));
+        assertEquals(2, texture.getWidth());
+    }
+
+    @Test
+    public void testAcquiringQueuedTexturesSharesTheQueuedLoad() {
+        String fileName = writeImage("queued.png", 8, 8);
+        assets.load(fileName, Texture.class);
+        Texture texture = assets.acquireTexture(fileName);
+        assertEquals(2, assets.getReferenceCount(fileName));
+        assets.finishLoading();
+        assertSame(texture, assets.get(fileName, Texture.class));
+        assets.unload(fileName);
+        assertTrue(assets.isLoaded(fileName));
+        assets.release(fileName);
+        assertFalse(assets.isLoaded(fileName));
+    }
+
+    @Test
+    public void testAcquiredSkinsAreShared() {
+        writeImage("skin.png", 2, 2);
+        directory.child("skin.atlas").writeString("\nskin.png\nsize: 2,2\nformat: RGBA8888\nfilter: Nearest,Nearest\nrepeat: none\n" +
+                "white\n  rotate: false\n  xy: 0, 0\n  size: 2, 2\n  orig: 2, 2\n  offset: 0, 0\n  index: -1\n", false);
+        FileHandle json = directory.child("skin.json");
+        json.writeString("{ com.badlogic.gdx.graphics.Color: { white: { r: 1, g: 1, b: 1, a: 1 } } }", false);
+
+        Skin first = assets.acquireSkin(json.path());
+        assertSame(first, assets.acquireSkin(json.path()));
+        assertNotNull(first.getRegion("white"));
+        assets.release(json.path());
+        assertTrue(assets.isLoaded(json.path()));
+        assets.release(json.path());
+        assertFalse(assets.isLoaded(json.path()));
+    }
+}
@@ -0,0 +1,100 @@
+package com.assets;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.loaders.resolvers.AbsoluteFileHandleResolver;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.PixmapIO;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.testrunner.GdxTestRunner;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.*;
+
+@RunWith(GdxTestRunner.class)
+public class PixmapDecoderTest {
+
+    private PixmapDecoder decoder;
+    private FileHandle directory;
+
+    @Before
+    public void setUp() {
+        decoder = new PixmapDecoder(2);
+        directory = FileHandle.tempDirectory("decoder");
+    }
+
+    @After
+    public void tearDown() {
+        decoder.dispose();
+        directory.deleteDirectory();
+    }
+
+    /** Writes a png of a size to decode */
+    private FileHandle writeImage(String name, int width, int height) {
+        FileHandle file = directory.child(name);
+        Pixmap pixmap = new Pixmap(width, height, Pixmap.Format.RGBA8888);
+        PixmapIO.writePNG(file, pixmap);
+        pixmap.dispose();
+        return file;
+    }
+
+    @Test
+    public void testTakesPrefetchedImages() {
+        FileHandle[] files = new FileHandle[8];
+        for (int i = 0; i < files.length; i++) {
+            files[i] = writeImage("image" + i + ".png", i + 1, 2 * i + 1);
+            decoder.prefetch(files[i]);
+        }
+        for (int i = 0; i < files.length; i++) {
+            Pixmap pixmap = decoder.take(files[i]);
+            assertEquals(i + 1, pixmap.getWidth());
+            assertEquals(2 * i + 1, pixmap.getHeight());
+            pixmap.dispose();
+        }
+    }
+
+    @Test
+    public void testDecodesImagesThatWerentPrefetched() {
+        Pixmap pixmap = decoder.take(writeImage("image.png", 3, 5));
+        assertEquals(3, pixmap.getWidth());
+        pixmap.dispose();
+    }
+
+    @Test
+    public void testPrefetchingTwiceDecodesOnce() {
+        FileHandle file = writeImage("image.png", 3, 5);
+        decoder.prefetch(file);
+        decoder.prefetch(file);
+        decoder.take(file).dispose();
+        // The second prefetch was dropped, so this decodes again rather than finding one waiting
+        file.delete();
+        try {
+            decoder.take(file);
+            fail();
+        } catch (GdxRuntimeException expected) {
+        }
+    }
+
+    @Test(expected = GdxRuntimeException.class)
+    public void testMissingImagesFailWhenTaken() {
+        FileHandle file = directory.child("missing.png");
+        decoder.prefetch(file);
+        decoder.take(file);
+    }
+
+    @Test
+    public void testLoaderMakesTexturesFromDecodedImages() {
+        FileHandle file = writeImage("image.png", 4, 6);
+        DecodedTextureLoader loader = new DecodedTextureLoader(new AbsoluteFileHandleResolver(), decoder);
+        decoder.prefetch(file);
+        loader.loadAsync(null, file.path(), file, null);
+        Texture texture = loader.loadSync(null, file.path(), file, null);
+        assertEquals(4, texture.getWidth());
+        assertEquals(6, texture.getHeight());
+        assertNotNull(Gdx.gl);
+    }
+}
@@ -2,9 +2,13 @@ package com.entities;
 
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
 import com.misc.Constants;
-import com.screens.GameScreen;
+import com.misc.Scheduler;
+import com.misc.SpatialHash;
+import com.simulation.GameWorld;
 import com.testrunner.GdxTestRunner;
 import org.junit.Before;
 import org.junit.Test;
@@ -25,16 +29,23 @@ public class ETFortressTest {
     @Mock
     private Texture mockDestroyedTexture;
     @Mock
-    private GameScreen mockGameScreen;
+    private GameWorld mockWorld;
     @Mock
     private Batch mockBatch;
 
     private ETFortress etFortressUnderTest;
+    private Scheduler scheduler;
 
     @Before
     public void setUp() {
         initMocks(this);
-        etFortressUnderTest = new ETFortress(mockTexture, mockDestroyedTexture, 1.0f, 1.0f, 0.0f, 0.0f, Constants.FortressType.CLIFFORD, mockGameScreen);
+        scheduler = new Scheduler();
+        when(mockWorld.getScheduler()).thenReturn(scheduler);
+        etFortressUnderTest = new ETFortress(new TextureRegion(mockTexture), new TextureRegion(mockDestroyedTexture), 1.0f, 1.0f, 0.0f, 0.0f, Constants.FortressType.CLIFFORD, mockWorld);
+    }
+
+    private void tick(int ticks) {
+        for (int i = 0; i < ticks; i++) scheduler.tick();
     }
 
     @Test
@@ -61,10 +72,22 @@ public class ETFortressTest {
         assertFalse(result);
     }
 
+    @Test
+    public void testTruckNextToFortressFindsItInHash() {
+        float x = 69 * Constants.TILE_DIMS, y = 51 * Constants.TILE_DIMS;
+        ETFortress fortress = new ETFortress(new TextureRegion(mockTexture), new TextureRegion(mockDestroyedTexture), 1.0f, 1.0f, x, y, Constants.FortressType.CLIFFORD, mockWorld);
+        SpatialHash<ETFortress> hash = new SpatialHash<>(200 * Constants.TILE_DIMS, 200 * Constants.TILE_DIMS, Constants.SPATIAL_HASH_CELL_SIZE);
+        hash.update(fortress, fortress.getDamageHitBox().getBoundingRectangle());
+
+        Array<ETFortress> found = new Array<>();
+        hash.query(x - 2 * Constants.TILE_DIMS, y + Constants.TILE_DIMS, Constants.TILE_DIMS, found);
+        assertTrue(found.contains(fortress, true));
+    }
+
     @Test
     public void testNotEnoughToFlood() {
-        when(mockGameScreen.getETFortressesDestroyed()).thenReturn(new int[]{1, 6});
-        doNothing().when(mockGameScreen).showPopupText(Mockito.anyString(), Mockito.anyInt(), Mockito.anyInt());
+        when(mockWorld.getETFortressesDestroyed()).thenReturn(new int[]{1, 6});
+        doNothing().when(mockWorld).showPopupText(Mockito.anyString(), Mockito.anyInt(), Mockito.anyInt());
         etFortressUnderTest.getHealthBar().subtractResourceAmount(((int) etFortressUnderTest.getHealthBar().getCurrentAmount()) - 1);
         etFortressUnderTest.update(mockBatch);
         assertFalse(etFortressUnderTest.isFlooded());
@@ -72,8 +95,8 @@ public class ETFortressTest {
 
     @Test
     public void testJustEnoughToFlood() {
-        when(mockGameScreen.getETFortressesDestroyed()).thenReturn(new int[]{1, 6});
-        doNothing().when(mockGameScreen).showPopupText(Mockito.anyString(), Mockito.anyInt(), Mockito.anyInt());
+        when(mockWorld.getETFortressesDestroyed()).thenReturn(new int[]{1, 6});
+        doNothing().when(mockWorld).showPopupText(Mockito.anyString(), Mockito.anyInt(), Mockito.anyInt());
         etFortressUnderTest.getHealthBar().subtractResourceAmount(((int) etFortressUnderTest.getHealthBar().getCurrentAmount()));
         etFortressUnderTest.update(mockBatch);
         assertTrue(etFortressUnderTest.isFlooded());
@@ -81,8 +104,8 @@ public class ETFortressTest {
 
     @Test
     public void testDefinatelyEnoughToFlood() {
-        when(mockGameScreen.getETFortressesDestroyed()).thenReturn(new int[]{1, 6});
-        doNothing().when(mockGameScreen).showPopupText(Mockito.anyString(), Mockito.anyInt(), Mockito.anyInt());
+        when(mockWorld.getETFortressesDestroyed()).thenReturn(new int[]{1, 6});
+        doNothing().when(mockWorld).showPopupText(Mockito.anyString(), Mockito.anyInt(), Mockito.anyInt());
         etFortressUnderTest.getHealthBar().subtractResourceAmount(10000);
         etFortressUnderTest.update(mockBatch);
         assertTrue(etFortressUnderTest.isFlooded());
@@ -90,26 +113,36 @@ public class ETFortressTest {
 
     @Test
     public void testHealOverTime() {
-        when(mockGameScreen.getETFortressesDestroyed()).thenReturn(new int[]{1, 6});
-        doNothing().when(mockGameScreen).showPopupText(Mockito.anyString(), Mockito.anyInt(), Mockito.anyInt());
+        when(mockWorld.getETFortressesDestroyed()).thenReturn(new int[]{1, 6});
+        doNothing().when(mockWorld).showPopupText(Mockito.anyString(), Mockito.anyInt(), Mockito.anyInt());
         etFortressUnderTest.getHealthBar().subtractResourceAmount(1);
 
         float healthBefore = etFortressUnderTest.getHealthBar().getCurrentAmount();
-        etFortressUnderTest.setInternalTime(0);
-        etFortressUnderTest.update(mockBatch);
+        tick(Constants.FORTRESS_HEAL_INTERVAL);
         float healthAfter = etFortressUnderTest.getHealthBar().getCurrentAmount();
         assertTrue(healthAfter > healthBefore);
     }
 
+    @Test
+    public void testFloodedFortressIsNotHealed() {
+        when(mockWorld.getETFortressesDestroyed()).thenReturn(new int[]{1, 6});
+        doNothing().when(mockWorld).showPopupText(Mockito.anyString(), Mockito.anyInt(), Mockito.anyInt());
+        etFortressUnderTest.getHealthBar().subtractResourceAmount(10000);
+        etFortressUnderTest.update(mockBatch);
+
+        tick(Constants.FORTRESS_HEAL_INTERVAL);
+        assertEquals(0, etFortressUnderTest.getHealthBar().getCurrentAmount(), 0.0);
+        assertEquals(0, scheduler.size());
+    }
+
     @Test
     public void testHealOverTimeTooSoon() {
-        when(mockGameScreen.getETFortressesDestroyed()).thenReturn(new int[]{1, 6});
-        doNothing().when(mockGameScreen).showPopupText(Mockito.anyString(), Mockito.anyInt(), Mockito.anyInt());
+        when(mockWorld.getETFortressesDestroyed()).thenReturn(new int[]{1, 6});
+        doNothing().when(mockWorld).showPopupText(Mockito.anyString(), Mockito.anyInt(), Mockito.anyInt());
         etFortressUnderTest.getHealthBar().subtractResourceAmount(1);
 
         float healthBefore = etFortressUnderTest.getHealthBar().getCurrentAmount();
-        etFortressUnderTest.setInternalTime(20);
-        etFortressUnderTest.update(mockBatch);
+        tick(Constants.FORTRESS_HEAL_INTERVAL - 1);
         float healthAfter = etFortressUnderTest.getHealthBar().getCurrentAmount();
         assertEquals(healthAfter, healthBefore, 0.0);
     }
@@ -2,10 +2,14 @@ package com.entities;
 
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
 import com.badlogic.gdx.math.Vector2;
+import com.misc.CollisionGrid;
 import com.misc.Constants;
-import com.screens.GameScreen;
+import com.misc.Scheduler;
+import com.misc.VoxelSlices;
+import com.simulation.GameWorld;
 import com.testrunner.GdxTestRunner;
 import org.junit.Before;
 import org.junit.Test;
@@ -23,6 +27,7 @@ import static org.mockito.MockitoAnnotations.initMocks;
 public class FireStationTest {
 
     private Firestation firestation;
+    private Scheduler scheduler;
 
     @Mock
     private Texture textureMock;
@@ -31,7 +36,10 @@ public class FireStationTest {
     private ArrayList<Texture> texturesMock;
 
     @Mock
-    private GameScreen gameScreen;
+    private VoxelSlices slicesMock;
+
+    @Mock
+    private GameWorld world;
 
     @Mock
     private TiledMapTileLayer tileLayerMock;
@@ -43,8 +51,15 @@ public class FireStationTest {
         initMocks(this);
         when(textureMock.getHeight()).thenReturn(10);
         when(textureMock.getWidth()).thenReturn(10);
-        when(texturesMock.get(texturesMock.size() - 1)).thenReturn(textureMock);
-        firestation = new Firestation(textureMock, textureMock, 0, 0, gameScreen);
+        TextureRegion region = new TextureRegion(textureMock);
+        when(slicesMock.getBase()).thenReturn(region);
+        scheduler = new Scheduler();
+        when(world.getScheduler()).thenReturn(scheduler);
+        firestation = new Firestation(new TextureRegion(textureMock), new TextureRegion(textureMock), 0, 0, world);
+    }
+
+    private void tick(int ticks) {
+        for (int i = 0; i < ticks; i++) scheduler.tick();
     }
 
     @Test
@@ -62,7 +77,7 @@ public class FireStationTest {
 
     @Test
     public void refillEmptyTest() {
-        Firetruck firetruck = new Firetruck(texturesMock, texturesMock, Constants.TruckType.BLUE, tileLayerMock, tileLayerMock, firestation, true);
+        Firetruck firetruck = new Firetruck(slicesMock, texturesMock, Constants.TruckType.BLUE, new CollisionGrid(tileLayerMock, tileLayerMock), firestation, true);
         firetruck.getWaterBar().subtractResourceAmount(((int) firetruck.getWaterBar().getCurrentAmount()));
         float waterBefore = firetruck.getWaterBar().getCurrentAmount();
         firestation.repairRefill(firetruck);
@@ -72,7 +87,7 @@ public class FireStationTest {
 
     @Test
     public void refillNearlyFullTest() {
-        Firetruck firetruck = new Firetruck(texturesMock, texturesMock, Constants.TruckType.BLUE, tileLayerMock, tileLayerMock, firestation, true);
+        Firetruck firetruck = new Firetruck(slicesMock, texturesMock, Constants.TruckType.BLUE, new CollisionGrid(tileLayerMock, tileLayerMock), firestation, true);
         firetruck.getWaterBar().subtractResourceAmount(1);
         float waterBefore = firetruck.getWaterBar().getCurrentAmount();
         firestation.repairRefill(firetruck);
@@ -82,7 +97,7 @@ public class FireStationTest {
 
     @Test
     public void refillFullTest() {
-        Firetruck firetruck = new Firetruck(texturesMock, texturesMock, Constants.TruckType.BLUE, tileLayerMock, tileLayerMock, firestation, true);
+        Firetruck firetruck = new Firetruck(slicesMock, texturesMock, Constants.TruckType.BLUE, new CollisionGrid(tileLayerMock, tileLayerMock), firestation, true);
         firetruck.getWaterBar().subtractResourceAmount(0);
         float waterBefore = firetruck.getWaterBar().getCurrentAmount();
         firestation.repairRefill(firetruck);
@@ -92,11 +107,12 @@ public class FireStationTest {
 
     @Test
     public void repairNotAtFirestationTest() {
-        Firetruck firetruck = new Firetruck(texturesMock, texturesMock, Constants.TruckType.BLUE, tileLayerMock, tileLayerMock, firestation, true);
+        Firetruck firetruck = new Firetruck(slicesMock, texturesMock, Constants.TruckType.BLUE, new CollisionGrid(tileLayerMock, tileLayerMock), firestation, true);
         firestation.setActiveFireTruck(firetruck);
         firestation.getActiveFireTruck().getHealthBar().subtractResourceAmount(10);
         float healthBefore = firestation.getActiveFireTruck().getHealthBar().getCurrentAmount();
         firestation.getActiveFireTruck().setRespawnLocation(3); // sets car park to upper 1 (not fire station)
+        tick(Constants.FIRESTATION_REPAIR_INTERVAL);
         firestation.checkRepairRefill(180, true);
         float healthAfter = firestation.getActiveFireTruck().getHealthBar().getCurrentAmount();
         assertEquals(healthAfter, healthBefore, 0.0);
@@ -104,25 +120,54 @@ public class FireStationTest {
 
     @Test
     public void repairAtFirestationTest() {
-        Firetruck firetruck = new Firetruck(texturesMock, texturesMock, Constants.TruckType.BLUE, tileLayerMock, tileLayerMock, firestation, true);
+        Firetruck firetruck = new Firetruck(slicesMock, texturesMock, Constants.TruckType.BLUE, new CollisionGrid(tileLayerMock, tileLayerMock), firestation, true);
         firestation.setActiveFireTruck(firetruck);
         firestation.getActiveFireTruck().getHealthBar().subtractResourceAmount(10);
         float healthBefore = firestation.getActiveFireTruck().getHealthBar().getCurrentAmount();
         firestation.getActiveFireTruck().setRespawnLocation(0); // sets car park to fire station
+        tick(Constants.FIRESTATION_REPAIR_INTERVAL);
         firestation.checkRepairRefill(180, true);
         float healthAfter = firestation.getActiveFireTruck().getHealthBar().getCurrentAmount();
         assertTrue(healthAfter > healthBefore);
     }
 
+    @Test
+    public void repairAtFirestationTooSoonTest() {
+        Firetruck firetruck = new Firetruck(slicesMock, texturesMock, Constants.TruckType.BLUE, new CollisionGrid(tileLayerMock, tileLayerMock), firestation, true);
+        firestation.setActiveFireTruck(firetruck);
+        firestation.getActiveFireTruck().getHealthBar().subtractResourceAmount(10);
+        float healthBefore = firestation.getActiveFireTruck().getHealthBar().getCurrentAmount();
+        firestation.getActiveFireTruck().setRespawnLocation(0); // sets car park to fire station
+        tick(Constants.FIRESTATION_REPAIR_INTERVAL - 1);
+        firestation.checkRepairRefill(180, true);
+        float healthAfter = firestation.getActiveFireTruck().getHealthBar().getCurrentAmount();
+        assertEquals(healthAfter, healthBefore, 0.0);
+    }
+
+    @Test
+    public void repairOncePerIntervalTest() {
+        Firetruck firetruck = new Firetruck(slicesMock, texturesMock, Constants.TruckType.BLUE, new CollisionGrid(tileLayerMock, tileLayerMock), firestation, true);
+        firestation.setActiveFireTruck(firetruck);
+        firestation.getActiveFireTruck().getHealthBar().subtractResourceAmount(10);
+        firestation.getActiveFireTruck().setRespawnLocation(0); // sets car park to fire station
+        tick(Constants.FIRESTATION_REPAIR_INTERVAL);
+        firestation.checkRepairRefill(180, true);
+        float healthBefore = firestation.getActiveFireTruck().getHealthBar().getCurrentAmount();
+        firestation.checkRepairRefill(180, true);
+        float healthAfter = firestation.getActiveFireTruck().getHealthBar().getCurrentAmount();
+        assertEquals(healthAfter, healthBefore, 0.0);
+    }
+
     @Test
     public void repairAtFirestationAfterItHasBeenDestroyedTest() {
-        Firetruck firetruck = new Firetruck(texturesMock, texturesMock, Constants.TruckType.BLUE, tileLayerMock, tileLayerMock, firestation, true);
+        Firetruck firetruck = new Firetruck(slicesMock, texturesMock, Constants.TruckType.BLUE, new CollisionGrid(tileLayerMock, tileLayerMock), firestation, true);
         firestation.setActiveFireTruck(firetruck);
         firestation.getActiveFireTruck().getHealthBar().subtractResourceAmount(10);
         float healthBefore = firestation.getActiveFireTruck().getHealthBar().getCurrentAmount();
         firestation.getActiveFireTruck().setRespawnLocation(0); // sets car park to fire station
         firestation.getHealthBar().subtractResourceAmount(((int) firestation.getHealthBar().getCurrentAmount()));
         firestation.update(mockBatch);
+        tick(Constants.FIRESTATION_REPAIR_INTERVAL);
         firestation.checkRepairRefill(0, true);
         float healthAfter = firestation.getActiveFireTruck().getHealthBar().getCurrentAmount();
         assertEquals(healthAfter, healthBefore, 0.0);
@@ -152,7 +197,7 @@ public class FireStationTest {
 
     @Test
     public void testOpenCarparkMenu() {
-        Firetruck firetruck = new Firetruck(texturesMock, texturesMock, Constants.TruckType.BLUE, tileLayerMock, tileLayerMock, firestation, true);
+        Firetruck firetruck = new Firetruck(slicesMock, texturesMock, Constants.TruckType.BLUE, new CollisionGrid(tileLayerMock, tileLayerMock), firestation, true);
         firestation.setActiveFireTruck(firetruck);
         firestation.toggleMenu(true);
         assertTrue(firestation.isMenuOpen() && !firestation.getActiveFireTruck().isSpraying());
@@ -160,7 +205,7 @@ public class FireStationTest {
 
     @Test
     public void testCloseCarparkMenuToRespawnFiretruck() {
-        Firetruck firetruck = new Firetruck(texturesMock, texturesMock, Constants.TruckType.BLUE, tileLayerMock, tileLayerMock, firestation, true);
+        Firetruck firetruck = new Firetruck(slicesMock, texturesMock, Constants.TruckType.BLUE, new CollisionGrid(tileLayerMock, tileLayerMock), firestation, true);
         firestation.setActiveFireTruck(firetruck);
         firestation.toggleMenu(false);
 
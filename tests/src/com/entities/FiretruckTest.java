@@ -1,13 +1,17 @@
 package com.entities;
 
 import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
 import com.badlogic.gdx.math.Vector2;
 import com.misc.Arrow;
+import com.misc.CollisionGrid;
 import com.misc.Constants;
 import com.misc.Constants.TruckType;
 import com.misc.ResourceBar;
+import com.misc.Scheduler;
+import com.misc.VoxelSlices;
 import com.testrunner.GdxTestRunner;
 import org.junit.Before;
 import org.junit.Rule;
@@ -37,10 +41,13 @@ public class FiretruckTest {
     private ArrayList<Texture> texturesMock;
     @Mock
     private Texture textureMock;
+    @Mock
+    private VoxelSlices slicesMock;
 
     private Arrow arrowUnderTest;
 
     private Firetruck firetruckUnderTest;
+    private Scheduler scheduler;
 
     @Rule
     public MockitoRule mockitoRule = MockitoJUnit.rule();
@@ -50,8 +57,39 @@ public class FiretruckTest {
         initMocks(this);
         when(textureMock.getHeight()).thenReturn(10);
         when(textureMock.getWidth()).thenReturn(10);
-        when(texturesMock.get(texturesMock.size() - 1)).thenReturn(textureMock);
-        firetruckUnderTest = new Firetruck(texturesMock, texturesMock, TruckType.BLUE, t1, t2, firestation, false);
+        TextureRegion region = new TextureRegion(textureMock);
+        when(slicesMock.getBase()).thenReturn(region);
+        scheduler = new Scheduler();
+        when(firestation.getScheduler()).thenReturn(scheduler);
+        firetruckUnderTest = new Firetruck(slicesMock, texturesMock, TruckType.BLUE, new CollisionGrid(t1, t2), firestation, false);
+    }
+
+    private void tick(int ticks) {
+        for (int i = 0; i < ticks; i++) scheduler.tick();
+    }
+
+    @Test
+    public void testHoseHitsOnceItHasReloaded() {
+        tick(Constants.FIRETRUCK_HOSE_INTERVAL - 1);
+        assertFalse(firetruckUnderTest.fireHose());
+        tick(1);
+        assertTrue(firetruckUnderTest.fireHose());
+    }
+
+    @Test
+    public void testHoseHitsOncePerInterval() {
+        tick(Constants.FIRETRUCK_HOSE_INTERVAL);
+        assertTrue(firetruckUnderTest.fireHose());
+        assertFalse(firetruckUnderTest.fireHose());
+        tick(Constants.FIRETRUCK_HOSE_INTERVAL);
+        assertTrue(firetruckUnderTest.fireHose());
+    }
+
+    @Test
+    public void testHoseDoesNotReloadWhilePaused() {
+        scheduler.setPaused(true);
+        tick(Constants.FIRETRUCK_HOSE_INTERVAL);
+        assertFalse(firetruckUnderTest.fireHose());
     }
 
     /**
@@ -239,7 +277,7 @@ public class FiretruckTest {
         fortresses.add(fortress1);
         fortresses.add(fortress2);
         firetruckUnderTest.setPosition(2,2);
-        firetruckUnderTest.updateArrow(Mockito.mock(ShapeRenderer.class), fortresses);
+        firetruckUnderTest.updateArrow(Mockito.mock(ShapeRenderer.class), fortresses, 1);
 
         arrowUnderTest = new Arrow(0, 0, 0, 0);
         final Vector2 target = firetruckUnderTest.getNearestFortress().getCentre();
@@ -260,7 +298,7 @@ public class FiretruckTest {
         fortresses.add(fortress1);
         fortresses.add(fortress2);
         firetruckUnderTest.setPosition(0,0);
-        firetruckUnderTest.updateArrow(Mockito.mock(ShapeRenderer.class), fortresses);
+        firetruckUnderTest.updateArrow(Mockito.mock(ShapeRenderer.class), fortresses, 1);
 
         arrowUnderTest = new Arrow(0, 0, 0, 0);
         final Vector2 target = firetruckUnderTest.getNearestFortress().getCentre();
@@ -281,7 +319,7 @@ public class FiretruckTest {
         fortresses.add(fortress1);
         fortresses.add(fortress2);
         firetruckUnderTest.setPosition(999999999,999999999);
-        firetruckUnderTest.updateArrow(Mockito.mock(ShapeRenderer.class), fortresses);
+        firetruckUnderTest.updateArrow(Mockito.mock(ShapeRenderer.class), fortresses, 1);
 
         arrowUnderTest = new Arrow(999999999, 999999999, 999999999, 999999999);
         final Vector2 target = firetruckUnderTest.getNearestFortress().getCentre();
@@ -3,9 +3,11 @@ package com.entities;
 import com.badlogic.gdx.ai.pfa.GraphPath;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Array;
 import com.misc.Constants;
+import com.misc.VoxelSlices;
 import com.pathFinding.Junction;
 import com.pathFinding.MapGraph;
 import com.pathFinding.Road;
@@ -15,8 +17,6 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 
-import java.util.ArrayList;
-
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
@@ -27,11 +27,11 @@ import static org.mockito.MockitoAnnotations.initMocks;
 @RunWith(GdxTestRunner.class)
 public class PatrolTest {
 
-    @Mock
-    private ArrayList<Texture> texturesMock;
     @Mock
     private Texture textureMock;
     @Mock
+    private VoxelSlices slicesMock;
+    @Mock
     private MapGraph mockMapGraph;
     @Mock
     private Array<Junction> junctionsMock;
@@ -50,11 +50,12 @@ public class PatrolTest {
     public void setUp() {
         initMocks(this);
         mockitoWhenSetup();
-        patrolUnderTest = new Patrol(texturesMock, mockMapGraph);
+        patrolUnderTest = new Patrol(slicesMock, mockMapGraph);
     }
 
     private void mockitoWhenSetup() {
-        when(texturesMock.get(texturesMock.size() - 1)).thenReturn(textureMock);
+        TextureRegion region = new TextureRegion(textureMock);
+        when(slicesMock.getBase()).thenReturn(region);
         when(graphPathMock.getCount()).thenReturn(2);
         when(graphPathMock.get(isA(int.class))).thenReturn(junctionMock);
         when(mockMapGraph.findPath(isA(Junction.class), isA(Junction.class))).thenReturn(graphPathMock);
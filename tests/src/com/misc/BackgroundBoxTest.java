@@ -0,0 +1,51 @@
+package com.misc;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.NinePatch;
+import com.testrunner.GdxTestRunner;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+@RunWith(GdxTestRunner.class)
+public class BackgroundBoxTest {
+
+    @After
+    public void tearDown() {
+        BackgroundBox.disposePatches();
+    }
+
+    @Test
+    public void testBoxesShareOnePatchPerRadius() {
+        new BackgroundBox(300, 25, Color.GRAY);
+        new BackgroundBox(100, 25, Color.DARK_GRAY);
+        new BackgroundBox(200, 100, Color.GRAY, 10);
+        new BackgroundBox(300, 300, Color.DARK_GRAY, 10);
+
+        assertSame(BackgroundBox.getPatch(0), BackgroundBox.getPatch(0));
+        assertSame(BackgroundBox.getPatch(10), BackgroundBox.getPatch(10));
+        assertNotSame(BackgroundBox.getPatch(0), BackgroundBox.getPatch(10));
+    }
+
+    @Test
+    public void testPatchCornersMatchTheRadius() {
+        NinePatch patch = BackgroundBox.getPatch(10);
+        assertEquals(10, patch.getLeftWidth(), 0);
+        assertEquals(10, patch.getRightWidth(), 0);
+        assertEquals(10, patch.getTopHeight(), 0);
+        assertEquals(10, patch.getBottomHeight(), 0);
+        assertEquals(21, patch.getTexture().getWidth());
+    }
+
+    @Test
+    public void testBoxIsSizedAndColoured() {
+        BackgroundBox box = new BackgroundBox(200, 100, Color.GRAY, 10);
+        assertEquals(200, box.getWidth(), 0);
+        assertEquals(100, box.getHeight(), 0);
+        assertEquals(Color.GRAY, box.getColor());
+    }
+}
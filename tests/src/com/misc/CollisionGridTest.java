@@ -0,0 +1,74 @@
+package com.misc;
+
+import com.badlogic.gdx.maps.tiled.TiledMapTile;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.maps.tiled.tiles.StaticTiledMapTile;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.testrunner.GdxTestRunner;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import static com.misc.Constants.TILE_DIMS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(GdxTestRunner.class)
+public class CollisionGridTest {
+
+    private CollisionGrid gridUnderTest;
+
+    @Before
+    public void setUp() {
+        TiledMapTileLayer collisionLayer = new TiledMapTileLayer(70, 3, 8, 8);
+        TiledMapTileLayer carparkLayer = new TiledMapTileLayer(70, 3, 8, 8);
+        TiledMapTile wall = new StaticTiledMapTile(new TextureRegion());
+        TiledMapTile entrance = new StaticTiledMapTile(new TextureRegion());
+        entrance.getProperties().put("carpark", 4);
+
+        // Either side of a long boundary in the bitset
+        collisionLayer.setCell(63, 0, new TiledMapTileLayer.Cell().setTile(wall));
+        collisionLayer.setCell(64, 0, new TiledMapTileLayer.Cell().setTile(wall));
+        collisionLayer.setCell(2, 2, new TiledMapTileLayer.Cell().setTile(wall));
+        carparkLayer.setCell(5, 1, new TiledMapTileLayer.Cell().setTile(entrance));
+        carparkLayer.setCell(6, 1, new TiledMapTileLayer.Cell().setTile(wall));
+
+        gridUnderTest = new CollisionGrid(collisionLayer, carparkLayer);
+    }
+
+    @Test
+    public void testBlockedTiles() {
+        assertTrue(gridUnderTest.isBlockedTile(63, 0));
+        assertTrue(gridUnderTest.isBlockedTile(64, 0));
+        assertTrue(gridUnderTest.isBlockedTile(2, 2));
+        assertFalse(gridUnderTest.isBlockedTile(65, 0));
+        assertFalse(gridUnderTest.isBlockedTile(2, 1));
+    }
+
+    @Test
+    public void testOutsideMapIsNotBlocked() {
+        assertFalse(gridUnderTest.isBlockedTile(-1, 0));
+        assertFalse(gridUnderTest.isBlockedTile(70, 0));
+        assertFalse(gridUnderTest.isBlockedTile(0, 3));
+        assertEquals(CollisionGrid.NO_CARPARK, gridUnderTest.getCarpark(-TILE_DIMS * 2, 0));
+    }
+
+    @Test
+    public void testCountBlockedVertices() {
+        float[] vertices = {
+                2.5f * TILE_DIMS, 2.5f * TILE_DIMS,
+                63.5f * TILE_DIMS, 0.5f * TILE_DIMS,
+                10 * TILE_DIMS, TILE_DIMS
+        };
+        assertEquals(2, gridUnderTest.countBlocked(vertices));
+    }
+
+    @Test
+    public void testCarparkNumbers() {
+        assertEquals(4, gridUnderTest.getCarpark(5.5f * TILE_DIMS, 1.5f * TILE_DIMS));
+        // Tiles without a carpark property are not entrances
+        assertEquals(CollisionGrid.NO_CARPARK, gridUnderTest.getCarpark(6.5f * TILE_DIMS, 1.5f * TILE_DIMS));
+        assertEquals(CollisionGrid.NO_CARPARK, gridUnderTest.getCarpark(0, 0));
+    }
+}
@@ -0,0 +1,65 @@
+package com.misc;
+
+import com.testrunner.GdxTestRunner;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(GdxTestRunner.class)
+public class FixedTimestepTest {
+
+    private static final float STEP = 1 / 60f;
+    private static final int MAX_STEPS = 5;
+
+    private FixedTimestep clock;
+
+    @Before
+    public void setUp() {
+        clock = new FixedTimestep(STEP, MAX_STEPS);
+    }
+
+    /** Runs a second of frames at a frame rate, returning the steps run for them */
+    private int runSecond(int framesPerSecond) {
+        int steps = 0;
+        for (int frame = 0; frame < framesPerSecond; frame++) {
+            steps += clock.advance(1f / framesPerSecond);
+        }
+        return steps;
+    }
+
+    @Test
+    public void testSameStepsAtAnyFrameRate() {
+        assertEquals(60, runSecond(30), 1);
+        clock.reset();
+        assertEquals(60, runSecond(60), 1);
+        clock.reset();
+        assertEquals(60, runSecond(144), 1);
+        clock.reset();
+        assertEquals(60, runSecond(1000), 1);
+    }
+
+    @Test
+    public void testLeftOverTimeCarriedToNextFrame() {
+        assertEquals(0, clock.advance(STEP / 2));
+        assertEquals(0.5f, clock.getAlpha(), 0.001f);
+        assertEquals(1, clock.advance(STEP / 2));
+        assertEquals(0, clock.getAlpha(), 0.001f);
+    }
+
+    @Test
+    public void testAlphaIsFractionOfNextStep() {
+        assertEquals(1, clock.advance(STEP * 1.25f));
+        assertEquals(0.25f, clock.getAlpha(), 0.001f);
+    }
+
+    @Test
+    public void testLongFrameCappedAndDropped() {
+        assertEquals(MAX_STEPS, clock.advance(1));
+        assertTrue(clock.getAlpha() < 1);
+        // The dropped time isn't caught up on later
+        assertEquals(0, clock.advance(0));
+    }
+}
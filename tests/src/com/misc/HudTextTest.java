@@ -0,0 +1,65 @@
+package com.misc;
+
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.GlyphLayout;
+import com.testrunner.GdxTestRunner;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(GdxTestRunner.class)
+public class HudTextTest {
+
+    private BitmapFont font;
+    private HudText hudText;
+
+    @Before
+    public void setUp() {
+        font = new BitmapFont();
+        hudText = new HudText(font, "Score: ");
+    }
+
+    @After
+    public void tearDown() {
+        font.dispose();
+    }
+
+    @Test
+    public void testNothingIsShownUntilSet() {
+        assertNull(hudText.getLayout());
+        assertEquals(0, hudText.getPrefWidth(), 0);
+    }
+
+    @Test
+    public void testValueIsWrittenAfterPrefix() {
+        hudText.setValue(5);
+        assertEquals("Score: 5", hudText.getText().toString());
+        hudText.setValue(-120);
+        assertEquals("Score: -120", hudText.getText().toString());
+    }
+
+    @Test
+    public void testSameValueIsNotLaidOutAgain() {
+        hudText.setValue(42);
+        GlyphLayout layout = hudText.getLayout();
+        float width = layout.width;
+        hudText.setValue(42);
+        assertSame(layout, hudText.getLayout());
+        assertEquals(width, hudText.getLayout().width, 0);
+    }
+
+    @Test
+    public void testLongerValuesAreWider() {
+        hudText.setValue(1);
+        float width = hudText.getPrefWidth();
+        hudText.setValue(1000);
+        assertTrue(hudText.getPrefWidth() > width);
+        assertEquals(hudText.getPrefWidth(), hudText.getWidth(), 0);
+    }
+}
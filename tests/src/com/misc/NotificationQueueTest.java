@@ -0,0 +1,112 @@
+package com.misc;
+
+import com.misc.NotificationQueue.Notification;
+import com.misc.NotificationQueue.Priority;
+import com.testrunner.GdxTestRunner;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(GdxTestRunner.class)
+public class NotificationQueueTest {
+
+    private Scheduler clock;
+    private NotificationQueue queue;
+
+    @Before
+    public void setUp() {
+        clock = new Scheduler();
+        queue = new NotificationQueue(3, clock);
+    }
+
+    private void tick(int ticks) {
+        for (int i = 0; i < ticks; i++) clock.tick();
+    }
+
+    @Test
+    public void testMessagesAreShownInOrderPosted() {
+        queue.post("first", Priority.NORMAL, 1, 10);
+        queue.post("second", Priority.NORMAL, 1, 10);
+        assertEquals("first", queue.next().getText());
+        assertEquals("second", queue.next().getText());
+        assertNull(queue.next());
+    }
+
+    @Test
+    public void testMoreImportantMessagesAreShownFirst() {
+        queue.post("tip", Priority.LOW, 1, 10);
+        queue.post("news", Priority.NORMAL, 1, 10);
+        queue.post("warning", Priority.HIGH, 1, 10);
+        assertEquals("warning", queue.next().getText());
+        assertEquals("news", queue.next().getText());
+        assertEquals("tip", queue.next().getText());
+    }
+
+    @Test
+    public void testWaitingMessageIsNotQueuedAgain() {
+        assertTrue(queue.post("warning", Priority.NORMAL, 1, 0));
+        assertFalse(queue.post("warning", Priority.NORMAL, 1, 0));
+        assertEquals(1, queue.size());
+    }
+
+    @Test
+    public void testMessageIsIgnoredUntilCooldownPasses() {
+        queue.post("warning", Priority.NORMAL, 1, 10);
+        queue.next();
+        tick(9);
+        assertFalse(queue.post("warning", Priority.NORMAL, 1, 10));
+        tick(1);
+        assertTrue(queue.post("warning", Priority.NORMAL, 1, 10));
+    }
+
+    @Test
+    public void testPostingEveryTickOnlyQueuesOnce() {
+        int queued = 0;
+        for (int i = 0; i < 60; i++) {
+            if (queue.post("warning", Priority.NORMAL, 1, 300)) queued++;
+            if (i == 30) queue.next();
+            clock.tick();
+        }
+        assertEquals(1, queued);
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void testRepeatedMessageIsShownThatManyTimes() {
+        queue.post("warning", Priority.NORMAL, 3, 10);
+        Notification first = queue.next();
+        assertEquals("warning", first.getText());
+        assertEquals(10, first.getDuration());
+        assertEquals("warning", queue.next().getText());
+        assertEquals("warning", queue.next().getText());
+        assertNull(queue.next());
+    }
+
+    @Test
+    public void testFullQueueDropsLeastImportantMessage() {
+        queue.post("a", Priority.LOW, 1, 10);
+        queue.post("b", Priority.NORMAL, 1, 10);
+        queue.post("c", Priority.LOW, 1, 10);
+        assertFalse(queue.post("d", Priority.LOW, 1, 10));
+        assertTrue(queue.post("e", Priority.HIGH, 1, 10));
+        assertEquals(3, queue.size());
+        assertEquals("e", queue.next().getText());
+        assertEquals("b", queue.next().getText());
+        assertEquals("a", queue.next().getText());
+        assertNull(queue.next());
+    }
+
+    @Test
+    public void testClearDropsMessagesButKeepsCooldowns() {
+        queue.post("warning", Priority.NORMAL, 1, 10);
+        queue.clear();
+        assertTrue(queue.isEmpty());
+        assertNull(queue.next());
+        assertFalse(queue.post("warning", Priority.NORMAL, 1, 10));
+    }
+}
@@ -1,11 +1,19 @@
 package com.misc;
 
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.testrunner.GdxTestRunner;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 
 import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.anyFloat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 @RunWith(GdxTestRunner.class)
 public class ResourceBarTest {
@@ -30,4 +38,28 @@ public class ResourceBarTest {
         resource.addResourceAmount(15);
         assertEquals((int)resource.getCurrentAmount(), 95);
     }
+
+    @Test
+    public void resourceBarDrawsFillFromPixel() {
+        ResourceBar bar = new ResourceBar(100f, 20f);
+        Batch batch = mock(Batch.class);
+        TextureRegion pixel = mock(TextureRegion.class);
+        bar.setPosition(0, 0);
+        bar.subtractResourceAmount(50);
+        bar.update();
+        bar.draw(batch, pixel);
+        // Grey background across the whole bar, orange fill for half of it
+        verify(batch).draw(eq(pixel), anyFloat(), anyFloat(), eq(70f), eq(6f));
+        verify(batch).draw(eq(pixel), anyFloat(), anyFloat(), eq(35f), eq(6f));
+        verify(batch).setColor(Color.ORANGE.r, Color.ORANGE.g, Color.ORANGE.b, 0.05f);
+    }
+
+    @Test
+    public void resourceBarHiddenUntilChanged() {
+        Batch batch = mock(Batch.class);
+        TextureRegion pixel = mock(TextureRegion.class);
+        resource.update();
+        resource.draw(batch, pixel);
+        verify(batch, never()).draw(eq(pixel), anyFloat(), anyFloat(), anyFloat(), anyFloat());
+    }
 }
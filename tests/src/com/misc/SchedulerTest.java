@@ -0,0 +1,151 @@
+package com.misc;
+
+import com.badlogic.gdx.utils.LongArray;
+import com.testrunner.GdxTestRunner;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.*;
+
+@RunWith(GdxTestRunner.class)
+public class SchedulerTest {
+
+    private Scheduler scheduler;
+
+    @Before
+    public void setUp() {
+        scheduler = new Scheduler();
+    }
+
+    /** A task that records the ticks it runs on */
+    private class RecordingTask extends Scheduler.Task {
+        final LongArray runs = new LongArray();
+
+        @Override
+        public void run() {
+            runs.add(scheduler.getTime());
+        }
+    }
+
+    private void tick(int ticks) {
+        for (int i = 0; i < ticks; i++) scheduler.tick();
+    }
+
+    @Test
+    public void testRunsOnceAfterDelay() {
+        RecordingTask task = new RecordingTask();
+        scheduler.schedule(task, 10);
+        tick(9);
+        assertEquals(0, task.runs.size);
+        tick(1);
+        assertEquals(1, task.runs.size);
+        assertFalse(task.isScheduled());
+        tick(100);
+        assertEquals(1, task.runs.size);
+    }
+
+    @Test
+    public void testRepeatsAtInterval() {
+        RecordingTask task = new RecordingTask();
+        scheduler.schedule(task, 5, 30);
+        tick(200);
+        assertEquals(7, task.runs.size);
+        for (int i = 0; i < task.runs.size; i++) {
+            assertEquals(5 + 30 * i, task.runs.get(i));
+        }
+    }
+
+    @Test
+    public void testRunsOnTimeFromHigherWheels() {
+        int[] delays = {63, 64, 65, 4095, 4096, 4097, 262143, 262145, 300000};
+        RecordingTask[] tasks = new RecordingTask[delays.length];
+        // Start part of the way round the first wheel so the delays cross it
+        tick(37);
+        for (int i = 0; i < delays.length; i++) {
+            tasks[i] = new RecordingTask();
+            scheduler.schedule(tasks[i], delays[i]);
+        }
+        tick(300000);
+        for (int i = 0; i < delays.length; i++) {
+            assertEquals(1, tasks[i].runs.size);
+            assertEquals(37 + delays[i], tasks[i].runs.get(0));
+        }
+        assertEquals(0, scheduler.size());
+    }
+
+    @Test
+    public void testCancelledTasksDontRun() {
+        RecordingTask task = new RecordingTask();
+        scheduler.schedule(task, 100, 100);
+        tick(50);
+        task.cancel();
+        tick(200);
+        assertEquals(0, task.runs.size);
+        assertEquals(0, scheduler.size());
+    }
+
+    @Test
+    public void testTaskCanCancelItself() {
+        final int[] runs = {0};
+        scheduler.schedule(new Scheduler.Task() {
+            @Override
+            public void run() {
+                if (++runs[0] == 3) cancel();
+            }
+        }, 1, 1);
+        tick(10);
+        assertEquals(3, runs[0]);
+    }
+
+    @Test
+    public void testTaskCanCancelAnotherDueOnTheSameTick() {
+        final RecordingTask other = new RecordingTask();
+        Scheduler.Task canceller = new Scheduler.Task() {
+            @Override
+            public void run() {
+                other.cancel();
+            }
+        };
+        scheduler.schedule(other, 10);
+        scheduler.schedule(canceller, 10);
+        tick(10);
+        assertEquals(0, other.runs.size);
+    }
+
+    @Test
+    public void testReschedulingMovesTask() {
+        RecordingTask task = new RecordingTask();
+        scheduler.schedule(task, 10);
+        scheduler.schedule(task, 20);
+        assertEquals(1, scheduler.size());
+        tick(20);
+        assertEquals(1, task.runs.size);
+        assertEquals(20, task.runs.get(0));
+    }
+
+    @Test
+    public void testPausedSchedulerDoesNothing() {
+        RecordingTask task = new RecordingTask();
+        scheduler.schedule(task, 10);
+        scheduler.setPaused(true);
+        tick(50);
+        assertEquals(0, scheduler.getTime());
+        assertEquals(0, task.runs.size);
+        scheduler.setPaused(false);
+        tick(10);
+        assertEquals(1, task.runs.size);
+    }
+
+    @Test
+    public void testClearCancelsEverything() {
+        RecordingTask task = new RecordingTask();
+        scheduler.schedule(task, 10);
+        scheduler.schedule(new RecordingTask(), 5000, 5);
+        scheduler.clear();
+        assertEquals(0, scheduler.size());
+        assertFalse(task.isScheduled());
+        tick(6000);
+        assertEquals(0, task.runs.size);
+    }
+}
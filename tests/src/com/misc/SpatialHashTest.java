@@ -0,0 +1,95 @@
+package com.misc;
+
+import com.badlogic.gdx.math.Polygon;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.testrunner.GdxTestRunner;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(GdxTestRunner.class)
+public class SpatialHashTest {
+
+    private static final float CELL = Constants.SPATIAL_HASH_CELL_SIZE;
+
+    private SpatialHash<String> hash;
+    private Array<String> found;
+
+    @Before
+    public void setUp() {
+        hash = new SpatialHash<>(CELL * 10, CELL * 10, CELL);
+        found = new Array<>();
+    }
+
+    @Test
+    public void testQueryFindsNearbyItem() {
+        hash.update("a", new Rectangle(10, 10, 5, 5));
+        hash.query(new Rectangle(0, 0, 20, 20), found);
+        assertTrue(found.contains("a", false));
+    }
+
+    @Test
+    public void testQueryIgnoresDistantItem() {
+        hash.update("a", new Rectangle(CELL * 8, CELL * 8, 5, 5));
+        hash.query(new Rectangle(0, 0, 20, 20), found);
+        assertEquals(0, found.size);
+    }
+
+    @Test
+    public void testMovedItemLeavesOldCells() {
+        hash.update("a", new Rectangle(10, 10, 5, 5));
+        hash.update("a", new Rectangle(CELL * 5, CELL * 5, 5, 5));
+        hash.query(new Rectangle(0, 0, 20, 20), found);
+        assertFalse(found.contains("a", false));
+        hash.query(CELL * 5, CELL * 5, 10, found);
+        assertTrue(found.contains("a", false));
+    }
+
+    @Test
+    public void testLargeItemFoundOnce() {
+        hash.update("a", new Rectangle(0, 0, CELL * 3, CELL * 3));
+        hash.query(new Rectangle(0, 0, CELL * 4, CELL * 4), found);
+        assertEquals(1, found.size);
+    }
+
+    @Test
+    public void testRemovedItemNotFound() {
+        hash.update("a", new Rectangle(10, 10, 5, 5));
+        hash.remove("a");
+        hash.query(new Rectangle(0, 0, 20, 20), found);
+        assertEquals(0, found.size);
+        assertEquals(0, hash.size());
+    }
+
+    @Test
+    public void testItemOutsideMapStillFound() {
+        hash.update("a", new Rectangle(-100, CELL * 20, 5, 5));
+        hash.query(-100, CELL * 20, 10, found);
+        assertTrue(found.contains("a", false));
+    }
+
+    @Test
+    public void testCandidatesDoNotGrowWithDistantItems() {
+        for (int i = 0; i < 1000; i++) {
+            hash.update("far" + i, new Rectangle(CELL * 5 + (i % 40) * CELL / 10, CELL * 5 + (i / 40) * CELL / 10, 2, 2));
+        }
+        hash.update("near", new Rectangle(10, 10, 5, 5));
+        hash.query(new Rectangle(0, 0, 20, 20), found);
+        assertEquals(1, found.size);
+    }
+
+    @Test
+    public void testOverlapsRejectsSeparatePolygons() {
+        Polygon a = new Polygon(new float[]{0, 0, 10, 0, 10, 10, 0, 10});
+        Polygon b = new Polygon(new float[]{0, 0, 10, 0, 10, 10, 0, 10});
+        b.setPosition(5, 5);
+        assertTrue(SpatialHash.overlaps(a, b));
+        b.setPosition(50, 50);
+        assertFalse(SpatialHash.overlaps(a, b));
+    }
+}
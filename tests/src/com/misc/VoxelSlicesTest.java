@@ -0,0 +1,99 @@
+package com.misc;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Array;
+import com.testrunner.GdxTestRunner;
+import com.testrunner.NullBatch;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.when;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+@RunWith(GdxTestRunner.class)
+public class VoxelSlicesTest {
+
+    private static final int SLICES = 20;
+
+    @Mock
+    private Texture textureMock;
+
+    private NullBatch batch;
+    private VoxelSlices slicesUnderTest;
+
+    @Before
+    public void setUp() {
+        initMocks(this);
+        when(textureMock.getWidth()).thenReturn(10);
+        when(textureMock.getHeight()).thenReturn(10);
+        TextureRegion region = new TextureRegion(textureMock);
+        Array<TextureRegion> regions = new Array<>();
+        for (int i = 0; i < SLICES; i++) regions.add(region);
+        slicesUnderTest = new VoxelSlices(regions, region);
+        slicesUnderTest.setAlternate(14, new TextureRegion(textureMock));
+        batch = new NullBatch();
+    }
+
+    private void bake() {
+        // Let the mocked GL report complete frame buffers
+        Gdx.gl20 = Gdx.gl;
+        when(Gdx.gl.glCheckFramebufferStatus(anyInt())).thenReturn(GL20.GL_FRAMEBUFFER_COMPLETE);
+        slicesUnderTest.bakeImpostors(batch, 96, 48);
+    }
+
+    @Test
+    public void testFullDetailDrawsEverySlice() {
+        slicesUnderTest.setZoom(Constants.MIN_ZOOM);
+        slicesUnderTest.draw(batch, 0, 0, 96, 48, 45, false);
+        assertEquals(SLICES, batch.drawCalls);
+    }
+
+    @Test
+    public void testReducedDetailDrawsFewerSlices() {
+        slicesUnderTest.setZoom(Constants.REDUCED_SLICES_ZOOM);
+        slicesUnderTest.draw(batch, 0, 0, 96, 48, 45, true);
+        assertTrue(batch.drawCalls < SLICES);
+        assertTrue(batch.drawCalls >= SLICES / 2);
+    }
+
+    @Test
+    public void testZoomedOutWithoutImpostorsDrawsSlices() {
+        slicesUnderTest.setZoom(Constants.MAX_ZOOM);
+        slicesUnderTest.draw(batch, 0, 0, 96, 48, 45, false);
+        assertTrue(batch.drawCalls > 1);
+    }
+
+    @Test
+    public void testBakeRendersEveryRotationAndLightFrame() {
+        bake();
+        assertTrue(slicesUnderTest.hasImpostors());
+        assertEquals(Constants.IMPOSTOR_ROTATIONS * 2 * SLICES, batch.drawCalls);
+    }
+
+    @Test
+    public void testZoomedOutDrawsOneQuad() {
+        bake();
+        batch.reset();
+        slicesUnderTest.setZoom(Constants.MAX_ZOOM);
+        slicesUnderTest.draw(batch, 0, 0, 96, 48, 45, false);
+        slicesUnderTest.draw(batch, 0, 0, 96, 48, -725, true);
+        assertEquals(2, batch.drawCalls);
+    }
+
+    @Test
+    public void testZoomingBackInDrawsSlices() {
+        bake();
+        batch.reset();
+        slicesUnderTest.setZoom(Constants.MIN_ZOOM);
+        slicesUnderTest.draw(batch, 0, 0, 96, 48, 45, false);
+        assertEquals(SLICES, batch.drawCalls);
+    }
+}
@@ -0,0 +1,93 @@
+package com.pathFinding;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.sprites.MovementSprite;
+import com.testrunner.GdxTestRunner;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+
+import static com.misc.Constants.TILE_DIMS;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+@RunWith(GdxTestRunner.class)
+public class AutopilotTest {
+
+    private static final int SIZE = 30;
+
+    @Mock
+    private Texture mockTexture;
+
+    private boolean[] blocked;
+    private Autopilot autopilot;
+    private MovementSprite sprite;
+
+    @Before
+    public void setUp() {
+        initMocks(this);
+
+        // A wall across most of the middle of the map
+        blocked = new boolean[SIZE * SIZE];
+        for (int column = 0; column < SIZE - 6; column++) {
+            blocked[15 * SIZE + column] = true;
+        }
+        autopilot = new Autopilot(new JumpPointSearch(blocked, SIZE, SIZE, 1));
+
+        sprite = new MovementSprite(new TextureRegion(mockTexture));
+        sprite.setSize(TILE_DIMS, TILE_DIMS);
+        sprite.setMaxSpeed(600);
+        sprite.setPosition(4 * TILE_DIMS, 5 * TILE_DIMS);
+    }
+
+    private boolean isOnWall() {
+        int column = (int) (sprite.getCentreX() / TILE_DIMS);
+        int row = (int) (sprite.getCentreY() / TILE_DIMS);
+        return column >= 0 && row >= 0 && column < SIZE && row < SIZE && blocked[row * SIZE + column];
+    }
+
+    /** Drives the sprite for up to a number of ticks, returning whether it arrived */
+    private boolean driveFor(int ticks) {
+        for (int tick = 0; tick < ticks && autopilot.isEngaged(); tick++) {
+            autopilot.drive();
+            sprite.tick();
+            assertFalse(isOnWall());
+        }
+        return !autopilot.isEngaged();
+    }
+
+    @Test
+    public void testDrivesAroundWallToDestination() {
+        assertTrue(autopilot.driveTo(sprite, 5.5f * TILE_DIMS, 25.5f * TILE_DIMS));
+        assertTrue(driveFor(1200));
+        assertTrue(sprite.getCentre().dst(5.5f * TILE_DIMS, 25.5f * TILE_DIMS) < TILE_DIMS);
+    }
+
+    @Test
+    public void testReplansWhenKnockedOffCourse() {
+        autopilot.driveTo(sprite, 5.5f * TILE_DIMS, 25.5f * TILE_DIMS);
+        driveFor(120);
+        assertTrue(autopilot.isEngaged());
+        sprite.setPosition(2 * TILE_DIMS, 2 * TILE_DIMS);
+        assertTrue(driveFor(1200));
+        assertTrue(sprite.getCentre().dst(5.5f * TILE_DIMS, 25.5f * TILE_DIMS) < TILE_DIMS);
+    }
+
+    @Test
+    public void testBlockedDestinationStopsNextToIt() {
+        autopilot.driveTo(sprite, 10.5f * TILE_DIMS, 15.5f * TILE_DIMS);
+        assertTrue(driveFor(1200));
+        assertTrue(sprite.getCentre().dst(10.5f * TILE_DIMS, 15.5f * TILE_DIMS) < 3 * TILE_DIMS);
+    }
+
+    @Test
+    public void testDisengage() {
+        autopilot.driveTo(sprite, 5.5f * TILE_DIMS, 25.5f * TILE_DIMS);
+        autopilot.disengage();
+        assertFalse(autopilot.isEngaged());
+        autopilot.drive();
+    }
+}
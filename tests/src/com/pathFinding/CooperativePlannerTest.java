@@ -0,0 +1,120 @@
+package com.pathFinding;
+
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.Queue;
+import com.misc.Constants;
+import com.testrunner.GdxTestRunner;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(GdxTestRunner.class)
+public class CooperativePlannerTest {
+
+    private static final float SPEED = 2;
+
+    private MapGraph mapGraph;
+    private CooperativePlanner planner;
+    private Junction a, b, c, far;
+
+    private Queue<Junction> path;
+    private IntArray departures;
+    private IntArray firstRecord, secondRecord;
+
+    @Before
+    public void setUp() {
+        mapGraph = new MapGraph();
+        a = new Junction(0, 0, "a");
+        b = new Junction(100, 0, "b");
+        c = new Junction(50, 30, "c");
+        far = new Junction(5000, 0, "far");
+        mapGraph.addJunction(a);
+        mapGraph.addJunction(b);
+        mapGraph.addJunction(c);
+        mapGraph.addJunction(far);
+        connect(a, b);
+        connect(a, c);
+        connect(c, b);
+        connect(b, far);
+        planner = new CooperativePlanner(mapGraph, mapGraph.getReservations(), Constants.RESERVATION_WINDOW,
+                Constants.RESERVATION_SLOT_FRAMES, Constants.RESERVATION_MAX_NODES);
+
+        path = new Queue<>();
+        departures = new IntArray();
+        firstRecord = new IntArray();
+        secondRecord = new IntArray();
+    }
+
+    private void connect(Junction from, Junction to) {
+        mapGraph.connectJunctions(from, to);
+        mapGraph.connectJunctions(to, from);
+    }
+
+    private int plan(int patrolId, Junction start, Junction goal, IntArray record) {
+        path.clear();
+        departures.clear();
+        return planner.plan(patrolId, SPEED, start, goal, path, departures, record);
+    }
+
+    @Test
+    public void testUncontestedPlanIsShortestPath() {
+        assertEquals(2, plan(0, a, b, firstRecord));
+        assertEquals(2, path.size);
+        assertSame(a, path.first());
+        assertSame(b, path.last());
+        assertEquals(0, departures.get(1));
+        assertEquals(3, firstRecord.size);
+    }
+
+    @Test
+    public void testSecondPatrolGoesAroundReservedRoad() {
+        plan(0, a, b, firstRecord);
+        plan(1, a, b, secondRecord);
+        assertEquals(3, path.size);
+        assertSame(c, path.get(1));
+        assertSame(b, path.last());
+    }
+
+    @Test
+    public void testOncomingPatrolWaitsForRoad() {
+        plan(0, b, far, firstRecord);
+        plan(1, far, b, secondRecord);
+        assertEquals(2, path.size);
+        // The first patrol takes over a hundred frames to cross the road
+        assertTrue(departures.get(1) > 100);
+    }
+
+    @Test
+    public void testRouteBeyondWindowLeftToReplan() {
+        MapGraph line = new MapGraph();
+        Junction[] junctions = new Junction[12];
+        for (int i = 0; i < junctions.length; i++) {
+            junctions[i] = new Junction(i * 100, 0, "j" + i);
+            line.addJunction(junctions[i]);
+            if (i > 0) line.connectJunctions(junctions[i - 1], junctions[i]);
+        }
+        CooperativePlanner linePlanner = new CooperativePlanner(line, line.getReservations(),
+                Constants.RESERVATION_WINDOW, Constants.RESERVATION_SLOT_FRAMES, Constants.RESERVATION_MAX_NODES);
+
+        int planned = linePlanner.plan(0, SPEED, junctions[0], junctions[11], path, departures, firstRecord);
+        assertEquals(junctions.length, path.size);
+        assertSame(junctions[11], path.last());
+        // Each road takes 50 frames, so only the roads in the window are reserved
+        assertTrue(planned < path.size);
+        assertEquals((planned - 1) * 3, firstRecord.size);
+        assertTrue(departures.get(planned) >= Constants.RESERVATION_WINDOW);
+    }
+
+    @Test
+    public void testPlanningAgainReleasesOldReservations() {
+        plan(0, a, b, firstRecord);
+        plan(0, b, c, firstRecord);
+        plan(1, a, b, secondRecord);
+        assertEquals(2, path.size);
+        assertEquals(0, departures.get(1));
+    }
+}
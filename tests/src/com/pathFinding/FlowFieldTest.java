@@ -0,0 +1,97 @@
+package com.pathFinding;
+
+import com.testrunner.GdxTestRunner;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+@RunWith(GdxTestRunner.class)
+public class FlowFieldTest {
+
+    private MapGraph mapGraph;
+    private FlowField flowField;
+    private Junction zero, one, two, three, island;
+
+    @Before
+    public void setUp() {
+        mapGraph = new MapGraph();
+        zero = new Junction(0, 0, "zero");
+        one = new Junction(0, 10, "one");
+        two = new Junction(10, 10, "two");
+        three = new Junction(10, 0, "three");
+        island = new Junction(100, 100, "island");
+        mapGraph.addJunction(zero);
+        mapGraph.addJunction(one);
+        mapGraph.addJunction(two);
+        mapGraph.addJunction(three);
+        mapGraph.addJunction(island);
+
+        // A square of roads both ways, with the island not connected
+        mapGraph.connectJunctions(zero, one);
+        mapGraph.connectJunctions(one, zero);
+        mapGraph.connectJunctions(one, two);
+        mapGraph.connectJunctions(two, one);
+        mapGraph.connectJunctions(two, three);
+        mapGraph.connectJunctions(three, two);
+        mapGraph.connectJunctions(three, zero);
+        mapGraph.connectJunctions(zero, three);
+
+        flowField = new FlowField(mapGraph);
+    }
+
+    @Test
+    public void testTargetIsNearestJunction() {
+        flowField.setTarget(9, 11);
+        assertSame(two, flowField.getTarget());
+        flowField.setTarget(95, 90);
+        assertSame(island, flowField.getTarget());
+    }
+
+    @Test
+    public void testFieldLeadsToTarget() {
+        flowField.setTarget(one.getIndex());
+        assertSame(one, flowField.getNext(zero));
+        assertSame(one, flowField.getNext(two));
+        assertEquals(20, flowField.getDistance(three), 0.0001f);
+        assertNull(flowField.getNext(one));
+        assertEquals(0, flowField.getDistance(one), 0);
+    }
+
+    @Test
+    public void testUnreachableJunctionsHaveNoNext() {
+        flowField.setTarget(island.getIndex());
+        assertNull(flowField.getNext(zero));
+        assertEquals(Float.POSITIVE_INFINITY, flowField.getDistance(zero), 0);
+    }
+
+    @Test
+    public void testAlternativeStillGetsCloser() {
+        flowField.setTarget(two.getIndex());
+        Junction next = flowField.getNext(zero);
+        Junction other = next == one ? three : one;
+        assertSame(other, flowField.getAlternative(zero, next));
+        // From one the only other road goes back to zero, which is further away
+        assertNull(flowField.getAlternative(one, two));
+    }
+
+    @Test
+    public void testRebuiltWhenGraphChanges() {
+        flowField.setTarget(island.getIndex());
+        mapGraph.connectJunctions(two, island);
+        flowField.setTarget(island.getIndex());
+        assertSame(island, flowField.getNext(two));
+        assertSame(two, flowField.getNext(three));
+    }
+
+    @Test
+    public void testClearTarget() {
+        flowField.setTarget(one.getIndex());
+        flowField.clearTarget();
+        assertNull(flowField.getTarget());
+        assertNull(flowField.getNext(zero));
+    }
+}
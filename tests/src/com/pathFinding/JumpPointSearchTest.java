@@ -0,0 +1,193 @@
+package com.pathFinding;
+
+import com.badlogic.gdx.utils.IntArray;
+import com.testrunner.GdxTestRunner;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(GdxTestRunner.class)
+public class JumpPointSearchTest {
+
+    private static final float DIAGONAL = (float) Math.sqrt(2);
+
+    /** Builds a grid from rows of text, top row first, where # is blocked */
+    private boolean[] parse(String... rows) {
+        int width = rows[0].length();
+        boolean[] blocked = new boolean[width * rows.length];
+        for (int row = 0; row < rows.length; row++) {
+            for (int column = 0; column < width; column++) {
+                blocked[(rows.length - 1 - row) * width + column] = rows[row].charAt(column) == '#';
+            }
+        }
+        return blocked;
+    }
+
+    private boolean isOpen(boolean[] blocked, int width, int column, int row) {
+        return column >= 0 && row >= 0 && column < width && row < blocked.length / width && !blocked[row * width + column];
+    }
+
+    /** Checks every leg of a path is a clear straight or diagonal line, and returns its length */
+    private float checkPath(boolean[] blocked, int width, IntArray path) {
+        float length = 0;
+        for (int i = 1; i < path.size; i++) {
+            int column = path.get(i - 1) % width, row = path.get(i - 1) / width;
+            int dx = Integer.signum(path.get(i) % width - column), dy = Integer.signum(path.get(i) / width - row);
+            assertTrue(dx == 0 || dy == 0 || Math.abs(path.get(i) % width - column) == Math.abs(path.get(i) / width - row));
+            while (row * width + column != path.get(i)) {
+                assertTrue(isOpen(blocked, width, column + dx, row + dy));
+                if (dx != 0 && dy != 0) {
+                    assertTrue(isOpen(blocked, width, column + dx, row) && isOpen(blocked, width, column, row + dy));
+                    length += DIAGONAL;
+                } else {
+                    length += 1;
+                }
+                column += dx;
+                row += dy;
+            }
+        }
+        return length;
+    }
+
+    /** Dijkstra over every tile with the same moves, to check the routes are the shortest */
+    private float shortest(boolean[] blocked, int width, int start, int goal) {
+        float[] costs = new float[blocked.length];
+        boolean[] done = new boolean[blocked.length];
+        Arrays.fill(costs, Float.POSITIVE_INFINITY);
+        costs[start] = 0;
+        while (true) {
+            int best = -1;
+            for (int i = 0; i < costs.length; i++) {
+                if (!done[i] && costs[i] != Float.POSITIVE_INFINITY && (best == -1 || costs[i] < costs[best])) best = i;
+            }
+            if (best == -1) return Float.POSITIVE_INFINITY;
+            if (best == goal) return costs[goal];
+            done[best] = true;
+            int column = best % width, row = best / width;
+            for (int dy = -1; dy <= 1; dy++) {
+                for (int dx = -1; dx <= 1; dx++) {
+                    if ((dx == 0 && dy == 0) || !isOpen(blocked, width, column + dx, row + dy)) continue;
+                    if (dx != 0 && dy != 0 && !(isOpen(blocked, width, column + dx, row) && isOpen(blocked, width, column, row + dy))) continue;
+                    int next = (row + dy) * width + column + dx;
+                    float cost = costs[best] + (dx != 0 && dy != 0 ? DIAGONAL : 1);
+                    if (cost < costs[next]) costs[next] = cost;
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testOpenGridIsOneDiagonalAndOneStraight() {
+        boolean[] blocked = new boolean[20 * 20];
+        JumpPointSearch search = new JumpPointSearch(blocked, 20, 20, 0);
+        IntArray path = new IntArray();
+        assertTrue(search.findPath(0, 0, 15, 5, path));
+        assertEquals(3, path.size);
+        assertEquals(0, path.first());
+        assertEquals(5 * 20 + 15, path.peek());
+        assertEquals(5 * DIAGONAL + 10, checkPath(blocked, 20, path), 0.001f);
+    }
+
+    @Test
+    public void testRouteAroundWall() {
+        boolean[] blocked = parse(
+                "..........",
+                "..........",
+                "....#.....",
+                "....#.....",
+                "....#.....",
+                "....#.....",
+                "....#.....",
+                "..........");
+        JumpPointSearch search = new JumpPointSearch(blocked, 10, 8, 0);
+        IntArray path = new IntArray();
+        search.findPath(1, 3, 8, 3, path);
+        assertEquals(shortest(blocked, 10, 3 * 10 + 1, 3 * 10 + 8), checkPath(blocked, 10, path), 0.001f);
+    }
+
+    @Test
+    public void testMatchesDijkstraOnRandomGrids() {
+        Random random = new Random(4);
+        int width = 24, height = 18;
+        IntArray path = new IntArray();
+        for (int grid = 0; grid < 20; grid++) {
+            boolean[] blocked = new boolean[width * height];
+            for (int i = 0; i < blocked.length; i++) blocked[i] = random.nextFloat() < 0.3f;
+            JumpPointSearch search = new JumpPointSearch(blocked, width, height, 0);
+            for (int route = 0; route < 10; route++) {
+                int start, goal;
+                do { start = random.nextInt(blocked.length); } while (blocked[start]);
+                do { goal = random.nextInt(blocked.length); } while (blocked[goal]);
+                float expected = shortest(blocked, width, start, goal);
+                search.findPath(start % width, start / width, goal % width, goal / width, path);
+                if (expected == Float.POSITIVE_INFINITY) {
+                    // Ends at the nearest tile that can be reached instead
+                    assertFalse(path.peek() == goal);
+                } else {
+                    assertEquals(start, path.first());
+                    assertEquals(goal, path.peek());
+                    assertEquals(expected, checkPath(blocked, width, path), 0.001f);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testKeepsClearOfWallsWhereItCan() {
+        boolean[] blocked = parse(
+                "###########",
+                "...........",
+                "...........",
+                "...........",
+                "...........",
+                "...........",
+                "###########");
+        JumpPointSearch search = new JumpPointSearch(blocked, 11, 7, 1);
+        IntArray path = new IntArray();
+        search.findPath(0, 1, 10, 1, path);
+        for (int i = 1; i < path.size - 1; i++) {
+            int row = path.get(i) / 11;
+            assertTrue(row >= 2 && row <= 4);
+        }
+    }
+
+    @Test
+    public void testUsesNarrowGapWhenOnlyWay() {
+        boolean[] blocked = parse(
+                "......#......",
+                "......#......",
+                "......#......",
+                ".............",
+                "......#......",
+                "......#......",
+                "......#......");
+        JumpPointSearch search = new JumpPointSearch(blocked, 13, 7, 1);
+        IntArray path = new IntArray();
+        search.findPath(1, 3, 11, 3, path);
+        assertEquals(3 * 13 + 1, path.first());
+        assertEquals(3 * 13 + 11, path.peek());
+        assertEquals(10, checkPath(blocked, 13, path), 0.001f);
+    }
+
+    @Test
+    public void testBlockedGoalEndsNextToIt() {
+        boolean[] blocked = parse(
+                ".......",
+                "..###..",
+                "..###..",
+                "..###..",
+                ".......");
+        JumpPointSearch search = new JumpPointSearch(blocked, 7, 5, 0);
+        IntArray path = new IntArray();
+        search.findPath(0, 0, 3, 2, path);
+        int end = path.peek();
+        assertFalse(blocked[end]);
+        assertEquals(1, Math.max(Math.abs(end % 7 - 3), Math.abs(end / 7 - 2)) - 1);
+    }
+}
@@ -0,0 +1,235 @@
+package com.pathFinding;
+
+import com.badlogic.gdx.ai.pfa.DefaultGraphPath;
+import com.badlogic.gdx.ai.pfa.GraphPath;
+import com.badlogic.gdx.ai.pfa.Connection;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import com.sprites.PatrolMovementSprite;
+import com.testrunner.GdxTestRunner;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.when;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+@RunWith(GdxTestRunner.class)
+public class MapGraphTest {
+
+    @Mock
+    private PatrolMovementSprite patrolMock;
+
+    @Mock
+    private PatrolMovementSprite otherPatrolMock;
+
+    private MapGraph mapGraph;
+    private Junction zero, one, two, island;
+
+    @Before
+    public void setUp() {
+        initMocks(this);
+        mapGraph = new MapGraph();
+        zero = new Junction(0, 0, "zero");
+        one = new Junction(0, 10, "one");
+        two = new Junction(10, 10, "two");
+        island = new Junction(100, 100, "island");
+        mapGraph.addJunction(zero);
+        mapGraph.addJunction(one);
+        mapGraph.addJunction(two);
+        mapGraph.addJunction(island);
+
+        // Only a one way road from two back to zero, so zero to two goes through one
+        mapGraph.connectJunctions(zero, one);
+        mapGraph.connectJunctions(one, zero);
+        mapGraph.connectJunctions(one, two);
+        mapGraph.connectJunctions(two, one);
+        mapGraph.connectJunctions(two, zero);
+
+        when(patrolMock.getPatrolId()).thenReturn(mapGraph.registerPatrol());
+        when(otherPatrolMock.getPatrolId()).thenReturn(mapGraph.registerPatrol());
+        when(patrolMock.getReservations()).thenReturn(new IntArray());
+        when(otherPatrolMock.getReservations()).thenReturn(new IntArray());
+    }
+
+    @Test
+    public void testNextHop() {
+        assertSame(one, mapGraph.nextHop(zero, two));
+        assertSame(two, mapGraph.nextHop(one, two));
+        assertSame(zero, mapGraph.nextHop(two, zero));
+    }
+
+    @Test
+    public void testNextHopAtGoalOrUnreachable() {
+        assertNull(mapGraph.nextHop(zero, zero));
+        assertNull(mapGraph.nextHop(zero, island));
+        assertEquals(-1, mapGraph.nextHop(zero.getIndex(), island.getIndex()));
+    }
+
+    @Test
+    public void testDistance() {
+        assertEquals(20, mapGraph.getDistance(zero, two), 0.0001f);
+        assertEquals((float) Math.sqrt(200), mapGraph.getDistance(two, zero), 0.0001f);
+        assertEquals(Float.POSITIVE_INFINITY, mapGraph.getDistance(island, zero), 0);
+    }
+
+    @Test
+    public void testFindPathFillsReusedPath() {
+        GraphPath<Junction> path = new DefaultGraphPath<>();
+        assertTrue(mapGraph.findPath(zero, two, path));
+        assertEquals(3, path.getCount());
+        assertSame(zero, path.get(0));
+        assertSame(one, path.get(1));
+        assertSame(two, path.get(2));
+
+        assertFalse(mapGraph.findPath(zero, island, path));
+        assertEquals(0, path.getCount());
+    }
+
+    @Test
+    public void testRoutesRebuiltWhenGraphChanges() {
+        assertNull(mapGraph.nextHop(zero, island));
+        mapGraph.connectJunctions(two, island);
+        assertSame(one, mapGraph.nextHop(zero, island));
+        assertEquals(3, mapGraph.findPath(one, island).getCount());
+    }
+
+    @Test
+    public void testGetRoad() {
+        Road road = mapGraph.getRoad(zero, one);
+        assertSame(zero, road.getFromNode());
+        assertSame(one, road.getToNode());
+        assertSame(road, mapGraph.getRoad(zero, one));
+        assertNull(mapGraph.getRoad(zero, two));
+        assertEquals(MapGraph.NO_ROAD, mapGraph.getRoadId(zero.getIndex(), island.getIndex()));
+    }
+
+    @Test
+    public void testLockedRoadIsLockedInBothDirections() {
+        assertFalse(mapGraph.isRoadLocked(zero, one));
+        mapGraph.lockRoad(mapGraph.getRoad(zero, one), patrolMock);
+        assertTrue(mapGraph.isRoadLocked(zero, one));
+        assertTrue(mapGraph.isRoadLocked(one, zero));
+        assertFalse(mapGraph.isRoadLocked(one, two));
+    }
+
+    @Test
+    public void testOneWayRoadLockedFromEitherEnd() {
+        mapGraph.lockRoad(mapGraph.getRoad(two, zero), patrolMock);
+        assertTrue(mapGraph.isRoadLocked(zero, two));
+        assertFalse(mapGraph.isRoadLocked(zero, island));
+    }
+
+    @Test
+    public void testOnlyOwnerCanUnlockRoad() {
+        Road road = mapGraph.getRoad(one, two);
+        mapGraph.lockRoad(road, patrolMock);
+        mapGraph.lockRoad(road, otherPatrolMock);
+        mapGraph.unlockRoad(road, otherPatrolMock);
+        assertTrue(mapGraph.isRoadLocked(one, two));
+        mapGraph.unlockRoad(road, patrolMock);
+        assertFalse(mapGraph.isRoadLocked(one, two));
+    }
+
+    @Test
+    public void testRemoveDeadUnlocksOnlyItsRoads() {
+        mapGraph.lockRoad(mapGraph.getRoad(zero, one), patrolMock);
+        mapGraph.lockRoad(mapGraph.getRoad(one, two), otherPatrolMock);
+        mapGraph.removeDead(patrolMock);
+        assertFalse(mapGraph.isRoadLocked(zero, one));
+        assertTrue(mapGraph.isRoadLocked(one, two));
+    }
+
+    @Test
+    public void testRoadsBothWaysShareEdge() {
+        assertEquals(mapGraph.getRoad(zero, one).getEdge(), mapGraph.getRoad(one, zero).getEdge());
+        assertFalse(mapGraph.getRoad(zero, one).getEdge() == mapGraph.getRoad(one, two).getEdge());
+    }
+
+    @Test
+    public void testRoadIdsRebuiltWhenJunctionAdded() {
+        Road road = mapGraph.getRoad(one, two);
+        Junction three = new Junction(20, 20, "three");
+        mapGraph.addJunction(three);
+        mapGraph.connectJunctions(two, three);
+        assertSame(road, mapGraph.getRoad(one, two));
+        assertSame(three, mapGraph.getRoad(two, three).getToNode());
+    }
+
+    private float pathCost(MapGraph graph, GraphPath<Junction> path) {
+        float cost = 0;
+        for (int i = 1; i < path.getCount(); i++) {
+            cost += graph.getRoad(path.get(i - 1), path.get(i)).getCost();
+        }
+        return cost;
+    }
+
+    /**
+     * Shortest distances from a junction to every other, found with a plain
+     * Dijkstra search to check the table against
+     */
+    private float[] shortestDistances(MapGraph graph, Junction start) {
+        int count = graph.getNodeCount();
+        float[] distances = new float[count];
+        boolean[] settled = new boolean[count];
+        Arrays.fill(distances, Float.POSITIVE_INFINITY);
+        distances[graph.getIndex(start)] = 0;
+        for (int settledCount = 0; settledCount < count; settledCount++) {
+            int closest = -1;
+            for (int i = 0; i < count; i++) {
+                if (!settled[i] && (closest < 0 || distances[i] < distances[closest])) closest = i;
+            }
+            if (distances[closest] == Float.POSITIVE_INFINITY) break;
+            settled[closest] = true;
+            Array<Connection<Junction>> connections = graph.getConnections(graph.getJunctions().get(closest));
+            for (Connection<Junction> connection : connections) {
+                int to = graph.getIndex(connection.getToNode());
+                distances[to] = Math.min(distances[to], distances[closest] + connection.getCost());
+            }
+        }
+        return distances;
+    }
+
+    @Test
+    public void testMatchesDijkstraOnGrid() {
+        MathUtils.random.setSeed(7);
+        MapGraph grid = new MapGraph();
+        int size = 8;
+        Junction[] junctions = new Junction[size * size];
+        for (int i = 0; i < junctions.length; i++) {
+            junctions[i] = new Junction((i % size) * 100 + MathUtils.random(30f), (i / size) * 100 + MathUtils.random(30f), "j" + i);
+            grid.addJunction(junctions[i]);
+        }
+        for (int i = 0; i < junctions.length; i++) {
+            if (i % size < size - 1 && MathUtils.randomBoolean(0.8f)) {
+                grid.connectJunctions(junctions[i], junctions[i + 1]);
+                grid.connectJunctions(junctions[i + 1], junctions[i]);
+            }
+            if (i / size < size - 1 && MathUtils.randomBoolean(0.8f)) {
+                grid.connectJunctions(junctions[i], junctions[i + size]);
+                grid.connectJunctions(junctions[i + size], junctions[i]);
+            }
+        }
+
+        for (Junction start : junctions) {
+            float[] expected = shortestDistances(grid, start);
+            for (Junction goal : junctions) {
+                float distance = expected[grid.getIndex(goal)];
+                GraphPath<Junction> actual = grid.findPath(start, goal);
+                assertEquals(distance == Float.POSITIVE_INFINITY, actual.getCount() == 0);
+                if (actual.getCount() == 0) continue;
+                assertEquals(distance, pathCost(grid, actual), 0.01f);
+                assertEquals(distance, grid.getDistance(start, goal), 0.01f);
+            }
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.pathFinding;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.testrunner.GdxTestRunner;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.io.File;
+import java.io.IOException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(GdxTestRunner.class)
+public class NavGraphBakerTest {
+
+    private static final int SIZE = 40;
+
+    private boolean[] roads;
+    private FileHandle cacheFile;
+
+    @Before
+    public void setUp() throws IOException {
+        roads = new boolean[SIZE * SIZE];
+        cacheFile = new FileHandle(File.createTempFile("navgraph", ".bin"));
+    }
+
+    @After
+    public void tearDown() {
+        cacheFile.delete();
+    }
+
+    /** Marks a rectangle of tiles as road, two tiles wide like the roads on the map */
+    private void road(int column, int row, int width, int height) {
+        for (int y = row; y < row + height; y++) {
+            for (int x = column; x < column + width; x++) {
+                roads[y * SIZE + x] = true;
+            }
+        }
+    }
+
+    private boolean allConnected(MapGraph mapGraph) {
+        for (int i = 0; i < mapGraph.getNodeCount(); i++) {
+            for (int j = 0; j < mapGraph.getNodeCount(); j++) {
+                if (mapGraph.getDistance(mapGraph.getJunctions().get(i), mapGraph.getJunctions().get(j)) == Float.POSITIVE_INFINITY) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    @Test
+    public void testCrossroadsHasCentreAndFourEnds() {
+        road(5, 19, 30, 2);
+        road(19, 5, 2, 30);
+        MapGraph mapGraph = NavGraphBaker.bake(roads, SIZE, SIZE);
+        assertEquals(5, mapGraph.getNodeCount());
+        assertEquals(8, mapGraph.roads.size);
+        assertTrue(allConnected(mapGraph));
+    }
+
+    @Test
+    public void testBendGetsJunction() {
+        road(5, 5, 2, 25);
+        road(5, 28, 25, 2);
+        MapGraph mapGraph = NavGraphBaker.bake(roads, SIZE, SIZE);
+        assertEquals(3, mapGraph.getNodeCount());
+        assertEquals(4, mapGraph.roads.size);
+    }
+
+    @Test
+    public void testLoopIsBaked() {
+        road(5, 5, 30, 2);
+        road(5, 33, 30, 2);
+        road(5, 5, 2, 30);
+        road(33, 5, 2, 30);
+        MapGraph mapGraph = NavGraphBaker.bake(roads, SIZE, SIZE);
+        assertTrue(mapGraph.getNodeCount() >= 3);
+        assertTrue(allConnected(mapGraph));
+    }
+
+    @Test
+    public void testOnlyLargestNetworkKept() {
+        road(5, 19, 30, 2);
+        road(2, 2, 6, 2);
+        MapGraph mapGraph = NavGraphBaker.bake(roads, SIZE, SIZE);
+        assertEquals(2, mapGraph.getNodeCount());
+        assertTrue(allConnected(mapGraph));
+    }
+
+    @Test
+    public void testCacheRoundTrip() throws IOException {
+        road(5, 19, 30, 2);
+        road(19, 5, 2, 30);
+        MapGraph baked = NavGraphBaker.bake(roads, SIZE, SIZE);
+        long hash = NavGraphBaker.hash(new byte[]{1, 2, 3}, roads);
+        NavGraphBaker.write(baked, hash, cacheFile);
+
+        MapGraph loaded = NavGraphBaker.read(cacheFile, hash);
+        assertNotNull(loaded);
+        assertEquals(baked.getNodeCount(), loaded.getNodeCount());
+        assertEquals(baked.roads.size, loaded.roads.size);
+        for (int i = 0; i < baked.getNodeCount(); i++) {
+            assertEquals(baked.getJunctions().get(i).getX(), loaded.getJunctions().get(i).getX(), 0);
+            assertEquals(baked.getJunctions().get(i).getY(), loaded.getJunctions().get(i).getY(), 0);
+        }
+    }
+
+    @Test
+    public void testCacheForOtherMapIgnored() throws IOException {
+        road(5, 19, 30, 2);
+        long hash = NavGraphBaker.hash(new byte[]{1, 2, 3}, roads);
+        NavGraphBaker.write(NavGraphBaker.bake(roads, SIZE, SIZE), hash, cacheFile);
+
+        assertNull(NavGraphBaker.read(cacheFile, NavGraphBaker.hash(new byte[]{1, 2, 4}, roads)));
+        roads[0] = true;
+        assertFalse(hash == NavGraphBaker.hash(new byte[]{1, 2, 3}, roads));
+    }
+
+    @Test
+    public void testMissingCacheIgnored() {
+        cacheFile.delete();
+        assertNull(NavGraphBaker.read(cacheFile, 0));
+    }
+}
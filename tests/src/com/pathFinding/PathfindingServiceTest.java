@@ -0,0 +1,170 @@
+package com.pathFinding;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.MathUtils;
+import com.sprites.PatrolMovementSprite;
+import com.testrunner.GdxTestRunner;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+
+import java.util.concurrent.CountDownLatch;
+
+import static com.misc.Constants.PATHFINDING_DELIVERY_DELAY;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+@RunWith(GdxTestRunner.class)
+public class PathfindingServiceTest {
+
+    private static final int SIZE = 10;
+
+    @Mock
+    private Texture mockSpriteTexture;
+
+    private MapGraph grid;
+    private PathfindingService pathfinder;
+
+    @Before
+    public void setUp() {
+        initMocks(this);
+        MathUtils.random.setSeed(11);
+        grid = new MapGraph();
+        Junction[] junctions = new Junction[SIZE * SIZE];
+        for (int i = 0; i < junctions.length; i++) {
+            junctions[i] = new Junction((i % SIZE) * 100, (i / SIZE) * 100, "j" + i);
+            grid.addJunction(junctions[i]);
+        }
+        for (int i = 0; i < junctions.length; i++) {
+            if (i % SIZE < SIZE - 1) {
+                grid.connectJunctions(junctions[i], junctions[i + 1]);
+                grid.connectJunctions(junctions[i + 1], junctions[i]);
+            }
+            if (i / SIZE < SIZE - 1) {
+                grid.connectJunctions(junctions[i], junctions[i + SIZE]);
+                grid.connectJunctions(junctions[i + SIZE], junctions[i]);
+            }
+        }
+        pathfinder = new PathfindingService(grid, 2, 8);
+    }
+
+    @After
+    public void tearDown() {
+        pathfinder.dispose();
+    }
+
+    /** Moves on a number of ticks, delivering and handing over routes as the world would */
+    private void tick(int ticks) {
+        for (int i = 0; i < ticks; i++) {
+            grid.advanceTime();
+            pathfinder.deliverResults();
+            pathfinder.submitRequests();
+        }
+    }
+
+    @Test
+    public void testPatrolIdlesUntilRouteDelivered() throws InterruptedException {
+        PatrolMovementSprite patrol = new PatrolMovementSprite(new TextureRegion(mockSpriteTexture), grid, pathfinder);
+        assertNotNull(patrol.getRouteRequest());
+        float x = patrol.getX();
+        float y = patrol.getY();
+        patrol.step();
+        assertEquals(x, patrol.getX(), 0);
+        assertEquals(y, patrol.getY(), 0);
+
+        // Nothing is planned until the end of the frame
+        Thread.sleep(20);
+        pathfinder.deliverResults();
+        assertNotNull(patrol.getRouteRequest());
+
+        pathfinder.submitRequests();
+        tick(PATHFINDING_DELIVERY_DELAY);
+        assertNull(patrol.getRouteRequest());
+        assertTrue(patrol.getReservations().size > 0);
+    }
+
+    @Test
+    public void testRouteDeliveredAfterFixedDelayHoweverQuickTheWorkers() throws InterruptedException {
+        PatrolMovementSprite patrol = new PatrolMovementSprite(new TextureRegion(mockSpriteTexture), grid, pathfinder);
+        pathfinder.submitRequests();
+        Thread.sleep(50);
+        tick(PATHFINDING_DELIVERY_DELAY - 1);
+        assertNotNull(patrol.getRouteRequest());
+        tick(1);
+        assertNull(patrol.getRouteRequest());
+        assertTrue(patrol.getReservations().size > 0);
+    }
+
+    @Test(timeout = 10000)
+    public void testCatchUpTicksDoNotWaitForSlowWorkers() {
+        final CountDownLatch slowWorker = new CountDownLatch(1);
+        PatrolMovementSprite patrol = new PatrolMovementSprite(new TextureRegion(mockSpriteTexture), grid, pathfinder) {
+            @Override
+            public float getSpeed() {
+                // Hold up the worker planning this patrol's route until the test lets it go
+                if (Thread.currentThread().getName().equals("Pathfinding")) {
+                    try {
+                        slowWorker.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                return super.getSpeed();
+            }
+        };
+        pathfinder.submitRequests();
+        // The rest of a frame's catch-up ticks go by without waiting for the route
+        tick(PATHFINDING_DELIVERY_DELAY - 1);
+        assertNotNull(patrol.getRouteRequest());
+
+        // It is waited for in the tick it is due, so it arrives then however slow the worker
+        slowWorker.countDown();
+        tick(1);
+        assertNull(patrol.getRouteRequest());
+    }
+
+    @Test
+    public void testOnlyFullQueueHandedOverEachFrame() {
+        PatrolMovementSprite[] patrols = new PatrolMovementSprite[12];
+        for (int i = 0; i < patrols.length; i++) {
+            patrols[i] = new PatrolMovementSprite(new TextureRegion(mockSpriteTexture), grid, pathfinder);
+        }
+        pathfinder.submitRequests();
+        tick(PATHFINDING_DELIVERY_DELAY);
+        // The requests made last are held back until the first are delivered
+        for (int i = 8; i < patrols.length; i++) {
+            assertNotNull(patrols[i].getRouteRequest());
+        }
+    }
+
+    @Test
+    public void testCancelledRouteNotDelivered() throws InterruptedException {
+        PatrolMovementSprite patrol = new PatrolMovementSprite(new TextureRegion(mockSpriteTexture), grid, pathfinder);
+        pathfinder.submitRequests();
+        patrol.cancelRoute();
+        Thread.sleep(50);
+        tick(PATHFINDING_DELIVERY_DELAY);
+        assertNull(patrol.getRouteRequest());
+        assertEquals(0, patrol.getReservations().size);
+    }
+
+    @Test
+    public void testRoutePlannedForEarlierFrameIsMovedLater() throws InterruptedException {
+        PatrolMovementSprite patrol = new PatrolMovementSprite(new TextureRegion(mockSpriteTexture), grid, pathfinder);
+        pathfinder.submitRequests();
+        Thread.sleep(50);
+        for (int i = 0; i < 10; i++) grid.advanceTime();
+        pathfinder.deliverResults();
+        assertNull(patrol.getRouteRequest());
+        // Every reservation starts no earlier than the frame the route was delivered in
+        for (int i = 0; i < patrol.getReservations().size; i += 3) {
+            assertTrue(patrol.getReservations().get(i + 1) >= 10);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.pathFinding;
+
+import com.badlogic.gdx.utils.IntArray;
+import com.testrunner.GdxTestRunner;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(GdxTestRunner.class)
+public class ReservationTableTest {
+
+    private static final int SLOT_FRAMES = 8;
+    private static final int SLOTS = 16;
+
+    private ReservationTable table;
+    private IntArray record;
+
+    @Before
+    public void setUp() {
+        table = new ReservationTable(SLOT_FRAMES, SLOTS);
+        table.setEdgeCount(2);
+        record = new IntArray();
+    }
+
+    @Test
+    public void testReservedEdgeOnlyFreeForOwner() {
+        table.reserve(0, 10, 30, 1, record);
+        assertFalse(table.isFree(0, 20, 40, 2));
+        assertTrue(table.isFree(0, 20, 40, 1));
+        assertTrue(table.isFree(1, 20, 40, 2));
+        assertTrue(table.isFree(0, 40, 60, 2));
+        assertEquals(1, table.getOwner(0, 15));
+    }
+
+    @Test
+    public void testReleaseFreesEdge() {
+        table.reserve(0, 10, 30, 1, record);
+        table.reserve(1, 30, 50, 1, record);
+        table.release(record, 1);
+        assertTrue(table.isFree(0, 0, 100, 2));
+        assertTrue(table.isFree(1, 0, 100, 2));
+        assertEquals(0, record.size);
+    }
+
+    @Test
+    public void testReleaseKeepsOtherPatrolsReservations() {
+        table.reserve(0, 0, 7, 1, record);
+        table.reserve(0, 16, 23, 2, new IntArray());
+        table.release(record, 1);
+        assertEquals(ReservationTable.FREE, table.getOwner(0, 4));
+        assertEquals(2, table.getOwner(0, 20));
+    }
+
+    @Test
+    public void testPastReservationsExpire() {
+        table.reserve(0, 0, 10, 1, record);
+        for (int i = 0; i < SLOT_FRAMES * 2; i++) table.advanceTime();
+        assertTrue(table.isFree(0, 0, 20, 2));
+
+        // Once the ring wraps round the old entries must not be mistaken for new ones
+        for (int i = 0; i < SLOT_FRAMES * (SLOTS - 1); i++) table.advanceTime();
+        assertEquals(ReservationTable.FREE, table.getOwner(0, table.getTime()));
+    }
+
+    @Test
+    public void testBeyondHorizonIsIgnored() {
+        int horizon = table.getHorizon();
+        table.reserve(0, horizon - 4, horizon + 100, 1, record);
+        assertFalse(table.isFree(0, horizon - 1, horizon + 50, 2));
+        assertTrue(table.isFree(0, horizon + 1, horizon + 50, 2));
+    }
+}
@@ -16,6 +16,7 @@ import org.mockito.Mockito;
 import java.util.ArrayList;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.MockitoAnnotations.initMocks;
 
@@ -56,6 +57,31 @@ public class MinigameTest {
         assertTrue(ETsAfter > ETsBefore);
     }
 
+    @Test
+    public void testDespawnedAliensAreSpawnedAgain() {
+        minigameScreen.setScreenDimentions(1000, 1000);
+        minigameScreen.spawnAlien();
+        Alien alien = minigameScreen.getOnScreenETs().get(0);
+        minigameScreen.setTouch((int) alien.getX() + 1, (int) alien.getY() + 1);
+        minigameScreen.checkAlienDespawn();
+        assertEquals(0, minigameScreen.getOnScreenETs().size());
+
+        minigameScreen.spawnAlien();
+        assertSame(alien, minigameScreen.getOnScreenETs().get(0));
+    }
+
+    @Test
+    public void testOverlappingAliensAreAllDespawned() {
+        minigameScreen.getOnScreenETs().add(new Alien(Constants.AlienType.green, new Vector2(0, 0)));
+        minigameScreen.getOnScreenETs().add(new Alien(Constants.AlienType.red, new Vector2(0, 0)));
+
+        minigameScreen.setTouch(0,0);
+        minigameScreen.checkAlienDespawn();
+
+        assertEquals(0, minigameScreen.getOnScreenETs().size());
+        assertEquals(30, minigameScreen.getScore());
+    }
+
     @Test
     public void testGreenAlienPoints() {
         minigameScreen.getOnScreenETs().add(new Alien(Constants.AlienType.green, new Vector2(0, 0)));
@@ -92,4 +118,23 @@ public class MinigameTest {
         assertEquals(scoreAfter, scoreBefore + 50);
     }
 
+    @Test
+    public void testResetStartsANewRound() {
+        minigameScreen.setScreenDimentions(1000, 1000);
+        minigameScreen.spawnAlien();
+        Alien alien = minigameScreen.getOnScreenETs().get(0);
+        minigameScreen.setTouch((int) alien.getX() + 1, (int) alien.getY() + 1);
+        minigameScreen.checkAlienDespawn();
+        minigameScreen.spawnAlien();
+        assertTrue(minigameScreen.getScore() > 0);
+
+        minigameScreen.reset();
+        assertEquals(0, minigameScreen.getScore());
+        assertEquals(0, minigameScreen.getOnScreenETs().size());
+
+        // the ET left on screen is spawned again in the next round
+        minigameScreen.spawnAlien();
+        assertSame(alien, minigameScreen.getOnScreenETs().get(0));
+    }
+
 }
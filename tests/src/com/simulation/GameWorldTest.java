@@ -0,0 +1,202 @@
+package com.simulation;
+
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.utils.Array;
+import com.components.Mappers;
+import com.entities.ETFortress;
+import com.entities.Firestation;
+import com.entities.Firetruck;
+import com.entities.Patrol;
+import com.misc.CollisionGrid;
+import com.misc.Constants.Direction;
+import com.misc.Constants.FortressType;
+import com.misc.Constants.Outcome;
+import com.misc.Constants.TruckType;
+import com.misc.VoxelSlices;
+import com.pathFinding.Junction;
+import com.pathFinding.MapGraph;
+import com.testrunner.GdxTestRunner;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+
+import java.util.ArrayList;
+
+import static com.misc.Constants.*;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+/**
+ * Plays small games with no screen at all, to check the rules
+ * the world applies each tick
+ */
+@RunWith(GdxTestRunner.class)
+public class GameWorldTest {
+
+    @Mock
+    private GameWorldListener listener;
+
+    private TextureRegion region;
+    private GameWorld world;
+
+    @Before
+    public void setUp() {
+        initMocks(this);
+        region = new TextureRegion(new Texture(new Pixmap(4, 4, Pixmap.Format.RGBA8888)));
+        world = createWorld(listener);
+    }
+
+    @After
+    public void tearDown() {
+        world.dispose();
+    }
+
+    /** Builds a world on an empty map with one road, a fire station and an active fire truck */
+    private GameWorld createWorld(GameWorldListener listener) {
+        TiledMapTileLayer emptyLayer = new TiledMapTileLayer(120, 60, 8, 8);
+        CollisionGrid collisionGrid = new CollisionGrid(emptyLayer, emptyLayer);
+
+        MapGraph mapGraph = new MapGraph();
+        Junction start = new Junction(70 * TILE_DIMS, 20 * TILE_DIMS, "start");
+        Junction end = new Junction(90 * TILE_DIMS, 20 * TILE_DIMS, "end");
+        mapGraph.addJunction(start);
+        mapGraph.addJunction(end);
+        mapGraph.connectJunctions(start, end);
+        mapGraph.connectJunctions(end, start);
+
+        Array<TextureRegion> patrolRegions = new Array<>();
+        for (int i = 0; i < 99; i++) patrolRegions.add(region);
+        GameWorld world = new GameWorld(collisionGrid, mapGraph, new VoxelSlices(patrolRegions, region), region, listener);
+
+        Firestation firestation = new Firestation(region, region, 0, 0, world);
+        world.setFirestation(firestation);
+        Array<TextureRegion> truckRegions = new Array<>();
+        for (int i = 0; i < 20; i++) truckRegions.add(region);
+        ArrayList<Texture> waterFrames = new ArrayList<>();
+        waterFrames.add(region.getTexture());
+        firestation.setActiveFireTruck(new Firetruck(new VoxelSlices(truckRegions, region), waterFrames,
+                TruckType.RED, collisionGrid, firestation, true));
+        return world;
+    }
+
+    /** Adds a fortress close enough to the active fire truck to shoot at it */
+    private ETFortress addFortressNearTruck(GameWorld world) {
+        Firetruck firetruck = world.getFirestation().getActiveFireTruck();
+        ETFortress fortress = new ETFortress(region, region, 1, 1,
+                firetruck.getCentreX() + 100, firetruck.getCentreY(), FortressType.CLIFFORD, world);
+        world.addFortress(fortress);
+        return fortress;
+    }
+
+    private void tick(GameWorld world, int ticks) {
+        for (int i = 0; i < ticks; i++) world.tick();
+    }
+
+    @Test
+    public void testPatrolsSpawnAfterDelay() {
+        tick(world, PATROL_SPAWN_DELAY * TICKS_PER_SECOND - 1);
+        assertEquals(0, world.getPatrols().size());
+        tick(world, 1);
+        assertEquals(1, world.getPatrols().size());
+        tick(world, PATROL_SPAWN_INTERVAL * TICKS_PER_SECOND);
+        assertEquals(2, world.getPatrols().size());
+    }
+
+    @Test
+    public void testTimeOnlyCountsDownAfterTutorial() {
+        tick(world, 5 * TICKS_PER_SECOND);
+        assertEquals(TIME_STATION_VULNERABLE, world.getTime());
+        world.finishTutorial();
+        assertFalse(world.isInTutorial());
+        tick(world, 5 * TICKS_PER_SECOND);
+        assertEquals(TIME_STATION_VULNERABLE - 5, world.getTime());
+    }
+
+    @Test
+    public void testFinishTutorialRemovesPatrols() {
+        tick(world, PATROL_SPAWN_DELAY * TICKS_PER_SECOND);
+        assertEquals(1, world.getPatrols().size());
+        world.finishTutorial();
+        assertTrue((world.getPatrols().size() == 0));
+    }
+
+    @Test
+    public void testDeadPatrolsLeaveTheWorld() {
+        tick(world, PATROL_SPAWN_DELAY * TICKS_PER_SECOND);
+        Patrol patrol = Mappers.patrolRoute.get(world.getPatrols().first()).patrol;
+        patrol.getHealthBar().subtractResourceAmount((int) patrol.getHealthBar().getMaxAmount());
+        tick(world, 1);
+        assertEquals(0, world.getPatrols().size());
+    }
+
+    @Test
+    public void testDeadPatrolsAreSpawnedAgain() {
+        tick(world, PATROL_SPAWN_DELAY * TICKS_PER_SECOND);
+        Patrol patrol = Mappers.patrolRoute.get(world.getPatrols().first()).patrol;
+        patrol.getHealthBar().subtractResourceAmount((int) patrol.getHealthBar().getMaxAmount());
+        tick(world, 1);
+        world.createPatrol();
+        assertEquals(1, world.getPatrols().size());
+        assertSame(patrol, Mappers.patrolRoute.get(world.getPatrols().first()).patrol);
+        assertEquals(patrol.getHealthBar().getMaxAmount(), patrol.getHealthBar().getCurrentAmount(), 0);
+        tick(world, 1);
+        assertEquals(1, world.getPatrols().size());
+    }
+
+    @Test
+    public void testFortressOnlyShootsOutsideTutorial() {
+        addFortressNearTruck(world);
+        tick(world, TICKS_PER_SECOND);
+        assertTrue((world.getProjectileSystem().size() == 0));
+        world.finishTutorial();
+        tick(world, TICKS_PER_SECOND);
+        assertFalse((world.getProjectileSystem().size() == 0));
+        verify(listener, atLeastOnce()).projectileFired();
+    }
+
+    @Test
+    public void testGameWonOnceFortressesDestroyed() {
+        ETFortress fortress = addFortressNearTruck(world);
+        tick(world, 1);
+        assertNull(world.getOutcome());
+        fortress.getHealthBar().subtractResourceAmount((int) fortress.getHealthBar().getMaxAmount());
+        tick(world, 2);
+        assertEquals(Outcome.WON, world.getOutcome());
+        verify(listener, times(1)).gameOver(Outcome.WON);
+    }
+
+    @Test
+    public void testSameInputsGiveSameWorld() {
+        GameWorld other = createWorld(mock(GameWorldListener.class));
+        try {
+            addFortressNearTruck(world);
+            addFortressNearTruck(other);
+            world.finishTutorial();
+            other.finishTutorial();
+            // Stop before the first patrol, whose route is planned on another thread
+            for (int i = 0; i < PATROL_SPAWN_DELAY * TICKS_PER_SECOND - 1; i++) {
+                for (GameWorld game : new GameWorld[]{world, other}) {
+                    Firetruck firetruck = game.getFirestation().getActiveFireTruck();
+                    firetruck.steer(i % 120 < 60 ? Direction.UP : Direction.LEFT);
+                    firetruck.aimHose(1, 0);
+                    game.tick();
+                }
+            }
+            Firetruck firetruck = world.getFirestation().getActiveFireTruck();
+            Firetruck otherFiretruck = other.getFirestation().getActiveFireTruck();
+            assertEquals(firetruck.getX(), otherFiretruck.getX(), 0);
+            assertEquals(firetruck.getY(), otherFiretruck.getY(), 0);
+            assertEquals(firetruck.getHealthBar().getCurrentAmount(), otherFiretruck.getHealthBar().getCurrentAmount(), 0);
+            assertEquals(world.getProjectileSystem().size(), other.getProjectileSystem().size());
+            assertEquals(world.getScore(), other.getScore());
+        } finally {
+            other.dispose();
+        }
+    }
+}
@@ -2,9 +2,13 @@ package com.sprites;
 
 import com.badlogic.gdx.ai.pfa.GraphPath;
 import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.utils.Queue;
+import com.pathFinding.FlowField;
 import com.pathFinding.Junction;
 import com.pathFinding.MapGraph;
+import com.pathFinding.PathfindingService;
 import com.pathFinding.Road;
 import com.testrunner.GdxTestRunner;
 import org.junit.Before;
@@ -13,6 +17,9 @@ import org.junit.runner.RunWith;
 import org.mockito.Mock;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.MockitoAnnotations.initMocks;
 
 @RunWith(GdxTestRunner.class)
@@ -33,7 +40,7 @@ public class PatrolMovementSpriteTest {
         initMocks(this);
         mapGraph = new MapGraph();
         populateTestGraph();
-        patrolMovementSpriteUnderTest = new PatrolMovementSprite(mockSpriteTexture, mapGraph);
+        patrolMovementSpriteUnderTest = new PatrolMovementSprite(new TextureRegion(mockSpriteTexture), mapGraph);
     }
 
     private void populateTestGraph() {
@@ -117,4 +124,161 @@ public class PatrolMovementSpriteTest {
         assertEquals(expectedPath, patrolMovementSpriteUnderTest.pathQueue);
     }
 
+    /** Whether a patrol is part way along a road, rather than at or waiting at a junction */
+    private boolean isOnRoad(PatrolMovementSprite patrol) {
+        return !patrol.waiting && patrol.setRoad != null && patrol.pathQueue.size > 0
+                && patrol.setRoad.getFromNode() == patrol.previousJunction
+                && patrol.setRoad.getToNode() == patrol.pathQueue.first();
+    }
+
+    /** Builds a square grid of junctions 100 apart, with roads both ways between neighbours */
+    private MapGraph buildGrid(int size) {
+        MapGraph grid = new MapGraph();
+        Junction[] junctions = new Junction[size * size];
+        for (int i = 0; i < junctions.length; i++) {
+            junctions[i] = new Junction((i % size) * 100, (i / size) * 100, "j" + i);
+            grid.addJunction(junctions[i]);
+        }
+        for (int i = 0; i < junctions.length; i++) {
+            if (i % size < size - 1) {
+                grid.connectJunctions(junctions[i], junctions[i + 1]);
+                grid.connectJunctions(junctions[i + 1], junctions[i]);
+            }
+            if (i / size < size - 1) {
+                grid.connectJunctions(junctions[i], junctions[i + size]);
+                grid.connectJunctions(junctions[i + size], junctions[i]);
+            }
+        }
+        return grid;
+    }
+
+    @Test
+    public void testManyPatrolsNeverShareRoad() {
+        MathUtils.random.setSeed(3);
+        int size = 10;
+        MapGraph grid = buildGrid(size);
+
+        PatrolMovementSprite[] patrols = new PatrolMovementSprite[120];
+        int[] junctionsReached = new int[patrols.length];
+        for (int i = 0; i < patrols.length; i++) {
+            patrols[i] = new PatrolMovementSprite(new TextureRegion(mockSpriteTexture), grid);
+        }
+
+        int[] edgeUsers = new int[size * size * 2];
+        for (int frame = 0; frame < 3000; frame++) {
+            grid.advanceTime();
+            java.util.Arrays.fill(edgeUsers, -1);
+            for (int i = 0; i < patrols.length; i++) {
+                Junction before = patrols[i].previousJunction;
+                patrols[i].step();
+                if (patrols[i].previousJunction != before) junctionsReached[i]++;
+                if (isOnRoad(patrols[i])) {
+                    int edge = patrols[i].setRoad.getEdge();
+                    assertEquals("Frame " + frame, -1, edgeUsers[edge]);
+                    edgeUsers[edge] = i;
+                }
+            }
+        }
+
+        for (int reached : junctionsReached) {
+            assertTrue(reached > 10);
+        }
+    }
+
+    @Test
+    public void testHuntingPatrolsConvergeOnTarget() {
+        MathUtils.random.setSeed(5);
+        MapGraph grid = buildGrid(10);
+        FlowField huntField = new FlowField(grid);
+        huntField.setTarget(900, 900);
+        Junction target = huntField.getTarget();
+
+        PatrolMovementSprite[] patrols = new PatrolMovementSprite[40];
+        for (int i = 0; i < patrols.length; i++) {
+            patrols[i] = new PatrolMovementSprite(new TextureRegion(mockSpriteTexture), grid);
+            patrols[i].hunt(huntField);
+        }
+
+        int[] edgeUsers = new int[200];
+        for (int frame = 0; frame < 3000; frame++) {
+            grid.advanceTime();
+            java.util.Arrays.fill(edgeUsers, -1);
+            for (int i = 0; i < patrols.length; i++) {
+                patrols[i].step();
+                if (isOnRoad(patrols[i])) {
+                    int edge = patrols[i].setRoad.getEdge();
+                    assertEquals("Frame " + frame, -1, edgeUsers[edge]);
+                    edgeUsers[edge] = i;
+                }
+            }
+        }
+
+        for (PatrolMovementSprite patrol : patrols) {
+            assertTrue(patrol.isHunting());
+            assertSame(target, patrol.previousJunction);
+            assertTrue(patrol.waiting);
+        }
+    }
+
+    @Test
+    public void testPatrolStopsHunting() {
+        MathUtils.random.setSeed(5);
+        MapGraph grid = buildGrid(4);
+        FlowField huntField = new FlowField(grid);
+        huntField.setTarget(0, 0);
+        PatrolMovementSprite patrol = new PatrolMovementSprite(new TextureRegion(mockSpriteTexture), grid);
+        patrol.hunt(huntField);
+        for (int frame = 0; frame < 1000; frame++) {
+            grid.advanceTime();
+            patrol.step();
+        }
+        assertSame(huntField.getTarget(), patrol.previousJunction);
+
+        patrol.stopHunting();
+        assertFalse(patrol.isHunting());
+        int junctionsReached = 0;
+        for (int frame = 0; frame < 1000; frame++) {
+            grid.advanceTime();
+            Junction before = patrol.previousJunction;
+            patrol.step();
+            if (patrol.previousJunction != before) junctionsReached++;
+        }
+        assertTrue(junctionsReached > 5);
+    }
+
+    @Test
+    public void testManyPatrolsPlannedInBackgroundNeverShareRoad() {
+        MathUtils.random.setSeed(11);
+        MapGraph grid = buildGrid(10);
+        PathfindingService pathfinder = new PathfindingService(grid, 2, 8);
+
+        PatrolMovementSprite[] patrols = new PatrolMovementSprite[60];
+        int[] junctionsReached = new int[patrols.length];
+        for (int i = 0; i < patrols.length; i++) {
+            patrols[i] = new PatrolMovementSprite(new TextureRegion(mockSpriteTexture), grid, pathfinder);
+        }
+
+        int[] edgeUsers = new int[200];
+        for (int frame = 0; frame < 3000; frame++) {
+            grid.advanceTime();
+            pathfinder.deliverResults();
+            java.util.Arrays.fill(edgeUsers, -1);
+            for (int i = 0; i < patrols.length; i++) {
+                Junction before = patrols[i].previousJunction;
+                patrols[i].step();
+                if (patrols[i].previousJunction != before) junctionsReached[i]++;
+                if (isOnRoad(patrols[i])) {
+                    int edge = patrols[i].setRoad.getEdge();
+                    assertEquals("Frame " + frame, -1, edgeUsers[edge]);
+                    edgeUsers[edge] = i;
+                }
+            }
+            pathfinder.submitRequests();
+        }
+        pathfinder.dispose();
+
+        for (int reached : junctionsReached) {
+            assertTrue(reached > 10);
+        }
+    }
 }
@@ -0,0 +1,135 @@
+package com.sprites;
+
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.utils.Array;
+import com.entities.ETFortress;
+import com.entities.Firestation;
+import com.entities.Firetruck;
+import com.entities.Patrol;
+import com.misc.CollisionGrid;
+import com.misc.Constants;
+import com.misc.Scheduler;
+import com.misc.VoxelSlices;
+import com.pathFinding.Junction;
+import com.pathFinding.MapGraph;
+import com.simulation.GameWorld;
+import com.testrunner.GdxTestRunner;
+import com.testrunner.NullBatch;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mockito;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Measures the bytes allocated by the per-frame render path once the
+ * game has reached a steady state, so that regressions which bring back
+ * per-draw allocations fail the build instead of causing GC pauses.
+ */
+@RunWith(GdxTestRunner.class)
+public class RenderAllocationTest {
+
+    private static final int WARM_UP_FRAMES = 2000;
+    private static final int MEASURED_FRAMES = 500;
+
+    // Generous enough to ignore JIT and profiler noise, far below one TextureRegion per slice
+    private static final long MAX_BYTES_PER_FRAME = 256;
+
+    private NullBatch batch;
+    private Firetruck firetruck;
+    private Firestation firestation;
+    private ETFortress fortress;
+    private ArrayList<Patrol> patrols;
+    private TextureRegion barPixel;
+
+    @Before
+    public void setUp() {
+        Texture texture = new Texture(new Pixmap(4, 4, Pixmap.Format.RGBA8888));
+        TextureRegion region = new TextureRegion(texture);
+        barPixel = region;
+
+        Array<TextureRegion> truckRegions = new Array<>();
+        for (int i = 0; i < 20; i++) truckRegions.add(region);
+        VoxelSlices truckSlices = new VoxelSlices(truckRegions, region);
+        truckSlices.setAlternate(14, region);
+
+        Array<TextureRegion> patrolRegions = new Array<>();
+        for (int i = 0; i < 99; i++) patrolRegions.add(region);
+        VoxelSlices patrolSlices = new VoxelSlices(patrolRegions, region);
+
+        ArrayList<Texture> waterFrames = new ArrayList<>();
+        for (int i = 0; i < 3; i++) waterFrames.add(texture);
+
+        TiledMapTileLayer emptyLayer = new TiledMapTileLayer(10, 10, 8, 8);
+
+        GameWorld world = Mockito.mock(GameWorld.class);
+        Mockito.when(world.getScheduler()).thenReturn(new Scheduler());
+
+        batch = new NullBatch();
+        firestation = new Firestation(region, region, 0, 0, world);
+        fortress = new ETFortress(region, region, 1, 1, 0, 0, Constants.FortressType.CLIFFORD, world);
+        firetruck = new Firetruck(truckSlices, waterFrames, Constants.TruckType.RED, new CollisionGrid(emptyLayer, emptyLayer), firestation, true);
+        firetruck.setHose(true);
+
+        // Each patrol gets its own road, with junctions far enough apart
+        // that no patrol needs a new path while measuring
+        patrols = new ArrayList<>();
+        for (int i = 0; i < Constants.PATROL_MAX; i++) {
+            MapGraph mapGraph = new MapGraph();
+            Junction start = new Junction(0, 0, "start");
+            Junction end = new Junction(100000, 0, "end");
+            mapGraph.addJunction(start);
+            mapGraph.addJunction(end);
+            mapGraph.connectJunctions(start, end);
+            mapGraph.connectJunctions(end, start);
+            patrols.add(new Patrol(patrolSlices, mapGraph));
+        }
+    }
+
+    private void renderFrames(int frames) {
+        for (int frame = 0; frame < frames; frame++) {
+            // Keep the hose spraying so the water bar changes every frame
+            if (firetruck.isTankEmpty()) {
+                firetruck.getWaterBar().resetResourceAmount();
+                firetruck.setHose(true);
+            }
+            batch.begin();
+            fortress.update(batch);
+            firetruck.update(batch);
+            for (int i = 0; i < patrols.size(); i++) {
+                patrols.get(i).update(batch);
+            }
+            firestation.update(batch);
+            fortress.getHealthBar().draw(batch, barPixel);
+            firetruck.getHealthBar().draw(batch, barPixel);
+            firetruck.getWaterBar().draw(batch, barPixel);
+            for (int i = 0; i < patrols.size(); i++) {
+                patrols.get(i).getHealthBar().draw(batch, barPixel);
+            }
+            firestation.getHealthBar().draw(batch, barPixel);
+            batch.end();
+        }
+    }
+
+    @Test
+    public void testSteadyStateFrameDoesNotAllocate() {
+        com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        renderFrames(WARM_UP_FRAMES);
+
+        long before = threadBean.getThreadAllocatedBytes(threadId);
+        renderFrames(MEASURED_FRAMES);
+        long after = threadBean.getThreadAllocatedBytes(threadId);
+
+        long bytesPerFrame = (after - before) / MEASURED_FRAMES;
+        assertTrue("Render path allocated " + bytesPerFrame + " bytes per frame", bytesPerFrame <= MAX_BYTES_PER_FRAME);
+    }
+}
@@ -60,6 +60,35 @@ public class SimpleSpriteTest {
         assertEquals(simpleSpriteUnderTest.getMovementHitBox().getRotation(), 91.0, 0.0001f);
     }
 
+    @Test
+    public void testDrawnBetweenLastTwoTicks() {
+        simpleSpriteUnderTest.setPosition(0, 0);
+        simpleSpriteUnderTest.tick();
+        simpleSpriteUnderTest.setPosition(10, 20);
+        assertEquals(5, simpleSpriteUnderTest.getDrawX(0.5f), 0.0001f);
+        assertEquals(10, simpleSpriteUnderTest.getDrawY(0.5f), 0.0001f);
+        assertEquals(10, simpleSpriteUnderTest.getDrawX(1), 0.0001f);
+        simpleSpriteUnderTest.tick();
+        assertEquals(10, simpleSpriteUnderTest.getDrawX(0), 0.0001f);
+    }
+
+    @Test
+    public void testDrawnWhereMovedTo() {
+        simpleSpriteUnderTest.tick();
+        simpleSpriteUnderTest.setPosition(10, 20);
+        simpleSpriteUnderTest.resetInterpolation();
+        assertEquals(10, simpleSpriteUnderTest.getDrawX(0), 0.0001f);
+        assertEquals(20, simpleSpriteUnderTest.getDrawY(0), 0.0001f);
+    }
+
+    @Test
+    public void testDrawnRotationTurnsShortestWay() {
+        simpleSpriteUnderTest.resetRotation(350);
+        simpleSpriteUnderTest.tick();
+        simpleSpriteUnderTest.resetRotation(10);
+        assertEquals(0, simpleSpriteUnderTest.getDrawRotation(0.5f) % 360, 0.0001f);
+    }
+
     @Test
     public void testDispose() {
         simpleSpriteUnderTest.dispose();
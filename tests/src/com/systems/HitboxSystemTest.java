@@ -0,0 +1,81 @@
+package com.systems;
+
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.gdx.math.Polygon;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.components.HealthComponent;
+import com.components.HitboxComponent;
+import com.components.TransformComponent;
+import com.components.VelocityComponent;
+import com.misc.ResourceBar;
+import com.misc.SpatialHash;
+import com.testrunner.GdxTestRunner;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.*;
+
+@RunWith(GdxTestRunner.class)
+public class HitboxSystemTest {
+
+    private Engine engine;
+    private SpatialHash<Entity> hash;
+    private Array<Entity> found;
+
+    @Before
+    public void setUp() {
+        engine = new Engine();
+        engine.addSystem(new MovementSystem(0));
+        engine.addSystem(new HitboxSystem(1));
+        engine.addSystem(new HealthSystem(2));
+        hash = new SpatialHash<>(1000, 1000, 50);
+        found = new Array<>();
+    }
+
+    private Entity addEntity(float x, float y) {
+        Entity entity = new Entity();
+        entity.add(new TransformComponent(x, y, 10, 10, 0));
+        entity.add(new HitboxComponent(new Polygon(new float[]{0, 0, 10, 0, 10, 10, 0, 10}), hash));
+        engine.addEntity(entity);
+        return entity;
+    }
+
+    @Test
+    public void testHashedWhereTransformIsWhenAdded() {
+        Entity entity = addEntity(505, 505);
+        hash.query(new Rectangle(495, 495, 10, 10), found);
+        assertTrue(found.contains(entity, true));
+        hash.query(new Rectangle(0, 0, 10, 10), found);
+        assertFalse(found.contains(entity, true));
+    }
+
+    @Test
+    public void testMovingEntityFollowedEachTick() {
+        Entity entity = addEntity(105, 105);
+        VelocityComponent velocity = new VelocityComponent();
+        velocity.x = 300;
+        entity.add(velocity);
+        engine.update(0);
+        hash.query(new Rectangle(400, 100, 10, 10), found);
+        assertTrue(found.contains(entity, true));
+        hash.query(new Rectangle(95, 95, 10, 10), found);
+        assertFalse(found.contains(entity, true));
+    }
+
+    @Test
+    public void testRemovedFromHashWhenDead() {
+        Entity entity = addEntity(5, 5);
+        ResourceBar bar = new ResourceBar(10, 2);
+        bar.setMaxResource(10);
+        entity.add(new HealthComponent(bar, true));
+        engine.update(0);
+        assertEquals(1, hash.size());
+        bar.subtractResourceAmount(10);
+        engine.update(0);
+        assertEquals(0, hash.size());
+        assertEquals(0, engine.getEntities().size());
+    }
+}
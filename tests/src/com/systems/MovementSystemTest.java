@@ -0,0 +1,68 @@
+package com.systems;
+
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.components.TransformComponent;
+import com.components.VelocityComponent;
+import com.testrunner.GdxTestRunner;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.assertEquals;
+
+@RunWith(GdxTestRunner.class)
+public class MovementSystemTest {
+
+    private Engine engine;
+    private TransformComponent transform;
+    private VelocityComponent velocity;
+
+    @Before
+    public void setUp() {
+        engine = new Engine();
+        engine.addSystem(new MovementSystem(0));
+        transform = new TransformComponent(100, 100, 10, 10, 45);
+        velocity = new VelocityComponent();
+        Entity entity = new Entity();
+        entity.add(transform);
+        entity.add(velocity);
+        engine.addEntity(entity);
+    }
+
+    @Test
+    public void testMovedByVelocityEachTick() {
+        velocity.x = 2;
+        velocity.y = -1;
+        engine.update(0);
+        engine.update(0);
+        assertEquals(104, transform.x, 0.001f);
+        assertEquals(98, transform.y, 0.001f);
+    }
+
+    @Test
+    public void testDrawnBetweenLastTwoTicks() {
+        velocity.x = 4;
+        engine.update(0);
+        assertEquals(100, transform.previousX, 0.001f);
+        assertEquals(100 - 5, transform.getDrawX(0), 0.001f);
+        assertEquals(102 - 5, transform.getDrawX(0.5f), 0.001f);
+        assertEquals(104 - 5, transform.getDrawX(1), 0.001f);
+    }
+
+    @Test
+    public void testFacesTheWayItMoves() {
+        velocity.y = 3;
+        engine.update(0);
+        assertEquals(90, transform.rotation, 0.001f);
+        assertEquals(45, transform.previousRotation, 0.001f);
+    }
+
+    @Test
+    public void testStoppedEntityKeepsFacingTheSameWay() {
+        engine.update(0);
+        assertEquals(45, transform.rotation, 0.001f);
+        assertEquals(100, transform.x, 0.001f);
+        assertEquals(100, transform.y, 0.001f);
+    }
+}
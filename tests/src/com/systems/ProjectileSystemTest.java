@@ -0,0 +1,87 @@
+package com.systems;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Polygon;
+import com.misc.ResourceBar;
+import com.testrunner.GdxTestRunner;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+
+import static com.misc.Constants.*;
+import static org.junit.Assert.*;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+@RunWith(GdxTestRunner.class)
+public class ProjectileSystemTest {
+
+    @Mock
+    private Texture mockTexture;
+
+    private ProjectileSystem projectiles;
+
+    @Before
+    public void setUp() {
+        initMocks(this);
+        projectiles = new ProjectileSystem(1000, 1000, new TextureRegion(mockTexture), 0);
+    }
+
+    private Polygon square(float x, float y, float size) {
+        Polygon polygon = new Polygon(new float[]{0, 0, size, 0, size, size, 0, size});
+        polygon.setPosition(x, y);
+        return polygon;
+    }
+
+    @Test
+    public void testUpdateMovesTowardsTarget() {
+        projectiles.fire(100, 100, 200, 100, 5, PROJECTILE_OWNER_FORTRESS);
+        projectiles.update(FIXED_TIMESTEP);
+        assertEquals(100 + PROJECTILE_SPEED * FIXED_TIMESTEP, projectiles.getX(0), 0.01f);
+        assertEquals(100, projectiles.getY(0), 0.01f);
+    }
+
+    @Test
+    public void testProjectilesLeavingTheWorldAreRemoved() {
+        projectiles.fire(995, 500, 2000, 500, 5, PROJECTILE_OWNER_FORTRESS);
+        projectiles.fire(500, 500, 500, 600, 5, PROJECTILE_OWNER_PATROL);
+        projectiles.update(FIXED_TIMESTEP);
+        assertEquals(1, projectiles.size());
+        assertEquals(PROJECTILE_OWNER_PATROL, projectiles.getOwner(0));
+    }
+
+    @Test
+    public void testCollideDamagesAndRemovesHits() {
+        ResourceBar health = new ResourceBar(100, 10);
+        float before = health.getCurrentAmount();
+        projectiles.fire(110, 110, 200, 110, 5, PROJECTILE_OWNER_FORTRESS);
+        projectiles.fire(500, 500, 600, 500, 7, PROJECTILE_OWNER_PATROL);
+        projectiles.fire(120, 120, 200, 120, 3, PROJECTILE_OWNER_PATROL);
+        assertEquals(2, projectiles.collide(square(100, 100, 50), health));
+        assertEquals(before - 8, health.getCurrentAmount(), 0);
+        assertEquals(1, projectiles.size());
+        assertEquals(7, projectiles.getDamage(0));
+    }
+
+    @Test
+    public void testCircleJustOutsideEdgeHits() {
+        float[] vertices = square(0, 0, 10).getTransformedVertices();
+        assertTrue(ProjectileSystem.overlaps(vertices, 12, 5, 3));
+        assertFalse(ProjectileSystem.overlaps(vertices, 14, 5, 3));
+        assertTrue(ProjectileSystem.overlaps(vertices, 5, 5, 1));
+    }
+
+    @Test
+    public void testGrowsPastInitialCapacity() {
+        for (int i = 0; i < 10000; i++) {
+            projectiles.fire(500, 500, 600, 500, i, PROJECTILE_OWNER_FORTRESS);
+        }
+        assertEquals(10000, projectiles.size());
+        assertEquals(9999, projectiles.getDamage(9999));
+        assertEquals(10000, projectiles.pollFired());
+        assertEquals(0, projectiles.pollFired());
+        projectiles.clear();
+        assertEquals(0, projectiles.size());
+    }
+}